@@ -0,0 +1,78 @@
+package com.yfmf.footlog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 / 오류 집계
+ *
+ * 응답 시간은 마이크로초 단위로 Recorder 에 기록하고, 집계 스레드가 주기적으로 구간 히스토그램을 꺼내 누적한다.
+ * 기록하는 쪽은 락 없이 동작하며 drain / reset 은 집계 스레드 하나만 호출한다.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Histogram total = new Histogram(3);
+    private final Map<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder intervalErrors = new LongAdder();
+    private Histogram interval;
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void recordSuccess(long elapsedNanos) {
+        recorder.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)));
+    }
+
+    // status 0 은 연결 실패 / 타임아웃
+    void recordFailure(int status) {
+        errors.computeIfAbsent(status, key -> new LongAdder()).increment();
+        intervalErrors.increment();
+    }
+
+    /**
+     * 지난 drain 이후의 구간 집계를 누적하고 반환
+     */
+    Interval drain() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+        return new Interval(interval.getTotalCount(), intervalErrors.sumThenReset(), interval.getValueAtPercentile(99.0));
+    }
+
+    // 워밍업 구간 집계 버리기
+    void reset() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.reset();
+        errors.clear();
+        intervalErrors.reset();
+    }
+
+    Histogram total() {
+        return total;
+    }
+
+    Map<Integer, Long> errors() {
+        Map<Integer, Long> result = new TreeMap<>();
+        errors.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    record Interval(long successes, long errors, long p99Micros) {
+    }
+}
@@ -0,0 +1,139 @@
+package com.yfmf.footlog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시나리오가 쓰는 실제 API 호출 - 엔드포인트 이름은 리포트의 행 이름이 된다.
+ *
+ * 이메일 / 구단 이름 / 구단 코드는 실행마다 다른 runTag 와 일련번호로 만들어 같은 서버에 여러 번 돌려도 겹치지 않는다.
+ */
+final class FootlogApi {
+
+    static final String SIGN_UP = "POST /api/auth/signup";
+    static final String LOGIN = "POST /api/auth/login";
+    static final String CREATE_CLUB = "POST /api/clubs";
+    static final String MY_CLUBS = "GET /api/clubs/my-clubs";
+    static final String JOIN_CLUB = "POST /api/club-members/{clubId}/join";
+    static final String CREATE_MATCH = "POST /api/v1/matches";
+    static final String APPLY_MATCH = "POST /api/v1/matches/{matchId}/application";
+    static final String ACCEPT_MATCH = "POST /api/v1/matches/{matchId}/accept";
+    static final String LIST_MATCHES = "GET /api/v1/matches";
+
+    private static final String PASSWORD = "password123";
+    private static final List<String> CITIES = List.of("서울", "부산", "대구", "인천", "광주", "대전");
+
+    private final LoadClient client;
+    private final String runTag;
+    private final AtomicLong sequence = new AtomicLong();
+
+    FootlogApi(LoadClient client, String runTag) {
+        this.client = client;
+        this.runTag = runTag;
+    }
+
+    record Session(long userId, String accessToken) {
+    }
+
+    /**
+     * 새 회원 가입 후 로그인
+     */
+    CompletableFuture<Session> signUpAndLogin() {
+        String email = nextName() + "@loadtest.footlog";
+        Map<String, Object> signUp = Map.of(
+                "name", "부하테스트",
+                "email", email,
+                "password", PASSWORD,
+                "confirmPassword", PASSWORD,
+                "gender", "male");
+        return client.post(SIGN_UP, "/api/auth/signup", signUp, null)
+                .thenCompose(ignored -> client.post(LOGIN, "/api/auth/login", Map.of("email", email, "password", PASSWORD), null))
+                .thenApply(token -> new Session(token.path("userId").asLong(), token.path("accessToken").asText()));
+    }
+
+    /**
+     * 구단 등록 - 등록 응답에 구단 ID 가 없어 내 구단 목록에서 구단 코드로 찾는다.
+     */
+    CompletableFuture<Long> createClub(Session owner) {
+        String code = nextName();
+        Map<String, Object> club = new LinkedHashMap<>();
+        club.put("clubName", code);
+        club.put("clubIntroduction", "부하 테스트 구단");
+        club.put("clubCode", code);
+        club.put("memberCount", 11);
+        club.put("days", List.of("토", "일"));
+        club.put("times", List.of("아침"));
+        club.put("clubLevel", "AMATEUR");
+        club.put("stadiumName", "부하테스트 구장");
+        club.put("city", CITIES.get(ThreadLocalRandom.current().nextInt(CITIES.size())));
+        club.put("region", "중구");
+        club.put("ageGroup", "20대");
+        club.put("gender", "MALE");
+
+        return client.post(CREATE_CLUB, "/api/clubs", club, owner.accessToken())
+                .thenCompose(ignored -> client.get(MY_CLUBS, "/api/clubs/my-clubs", owner.accessToken()))
+                .thenApply(clubs -> {
+                    for (JsonNode node : clubs) {
+                        if (code.equals(node.path("clubCode").asText())) {
+                            return node.path("clubId").asLong();
+                        }
+                    }
+                    throw new UnexpectedResponseException(MY_CLUBS, 200, "등록한 구단이 목록에 없습니다: " + code);
+                });
+    }
+
+    CompletableFuture<Void> joinClub(Session member, long clubId) {
+        return client.post(JOIN_CLUB, "/api/club-members/" + clubId + "/join", null, member.accessToken())
+                .thenAccept(ignored -> { });
+    }
+
+    /**
+     * 경기 등록 - 2주 뒤 토요일 오전 경기
+     */
+    CompletableFuture<Long> createMatch(Session home, long homeClubId) {
+        Map<String, Object> match = new LinkedHashMap<>();
+        match.put("myClubId", homeClubId);
+        match.put("matchIntroduce", "부하 테스트 경기");
+        match.put("matchDate", LocalDate.now().plusWeeks(2).toString());
+        match.put("matchStartTime", "10:00");
+        match.put("matchEndTime", "12:00");
+        match.put("matchPlayerQuantity", 11);
+        match.put("quarterQuantity", "FOUR");
+        match.put("fieldLocation", "부하테스트 구장");
+        match.put("matchCost", 10000);
+        match.put("pro", Map.of("isPro", false, "proQuantity", 0));
+        match.put("clubLevel", "아마추어");
+        match.put("matchGender", "MALE");
+        match.put("matchStatus", "WAITING");
+
+        return client.post(CREATE_MATCH, "/api/v1/matches", match, home.accessToken())
+                .thenApply(created -> created.path("matchId").asLong());
+    }
+
+    CompletableFuture<Void> applyForMatch(Session away, long matchId, long awayClubId) {
+        return client.post(APPLY_MATCH, "/api/v1/matches/" + matchId + "/application?enemyClubId=" + awayClubId, null, away.accessToken())
+                .thenAccept(ignored -> { });
+    }
+
+    CompletableFuture<Void> acceptMatch(Session home, long matchId) {
+        return client.post(ACCEPT_MATCH, "/api/v1/matches/" + matchId + "/accept", null, home.accessToken())
+                .thenAccept(ignored -> { });
+    }
+
+    CompletableFuture<Integer> listMatches(Session session) {
+        return client.get(LIST_MATCHES, "/api/v1/matches", session.accessToken())
+                .thenApply(JsonNode::size);
+    }
+
+    // 영문/숫자만 쓰는 구단 코드 규칙과 구단 이름 20자 제한에 맞춘다.
+    private String nextName() {
+        return "lt" + runTag + Long.toString(sequence.incrementAndGet(), 36);
+    }
+}
@@ -0,0 +1,121 @@
+package com.yfmf.footlog.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 HTTP 클라이언트 - 요청마다 엔드포인트 이름으로 응답 시간을 기록한다.
+ *
+ * 가상 사용자는 스레드를 붙잡지 않고 CompletableFuture 체인으로 다음 요청을 이어가므로
+ * 적은 스레드로도 수백 명의 동시 사용자를 만들 수 있다.
+ */
+final class LoadClient {
+
+    private final URI baseUrl;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final List<EndpointStats> order = new CopyOnWriteArrayList<>();
+
+    LoadClient(URI baseUrl, Duration timeout, Executor executor) {
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .executor(executor)
+                .build();
+    }
+
+    CompletableFuture<JsonNode> get(String endpoint, String path, String accessToken) {
+        return send(endpoint, request(path, accessToken).GET().build());
+    }
+
+    CompletableFuture<JsonNode> post(String endpoint, String path, Object body, String accessToken) {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(json(body));
+        return send(endpoint, request(path, accessToken)
+                .header("Content-Type", "application/json")
+                .POST(publisher)
+                .build());
+    }
+
+    // 처음 호출된 순서대로 - 리포트가 시나리오 흐름 순서를 따른다.
+    List<EndpointStats> stats() {
+        return order;
+    }
+
+    private HttpRequest.Builder request(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(timeout)
+                .header("Accept", "application/json");
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+
+    private CompletableFuture<JsonNode> send(String endpoint, HttpRequest request) {
+        EndpointStats endpointStats = stats.computeIfAbsent(endpoint, this::register);
+        long start = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, error) -> {
+                    long elapsed = System.nanoTime() - start;
+                    if (error != null) {
+                        endpointStats.recordFailure(0);
+                        throw new CompletionException(new UnexpectedResponseException(endpoint, 0, error.toString()));
+                    }
+                    if (response.statusCode() / 100 != 2) {
+                        endpointStats.recordFailure(response.statusCode());
+                        throw new CompletionException(new UnexpectedResponseException(endpoint, response.statusCode(),
+                                new String(response.body(), StandardCharsets.UTF_8)));
+                    }
+                    endpointStats.recordSuccess(elapsed);
+                    return parse(endpoint, response.body());
+                });
+    }
+
+    private EndpointStats register(String endpoint) {
+        EndpointStats endpointStats = new EndpointStats(endpoint);
+        order.add(endpointStats);
+        return endpointStats;
+    }
+
+    private byte[] json(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("요청 본문을 JSON 으로 만들 수 없습니다.", e);
+        }
+    }
+
+    private JsonNode parse(String endpoint, byte[] body) {
+        if (body.length == 0) {
+            return MissingNode.getInstance();
+        }
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UnexpectedResponseException(endpoint, 200, "JSON 이 아닌 응답: " + e.getMessage());
+        }
+    }
+}
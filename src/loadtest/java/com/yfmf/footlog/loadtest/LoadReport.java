@@ -0,0 +1,80 @@
+package com.yfmf.footlog.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 엔드포인트별 처리량 / 응답 시간 백분위 리포트
+ *
+ * 응답 시간은 성공 응답만 집계하고 (ms), 오류는 상태 코드별 건수로 따로 보여준다.
+ */
+final class LoadReport {
+
+    // HdrHistogram 값은 마이크로초 - 출력은 ms
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private LoadReport() {
+    }
+
+    static void print(PrintStream out, LoadRunner.LoadResult result, List<EndpointStats> stats) {
+        double seconds = Math.max(result.measured().toMillis(), 1) / 1000.0;
+        out.println();
+        out.printf("== %s (users=%d, 측정 %.1fs) - 완료 반복 %d (%.1f/s), 실패 반복 %d%n",
+                result.scenario(), result.users(), seconds,
+                result.completedIterations(), result.completedIterations() / seconds, result.failedIterations());
+        out.printf("%-45s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "req/s", "errors", "p50", "p90", "p99", "p99.9", "max");
+
+        for (EndpointStats endpointStats : stats) {
+            Histogram histogram = endpointStats.total();
+            out.printf("%-45s %9d %9.1f %7d %9s %9s %9s %9s %9s%n",
+                    endpointStats.name(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds,
+                    endpointStats.errorCount(),
+                    millis(histogram.getValueAtPercentile(50.0)),
+                    millis(histogram.getValueAtPercentile(90.0)),
+                    millis(histogram.getValueAtPercentile(99.0)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+            endpointStats.errors().forEach((status, count) ->
+                    out.printf("    %s x %d%n", status == 0 ? "연결 실패/타임아웃" : "HTTP " + status, count));
+        }
+
+        if (!result.failureSamples().isEmpty()) {
+            out.println();
+            out.println("실패 예시:");
+            result.failureSamples().forEach((key, message) -> out.printf("    [%s] %s%n", key, message));
+        }
+    }
+
+    /**
+     * 엔드포인트마다 HdrHistogram 백분위 분포 파일(.hgrm) 저장 - HdrHistogram plotter 로 그래프를 그릴 수 있다.
+     */
+    static void writeDistributions(Path directory, List<EndpointStats> stats) throws IOException {
+        Files.createDirectories(directory);
+        for (EndpointStats endpointStats : stats) {
+            Path file = directory.resolve(fileName(endpointStats.name()));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                endpointStats.total().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    // "POST /api/v1/matches/{matchId}/accept" -> "POST_api_v1_matches_matchId_accept.hgrm"
+    static String fileName(String endpoint) {
+        return endpoint.replaceAll("[{}]", "")
+                .replaceAll("[^A-Za-z0-9-]+", "_")
+                .replaceAll("_+$", "") + ".hgrm";
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1fms", micros / MICROS_PER_MILLI);
+    }
+}
@@ -0,0 +1,154 @@
+package com.yfmf.footlog.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 사용자 실행 - ramp-up 동안 나눠 시작하고, warmup 이 끝나면 집계를 비운 뒤 duration 동안 측정한다.
+ *
+ * 닫힌 모델이라 (가상 사용자는 앞 반복이 끝나야 다음 반복을 시작) 서버가 느려지면 요청률도 함께 떨어진다.
+ * 측정값은 "users 명이 쉬지 않고 쓸 때" 의 응답 시간과 처리량으로 읽는다.
+ */
+final class LoadRunner {
+
+    private static final int MAX_FAILURE_SAMPLES = 20;
+
+    private final LoadTestOptions options;
+    private final LoadClient client;
+    private final Scenario scenario;
+    private final Executor executor;
+    private final ScheduledExecutorService scheduler;
+    private final PrintStream out;
+
+    private final LongAdder completedIterations = new LongAdder();
+    private final LongAdder failedIterations = new LongAdder();
+    private final Map<String, String> failureSamples = new ConcurrentHashMap<>();
+
+    private volatile long endNanos;
+    private volatile long measureStartNanos;
+
+    LoadRunner(LoadTestOptions options, LoadClient client, Scenario scenario,
+               Executor executor, ScheduledExecutorService scheduler, PrintStream out) {
+        this.options = options;
+        this.client = client;
+        this.scenario = scenario;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.out = out;
+    }
+
+    LoadResult run() throws InterruptedException {
+        int users = options.users();
+        long startNanos = System.nanoTime();
+        long warmupNanos = options.warmup().toNanos();
+        endNanos = startNanos + warmupNanos + options.duration().toNanos();
+        CountDownLatch finished = new CountDownLatch(users);
+
+        out.printf("[LoadRunner] %s 시작 - users=%d, ramp-up=%ds, warmup=%ds, duration=%ds, 대상=%s%n",
+                scenario.name(), users, options.rampUp().toSeconds(), options.warmup().toSeconds(),
+                options.duration().toSeconds(), options.baseUrl());
+
+        long rampStepNanos = options.rampUp().toNanos() / users;
+        for (int i = 0; i < users; i++) {
+            VirtualUser user = new VirtualUser(i);
+            scheduler.schedule(() -> loop(user, finished), rampStepNanos * i, TimeUnit.NANOSECONDS);
+        }
+
+        measureStartNanos = startNanos;
+        if (warmupNanos > 0) {
+            scheduler.schedule(() -> {
+                client.stats().forEach(EndpointStats::reset);
+                completedIterations.reset();
+                failedIterations.reset();
+                measureStartNanos = System.nanoTime();
+                out.println("[LoadRunner] 워밍업 종료 - 집계 시작");
+            }, warmupNanos, TimeUnit.NANOSECONDS);
+        }
+        long intervalNanos = Math.max(1, options.reportInterval().toNanos());
+        scheduler.scheduleAtFixedRate(() -> printInterval(startNanos, intervalNanos),
+                intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+
+        // 진행 중인 반복은 끝까지 기다린다. (요청 하나당 최대 timeout)
+        long graceNanos = options.timeout().toNanos() * 10;
+        if (!finished.await(endNanos - System.nanoTime() + graceNanos, TimeUnit.NANOSECONDS)) {
+            out.printf("[LoadRunner] 끝나지 않은 가상 사용자 %d 명을 두고 집계합니다.%n", finished.getCount());
+        }
+
+        // 집계 스레드에서 마지막 구간을 꺼내 누적 - drain / reset 은 항상 같은 스레드에서만 호출한다.
+        CompletableFuture<Duration> measured = new CompletableFuture<>();
+        scheduler.execute(() -> {
+            client.stats().forEach(EndpointStats::drain);
+            measured.complete(Duration.ofNanos(System.nanoTime() - measureStartNanos));
+        });
+        return new LoadResult(scenario.name(), users, measured.join(), completedIterations.sum(),
+                failedIterations.sum(), Map.copyOf(failureSamples));
+    }
+
+    private void loop(VirtualUser user, CountDownLatch finished) {
+        if (System.nanoTime() - endNanos >= 0) {
+            finished.countDown();
+            return;
+        }
+        CompletableFuture<Void> iteration;
+        try {
+            iteration = scenario.iterate(user);
+        } catch (RuntimeException e) {
+            iteration = CompletableFuture.failedFuture(e);
+        }
+        // 다음 반복은 항상 executor 에서 시작해 완료된 future 가 이어져도 스택이 쌓이지 않게 한다.
+        iteration.whenCompleteAsync((ignored, error) -> {
+            if (error == null) {
+                user.completeIteration();
+                completedIterations.increment();
+            } else {
+                failedIterations.increment();
+                sample(error);
+            }
+            loop(user, finished);
+        }, executor);
+    }
+
+    private void sample(Throwable error) {
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        String key = cause instanceof UnexpectedResponseException unexpected
+                ? unexpected.endpoint() + " " + unexpected.status()
+                : cause.getClass().getSimpleName();
+        if (failureSamples.size() < MAX_FAILURE_SAMPLES) {
+            failureSamples.putIfAbsent(key, String.valueOf(cause.getMessage()));
+        }
+    }
+
+    private void printInterval(long startNanos, long intervalNanos) {
+        long successes = 0;
+        long errors = 0;
+        long worstP99 = 0;
+        for (EndpointStats endpointStats : client.stats()) {
+            EndpointStats.Interval interval = endpointStats.drain();
+            successes += interval.successes();
+            errors += interval.errors();
+            worstP99 = Math.max(worstP99, interval.p99Micros());
+        }
+        double seconds = intervalNanos / 1e9;
+        out.printf("[LoadRunner] %4ds  %8.1f req/s  오류 %d  최대 p99 %.1fms  완료 반복 %d%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startNanos),
+                successes / seconds, errors, worstP99 / 1000.0, completedIterations.sum());
+    }
+
+    record LoadResult(
+            String scenario,
+            int users,
+            Duration measured,
+            long completedIterations,
+            long failedIterations,
+            Map<String, String> failureSamples
+    ) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.yfmf.footlog.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * API 부하 테스트 실행기
+ *
+ * 1) 서버 실행 - H2 메모리 DB + Redis 없는 standalone 프로필
+ *    ./gradlew bootRun --args='--spring.profiles.active=standalone,loadtest'
+ * 2) 부하 실행
+ *    ./gradlew loadtest --args='--scenario=match-flow --users=50 --duration=60 --hgrm-dir=build/loadtest'
+ *
+ * 옵션은 LoadTestOptions 참고. 완료된 시나리오 반복이 하나도 없으면 종료 코드 1
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), daemonThreads("loadtest-http-"));
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("loadtest-report-"));
+        LoadRunner.LoadResult result;
+        try {
+            LoadClient client = new LoadClient(options.baseUrl(), options.timeout(), executor);
+            FootlogApi api = new FootlogApi(client, runTag());
+            Scenario scenario = scenario(options.scenario(), api);
+
+            result = new LoadRunner(options, client, scenario, executor, scheduler, System.out).run();
+            LoadReport.print(System.out, result, client.stats());
+            if (options.hgrmDir() != null) {
+                LoadReport.writeDistributions(options.hgrmDir(), client.stats());
+                System.out.println("HdrHistogram 분포 저장: " + options.hgrmDir().toAbsolutePath());
+            }
+        } finally {
+            scheduler.shutdownNow();
+            executor.shutdownNow();
+        }
+        if (result.completedIterations() == 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Scenario scenario(String name, FootlogApi api) {
+        List<Scenario> scenarios = List.of(new MatchFlowScenario(api), new MatchListScenario(api));
+        return scenarios.stream()
+                .filter(scenario -> scenario.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 시나리오: " + name + " (가능: "
+                        + scenarios.stream().map(Scenario::name).toList() + ")"));
+    }
+
+    // 실행마다 다른 5자리 태그 - 같은 서버에 다시 돌려도 이메일 / 구단 코드가 겹치지 않게
+    private static String runTag() {
+        long seconds = System.currentTimeMillis() / 1000;
+        return Long.toString(36L * 36 * 36 * 36 * 36 + seconds % (36L * 36 * 36 * 36 * 36), 36).substring(1);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,84 @@
+package com.yfmf.footlog.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 실행 옵션 - --key=value 형식
+ *
+ * --base-url=http://localhost:8080  대상 서버
+ * --scenario=match-flow             시나리오 이름 (match-flow, list-matches)
+ * --users=20                        동시 가상 사용자 수
+ * --ramp-up=10                      가상 사용자를 나눠 시작하는 시간(초)
+ * --warmup=10                       집계에서 버리는 초반 시간(초)
+ * --duration=60                     측정 시간(초)
+ * --report-interval=10              중간 집계 출력 주기(초)
+ * --timeout=10                      요청 하나의 타임아웃(초)
+ * --hgrm-dir=build/loadtest         엔드포인트별 HdrHistogram 분포(.hgrm) 저장 위치 (비우면 저장 안 함)
+ */
+public record LoadTestOptions(
+        URI baseUrl,
+        String scenario,
+        int users,
+        Duration rampUp,
+        Duration warmup,
+        Duration duration,
+        Duration reportInterval,
+        Duration timeout,
+        Path hgrmDir
+) {
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --key=value 형식이어야 합니다: " + arg);
+            }
+            int split = arg.indexOf('=');
+            values.put(arg.substring(2, split), arg.substring(split + 1));
+        }
+
+        String hgrmDir = values.remove("hgrm-dir");
+        LoadTestOptions options = new LoadTestOptions(
+                URI.create(trimSlash(values.getOrDefault("base-url", "http://localhost:8080"))),
+                values.getOrDefault("scenario", "match-flow"),
+                positive(values, "users", 20),
+                seconds(values, "ramp-up", 10),
+                seconds(values, "warmup", 10),
+                seconds(values, "duration", 60),
+                seconds(values, "report-interval", 10),
+                seconds(values, "timeout", 10),
+                hgrmDir == null || hgrmDir.isBlank() ? null : Path.of(hgrmDir)
+        );
+        values.keySet().removeAll(List.of("base-url", "scenario", "users", "ramp-up", "warmup",
+                "duration", "report-interval", "timeout"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("알 수 없는 옵션: " + values.keySet());
+        }
+        return options;
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    private static int positive(Map<String, String> values, String key, int defaultValue) {
+        int value = Integer.parseInt(values.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " 는 1 이상이어야 합니다.");
+        }
+        return value;
+    }
+
+    private static Duration seconds(Map<String, String> values, String key, long defaultValue) {
+        long value = Long.parseLong(values.getOrDefault(key, String.valueOf(defaultValue)));
+        if (value < 0) {
+            throw new IllegalArgumentException(key + " 는 0 이상이어야 합니다.");
+        }
+        return Duration.ofSeconds(value);
+    }
+}
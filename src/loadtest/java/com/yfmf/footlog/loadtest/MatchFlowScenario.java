@@ -0,0 +1,58 @@
+package com.yfmf.footlog.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 경기 매칭 전체 흐름 (match-flow)
+ *
+ * 홈 / 원정 구단주가 각각 가입 → 로그인 → 구단 등록하고, 가상 사용자의 선수 계정이 홈 구단에 가입한다.
+ * 홈이 경기를 등록하면 원정이 신청하고 홈이 수락한 뒤 경기 목록을 조회한다.
+ * 선수 계정은 가상 사용자마다 한 번만 만들고 이후 반복에서는 재사용한다.
+ */
+final class MatchFlowScenario implements Scenario {
+
+    private final FootlogApi api;
+
+    MatchFlowScenario(FootlogApi api) {
+        this.api = api;
+    }
+
+    @Override
+    public String name() {
+        return "match-flow";
+    }
+
+    @Override
+    public CompletableFuture<Void> iterate(VirtualUser user) {
+        CompletableFuture<FootlogApi.Session> player = player(user);
+        CompletableFuture<Team> home = team();
+        CompletableFuture<Team> away = team();
+
+        return home.thenCompose(h -> player
+                .thenCompose(p -> api.joinClub(p, h.clubId()))
+                .thenCompose(ignored -> api.createMatch(h.owner(), h.clubId()))
+                .thenCompose(matchId -> away
+                        .thenCompose(a -> api.applyForMatch(a.owner(), matchId, a.clubId()))
+                        .thenCompose(ignored -> api.acceptMatch(h.owner(), matchId)))
+                .thenCompose(ignored -> api.listMatches(h.owner())))
+                .thenAccept(ignored -> { });
+    }
+
+    private CompletableFuture<FootlogApi.Session> player(VirtualUser user) {
+        if (user.session() != null) {
+            return CompletableFuture.completedFuture(user.session());
+        }
+        return api.signUpAndLogin().thenApply(session -> {
+            user.session(session);
+            return session;
+        });
+    }
+
+    private CompletableFuture<Team> team() {
+        return api.signUpAndLogin()
+                .thenCompose(owner -> api.createClub(owner).thenApply(clubId -> new Team(owner, clubId)));
+    }
+
+    private record Team(FootlogApi.Session owner, long clubId) {
+    }
+}
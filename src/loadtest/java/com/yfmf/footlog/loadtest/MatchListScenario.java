@@ -0,0 +1,32 @@
+package com.yfmf.footlog.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 경기 목록 조회 (list-matches) - 가상 사용자마다 한 번 가입 / 로그인한 뒤 목록 조회만 반복한다.
+ * match-flow 로 데이터를 쌓거나 seed 프로필로 채운 서버에 읽기 부하를 줄 때 쓴다.
+ */
+final class MatchListScenario implements Scenario {
+
+    private final FootlogApi api;
+
+    MatchListScenario(FootlogApi api) {
+        this.api = api;
+    }
+
+    @Override
+    public String name() {
+        return "list-matches";
+    }
+
+    @Override
+    public CompletableFuture<Void> iterate(VirtualUser user) {
+        CompletableFuture<FootlogApi.Session> session = user.session() != null
+                ? CompletableFuture.completedFuture(user.session())
+                : api.signUpAndLogin().thenApply(created -> {
+                    user.session(created);
+                    return created;
+                });
+        return session.thenCompose(api::listMatches).thenAccept(ignored -> { });
+    }
+}
@@ -0,0 +1,15 @@
+package com.yfmf.footlog.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 가상 사용자가 반복 실행하는 시나리오 한 회
+ *
+ * 실패한 요청이 있으면 반환한 future 가 예외로 끝나고, 가상 사용자는 다음 반복으로 넘어간다.
+ */
+interface Scenario {
+
+    String name();
+
+    CompletableFuture<Void> iterate(VirtualUser user);
+}
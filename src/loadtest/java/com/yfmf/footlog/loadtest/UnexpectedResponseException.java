@@ -0,0 +1,31 @@
+package com.yfmf.footlog.loadtest;
+
+// 2xx 가 아닌 응답 또는 연결 실패 (status 0) - 해당 시나리오 반복을 중단시킨다.
+final class UnexpectedResponseException extends RuntimeException {
+
+    private static final int MAX_BODY_LENGTH = 200;
+
+    private final String endpoint;
+    private final int status;
+
+    UnexpectedResponseException(String endpoint, int status, String detail) {
+        super(endpoint + " -> " + status + " " + abbreviate(detail));
+        this.endpoint = endpoint;
+        this.status = status;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    int status() {
+        return status;
+    }
+
+    private static String abbreviate(String detail) {
+        if (detail == null || detail.length() <= MAX_BODY_LENGTH) {
+            return detail;
+        }
+        return detail.substring(0, MAX_BODY_LENGTH) + "...";
+    }
+}
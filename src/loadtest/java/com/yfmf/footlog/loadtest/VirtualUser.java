@@ -0,0 +1,37 @@
+package com.yfmf.footlog.loadtest;
+
+/**
+ * 가상 사용자 - 시나리오가 반복 사이에 유지할 로그인 세션을 들고 있다.
+ *
+ * 한 가상 사용자의 반복은 항상 앞 반복이 끝난 뒤 시작하므로 필드는 동기화 없이 쓴다.
+ */
+final class VirtualUser {
+
+    private final int index;
+    private long iterations;
+    private FootlogApi.Session session;
+
+    VirtualUser(int index) {
+        this.index = index;
+    }
+
+    int index() {
+        return index;
+    }
+
+    long iterations() {
+        return iterations;
+    }
+
+    void completeIteration() {
+        iterations++;
+    }
+
+    FootlogApi.Session session() {
+        return session;
+    }
+
+    void session(FootlogApi.Session session) {
+        this.session = session;
+    }
+}
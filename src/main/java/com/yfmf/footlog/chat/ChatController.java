@@ -0,0 +1,69 @@
+package com.yfmf.footlog.chat;
+
+import com.yfmf.footlog.chat.recent.RecentChatCache;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 메시지 전송 - 구독자에게 먼저 브로드캐스트하고, 저장은 ChatMessageWriter 에 맡긴다.
+ * 최근 메시지는 RecentChatCache 에도 넣어 입장 시 바로 돌려준다.
+ */
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class ChatController {
+
+    private static final int RECENT_SIZE = 100;
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RecentChatCache recentChatCache;
+    private final Clock clock = Clock.systemDefaultZone();
+
+    @MessageMapping("/chat/{roomType}/{roomId}")
+    public void send(@DestinationVariable String roomType,
+                     @DestinationVariable String roomId,
+                     @Valid @Payload ChatMessageRequest request,
+                     Authentication authentication) {
+
+        ChatRoom room = ChatRoom.of(roomType, roomId);
+        LoginedInfo sender = (LoginedInfo) authentication.getPrincipal();
+
+        ChatMessageResponse message = new ChatMessageResponse(room.type(), room.roomId(), sender.getUserId(),
+                sender.getName(), request.content(), LocalDateTime.now(clock));
+
+        messagingTemplate.convertAndSend(room.topic(), message);
+        recentChatCache.add(room, message);
+        chatMessageWriter.enqueue(message.toEntity());
+    }
+
+    // 입장 - 구독한 사람에게만 최근 메시지를 한 번 보낸다. (권한은 StompAuthChannelInterceptor 가 SUBSCRIBE 시 확인)
+    @SubscribeMapping("/chat/{roomType}/{roomId}" + ChatRoom.RECENT_SUFFIX)
+    public List<ChatMessageResponse> recent(@DestinationVariable String roomType,
+                                            @DestinationVariable String roomId) {
+        return recentChatCache.recent(ChatRoom.of(roomType, roomId), RECENT_SIZE);
+    }
+
+    // 오류는 보낸 사람에게만 /user/queue/errors 로 알린다.
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/queue/errors", broadcast = false)
+    public String handleException(Exception e) {
+        log.info("[ChatController] 채팅 메시지 처리 실패: {}", e.getMessage());
+        return e.getMessage();
+    }
+}
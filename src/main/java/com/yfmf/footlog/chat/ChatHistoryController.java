@@ -0,0 +1,48 @@
+package com.yfmf.footlog.chat;
+
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import com.yfmf.footlog.domain.auth.exception.LoginRequiredException;
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/chat")
+@RequiredArgsConstructor
+@Tag(name = "Chat", description = "채팅 API")
+public class ChatHistoryController {
+
+    private static final int MAX_SIZE = 100;
+
+    private final ChatMessageStore chatMessageStore;
+    private final ChatRoomAccess chatRoomAccess;
+
+    // 이전 채팅 조회
+    @Operation(summary = "이전 채팅 조회", description = "before(미포함) 이전 메시지 중 최근 size 건을 오래된 순으로 조회합니다. 다음 페이지는 첫 메시지의 id 를 before 로 넘깁니다.")
+    @GetMapping("/{roomType}/{roomId}/messages")
+    public ResponseEntity<List<ChatHistoryMessage>> getMessages(@PathVariable("roomType") String roomType,
+                                                                @PathVariable("roomId") String roomId,
+                                                                @RequestParam(required = false) Long before,
+                                                                @RequestParam(defaultValue = "50") int size,
+                                                                @AuthenticationPrincipal LoginedInfo logined) {
+        if (logined == null) {
+            throw new LoginRequiredException("로그인 후 이용이 가능합니다.", "[ChatHistoryController] 로그인되지 않은 사용자의 채팅 조회");
+        }
+        ChatRoom room = ChatRoom.of(roomType, roomId);
+        if (!chatRoomAccess.canJoin(logined.getUserId(), room)) {
+            throw new ApplicationException(ErrorCode.ACCESS_DENIED, "[ChatHistoryController] 채팅방 조회 거부 - memberId=" + logined.getUserId() + ", room=" + room.key());
+        }
+        return ResponseEntity.ok(chatMessageStore.findBefore(room, before, Math.min(Math.max(size, 1), MAX_SIZE)));
+    }
+}
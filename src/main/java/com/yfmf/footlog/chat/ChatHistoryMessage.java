@@ -0,0 +1,13 @@
+package com.yfmf.footlog.chat;
+
+import java.time.LocalDateTime;
+
+// 채팅 기록 조회 응답 - id 는 채팅방 안에서 증가하며 다음 조회의 before 로 쓴다.
+public record ChatHistoryMessage(
+        long id,
+        Long senderId,
+        String senderName,
+        String content,
+        LocalDateTime sentAt
+) {
+}
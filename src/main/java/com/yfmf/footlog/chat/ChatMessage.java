@@ -0,0 +1,54 @@
+package com.yfmf.footlog.chat;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 - 전송 시 바로 브로드캐스트하고 저장은 ChatMessageWriter 가 모아서 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "tbl_chat_message", indexes = {
+        @Index(name = "idx_chat_message_room", columnList = "room_type, room_id, id")
+})
+public class ChatMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ChatRoomType roomType;
+
+    @Column(nullable = false)
+    private Long roomId;
+
+    @Column(nullable = false)
+    private Long senderId;
+
+    @Column(length = 20)
+    private String senderName;
+
+    @Column(nullable = false, length = 1000)
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime sentAt;
+
+    @Builder
+    public ChatMessage(ChatRoomType roomType, Long roomId, Long senderId, String senderName, String content, LocalDateTime sentAt) {
+        this.roomType = roomType;
+        this.roomId = roomId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.sentAt = sentAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.yfmf.footlog.chat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// 클라이언트 -> /app/chat/{match|club}/{roomId}
+public record ChatMessageRequest(
+        @NotBlank(message = "메시지를 입력해주세요.")
+        @Size(max = 1000, message = "메시지는 1000자 이하여야 합니다.")
+        String content
+) {
+}
@@ -0,0 +1,24 @@
+package com.yfmf.footlog.chat;
+
+import java.time.LocalDateTime;
+
+// /topic/chat/{match|club}/{roomId} 구독자에게 전달되는 메시지
+public record ChatMessageResponse(
+        ChatRoomType roomType,
+        long roomId,
+        Long senderId,
+        String senderName,
+        String content,
+        LocalDateTime sentAt
+) {
+    public ChatMessage toEntity() {
+        return ChatMessage.builder()
+                .roomType(roomType)
+                .roomId(roomId)
+                .senderId(senderId)
+                .senderName(senderName)
+                .content(content)
+                .sentAt(sentAt)
+                .build();
+    }
+}
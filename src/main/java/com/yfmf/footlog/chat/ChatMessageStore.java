@@ -0,0 +1,21 @@
+package com.yfmf.footlog.chat;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 저장소 - chat.persist.store=jdbc (기본, DB) 또는 segment (채팅방별 세그먼트 로그 파일)
+ */
+public interface ChatMessageStore {
+
+    /**
+     * 전송 순서대로 저장한다. ChatMessageWriter 의 저장 스레드에서만 호출된다.
+     */
+    void saveAll(List<ChatMessage> messages);
+
+    /**
+     * before(미포함) 이전 메시지 중 최근 size 건을 오래된 순으로 반환한다.
+     *
+     * @param before null 이면 가장 최근 메시지부터
+     */
+    List<ChatHistoryMessage> findBefore(ChatRoom room, Long before, int size);
+}
@@ -0,0 +1,140 @@
+package com.yfmf.footlog.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 비동기 일괄 저장
+ *
+ * 브로드캐스트 경로는 큐에 넣기만 하고 바로 돌아간다. 저장 스레드가 batchSize 건 또는 flushMillis 마다 모아
+ * ChatMessageStore 에 한 번에 넘긴다. (DB batch insert 또는 세그먼트 로그 append)
+ * 큐가 가득 차면 전송을 막지 않고 저장만 포기하며 chat.persist.dropped 로 센다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private final ChatMessageStore chatMessageStore;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushMillis;
+
+    private final Counter savedCounter;
+    private final Counter droppedCounter;
+    private final Timer batchTimer;
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public ChatMessageWriter(ChatMessageStore chatMessageStore,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.persist.queue-capacity:100000}") int queueCapacity,
+                             @Value("${chat.persist.batch-size:500}") int batchSize,
+                             @Value("${chat.persist.flush-millis:200}") long flushMillis) {
+        this.chatMessageStore = chatMessageStore;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+
+        Gauge.builder("chat.persist.queue", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.savedCounter = Counter.builder("chat.persist.saved")
+                .description("저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.persist.dropped")
+                .description("큐 초과/저장 실패로 저장하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("chat.persist.batch")
+                .description("채팅 메시지 일괄 저장 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::run, "chat-message-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 저장 요청 - 절대 기다리지 않는다.
+     *
+     * @return 큐에 넣었으면 true
+     */
+    public boolean enqueue(ChatMessage message) {
+        if (queue.offer(message)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("[ChatMessageWriter] 저장 큐가 가득 차 메시지를 저장하지 못했습니다. room={}:{}", message.getRoomType(), message.getRoomId());
+        return false;
+    }
+
+    private void run() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 저장 스레드(또는 종료 시)에서만 호출
+    int flush(List<ChatMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            batchTimer.record(() -> chatMessageStore.saveAll(batch));
+            savedCounter.increment(batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            droppedCounter.increment(batch.size());
+            log.error("[ChatMessageWriter] 채팅 메시지 {}건 저장 실패", batch.size(), e);
+            return 0;
+        }
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 저장하고 멈춘다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<ChatMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        flush(rest);
+    }
+}
@@ -0,0 +1,68 @@
+package com.yfmf.footlog.chat;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 채팅방 식별자 - 구독 주소 /topic/chat/{match|club}/{roomId}, 전송 주소 /app/chat/{match|club}/{roomId}
+ * 입장 시 최근 메시지는 /app/chat/{match|club}/{roomId}/recent 구독 한 번으로 받는다.
+ * 접속/입력 중 표시는 /topic/chat/{match|club}/{roomId}/presence 로 받고 /app/chat/{match|club}/{roomId}/typing 으로 보낸다.
+ */
+public record ChatRoom(ChatRoomType type, long roomId) {
+
+    public static final String TOPIC_PREFIX = "/topic/chat/";
+    public static final String APP_PREFIX = "/app/chat/";
+    public static final String RECENT_SUFFIX = "/recent";
+    public static final String PRESENCE_SUFFIX = "/presence";
+    public static final String TYPING_SUFFIX = "/typing";
+
+    private static final List<String> SUFFIXES = List.of(RECENT_SUFFIX, PRESENCE_SUFFIX, TYPING_SUFFIX);
+
+    public static ChatRoom of(String type, String roomId) {
+        try {
+            return new ChatRoom(ChatRoomType.valueOf(type.toUpperCase(Locale.ROOT)), Long.parseLong(roomId));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 채팅방입니다. type=" + type + ", roomId=" + roomId, e);
+        }
+    }
+
+    /**
+     * 구독/전송 주소에서 채팅방 추출 - 채팅 주소가 아니면 null
+     */
+    public static ChatRoom fromDestination(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        String path;
+        if (destination.startsWith(TOPIC_PREFIX)) {
+            path = destination.substring(TOPIC_PREFIX.length());
+        } else if (destination.startsWith(APP_PREFIX)) {
+            path = destination.substring(APP_PREFIX.length());
+        } else {
+            return null;
+        }
+        for (String suffix : SUFFIXES) {
+            if (path.endsWith(suffix)) {
+                path = path.substring(0, path.length() - suffix.length());
+                break;
+            }
+        }
+        int slash = path.indexOf('/');
+        if (slash < 0 || path.indexOf('/', slash + 1) >= 0) {
+            throw new IllegalArgumentException("잘못된 채팅방 주소입니다. destination=" + destination);
+        }
+        return of(path.substring(0, slash), path.substring(slash + 1));
+    }
+
+    public String topic() {
+        return TOPIC_PREFIX + type.name().toLowerCase(Locale.ROOT) + "/" + roomId;
+    }
+
+    public String presenceTopic() {
+        return topic() + PRESENCE_SUFFIX;
+    }
+
+    public String key() {
+        return type.name() + ":" + roomId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.yfmf.footlog.chat;
+
+import com.yfmf.footlog.domain.club.repository.ClubMemberRepository;
+import com.yfmf.footlog.domain.match.entity.Match;
+import com.yfmf.footlog.domain.match.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅방 입장 권한 - 구단 채팅은 구단원, 매치 채팅은 매치 등록/신청자와 양 팀 구단원만 입장할 수 있다.
+ * 구독(SUBSCRIBE) 시 한 번만 확인하고, 이후 전송은 세션에 기록된 입장 정보로 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomAccess {
+
+    private final ClubMemberRepository clubMemberRepository;
+    private final MatchRepository matchRepository;
+
+    @Transactional(readOnly = true)
+    public boolean canJoin(Long memberId, ChatRoom room) {
+        return switch (room.type()) {
+            case CLUB -> clubMemberRepository.existsByMemberIdAndClubId(memberId, room.roomId());
+            case MATCH -> matchRepository.findById(room.roomId())
+                    .map(match -> isParticipant(memberId, match))
+                    .orElse(false);
+        };
+    }
+
+    private boolean isParticipant(Long memberId, Match match) {
+        if (memberId.equals(match.getMatchEnrollUserId()) || memberId.equals(match.getMatchApplyUserId())) {
+            return true;
+        }
+        if (match.getMyClub() != null && clubMemberRepository.existsByMemberIdAndClubId(memberId, match.getMyClub().getClubId())) {
+            return true;
+        }
+        return match.getEnemyClub() != null && clubMemberRepository.existsByMemberIdAndClubId(memberId, match.getEnemyClub().getClubId());
+    }
+}
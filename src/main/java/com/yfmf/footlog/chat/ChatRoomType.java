@@ -0,0 +1,6 @@
+package com.yfmf.footlog.chat;
+
+public enum ChatRoomType {
+    MATCH,  // 매치 참가자 채팅
+    CLUB    // 구단원 채팅
+}
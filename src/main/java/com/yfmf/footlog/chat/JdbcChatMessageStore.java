@@ -0,0 +1,53 @@
+package com.yfmf.footlog.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * DB 저장소 - JDBC batch insert 한 번으로 저장한다. (IDENTITY 키라 JPA saveAll 은 batch 가 되지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.persist.store", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcChatMessageStore implements ChatMessageStore {
+
+    private static final String INSERT_SQL = "insert into tbl_chat_message (room_type, room_id, sender_id, sender_name, content, sent_at) values (?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BEFORE_SQL = "select id, sender_id, sender_name, content, sent_at from tbl_chat_message"
+            + " where room_type = ? and room_id = ? and id < ? order by id desc limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAll(List<ChatMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setString(1, message.getRoomType().name());
+            ps.setLong(2, message.getRoomId());
+            ps.setLong(3, message.getSenderId());
+            ps.setString(4, message.getSenderName());
+            ps.setString(5, message.getContent());
+            ps.setTimestamp(6, Timestamp.valueOf(message.getSentAt()));
+        });
+    }
+
+    @Override
+    public List<ChatHistoryMessage> findBefore(ChatRoom room, Long before, int size) {
+        List<ChatHistoryMessage> messages = new ArrayList<>(jdbcTemplate.query(SELECT_BEFORE_SQL,
+                (rs, rowNum) -> new ChatHistoryMessage(
+                        rs.getLong("id"),
+                        rs.getLong("sender_id"),
+                        rs.getString("sender_name"),
+                        rs.getString("content"),
+                        rs.getTimestamp("sent_at").toLocalDateTime()),
+                room.type().name(), room.roomId(), before == null ? Long.MAX_VALUE : before, size));
+        // 인덱스 (room_type, room_id, id) 를 역순으로 읽었으므로 뒤집어 오래된 순으로 맞춘다.
+        Collections.reverse(messages);
+        return messages;
+    }
+}
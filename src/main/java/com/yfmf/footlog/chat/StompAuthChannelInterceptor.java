@@ -0,0 +1,145 @@
+package com.yfmf.footlog.chat;
+
+import com.yfmf.footlog.chat.presence.PresenceRegistry;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 인증/인가
+ *
+ * CONNECT: Authorization 헤더의 Access Token 을 HTTP 요청과 같은 방식(JWTTokenProvider + 폐기 목록)으로 검증한다.
+ * SUBSCRIBE: 채팅방 입장 권한을 확인하고 세션에 입장한 방을 기록한다.
+ *            SimpleBroker 는 구독 주소를 Ant 패턴으로 매칭하므로 패턴 문자(*, ?, {)가 들어간 주소는 거부하고,
+ *            /topic 은 채팅방 주소만, /queue 는 /user 주소를 통해서만 구독할 수 있다.
+ * SEND: /app 주소로만 보낼 수 있고, 세션에 기록된 방에만 보낼 수 있다. (메시지마다 DB 를 조회하지 않음)
+ *       /topic, /queue 로 직접 보내면 ChatController 의 검증/저장을 건너뛰고 브로커로 바로 퍼지므로 막는다.
+ * heart-beat 를 포함한 모든 수신 프레임은 접속 상태(PresenceRegistry)의 세션 생존 신호로 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    static final String JOINED_ROOMS = "chat.joinedRooms";
+
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final String APP_DESTINATION_PREFIX = "/app/";
+    private static final String TOPIC_DESTINATION_PREFIX = "/topic/";
+    private static final String QUEUE_DESTINATION_PREFIX = "/queue/";
+
+    private final JWTTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList revocationList;
+    private final ChatRoomAccess chatRoomAccess;
+    private final PresenceRegistry presenceRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        presenceRegistry.touch(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader(AUTHORIZATION)));
+        } else if (command == StompCommand.SUBSCRIBE) {
+            String destination = accessor.getDestination();
+            Long memberId = memberIdOf(accessor.getUser());
+            ChatRoom room = subscribedRoom(memberId, destination);
+            if (room != null) {
+                if (!chatRoomAccess.canJoin(memberId, room)) {
+                    log.info("[StompAuthChannelInterceptor] 채팅방 입장 거부 - memberId={}, room={}", memberId, room.key());
+                    throw new AccessDeniedException("채팅방에 입장할 수 없습니다.");
+                }
+                joinedRooms(accessor).add(room.key());
+            }
+        } else if (command == StompCommand.SEND) {
+            String destination = accessor.getDestination();
+            Long memberId = memberIdOf(accessor.getUser());
+            if (destination == null || !destination.startsWith(APP_DESTINATION_PREFIX)) {
+                log.warn("[StompAuthChannelInterceptor] 브로커 주소로 직접 전송 거부 - memberId={}, destination={}", memberId, destination);
+                throw new AccessDeniedException("메시지를 보낼 수 없는 주소입니다.");
+            }
+            ChatRoom room = ChatRoom.fromDestination(destination);
+            if (room != null && !joinedRooms(accessor).contains(room.key())) {
+                throw new AccessDeniedException("입장하지 않은 채팅방입니다.");
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 구독 주소 검증 - 채팅방 주소면 채팅방, 그 밖에 구독할 수 있는 주소(/user, /app)면 null
+     */
+    private ChatRoom subscribedRoom(Long memberId, String destination) {
+        if (destination == null
+                || destination.indexOf('*') >= 0 || destination.indexOf('?') >= 0 || destination.indexOf('{') >= 0
+                || destination.startsWith(QUEUE_DESTINATION_PREFIX)) {
+            throw subscribeDenied(memberId, destination);
+        }
+        ChatRoom room;
+        try {
+            room = ChatRoom.fromDestination(destination);
+        } catch (IllegalArgumentException e) {
+            throw subscribeDenied(memberId, destination);
+        }
+        if (room == null && destination.startsWith(TOPIC_DESTINATION_PREFIX)) {
+            throw subscribeDenied(memberId, destination);
+        }
+        return room;
+    }
+
+    private AccessDeniedException subscribeDenied(Long memberId, String destination) {
+        log.warn("[StompAuthChannelInterceptor] 구독 거부 - memberId={}, destination={}", memberId, destination);
+        return new AccessDeniedException("구독할 수 없는 주소입니다.");
+    }
+
+    private Authentication authenticate(String header) {
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            throw new AccessDeniedException("로그인 후 이용이 가능합니다.");
+        }
+        Claims claims = jwtTokenProvider.getValidClaims(header.substring(BEARER_PREFIX.length()));
+        if (claims == null || revocationList.isRevoked(claims.getId())) {
+            throw new AccessDeniedException("유효하지 않은 Access Token 입니다.");
+        }
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    public static Long memberIdOf(Principal user) {
+        if (user instanceof Authentication authentication && authentication.getPrincipal() instanceof LoginedInfo info) {
+            return info.getUserId();
+        }
+        throw new AccessDeniedException("로그인 후 이용이 가능합니다.");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> joinedRooms(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            throw new AccessDeniedException("세션 정보가 없습니다.");
+        }
+        return (Set<String>) attributes.computeIfAbsent(JOINED_ROOMS, key -> ConcurrentHashMap.newKeySet());
+    }
+}
@@ -0,0 +1,118 @@
+package com.yfmf.footlog.chat.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32;
+
+/**
+ * 채팅 로그 레코드 형식
+ *
+ * [int bodyLength][int crc32(body)] + body
+ * body = [long offset][long sentAtMillis][long senderId][short nameLength][name][int contentLength][content]
+ * sentAt 은 LocalDateTime 을 UTC 기준 epoch millis 로 그대로 옮겨 저장한다. (시간대 변환 없음)
+ */
+final class ChatLogCodec {
+
+    static final int HEADER_SIZE = 8;
+    static final int MIN_BODY_SIZE = 8 + 8 + 8 + 2 + 4;
+    static final int MAX_BODY_SIZE = 1 << 20;
+
+    private ChatLogCodec() {
+    }
+
+    static int recordSize(byte[] name, byte[] content) {
+        return HEADER_SIZE + MIN_BODY_SIZE + name.length + content.length;
+    }
+
+    static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000L), (int) Math.floorMod(millis, 1000L) * 1_000_000, ZoneOffset.UTC);
+    }
+
+    static void write(ByteBuffer buffer, long offset, long sentAtMillis, long senderId, byte[] name, byte[] content) {
+        int start = buffer.position();
+        buffer.putInt(MIN_BODY_SIZE + name.length + content.length);
+        buffer.putInt(0);
+        int bodyStart = buffer.position();
+
+        buffer.putLong(offset);
+        buffer.putLong(sentAtMillis);
+        buffer.putLong(senderId);
+        buffer.putShort((short) name.length);
+        buffer.put(name);
+        buffer.putInt(content.length);
+        buffer.put(content);
+
+        buffer.putInt(start + 4, crc(buffer, bodyStart, buffer.position()));
+    }
+
+    /**
+     * position 의 레코드가 온전한지 검사 (복구용)
+     *
+     * @return 레코드 전체 크기, 잘렸거나 손상되었으면 -1
+     */
+    static int validate(ByteBuffer buffer, int position, int limit) {
+        if (limit - position < HEADER_SIZE) {
+            return -1;
+        }
+        int bodyLength = buffer.getInt(position);
+        if (bodyLength < MIN_BODY_SIZE || bodyLength > MAX_BODY_SIZE || limit - position - HEADER_SIZE < bodyLength) {
+            return -1;
+        }
+        int bodyStart = position + HEADER_SIZE;
+        if (crc(buffer, bodyStart, bodyStart + bodyLength) != buffer.getInt(position + 4)) {
+            return -1;
+        }
+        int nameLength = Short.toUnsignedInt(buffer.getShort(bodyStart + 24));
+        if (MIN_BODY_SIZE + nameLength > bodyLength
+                || buffer.getInt(bodyStart + 26 + nameLength) != bodyLength - MIN_BODY_SIZE - nameLength) {
+            return -1;
+        }
+        return HEADER_SIZE + bodyLength;
+    }
+
+    static int sizeAt(ByteBuffer buffer, int position) {
+        return HEADER_SIZE + buffer.getInt(position);
+    }
+
+    static long offsetAt(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_SIZE);
+    }
+
+    static long sentAtMillisAt(ByteBuffer buffer, int position) {
+        return buffer.getLong(position + HEADER_SIZE + 8);
+    }
+
+    static ChatLogEntry decode(ByteBuffer buffer, int position) {
+        int at = position + HEADER_SIZE;
+        long offset = buffer.getLong(at);
+        long sentAt = buffer.getLong(at + 8);
+        long senderId = buffer.getLong(at + 16);
+        int nameLength = Short.toUnsignedInt(buffer.getShort(at + 24));
+        String name = string(buffer, at + 26, nameLength);
+        int contentLength = buffer.getInt(at + 26 + nameLength);
+        String content = string(buffer, at + 30 + nameLength, contentLength);
+        return new ChatLogEntry(offset, senderId, name, content, fromMillis(sentAt));
+    }
+
+    private static String string(ByteBuffer buffer, int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int crc(ByteBuffer buffer, int from, int to) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(from, to - from));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,13 @@
+package com.yfmf.footlog.chat.log;
+
+import java.time.LocalDateTime;
+
+// 채팅 로그 한 건 - offset 은 채팅방 안에서 0 부터 1씩 증가한다.
+public record ChatLogEntry(
+        long offset,
+        long senderId,
+        String senderName,
+        String content,
+        LocalDateTime sentAt
+) {
+}
@@ -0,0 +1,350 @@
+package com.yfmf.footlog.chat.log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 채팅방 로그 세그먼트 파일 하나 ({baseOffset}.log) 와 희소 인덱스 ({baseOffset}.idx)
+ *
+ * 활성 세그먼트만 FileChannel 로 이어 쓰고, 읽기는 모두 메모리 매핑으로 한다.
+ * 다시 열린 세그먼트는 모두 봉인 상태이며, 새 메시지는 항상 새 세그먼트에 쓴다.
+ * 인덱스는 indexInterval 바이트마다 (offset, 파일 위치) 한 쌍을 메모리에 두고, 봉인할 때 파일로 남긴다.
+ * 모든 메서드는 SegmentedChatLog 의 채팅방 잠금 안에서 호출된다.
+ */
+final class ChatLogSegment {
+
+    static final String LOG_SUFFIX = ".log";
+    static final String INDEX_SUFFIX = ".idx";
+    static final String TEMP_SUFFIX = ".tmp";
+
+    // [long nextOffset][long firstTimestamp][long lastTimestamp][int logSize][int count]
+    private static final int INDEX_HEADER_SIZE = 32;
+
+    final long baseOffset;
+    final Path logPath;
+    final Path indexPath;
+    private final int indexInterval;
+
+    long nextOffset;
+    int size;
+    long firstTimestamp = -1;
+    long lastTimestamp = -1;
+    long createdAtMillis;
+
+    private long[] indexOffsets = new long[16];
+    private int[] indexPositions = new int[16];
+    private int indexCount;
+
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private int mappedSize;
+
+    private ChatLogSegment(Path dir, long baseOffset, int indexInterval) {
+        this.baseOffset = baseOffset;
+        this.logPath = dir.resolve(fileName(baseOffset, LOG_SUFFIX));
+        this.indexPath = dir.resolve(fileName(baseOffset, INDEX_SUFFIX));
+        this.indexInterval = indexInterval;
+        this.nextOffset = baseOffset;
+    }
+
+    static String fileName(long baseOffset, String suffix) {
+        return String.format("%020d%s", baseOffset, suffix);
+    }
+
+    static long baseOffsetOf(Path logPath) {
+        String name = logPath.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - LOG_SUFFIX.length()));
+    }
+
+    static ChatLogSegment create(Path dir, long baseOffset, int indexInterval, long nowMillis) throws IOException {
+        ChatLogSegment segment = new ChatLogSegment(dir, baseOffset, indexInterval);
+        segment.createdAtMillis = nowMillis;
+        segment.channel = FileChannel.open(segment.logPath, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    /**
+     * 기존 세그먼트를 봉인된 상태로 열기
+     *
+     * 인덱스 파일이 로그 크기와 맞으면 그대로 쓰고, 없거나 맞지 않으면 (봉인 전에 멈춘 활성 세그먼트)
+     * 처음부터 훑어 잘리거나 손상된 꼬리를 잘라낸 뒤 인덱스를 다시 남긴다. (crash recovery)
+     */
+    static ChatLogSegment open(Path logPath, int indexInterval, long nowMillis) throws IOException {
+        ChatLogSegment segment = new ChatLogSegment(logPath.getParent(), baseOffsetOf(logPath), indexInterval);
+        segment.createdAtMillis = nowMillis;
+        if (!segment.loadIndex()) {
+            segment.recover();
+            segment.writeIndex();
+        }
+        return segment;
+    }
+
+    boolean isActive() {
+        return channel != null;
+    }
+
+    boolean isEmpty() {
+        return nextOffset == baseOffset;
+    }
+
+    /**
+     * 다음 레코드가 파일의 position 에 쓰일 예정임을 기록 (인덱스/메타데이터 갱신)
+     */
+    void track(long offset, int position, long timestamp) {
+        if (indexCount == 0 || position - indexPositions[indexCount - 1] >= indexInterval) {
+            addIndex(offset, position);
+        }
+        nextOffset = offset + 1;
+        if (firstTimestamp < 0) {
+            firstTimestamp = timestamp;
+        }
+        lastTimestamp = timestamp;
+    }
+
+    State state() {
+        return new State(size, nextOffset, indexCount, firstTimestamp, lastTimestamp);
+    }
+
+    // 쓰기 실패 시 track 한 내용을 되돌리고 파일도 잘라낸다.
+    void rollback(State state) {
+        size = state.size;
+        nextOffset = state.nextOffset;
+        indexCount = state.indexCount;
+        firstTimestamp = state.firstTimestamp;
+        lastTimestamp = state.lastTimestamp;
+        try {
+            channel.truncate(size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void write(ByteBuffer buffer) throws IOException {
+        long position = size;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+        size = (int) position;
+    }
+
+    void force() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * 봉인 - 더 이상 쓰지 않으며 인덱스 파일을 남긴다.
+     */
+    void seal() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        channel.force(true);
+        channel.close();
+        channel = null;
+        writeIndex();
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.force(true);
+            channel.close();
+            channel = null;
+        }
+        mapped = null;
+    }
+
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    /**
+     * [fromOffset, toOffset) 범위 레코드를 순서대로 out 에 담는다.
+     */
+    void read(long fromOffset, long toOffset, List<ChatLogEntry> out) throws IOException {
+        if (fromOffset >= toOffset || size == 0) {
+            return;
+        }
+        ByteBuffer view = view();
+        int position = indexPositions[floorIndex(fromOffset)];
+        while (position < size) {
+            long offset = ChatLogCodec.offsetAt(view, position);
+            if (offset >= toOffset) {
+                break;
+            }
+            if (offset >= fromOffset) {
+                out.add(ChatLogCodec.decode(view, position));
+            }
+            position += ChatLogCodec.sizeAt(view, position);
+        }
+    }
+
+    /**
+     * 여러 봉인 세그먼트를 이 세그먼트 이름으로 합친다. (compaction)
+     *
+     * 임시 파일에 이어 붙인 뒤 원자적으로 첫 세그먼트 자리에 옮기고, 나머지 파일은 호출자가 지운다.
+     * 중간에 멈추더라도 다음 기동 시 앞 세그먼트 범위에 포함된 세그먼트는 버려지므로 중복/유실이 없다.
+     */
+    static ChatLogSegment merge(List<ChatLogSegment> segments, int indexInterval) throws IOException {
+        ChatLogSegment first = segments.get(0);
+        Path temp = first.logPath.resolveSibling(first.logPath.getFileName() + TEMP_SUFFIX);
+
+        ChatLogSegment merged = new ChatLogSegment(first.logPath.getParent(), first.baseOffset, indexInterval);
+        merged.createdAtMillis = first.createdAtMillis;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            for (ChatLogSegment segment : segments) {
+                try (FileChannel in = FileChannel.open(segment.logPath, StandardOpenOption.READ)) {
+                    long copied = 0;
+                    while (copied < segment.size) {
+                        copied += in.transferTo(copied, segment.size - copied, out);
+                    }
+                }
+                for (int i = 0; i < segment.indexCount; i++) {
+                    merged.addIndex(segment.indexOffsets[i], merged.size + segment.indexPositions[i]);
+                }
+                merged.size += segment.size;
+                merged.nextOffset = segment.nextOffset;
+                if (merged.firstTimestamp < 0) {
+                    merged.firstTimestamp = segment.firstTimestamp;
+                }
+                merged.lastTimestamp = Math.max(merged.lastTimestamp, segment.lastTimestamp);
+            }
+            out.force(true);
+        }
+
+        Files.move(temp, first.logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        merged.writeIndex();
+        first.mapped = null;
+        return merged;
+    }
+
+    private ByteBuffer view() throws IOException {
+        if (mapped == null || mappedSize < size) {
+            if (channel != null) {
+                mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                try (FileChannel reader = FileChannel.open(logPath, StandardOpenOption.READ)) {
+                    mapped = reader.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                }
+            }
+            mappedSize = size;
+        }
+        return mapped;
+    }
+
+    // offset 이하인 마지막 인덱스 항목 (없으면 0번)
+    private int floorIndex(long offset) {
+        int low = 0;
+        int high = indexCount - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexOffsets[mid] <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private void addIndex(long offset, int position) {
+        if (indexCount == indexOffsets.length) {
+            indexOffsets = Arrays.copyOf(indexOffsets, indexCount * 2);
+            indexPositions = Arrays.copyOf(indexPositions, indexCount * 2);
+        }
+        indexOffsets[indexCount] = offset;
+        indexPositions[indexCount] = position;
+        indexCount++;
+    }
+
+    // 처음부터 훑으며 인덱스를 다시 만들고, 온전하지 않은 첫 레코드부터 잘라낸다.
+    private void recover() throws IOException {
+        long fileSize = Files.size(logPath);
+        if (fileSize > Integer.MAX_VALUE) {
+            throw new IOException("세그먼트가 너무 큽니다. " + logPath);
+        }
+        int limit = (int) fileSize;
+        indexCount = 0;
+        size = 0;
+        nextOffset = baseOffset;
+        if (limit > 0) {
+            ByteBuffer view;
+            try (FileChannel reader = FileChannel.open(logPath, StandardOpenOption.READ)) {
+                view = reader.map(FileChannel.MapMode.READ_ONLY, 0, limit);
+            }
+            int position = 0;
+            while (position < limit) {
+                int recordSize = ChatLogCodec.validate(view, position, limit);
+                if (recordSize < 0 || ChatLogCodec.offsetAt(view, position) < nextOffset) {
+                    break;
+                }
+                track(ChatLogCodec.offsetAt(view, position), position, ChatLogCodec.sentAtMillisAt(view, position));
+                position += recordSize;
+            }
+            size = position;
+        }
+        if (size < limit) {
+            try (FileChannel writer = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+                writer.truncate(size);
+            }
+        }
+    }
+
+    private boolean loadIndex() throws IOException {
+        if (!Files.exists(indexPath)) {
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        if (buffer.remaining() < INDEX_HEADER_SIZE) {
+            return false;
+        }
+        long next = buffer.getLong();
+        long first = buffer.getLong();
+        long last = buffer.getLong();
+        int logSize = buffer.getInt();
+        int count = buffer.getInt();
+        if (count < 0 || buffer.remaining() != count * 12 || logSize != Files.size(logPath)) {
+            return false;
+        }
+        indexOffsets = new long[Math.max(count, 16)];
+        indexPositions = new int[Math.max(count, 16)];
+        for (int i = 0; i < count; i++) {
+            indexOffsets[i] = buffer.getLong();
+            indexPositions[i] = buffer.getInt();
+        }
+        indexCount = count;
+        nextOffset = next;
+        firstTimestamp = first;
+        lastTimestamp = last;
+        size = logSize;
+        return true;
+    }
+
+    private void writeIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_HEADER_SIZE + indexCount * 12);
+        buffer.putLong(nextOffset).putLong(firstTimestamp).putLong(lastTimestamp).putInt(size).putInt(indexCount);
+        for (int i = 0; i < indexCount; i++) {
+            buffer.putLong(indexOffsets[i]).putInt(indexPositions[i]);
+        }
+        Path temp = indexPath.resolveSibling(indexPath.getFileName() + TEMP_SUFFIX);
+        Files.write(temp, buffer.array());
+        Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    record State(int size, long nextOffset, int indexCount, long firstTimestamp, long lastTimestamp) {
+    }
+}
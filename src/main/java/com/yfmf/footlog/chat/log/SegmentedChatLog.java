@@ -0,0 +1,468 @@
+package com.yfmf.footlog.chat.log;
+
+import com.yfmf.footlog.chat.ChatMessage;
+import com.yfmf.footlog.chat.ChatRoom;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방별 추가 전용(append-only) 세그먼트 로그
+ *
+ * {dir}/{type}-{roomId}/{baseOffset}.log 에 채팅방마다 0 부터 증가하는 offset 으로 메시지를 이어 쓴다.
+ * 활성 세그먼트가 segmentBytes 를 넘거나 rollMillis 가 지나면 봉인하고 다음 세그먼트를 연다.
+ * "offset X 이전 N건" 조회는 세그먼트를 뒤에서부터 훑고, 세그먼트 안에서는 희소 인덱스로 시작 위치를 찾아 mmap 으로 읽는다.
+ * 채팅방마다 잠금을 따로 두므로 서로 다른 채팅방의 읽기와 정리는 서로 막지 않는다.
+ * 쓰기는 ChatMessageWriter 한 스레드에서만 오므로 모든 채팅방이 append 버퍼 하나를 함께 쓴다.
+ * 채팅방 로그는 처음 쓰거나 읽을 때 열고, closeIdle 로 오래 쓰이지 않은 채팅방을 닫는다.
+ */
+@Slf4j
+public class SegmentedChatLog implements Closeable {
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long rollMillis;
+    private final int indexInterval;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, RoomLog> rooms = new ConcurrentHashMap<>();
+    private final Object appendLock = new Object();
+    private ByteBuffer appendBuffer;
+
+    public SegmentedChatLog(Path directory, int segmentBytes, long rollMillis, int indexInterval, Clock clock) {
+        if (segmentBytes <= 0 || indexInterval <= 0) {
+            throw new IllegalArgumentException("segmentBytes, indexInterval 은 0보다 커야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.rollMillis = rollMillis;
+        this.indexInterval = indexInterval;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 한 채팅방의 메시지를 순서대로 이어 쓴다. (채널 write 한 번)
+     *
+     * @return 첫 메시지에 부여된 offset
+     */
+    public long append(ChatRoom room, List<ChatMessage> messages) {
+        synchronized (appendLock) {
+            if (appendBuffer == null) {
+                appendBuffer = ByteBuffer.allocateDirect(64 * 1024);
+            }
+            return withRoom(room, roomLog -> roomLog.append(messages));
+        }
+    }
+
+    /**
+     * beforeOffset 이전(미포함) 메시지 중 최근 limit 건을 offset 오름차순으로 반환한다.
+     *
+     * @param beforeOffset null 이면 가장 최근 메시지부터
+     */
+    public List<ChatLogEntry> readBefore(ChatRoom room, Long beforeOffset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return withRoom(room, roomLog -> roomLog.readBefore(beforeOffset, limit));
+    }
+
+    /**
+     * 활성 세그먼트를 디스크에 강제로 기록한다.
+     */
+    public void flush() {
+        for (RoomLog roomLog : rooms.values()) {
+            synchronized (roomLog) {
+                roomLog.force();
+            }
+        }
+    }
+
+    /**
+     * 보존 정책 적용
+     *
+     * rollMillis 가 지났거나 마지막 메시지가 보존 기간을 넘긴 활성 세그먼트를 봉인하고 (유휴 채팅방의 파일 핸들 반환),
+     * 마지막 메시지가 maxAge 보다 오래된 세그먼트와 채팅방 용량이 maxRoomBytes 를 넘는 만큼의 오래된 세그먼트를 지운다.
+     * 재기동 뒤 아직 열지 않은 채팅방도 디스크에서 찾아 적용한다.
+     *
+     * @return 삭제한 세그먼트 수
+     */
+    public int applyRetention(Duration maxAge, long maxRoomBytes) {
+        long cutoff = ChatLogCodec.toMillis(LocalDateTime.now(clock).minus(maxAge));
+        return forEachRoom(roomLog -> roomLog.applyRetention(cutoff, maxRoomBytes));
+    }
+
+    /**
+     * 연속된 작은 봉인 세그먼트를 segmentBytes 이하로 합친다.
+     * 시간 기준으로 봉인되거나 재기동 후 새로 열린 세그먼트가 잘게 쌓이는 것을 막는다.
+     *
+     * @return 합쳐서 없앤 세그먼트 수
+     */
+    public int compact() {
+        return forEachRoom(RoomLog::compact);
+    }
+
+    /**
+     * idle 동안 쓰거나 읽지 않은 채팅방 로그를 닫는다. (활성 세그먼트 봉인, 파일 핸들과 희소 인덱스 반환)
+     * 보존/압축 때문에 열린 채팅방도 그 뒤로 쓰이지 않았으면 여기서 닫힌다.
+     *
+     * @return 닫은 채팅방 수
+     */
+    public int closeIdle(Duration idle) {
+        long idleBefore = clock.millis() - idle.toMillis();
+        int closed = 0;
+        for (Map.Entry<String, RoomLog> entry : rooms.entrySet()) {
+            RoomLog roomLog = entry.getValue();
+            synchronized (roomLog) {
+                if (!roomLog.closed && roomLog.lastAccessMillis < idleBefore) {
+                    roomLog.close();
+                    rooms.remove(entry.getKey(), roomLog);
+                    closed++;
+                }
+            }
+        }
+        return closed;
+    }
+
+    int openRoomCount() {
+        return rooms.size();
+    }
+
+    @Override
+    public void close() {
+        for (RoomLog roomLog : rooms.values()) {
+            synchronized (roomLog) {
+                roomLog.close();
+            }
+        }
+        rooms.clear();
+    }
+
+    // 채팅방 로그는 처음 사용할 때 연다. 그 사이 closeIdle 로 닫혔으면 다시 연다.
+    private <T> T withRoom(ChatRoom room, Function<RoomLog, T> action) {
+        String name = room.type().name().toLowerCase(Locale.ROOT) + "-" + room.roomId();
+        while (true) {
+            RoomLog roomLog = rooms.computeIfAbsent(name, key -> new RoomLog(directory.resolve(key)));
+            synchronized (roomLog) {
+                if (!roomLog.closed) {
+                    roomLog.lastAccessMillis = clock.millis();
+                    return action.apply(roomLog);
+                }
+            }
+        }
+    }
+
+    // 열린 채팅방과 디스크에만 있는 채팅방 모두에 적용한다. 정리 때문에 연 채팅방은 접근 시각을 남기지 않는다.
+    private int forEachRoom(ToIntFunction<RoomLog> action) {
+        List<String> names;
+        try (Stream<Path> roomDirs = Files.list(directory)) {
+            names = roomDirs.filter(Files::isDirectory).map(roomDir -> roomDir.getFileName().toString()).toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int total = 0;
+        for (String name : names) {
+            RoomLog roomLog = rooms.computeIfAbsent(name, key -> new RoomLog(directory.resolve(key)));
+            synchronized (roomLog) {
+                if (!roomLog.closed) {
+                    total += action.applyAsInt(roomLog);
+                }
+            }
+        }
+        return total;
+    }
+
+    private final class RoomLog {
+
+        private final Path path;
+        private final List<ChatLogSegment> segments = new ArrayList<>();
+        private long lastAccessMillis;
+        private boolean closed;
+
+        private RoomLog(Path path) {
+            this.path = path;
+            try {
+                Files.createDirectories(path);
+                load();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // 남은 임시 파일과, 압축 중 멈춰 앞 세그먼트에 이미 포함된 세그먼트를 정리하며 연다.
+        private void load() throws IOException {
+            List<Path> logs;
+            try (Stream<Path> files = Files.list(path)) {
+                logs = files.filter(file -> {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(ChatLogSegment.TEMP_SUFFIX)) {
+                        deleteQuietly(file);
+                        return false;
+                    }
+                    return name.endsWith(ChatLogSegment.LOG_SUFFIX);
+                }).sorted().toList();
+            }
+
+            long now = clock.millis();
+            for (Path file : logs) {
+                ChatLogSegment last = lastSegment();
+                long baseOffset = ChatLogSegment.baseOffsetOf(file);
+                if (last != null && baseOffset < last.nextOffset) {
+                    log.info("[SegmentedChatLog] 압축으로 이미 합쳐진 세그먼트 삭제 - {}", file);
+                    deleteQuietly(file);
+                    deleteQuietly(file.resolveSibling(ChatLogSegment.fileName(baseOffset, ChatLogSegment.INDEX_SUFFIX)));
+                    continue;
+                }
+                segments.add(ChatLogSegment.open(file, indexInterval, now));
+            }
+        }
+
+        private long append(List<ChatMessage> messages) {
+            ChatLogSegment active = activeSegment();
+            long firstOffset = active.nextOffset;
+            ChatLogSegment.State state = active.state();
+            appendBuffer.clear();
+            try {
+                for (ChatMessage message : messages) {
+                    byte[] name = ChatLogCodec.bytes(message.getSenderName());
+                    byte[] content = ChatLogCodec.bytes(message.getContent());
+                    int recordSize = checkedRecordSize(name, content);
+
+                    if (!active.isEmpty() && active.size + appendBuffer.position() + recordSize > segmentBytes) {
+                        writeBuffer(active);
+                        active = roll(active);
+                        state = active.state();
+                    }
+                    if (appendBuffer.remaining() < recordSize) {
+                        grow(recordSize);
+                    }
+                    long offset = active.nextOffset;
+                    long sentAt = ChatLogCodec.toMillis(message.getSentAt());
+                    active.track(offset, active.size + appendBuffer.position(), sentAt);
+                    ChatLogCodec.write(appendBuffer, offset, sentAt, message.getSenderId(), name, content);
+                }
+                writeBuffer(active);
+                return firstOffset;
+            } catch (IOException e) {
+                active.rollback(state);
+                throw new UncheckedIOException(e);
+            } catch (RuntimeException e) {
+                active.rollback(state);
+                throw e;
+            }
+        }
+
+        private List<ChatLogEntry> readBefore(Long beforeOffset, int limit) {
+            ChatLogSegment last = lastSegment();
+            if (last == null) {
+                return List.of();
+            }
+            long upper = beforeOffset == null ? last.nextOffset : Math.min(beforeOffset, last.nextOffset);
+            List<List<ChatLogEntry>> chunks = new ArrayList<>();
+            int remaining = limit;
+            try {
+                for (int i = segments.size() - 1; i >= 0 && remaining > 0; i--) {
+                    ChatLogSegment segment = segments.get(i);
+                    // offset 사이에 빈 곳이 있을 수 있어 (손상 복구) 부족하면 같은 세그먼트에서 더 앞을 읽는다.
+                    while (remaining > 0 && upper > segment.baseOffset) {
+                        long from = Math.max(segment.baseOffset, upper - remaining);
+                        List<ChatLogEntry> chunk = new ArrayList<>();
+                        segment.read(from, upper, chunk);
+                        if (chunk.size() > remaining) {
+                            chunk = chunk.subList(chunk.size() - remaining, chunk.size());
+                        }
+                        chunks.add(chunk);
+                        remaining -= chunk.size();
+                        upper = from;
+                    }
+                    upper = Math.min(upper, segment.baseOffset);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            List<ChatLogEntry> result = new ArrayList<>(limit - remaining);
+            Collections.reverse(chunks);
+            chunks.forEach(result::addAll);
+            return result;
+        }
+
+        private void force() {
+            ChatLogSegment last = lastSegment();
+            if (last == null) {
+                return;
+            }
+            try {
+                last.force();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int applyRetention(long cutoffMillis, long maxRoomBytes) {
+            try {
+                ChatLogSegment last = lastSegment();
+                if (last != null && last.isActive()
+                        && (clock.millis() - last.createdAtMillis >= rollMillis || last.lastTimestamp < cutoffMillis)) {
+                    last.seal();
+                }
+
+                long totalBytes = 0;
+                for (ChatLogSegment segment : segments) {
+                    totalBytes += segment.size;
+                }
+                int deleted = 0;
+                while (!segments.isEmpty()) {
+                    ChatLogSegment oldest = segments.get(0);
+                    if (oldest.isActive() || (oldest.isEmpty() && segments.size() == 1)) {
+                        break;
+                    }
+                    boolean expired = oldest.lastTimestamp < cutoffMillis;
+                    boolean oversized = totalBytes > maxRoomBytes;
+                    if (!expired && !oversized) {
+                        break;
+                    }
+                    // 마지막 세그먼트도 지우면 offset 이 0 부터 다시 시작하지 않도록 다음 offset 을 가진 빈 세그먼트를 남긴다.
+                    if (segments.size() == 1) {
+                        segments.add(ChatLogSegment.create(path, oldest.nextOffset, indexInterval, clock.millis()));
+                        segments.get(1).seal();
+                    }
+                    oldest.delete();
+                    segments.remove(0);
+                    totalBytes -= oldest.size;
+                    deleted++;
+                }
+                return deleted;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int compact() {
+            int removed = 0;
+            try {
+                int i = 0;
+                while (i < segments.size()) {
+                    int end = i;
+                    long bytes = segments.get(i).size;
+                    while (end + 1 < segments.size()
+                            && !segments.get(end + 1).isActive()
+                            && !segments.get(i).isActive()
+                            && bytes + segments.get(end + 1).size <= segmentBytes) {
+                        end++;
+                        bytes += segments.get(end).size;
+                    }
+                    if (end > i) {
+                        List<ChatLogSegment> run = new ArrayList<>(segments.subList(i, end + 1));
+                        ChatLogSegment merged = ChatLogSegment.merge(run, indexInterval);
+                        for (ChatLogSegment segment : run.subList(1, run.size())) {
+                            segment.delete();
+                        }
+                        segments.subList(i, end + 1).clear();
+                        segments.add(i, merged);
+                        removed += run.size() - 1;
+                    }
+                    i++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return removed;
+        }
+
+        private void close() {
+            closed = true;
+            for (ChatLogSegment segment : segments) {
+                try {
+                    segment.seal();
+                    segment.close();
+                } catch (IOException e) {
+                    log.warn("[SegmentedChatLog] 세그먼트 닫기 실패 - {}", segment.logPath, e);
+                }
+            }
+            segments.clear();
+        }
+
+        private ChatLogSegment lastSegment() {
+            return segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        }
+
+        // 마지막 세그먼트가 봉인되었거나 오래되었으면 새 세그먼트를 연다.
+        private ChatLogSegment activeSegment() {
+            ChatLogSegment last = lastSegment();
+            try {
+                if (last == null) {
+                    segments.add(ChatLogSegment.create(path, 0, indexInterval, clock.millis()));
+                } else if (!last.isActive()) {
+                    if (last.isEmpty()) {
+                        segments.remove(segments.size() - 1);
+                        last.delete();
+                    }
+                    segments.add(ChatLogSegment.create(path, last.nextOffset, indexInterval, clock.millis()));
+                } else if (!last.isEmpty() && clock.millis() - last.createdAtMillis >= rollMillis) {
+                    roll(last);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return lastSegment();
+        }
+
+        private ChatLogSegment roll(ChatLogSegment active) throws IOException {
+            active.seal();
+            ChatLogSegment next = ChatLogSegment.create(path, active.nextOffset, indexInterval, clock.millis());
+            segments.add(next);
+            return next;
+        }
+
+        private void writeBuffer(ChatLogSegment active) throws IOException {
+            appendBuffer.flip();
+            active.write(appendBuffer);
+            appendBuffer.clear();
+        }
+
+        private void grow(int recordSize) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(Math.max(appendBuffer.capacity() * 2, appendBuffer.position() + recordSize));
+            appendBuffer.flip();
+            larger.put(appendBuffer);
+            appendBuffer = larger;
+        }
+    }
+
+    private static int checkedRecordSize(byte[] name, byte[] content) {
+        if (name.length > 0xFFFF || ChatLogCodec.MIN_BODY_SIZE + name.length + content.length > ChatLogCodec.MAX_BODY_SIZE) {
+            throw new IllegalArgumentException("채팅 메시지가 너무 큽니다.");
+        }
+        return ChatLogCodec.recordSize(name, content);
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("[SegmentedChatLog] 파일 삭제 실패 - {}", file, e);
+        }
+    }
+}
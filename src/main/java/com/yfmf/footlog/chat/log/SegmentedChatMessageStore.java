@@ -0,0 +1,99 @@
+package com.yfmf.footlog.chat.log;
+
+import com.yfmf.footlog.chat.ChatHistoryMessage;
+import com.yfmf.footlog.chat.ChatMessage;
+import com.yfmf.footlog.chat.ChatMessageStore;
+import com.yfmf.footlog.chat.ChatRoom;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 세그먼트 로그 저장소 (chat.persist.store=segment)
+ *
+ * 채팅 기록을 DB 대신 서버 로컬 파일(chat.log.dir)에 채팅방별로 이어 쓴다.
+ * 주기적으로 활성 세그먼트를 디스크에 기록(force)하고, 보존 정책과 세그먼트 압축을 적용한 뒤 유휴 채팅방 로그를 닫는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.persist.store", havingValue = "segment")
+public class SegmentedChatMessageStore implements ChatMessageStore {
+
+    private final SegmentedChatLog chatLog;
+    private final Duration retention;
+    private final long maxRoomBytes;
+    private final Duration roomIdle;
+
+    public SegmentedChatMessageStore(@Value("${chat.log.dir:./data/chat-log}") String dir,
+                                     @Value("${chat.log.segment-bytes:16777216}") int segmentBytes,
+                                     @Value("${chat.log.roll-millis:86400000}") long rollMillis,
+                                     @Value("${chat.log.index-interval-bytes:4096}") int indexIntervalBytes,
+                                     @Value("${chat.log.retention-days:180}") int retentionDays,
+                                     @Value("${chat.log.max-room-bytes:268435456}") long maxRoomBytes,
+                                     @Value("${chat.log.room-idle-millis:600000}") long roomIdleMillis) {
+        this.chatLog = new SegmentedChatLog(Path.of(dir), segmentBytes, rollMillis, indexIntervalBytes, Clock.systemDefaultZone());
+        this.retention = Duration.ofDays(retentionDays);
+        this.maxRoomBytes = maxRoomBytes;
+        this.roomIdle = Duration.ofMillis(roomIdleMillis);
+    }
+
+    @Override
+    public void saveAll(List<ChatMessage> messages) {
+        Map<ChatRoom, List<ChatMessage>> byRoom = new LinkedHashMap<>();
+        for (ChatMessage message : messages) {
+            byRoom.computeIfAbsent(new ChatRoom(message.getRoomType(), message.getRoomId()), room -> new ArrayList<>())
+                    .add(message);
+        }
+        byRoom.forEach(chatLog::append);
+    }
+
+    @Override
+    public List<ChatHistoryMessage> findBefore(ChatRoom room, Long before, int size) {
+        return chatLog.readBefore(room, before, size).stream()
+                .map(entry -> new ChatHistoryMessage(entry.offset(), entry.senderId(), entry.senderName(), entry.content(), entry.sentAt()))
+                .toList();
+    }
+
+    @Scheduled(initialDelayString = "${chat.log.flush-millis:1000}", fixedDelayString = "${chat.log.flush-millis:1000}")
+    public void flush() {
+        quietly("flush", chatLog::flush);
+    }
+
+    @Scheduled(initialDelayString = "${chat.log.maintenance-millis:600000}", fixedDelayString = "${chat.log.maintenance-millis:600000}")
+    public void maintainQuietly() {
+        quietly("maintenance", this::maintain);
+    }
+
+    void maintain() {
+        int deleted = chatLog.applyRetention(retention, maxRoomBytes);
+        int merged = chatLog.compact();
+        int closed = chatLog.closeIdle(roomIdle);
+        if (deleted > 0 || merged > 0 || closed > 0) {
+            log.info("[SegmentedChatMessageStore] 세그먼트 삭제 {}개, 압축 {}개, 유휴 채팅방 {}개 닫음", deleted, merged, closed);
+        }
+    }
+
+    private void quietly(String task, Runnable runnable) {
+        try {
+            runnable.run();
+        } catch (Exception e) {
+            log.error("[SegmentedChatMessageStore] {} 실패", task, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        chatLog.close();
+    }
+}
@@ -0,0 +1,57 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoom;
+import com.yfmf.footlog.chat.ChatRoomType;
+import com.yfmf.footlog.chat.StompAuthChannelInterceptor;
+import com.yfmf.footlog.domain.club.service.ClubMemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 입력 중 표시 수신과 입장 시 접속 상태 조회
+ */
+@Controller
+@RequiredArgsConstructor
+public class ChatPresenceController {
+
+    private final PresenceRegistry presenceRegistry;
+    private final ClubMemberService clubMemberService;
+
+    @MessageMapping("/chat/{roomType}/{roomId}" + ChatRoom.TYPING_SUFFIX)
+    public void typing(@DestinationVariable String roomType,
+                       @DestinationVariable String roomId,
+                       @Payload TypingRequest request,
+                       Authentication authentication) {
+        presenceRegistry.typing(ChatRoom.of(roomType, roomId), StompAuthChannelInterceptor.memberIdOf(authentication), request.typing());
+    }
+
+    // 구단 채팅은 구단원 전체를, 매치 채팅은 접속 중인 회원만 담는다. 이후 변경은 /topic/.../presence 로 받는다.
+    @SubscribeMapping("/chat/{roomType}/{roomId}" + ChatRoom.PRESENCE_SUFFIX)
+    public PresenceSnapshot snapshot(@DestinationVariable String roomType,
+                                     @DestinationVariable String roomId) {
+        ChatRoom room = ChatRoom.of(roomType, roomId);
+        Set<Long> online = new HashSet<>(presenceRegistry.onlineMembers(room));
+
+        List<PresenceSnapshot.MemberPresence> members;
+        if (room.type() == ChatRoomType.CLUB) {
+            members = clubMemberService.getClubMembers(room.roomId()).stream()
+                    .map(member -> new PresenceSnapshot.MemberPresence(member.getId(), member.getName(),
+                            online.contains(member.getId()), presenceRegistry.isTyping(room, member.getId())))
+                    .toList();
+        } else {
+            members = online.stream()
+                    .map(memberId -> new PresenceSnapshot.MemberPresence(memberId, null, true, presenceRegistry.isTyping(room, memberId)))
+                    .toList();
+        }
+        return new PresenceSnapshot(room.type(), room.roomId(), members);
+    }
+}
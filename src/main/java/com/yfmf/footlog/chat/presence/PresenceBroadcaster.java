@@ -0,0 +1,63 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 접속/입력 중 변경분 전송
+ *
+ * 이벤트마다 방 전체에 보내면 방 인원 N 명일 때 N 번의 변경이 N 명에게 가서 O(N²) 이 된다.
+ * chat.presence.flush-millis 마다 채팅방별로 바뀐 회원만 모아 delta 한 건으로 보내므로 채팅방당 전송 수가 주기당 1건으로 묶인다.
+ */
+@Slf4j
+@Component
+public class PresenceBroadcaster {
+
+    private final PresenceRegistry presenceRegistry;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    private final Counter frameCounter;
+
+    public PresenceBroadcaster(PresenceRegistry presenceRegistry,
+                               SimpMessagingTemplate messagingTemplate,
+                               MeterRegistry meterRegistry) {
+        this.presenceRegistry = presenceRegistry;
+        this.messagingTemplate = messagingTemplate;
+
+        Gauge.builder("chat.presence.sessions", presenceRegistry, PresenceRegistry::sessionCount)
+                .description("채팅방을 구독 중인 세션 수")
+                .register(meterRegistry);
+        this.frameCounter = Counter.builder("chat.presence.frames")
+                .description("전송한 접속/입력 중 delta 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 보낸 delta 수
+     */
+    public int flush() {
+        List<PresenceDelta> deltas = presenceRegistry.drain();
+        for (PresenceDelta delta : deltas) {
+            messagingTemplate.convertAndSend(new ChatRoom(delta.roomType(), delta.roomId()).presenceTopic(), delta);
+        }
+        frameCounter.increment(deltas.size());
+        return deltas.size();
+    }
+
+    @Scheduled(initialDelayString = "${chat.presence.flush-millis:1000}", fixedDelayString = "${chat.presence.flush-millis:1000}")
+    public void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[PresenceBroadcaster] 접속 상태 전송 실패", e);
+        }
+    }
+}
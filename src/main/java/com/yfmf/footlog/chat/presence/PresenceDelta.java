@@ -0,0 +1,16 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoomType;
+
+import java.util.List;
+
+// /topic/chat/{match|club}/{roomId}/presence - flush 주기 동안 바뀐 회원만 담는다.
+public record PresenceDelta(
+        ChatRoomType roomType,
+        long roomId,
+        List<Long> online,
+        List<Long> offline,
+        List<Long> typing,
+        List<Long> stoppedTyping
+) {
+}
@@ -0,0 +1,205 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoom;
+import com.yfmf.footlog.chat.StompAuthChannelInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 채팅방 접속/입력 중 상태
+ *
+ * 채팅방 토픽(/topic/chat/{match|club}/{roomId})을 구독한 세션을 회원별로 센다.
+ * 세션은 STOMP heart-beat 를 포함한 모든 수신 프레임마다 touch 되며, sessionTimeoutMillis 동안 소식이 없으면
+ * DISCONNECT 없이 끊긴 것으로 보고 정리한다. 변경 사항은 PresenceBroadcaster 가 주기적으로 drain 해 보낸다.
+ */
+@Slf4j
+@Component
+public class PresenceRegistry {
+
+    private final Clock clock;
+    private final long sessionTimeoutMillis;
+    private final long typingTtlMillis;
+
+    private final ConcurrentMap<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, RoomPresence> rooms = new ConcurrentHashMap<>();
+
+    public PresenceRegistry(@Value("${chat.presence.session-timeout-millis:60000}") long sessionTimeoutMillis,
+                            @Value("${chat.presence.typing-ttl-millis:5000}") long typingTtlMillis) {
+        this(sessionTimeoutMillis, typingTtlMillis, Clock.systemDefaultZone());
+    }
+
+    PresenceRegistry(long sessionTimeoutMillis, long typingTtlMillis, Clock clock) {
+        this.clock = clock;
+        this.sessionTimeoutMillis = sessionTimeoutMillis;
+        this.typingTtlMillis = typingTtlMillis;
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        ChatRoom room = ChatRoom.fromDestination(destination);
+        // 채팅방 토픽 구독만 접속으로 본다. (/recent, /presence 구독 제외)
+        if (room != null && room.topic().equals(destination)) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(),
+                    StompAuthChannelInterceptor.memberIdOf(event.getUser()), room);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    /**
+     * 세션이 살아 있음을 기록 - 모든 수신 프레임마다 호출되므로 가볍게 유지한다.
+     */
+    public void touch(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastSeenMillis = clock.millis();
+        }
+    }
+
+    void subscribe(String sessionId, String subscriptionId, Long memberId, ChatRoom room) {
+        Session session = sessions.computeIfAbsent(sessionId, id -> new Session(memberId));
+        session.lastSeenMillis = clock.millis();
+        synchronized (session) {
+            if (session.closed || session.subscriptions.putIfAbsent(subscriptionId, room) != null) {
+                return;
+            }
+        }
+        rooms.compute(room.key(), (key, presence) -> {
+            RoomPresence target = presence == null ? new RoomPresence(room) : presence;
+            target.join(memberId);
+            return target;
+        });
+    }
+
+    void unsubscribe(String sessionId, String subscriptionId) {
+        Session session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        ChatRoom room;
+        synchronized (session) {
+            room = session.subscriptions.remove(subscriptionId);
+        }
+        if (room != null) {
+            leave(room, session.memberId);
+        }
+    }
+
+    void disconnect(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        List<ChatRoom> joined;
+        synchronized (session) {
+            session.closed = true;
+            joined = new ArrayList<>(session.subscriptions.values());
+            session.subscriptions.clear();
+        }
+        joined.forEach(room -> leave(room, session.memberId));
+    }
+
+    /**
+     * 입력 중 표시 - typingTtlMillis 안에 다시 보내지 않으면 자동으로 꺼진다.
+     */
+    public void typing(ChatRoom room, Long memberId, boolean typing) {
+        long until = clock.millis() + typingTtlMillis;
+        rooms.computeIfPresent(room.key(), (key, presence) -> {
+            presence.typing(memberId, typing, until);
+            return presence;
+        });
+    }
+
+    public List<Long> onlineMembers(ChatRoom room) {
+        RoomPresence presence = rooms.get(room.key());
+        return presence == null ? List.of() : presence.onlineMembers();
+    }
+
+    public boolean isTyping(ChatRoom room, Long memberId) {
+        RoomPresence presence = rooms.get(room.key());
+        return presence != null && presence.isTyping(memberId);
+    }
+
+    /**
+     * 끊긴 세션을 정리하고 채팅방별 변경분을 모은다.
+     */
+    List<PresenceDelta> drain() {
+        long now = clock.millis();
+        expireSessions(now);
+
+        List<PresenceDelta> deltas = new ArrayList<>();
+        for (RoomPresence presence : rooms.values()) {
+            PresenceDelta delta = presence.drain(now);
+            if (delta != null) {
+                deltas.add(delta);
+            }
+            rooms.computeIfPresent(presence.room.key(), (key, current) -> current.isIdle() ? null : current);
+        }
+        return deltas;
+    }
+
+    int sessionCount() {
+        return sessions.size();
+    }
+
+    int roomCount() {
+        return rooms.size();
+    }
+
+    private void expireSessions(long now) {
+        long expiredBefore = now - sessionTimeoutMillis;
+        for (Map.Entry<String, Session> entry : sessions.entrySet()) {
+            if (entry.getValue().lastSeenMillis < expiredBefore) {
+                log.info("[PresenceRegistry] 응답 없는 세션 정리 - sessionId={}, memberId={}", entry.getKey(), entry.getValue().memberId);
+                disconnect(entry.getKey());
+            }
+        }
+    }
+
+    private void leave(ChatRoom room, Long memberId) {
+        rooms.computeIfPresent(room.key(), (key, presence) -> {
+            presence.leave(memberId);
+            return presence;
+        });
+    }
+
+    private static final class Session {
+
+        private final Long memberId;
+        private final Map<String, ChatRoom> subscriptions = new HashMap<>();
+        private volatile long lastSeenMillis;
+        private boolean closed;
+
+        private Session(Long memberId) {
+            this.memberId = memberId;
+        }
+    }
+}
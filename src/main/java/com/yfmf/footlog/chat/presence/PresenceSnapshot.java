@@ -0,0 +1,15 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoomType;
+
+import java.util.List;
+
+// /app/chat/{match|club}/{roomId}/presence 구독 시 한 번 보내는 현재 상태
+public record PresenceSnapshot(
+        ChatRoomType roomType,
+        long roomId,
+        List<MemberPresence> members
+) {
+    public record MemberPresence(Long memberId, String name, boolean online, boolean typing) {
+    }
+}
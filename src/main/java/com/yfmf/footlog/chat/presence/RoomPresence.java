@@ -0,0 +1,129 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅방 하나의 접속/입력 중 상태
+ *
+ * 이벤트는 바뀐 회원(dirty)만 기록하고, drain 시 마지막으로 보낸 상태와 비교해 달라진 것만 delta 로 만든다.
+ * 같은 주기 안에서 접속했다 나간 회원처럼 결과가 같으면 아무것도 보내지 않는다.
+ */
+final class RoomPresence {
+
+    final ChatRoom room;
+
+    private final Map<Long, Integer> sessions = new HashMap<>();
+    private final Map<Long, Long> typingUntil = new HashMap<>();
+    private final Set<Long> sentOnline = new HashSet<>();
+    private final Set<Long> sentTyping = new HashSet<>();
+    private final Set<Long> dirty = new HashSet<>();
+
+    RoomPresence(ChatRoom room) {
+        this.room = room;
+    }
+
+    synchronized void join(Long memberId) {
+        sessions.merge(memberId, 1, Integer::sum);
+        dirty.add(memberId);
+    }
+
+    synchronized void leave(Long memberId) {
+        Integer count = sessions.get(memberId);
+        if (count == null) {
+            return;
+        }
+        if (count <= 1) {
+            sessions.remove(memberId);
+            typingUntil.remove(memberId);
+        } else {
+            sessions.put(memberId, count - 1);
+        }
+        dirty.add(memberId);
+    }
+
+    synchronized void typing(Long memberId, boolean typing, long untilMillis) {
+        if (!sessions.containsKey(memberId)) {
+            return;
+        }
+        if (typing) {
+            typingUntil.put(memberId, untilMillis);
+        } else {
+            typingUntil.remove(memberId);
+        }
+        dirty.add(memberId);
+    }
+
+    synchronized boolean isOnline(Long memberId) {
+        return sessions.containsKey(memberId);
+    }
+
+    synchronized boolean isTyping(Long memberId) {
+        return typingUntil.containsKey(memberId);
+    }
+
+    synchronized List<Long> onlineMembers() {
+        return new ArrayList<>(sessions.keySet());
+    }
+
+    /**
+     * 지난 drain 이후 달라진 상태 - 없으면 null
+     */
+    synchronized PresenceDelta drain(long nowMillis) {
+        for (Iterator<Map.Entry<Long, Long>> it = typingUntil.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Long> entry = it.next();
+            if (entry.getValue() <= nowMillis) {
+                it.remove();
+                dirty.add(entry.getKey());
+            }
+        }
+        if (dirty.isEmpty()) {
+            return null;
+        }
+
+        List<Long> online = new ArrayList<>();
+        List<Long> offline = new ArrayList<>();
+        List<Long> typing = new ArrayList<>();
+        List<Long> stoppedTyping = new ArrayList<>();
+        for (Long memberId : dirty) {
+            boolean isOnline = sessions.containsKey(memberId);
+            if (isOnline != sentOnline.contains(memberId)) {
+                if (isOnline) {
+                    sentOnline.add(memberId);
+                    online.add(memberId);
+                } else {
+                    sentOnline.remove(memberId);
+                    offline.add(memberId);
+                }
+            }
+            boolean isTyping = typingUntil.containsKey(memberId);
+            if (isTyping != sentTyping.contains(memberId)) {
+                if (isTyping) {
+                    sentTyping.add(memberId);
+                    typing.add(memberId);
+                } else {
+                    sentTyping.remove(memberId);
+                    stoppedTyping.add(memberId);
+                }
+            }
+        }
+        dirty.clear();
+
+        if (online.isEmpty() && offline.isEmpty() && typing.isEmpty() && stoppedTyping.isEmpty()) {
+            return null;
+        }
+        return new PresenceDelta(room.type(), room.roomId(), online, offline, typing, stoppedTyping);
+    }
+
+    // 아무도 없고 보낼 것도 없으면 제거해도 된다.
+    synchronized boolean isIdle() {
+        return sessions.isEmpty() && dirty.isEmpty() && sentOnline.isEmpty() && sentTyping.isEmpty();
+    }
+}
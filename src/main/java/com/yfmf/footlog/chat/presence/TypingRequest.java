@@ -0,0 +1,5 @@
+package com.yfmf.footlog.chat.presence;
+
+// 클라이언트 -> /app/chat/{match|club}/{roomId}/typing
+public record TypingRequest(boolean typing) {
+}
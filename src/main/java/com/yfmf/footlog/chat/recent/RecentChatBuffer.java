@@ -0,0 +1,139 @@
+package com.yfmf.footlog.chat.recent;
+
+import com.yfmf.footlog.chat.ChatMessageResponse;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 채팅방 하나의 최근 메시지 링 버퍼 (잠금 없음)
+ *
+ * 쓰기는 sequence 를 하나 받아 해당 칸을 덮어쓰고, 읽기는 칸에 기록된 sequence 가 기대값과 같은 메시지만 모은다.
+ * 아직 칸을 채우지 못한 동시 쓰기나 이미 덮어쓰인 칸은 건너뛰므로 읽기가 쓰기를 기다리지 않는다.
+ *
+ * 새로 만든 버퍼는 만든 뒤에 보낸 메시지만 갖고 있으므로 저장소에서 이전 메시지를 채우기(backfill) 전까지는
+ * 완전하지 않다. 그동안의 쓰기만 버퍼 락을 잡아 채우기와 겹치지 않게 하고, 채운 뒤에는 다시 잠금 없이 쓴다.
+ */
+final class RecentChatBuffer {
+
+    private final AtomicReferenceArray<Slot> slots;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private volatile boolean complete;
+
+    volatile long lastAccessMillis;
+
+    RecentChatBuffer(int capacity, long nowMillis) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다. capacity=" + capacity);
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.lastAccessMillis = nowMillis;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return 버퍼 추정 크기 변화량 (bytes)
+     */
+    long add(ChatMessageResponse message) {
+        if (!complete) {
+            synchronized (this) {
+                return append(message);
+            }
+        }
+        return append(message);
+    }
+
+    /**
+     * 저장소에서 읽은 이전 메시지(오래된 순)를 버퍼 앞에 채우고 완전한 버퍼로 표시한다.
+     * 저장소 쓰기는 비동기라 버퍼에 이미 있는 메시지가 함께 읽힐 수 있어 중복은 건너뛴다.
+     *
+     * @return 버퍼 추정 크기 변화량 (bytes)
+     */
+    synchronized long backfill(List<ChatMessageResponse> stored) {
+        if (complete) {
+            return 0;
+        }
+        List<ChatMessageResponse> sent = latest(capacity());
+        Set<MessageKey> sentKeys = new HashSet<>();
+        sent.forEach(message -> sentKeys.add(MessageKey.of(message)));
+
+        long before = bytes.get();
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+        sequence.set(0);
+        bytes.set(0);
+        for (ChatMessageResponse message : stored) {
+            if (!sentKeys.contains(MessageKey.of(message))) {
+                append(message);
+            }
+        }
+        sent.forEach(this::append);
+        complete = true;
+        return bytes.get() - before;
+    }
+
+    private long append(ChatMessageResponse message) {
+        long seq = sequence.getAndIncrement();
+        Slot slot = new Slot(seq, message, estimateBytes(message));
+        Slot old = slots.getAndSet((int) (seq & mask), slot);
+        long delta = slot.bytes - (old == null ? 0 : old.bytes);
+        bytes.addAndGet(delta);
+        return delta;
+    }
+
+    /**
+     * 최근 limit 건을 오래된 순으로 반환한다.
+     */
+    List<ChatMessageResponse> latest(int limit) {
+        long end = sequence.get();
+        long start = Math.max(0, end - Math.min(limit, capacity()));
+        List<ChatMessageResponse> messages = new ArrayList<>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            Slot slot = slots.get((int) (seq & mask));
+            if (slot != null && slot.sequence == seq) {
+                messages.add(slot.message);
+            }
+        }
+        return messages;
+    }
+
+    long bytes() {
+        return bytes.get();
+    }
+
+    // 객체 헤더/참조 + 문자열 (UTF-16) 대략치
+    static long estimateBytes(ChatMessageResponse message) {
+        return 128L + 2L * (length(message.content()) + length(message.senderName()));
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Slot(long sequence, ChatMessageResponse message, long bytes) {
+    }
+
+    // 저장소 시각은 마이크로초까지만 남으므로 그 단위로 비교한다.
+    private record MessageKey(Long senderId, String content, Object sentAt) {
+        static MessageKey of(ChatMessageResponse message) {
+            return new MessageKey(message.senderId(), message.content(),
+                    message.sentAt() == null ? null : message.sentAt().truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.yfmf.footlog.chat.recent;
+
+import com.yfmf.footlog.chat.ChatHistoryMessage;
+import com.yfmf.footlog.chat.ChatMessageResponse;
+import com.yfmf.footlog.chat.ChatMessageStore;
+import com.yfmf.footlog.chat.ChatRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅방별 최근 메시지 캐시
+ *
+ * 전송된 메시지를 채팅방 링 버퍼에 넣어 두고, 입장 시 최근 메시지를 저장소 조회 없이 돌려준다.
+ * 캐시에 없는(식은) 채팅방만 저장소에서 한 번 읽어 채운다. 식은 채팅방에 메시지가 먼저 오면 그 메시지만 든 버퍼가 생기는데,
+ * 이 버퍼는 첫 입장 때 저장소의 이전 메시지를 앞에 채운 뒤에야 캐시로 응답한다.
+ * idleMillis 동안 쓰이지 않은 채팅방은 비우고, 전체 추정 크기가 maxBytes 를 넘으면 가장 오래 쓰이지 않은 채팅방부터 비운다.
+ */
+@Slf4j
+@Component
+public class RecentChatCache {
+
+    private final ChatMessageStore chatMessageStore;
+    private final Clock clock;
+    private final int capacity;
+    private final long maxBytes;
+    private final long idleMillis;
+
+    private final ConcurrentMap<String, RecentChatBuffer> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictedCounter;
+
+    public RecentChatCache(ChatMessageStore chatMessageStore,
+                           MeterRegistry meterRegistry,
+                           @Value("${chat.recent.capacity:128}") int capacity,
+                           @Value("${chat.recent.max-bytes:67108864}") long maxBytes,
+                           @Value("${chat.recent.idle-millis:600000}") long idleMillis) {
+        this(chatMessageStore, meterRegistry, capacity, maxBytes, idleMillis, Clock.systemDefaultZone());
+    }
+
+    RecentChatCache(ChatMessageStore chatMessageStore, MeterRegistry meterRegistry, int capacity, long maxBytes,
+                    long idleMillis, Clock clock) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("chat.recent.capacity 는 2의 거듭제곱이어야 합니다. capacity=" + capacity);
+        }
+        this.chatMessageStore = chatMessageStore;
+        this.clock = clock;
+        this.capacity = capacity;
+        this.maxBytes = maxBytes;
+        this.idleMillis = idleMillis;
+
+        Gauge.builder("chat.recent.rooms", rooms, Map::size)
+                .description("최근 메시지를 캐시 중인 채팅방 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.recent.bytes", totalBytes, AtomicLong::get)
+                .description("최근 메시지 캐시 추정 크기")
+                .register(meterRegistry);
+        this.hitCounter = Counter.builder("chat.recent.requests")
+                .tag("result", "hit")
+                .description("입장 시 캐시로 응답한 횟수")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("chat.recent.requests")
+                .tag("result", "miss")
+                .description("입장 시 저장소에서 채운 횟수")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("chat.recent.evicted")
+                .description("비운 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송된 메시지 추가 - 브로드캐스트 직후 호출된다.
+     * 버퍼가 없으면 저장소를 읽지 않고 새로 만들며, 이 버퍼는 recent() 가 채울 때까지 미완성이다.
+     */
+    public void add(ChatRoom room, ChatMessageResponse message) {
+        long now = clock.millis();
+        RecentChatBuffer buffer = rooms.computeIfAbsent(room.key(), key -> new RecentChatBuffer(capacity, now));
+        buffer.lastAccessMillis = now;
+        if (totalBytes.addAndGet(buffer.add(message)) > maxBytes) {
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * 입장 시 최근 limit 건 (오래된 순)
+     */
+    public List<ChatMessageResponse> recent(ChatRoom room, int limit) {
+        long now = clock.millis();
+        RecentChatBuffer buffer = rooms.get(room.key());
+        if (buffer != null && buffer.isComplete()) {
+            hitCounter.increment();
+            buffer.lastAccessMillis = now;
+            return buffer.latest(limit);
+        }
+
+        missCounter.increment();
+        List<ChatMessageResponse> stored = new ArrayList<>();
+        for (ChatHistoryMessage message : chatMessageStore.findBefore(room, null, capacity)) {
+            stored.add(new ChatMessageResponse(room.type(), room.roomId(), message.senderId(), message.senderName(),
+                    message.content(), message.sentAt()));
+        }
+        // 읽는 사이 새 메시지로 버퍼가 먼저 만들어졌으면 그 버퍼 앞에 채운다.
+        RecentChatBuffer loaded = rooms.computeIfAbsent(room.key(), key -> new RecentChatBuffer(capacity, now));
+        loaded.lastAccessMillis = now;
+        if (totalBytes.addAndGet(loaded.backfill(stored)) > maxBytes) {
+            evictOverBudget();
+        }
+        return loaded.latest(limit);
+    }
+
+    /**
+     * 유휴 채팅방과 예산 초과분을 비우고 전체 크기를 다시 계산한다.
+     *
+     * @return 비운 채팅방 수
+     */
+    public int sweep() {
+        long idleBefore = clock.millis() - idleMillis;
+        int evicted = 0;
+        for (Map.Entry<String, RecentChatBuffer> entry : rooms.entrySet()) {
+            if (entry.getValue().lastAccessMillis < idleBefore && evict(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        // 제거와 동시에 들어온 쓰기로 생긴 오차를 바로잡는다.
+        totalBytes.set(rooms.values().stream().mapToLong(RecentChatBuffer::bytes).sum());
+        return evicted + evictOverBudget();
+    }
+
+    // 한 스레드만 정리하고 나머지는 그냥 지나간다.
+    private int evictOverBudget() {
+        if (totalBytes.get() <= maxBytes || !evicting.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            List<Map.Entry<String, RecentChatBuffer>> byAccess = new ArrayList<>(rooms.entrySet());
+            byAccess.sort(Comparator.comparingLong(entry -> entry.getValue().lastAccessMillis));
+            int evicted = 0;
+            for (Map.Entry<String, RecentChatBuffer> entry : byAccess) {
+                if (totalBytes.get() <= maxBytes) {
+                    break;
+                }
+                if (evict(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+            if (evicted > 0) {
+                log.info("[RecentChatCache] 메모리 예산 초과로 채팅방 {}개 비움 - bytes={}", evicted, totalBytes.get());
+            }
+            return evicted;
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean evict(String key, RecentChatBuffer buffer) {
+        if (!rooms.remove(key, buffer)) {
+            return false;
+        }
+        totalBytes.addAndGet(-buffer.bytes());
+        evictedCounter.increment();
+        return true;
+    }
+
+    int size() {
+        return rooms.size();
+    }
+
+    long bytes() {
+        return totalBytes.get();
+    }
+
+    @Scheduled(initialDelayString = "${chat.recent.sweep-millis:30000}", fixedDelayString = "${chat.recent.sweep-millis:30000}")
+    public void sweepQuietly() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("[RecentChatCache] 최근 메시지 캐시 정리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.yfmf.footlog.config;
+
+import org.apache.catalina.valves.RemoteIpValve;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 프록시 뒤의 클라이언트 IP
+ *
+ * auth.trusted-proxies (정규식) 에 맞는 주소에서 온 요청만 X-Forwarded-For 를 믿고,
+ * 오른쪽부터 신뢰 프록시를 건너뛴 첫 주소를 request.getRemoteAddr() 로 바꾼다.
+ * 그 밖의 요청은 헤더를 무시하므로 클라이언트가 헤더를 꾸며 로그인 제한이나 IP 확인을 피할 수 없다.
+ */
+@Configuration
+public class ForwardedHeaderConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpValveCustomizer(
+            @Value("${auth.trusted-proxies:127\\.0\\.0\\.1|0:0:0:0:0:0:0:1}") String trustedProxies) {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            valve.setInternalProxies(trustedProxies);
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            factory.addEngineValves(valve);
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.yfmf.footlog.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업 (@Scheduled) 설정
+ *
+ * 캐시 정리, 만료 처리, 재계산, 접속 상태 전송과 STOMP heart-beat 가 각자 스레드를 만들지 않고 이 스케줄러 하나를 나눠 쓴다.
+ * 오래 걸리는 정리/재계산이 짧은 주기 작업을 막지 않도록 스레드는 여러 개 둔다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // @Scheduled 는 이 이름의 스케줄러를 쓴다. (웹소켓 브로커 스케줄러와 구분)
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduling.pool-size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("footlog-scheduler-");
+        scheduler.setDaemon(true);
+        return scheduler;
+    }
+}
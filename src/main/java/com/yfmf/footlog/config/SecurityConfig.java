@@ -2,6 +2,8 @@ package com.yfmf.footlog.config;
 
 import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
 import com.yfmf.footlog.domain.auth.jwt.JWTTokenFilter;
+import com.yfmf.footlog.domain.auth.jwt.PublicRouteMatcher;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -37,11 +39,30 @@ public class SecurityConfig {
             "/swagger-ui.html",     // Swagger UI HTML
             "/api/v1/**",
             "/match/**",
-            "/admin/**"
+            "/admin/**",
+            "/ws/chat/**"           // 채팅 - STOMP CONNECT 에서 토큰 검증
 
     };
 
+    // 인증 정보를 쓰지 않아 JWT 필터를 아예 건너뛰는 경로 (WHITE_LIST 중 관리자 권한/토큰을 보는 경로는 제외)
+    private static final String[] PUBLIC_ROUTES = {
+            "/api/auth/signup",
+            "/api/auth/login",
+            "/api/auth/reissue",
+            "/api/auth/logout",
+            "/api/auth/logout/all",
+            "/api/auth/status",
+            "/api/auth/kakao/**",
+            "/ws/chat/**",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html"
+    };
+
+    private static final PublicRouteMatcher PUBLIC_ROUTE_MATCHER = new PublicRouteMatcher(PUBLIC_ROUTES);
+
     private final JWTTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity httpSecurity, MvcRequestMatcher.Builder mvc) throws Exception {
@@ -54,9 +75,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests((request) -> request
                         .requestMatchers(mvc.pattern("/api/clubs/**")).authenticated()  // 클럽 관련 엔드포인트는 인증 필요
                         .requestMatchers(mvc.pattern("/api/auth/members")).hasRole("ADMIN")
+                        .requestMatchers(mvc.pattern("/admin/stats")).hasRole("ADMIN")
+                        .requestMatchers(mvc.pattern("/admin/jobs/**")).hasRole("ADMIN")
                         .requestMatchers(this.createMvcRequestMatcherForWhiteList(mvc)).permitAll() // 화이트리스트 엔드포인트는 인증 없이 접근 가능
                         .anyRequest().authenticated()) // 그 외 모든 요청은 인증 필요
-                .addFilterBefore(new JWTTokenFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
+                .addFilterBefore(new JWTTokenFilter(jwtTokenProvider, accessTokenRevocationList, PUBLIC_ROUTE_MATCHER), UsernamePasswordAuthenticationFilter.class);  // JWT 필터 추가
         // Spring Security Custom Filter 적용 - Form '인증'에 대해서 적용
 
         return httpSecurity.build();
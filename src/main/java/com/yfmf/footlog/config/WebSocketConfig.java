@@ -0,0 +1,84 @@
+package com.yfmf.footlog.config;
+
+import com.yfmf.footlog.chat.StompAuthChannelInterceptor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+/**
+ * STOMP 채팅 설정
+ *
+ * 엔드포인트: /ws/chat, 구독: /topic/chat/{match|club}/{roomId}, 전송: /app/chat/{match|club}/{roomId}
+ * 브로커는 애플리케이션 내장 SimpleBroker 를 사용한다.
+ * 브로커는 heartbeatMillis 간격으로 heart-beat 를 주고받으며, 클라이언트 heart-beat 는 접속 상태(PresenceRegistry)의
+ * 생존 신호가 되므로 chat.presence.session-timeout-millis 는 이 간격보다 길어야 한다.
+ * heart-beat 는 공용 스케줄러(SchedulingConfig)에서 보낸다.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${chat.outbound-threads:0}")
+    private int outboundThreads;
+
+    @Value("${chat.heartbeat-millis:10000}")
+    private long heartbeatMillis;
+
+    @Value("${chat.presence.session-timeout-millis:60000}")
+    private long sessionTimeoutMillis;
+
+    public WebSocketConfig(StompAuthChannelInterceptor stompAuthChannelInterceptor,
+                           @Qualifier("taskScheduler") TaskScheduler taskScheduler) {
+        this.stompAuthChannelInterceptor = stompAuthChannelInterceptor;
+        this.taskScheduler = taskScheduler;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws/chat")
+                .setAllowedOriginPatterns("http://localhost:3000");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        if (sessionTimeoutMillis <= heartbeatMillis) {
+            throw new IllegalArgumentException("chat.presence.session-timeout-millis 는 chat.heartbeat-millis 보다 길어야 합니다. "
+                    + "sessionTimeoutMillis=" + sessionTimeoutMillis + ", heartbeatMillis=" + heartbeatMillis);
+        }
+        registry.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(taskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+        registry.setUserDestinationPrefix("/user");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+
+    // 접속자가 많은 방의 팬아웃은 outbound 채널 스레드가 처리한다.
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        int threads = outboundThreads > 0 ? outboundThreads : Runtime.getRuntime().availableProcessors() * 2;
+        registration.taskExecutor().corePoolSize(threads).maxPoolSize(threads);
+    }
+
+    // 느린 클라이언트 하나가 전송 스레드를 오래 잡지 않도록 제한
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(10_000)
+                .setSendBufferSizeLimit(512 * 1024)
+                .setMessageSizeLimit(16 * 1024);
+    }
+}
@@ -1,5 +1,10 @@
 package com.yfmf.footlog.domain.admin.controller;
 
+import com.yfmf.footlog.domain.admin.dto.AdminStatsResponseDTO;
+import com.yfmf.footlog.domain.admin.service.AdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -7,10 +12,20 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/admin")
+@RequiredArgsConstructor
 public class AdminController {
 
+    private final AdminService adminService;
+
     @GetMapping("test")
     public String test() {
         return "test success";
     }
+
+    // 대시보드 통계 (관리자 전용)
+    @Operation(summary = "관리자 통계", description = "회원(권한/가입 경로/지역), 구단(등급), 매치(상태) 수와 일별 가입자 수를 조회합니다.")
+    @GetMapping("stats")
+    public ResponseEntity<AdminStatsResponseDTO> getStats() {
+        return ResponseEntity.ok(adminService.getStats());
+    }
 }
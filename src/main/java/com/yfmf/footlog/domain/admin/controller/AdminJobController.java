@@ -0,0 +1,51 @@
+package com.yfmf.footlog.domain.admin.controller;
+
+import com.yfmf.footlog.domain.admin.dto.AdminJobRequestDTO;
+import com.yfmf.footlog.domain.admin.dto.AdminJobResponseDTO;
+import com.yfmf.footlog.domain.admin.service.AdminJobService;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "AdminJob", description = "관리자 대량 작업 API")
+@RestController
+@RequestMapping("/admin/jobs")
+@RequiredArgsConstructor
+public class AdminJobController {
+
+    private final AdminJobService adminJobService;
+
+    // 대량 작업 제출 (관리자 전용)
+    @Operation(summary = "대량 작업 제출", description = "작업을 대기열에 넣고 바로 반환합니다. 진행 상황은 작업 조회로 확인합니다.")
+    @PostMapping
+    public ResponseEntity<AdminJobResponseDTO> submit(@RequestBody AdminJobRequestDTO request,
+                                                      @AuthenticationPrincipal LoginedInfo logined) {
+        Long requestedBy = logined == null ? null : logined.getUserId();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(adminJobService.submit(request, requestedBy));
+    }
+
+    @Operation(summary = "최근 대량 작업 목록", description = "최근 50건의 작업과 진행 상황을 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<AdminJobResponseDTO>> getRecentJobs() {
+        return ResponseEntity.ok(adminJobService.getRecentJobs());
+    }
+
+    @Operation(summary = "대량 작업 조회", description = "처리 건수, 진행률, 남은 예상 시간을 조회합니다.")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<AdminJobResponseDTO> getJob(@PathVariable("jobId") Long jobId) {
+        return ResponseEntity.ok(adminJobService.getJob(jobId));
+    }
+
+    @Operation(summary = "대량 작업 취소", description = "진행 중인 chunk 까지 반영하고 멈춥니다.")
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<AdminJobResponseDTO> cancel(@PathVariable("jobId") Long jobId) {
+        return ResponseEntity.ok(adminJobService.cancel(jobId));
+    }
+}
@@ -0,0 +1,10 @@
+package com.yfmf.footlog.domain.admin.dto;
+
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+
+// 대량 작업 제출 - days 는 기준 일수가 필요한 작업(회원/매치 삭제)에만 쓴다.
+public record AdminJobRequestDTO(
+        AdminJobType type,
+        Integer days
+) {
+}
@@ -0,0 +1,63 @@
+package com.yfmf.footlog.domain.admin.dto;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 대량 작업 진행 상황
+ *
+ * progress 는 시작 시 센 대상 수 기준 백분율, etaSeconds 는 이번 실행의 처리 속도로 낸 남은 시간 (실행 중일 때만)
+ */
+public record AdminJobResponseDTO(
+        Long jobId,
+        AdminJobType type,
+        String description,
+        AdminJobStatus status,
+        Integer days,
+        LocalDateTime cutoff,
+        Long total,
+        long processed,
+        long affected,
+        Double progress,
+        Long etaSeconds,
+        boolean cancelRequested,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String message
+) {
+
+    public static AdminJobResponseDTO of(AdminJob job, LocalDateTime now) {
+        return new AdminJobResponseDTO(job.getId(), job.getType(), job.getType().getDescription(), job.getStatus(),
+                job.getDays(), job.getCutoff(), job.getTotal(), job.getProcessed(), job.getAffected(),
+                progress(job), etaSeconds(job, now), job.isCancelRequested(), job.getCreatedAt(),
+                job.getStartedAt(), job.getFinishedAt(), job.getMessage());
+    }
+
+    private static Double progress(AdminJob job) {
+        if (job.getStatus() == AdminJobStatus.COMPLETED) {
+            return 100.0;
+        }
+        if (job.getTotal() == null) {
+            return null;
+        }
+        if (job.getTotal() == 0) {
+            return 0.0;
+        }
+        return Math.min(100.0, job.getProcessed() * 100.0 / job.getTotal());
+    }
+
+    private static Long etaSeconds(AdminJob job, LocalDateTime now) {
+        long done = job.getProcessed() - job.getStartProcessed();
+        if (job.getStatus() != AdminJobStatus.RUNNING || job.getTotal() == null || job.getStartedAt() == null || done <= 0) {
+            return null;
+        }
+        long elapsedMillis = Duration.between(job.getStartedAt(), now).toMillis();
+        long remaining = Math.max(job.getTotal() - job.getProcessed(), 0);
+        return (long) Math.ceil(remaining * (double) elapsedMillis / done / 1000.0);
+    }
+}
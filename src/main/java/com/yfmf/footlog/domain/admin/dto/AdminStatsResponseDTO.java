@@ -0,0 +1,20 @@
+package com.yfmf.footlog.domain.admin.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+// 관리자 대시보드 통계 - 분류 키는 enum 이름, 값이 없는 항목은 NONE
+public record AdminStatsResponseDTO(
+        long totalMembers,
+        Map<String, Long> membersByAuthority,
+        Map<String, Long> membersBySocialType,
+        Map<String, Long> membersByArea,
+        long totalClubs,
+        Map<String, Long> clubsByLevel,
+        long totalMatches,
+        Map<String, Long> matchesByStatus,
+        Map<LocalDate, Long> signupsPerDay,
+        LocalDateTime reconciledAt
+) {
+}
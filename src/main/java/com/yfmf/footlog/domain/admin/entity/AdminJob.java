@@ -0,0 +1,103 @@
+package com.yfmf.footlog.domain.admin.entity;
+
+import com.yfmf.footlog.BaseTimeEntity;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 대량 작업
+ *
+ * cursor 는 마지막으로 처리한 id 로, chunk 처리와 같은 트랜잭션에서 갱신되므로
+ * 서버가 재시작되어도 커밋된 chunk 다음부터 이어서 실행한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "tbl_admin_job", indexes = {
+        @Index(name = "idx_admin_job_status", columnList = "status, id")
+})
+public class AdminJob extends BaseTimeEntity {
+
+    private static final int MAX_MESSAGE_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private AdminJobType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AdminJobStatus status;
+
+    private Long requestedBy;
+
+    // 기준 일수와 제출 시각으로 정한 기준 시각 - 재시작해도 같은 대상을 처리한다.
+    private Integer days;
+    private LocalDateTime cutoff;
+
+    private Long total;
+
+    @Column(nullable = false)
+    private long processed;
+
+    @Column(nullable = false)
+    private long affected;
+
+    @Column(nullable = false)
+    private long cursor;
+
+    @Column(nullable = false)
+    private boolean cancelRequested;
+
+    // 이번 실행의 시작 시각과 그때까지 처리한 수 (남은 시간 계산용)
+    private LocalDateTime startedAt;
+    private long startProcessed;
+
+    private LocalDateTime finishedAt;
+
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    public AdminJob(AdminJobType type, Long requestedBy, Integer days, LocalDateTime cutoff) {
+        this.type = type;
+        this.status = AdminJobStatus.QUEUED;
+        this.requestedBy = requestedBy;
+        this.days = days;
+        this.cutoff = cutoff;
+    }
+
+    public void start(LocalDateTime now) {
+        this.status = AdminJobStatus.RUNNING;
+        this.startedAt = now;
+        this.startProcessed = processed;
+    }
+
+    public void estimate(long total) {
+        this.total = total;
+    }
+
+    public void advance(long lastId, int processed, int affected) {
+        this.cursor = lastId;
+        this.processed += processed;
+        this.affected += affected;
+    }
+
+    public void requestCancel() {
+        this.cancelRequested = true;
+    }
+
+    public void finish(AdminJobStatus status, LocalDateTime now, String message) {
+        this.status = status;
+        this.finishedAt = now;
+        this.message = message == null || message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+}
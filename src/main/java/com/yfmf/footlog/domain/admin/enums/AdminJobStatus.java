@@ -0,0 +1,13 @@
+package com.yfmf.footlog.domain.admin.enums;
+
+public enum AdminJobStatus {
+    QUEUED,     // 실행 대기
+    RUNNING,    // 실행 중 (재시작 시 이어서 실행)
+    COMPLETED,  // 완료
+    CANCELLED,  // 취소됨
+    FAILED;     // 실패
+
+    public boolean isActive() {
+        return this == QUEUED || this == RUNNING;
+    }
+}
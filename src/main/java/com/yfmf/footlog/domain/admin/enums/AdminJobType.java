@@ -0,0 +1,21 @@
+package com.yfmf.footlog.domain.admin.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AdminJobType {
+    INACTIVE_MEMBER_PURGE("장기 미활동 회원 삭제", true, true),   // days 일 넘게 변경이 없고 구단에 속하지 않은 회원
+    CLUB_MEMBER_COUNT("구단 인원 수 재계산", false, false),
+    RECORD_RESET("회원 기록 초기화", false, false),
+    OLD_MATCH_PURGE("지난 매치 삭제", true, true);              // 경기일이 days 일 넘게 지난 매치
+
+    private final String description;
+    private final boolean requiresDays;
+    private final boolean affectsStats;   // 끝나면 관리자 통계를 다시 계산한다.
+
+    AdminJobType(String description, boolean requiresDays, boolean affectsStats) {
+        this.description = description;
+        this.requiresDays = requiresDays;
+        this.affectsStats = affectsStats;
+    }
+}
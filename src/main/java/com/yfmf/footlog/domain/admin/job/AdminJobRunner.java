@@ -0,0 +1,214 @@
+package com.yfmf.footlog.domain.admin.job;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.repository.AdminJobRepository;
+import com.yfmf.footlog.domain.admin.stats.AdminStatsReconciler;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자 대량 작업 실행기
+ *
+ * 작업은 크기가 정해진 전용 스레드 풀에서 chunk 단위로 실행되며, chunk 마다
+ * 대상 처리와 진행 상황(cursor) 갱신을 한 트랜잭션으로 커밋한다.
+ * 취소 요청은 chunk 사이에 DB 에서 확인하고, 종료/재시작으로 멈춘 작업은 시작 시 cursor 다음부터 이어서 실행한다.
+ */
+@Slf4j
+@Component
+public class AdminJobRunner {
+
+    private final AdminJobRepository adminJobRepository;
+    private final Map<AdminJobType, AdminJobTask> tasks = new EnumMap<>(AdminJobType.class);
+    private final AdminStatsReconciler adminStatsReconciler;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+
+    private final ThreadPoolExecutor executor;
+
+    public AdminJobRunner(AdminJobRepository adminJobRepository,
+                          List<AdminJobTask> tasks,
+                          AdminStatsReconciler adminStatsReconciler,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${admin.job.threads:1}") int threads,
+                          @Value("${admin.job.queue-capacity:16}") int queueCapacity,
+                          @Value("${admin.job.chunk-size:500}") int chunkSize,
+                          @Value("${admin.job.chunk-pause-millis:20}") long chunkPauseMillis) {
+        this(adminJobRepository, tasks, adminStatsReconciler, transactionManager, meterRegistry, threads, queueCapacity,
+                chunkSize, chunkPauseMillis, Clock.systemDefaultZone());
+    }
+
+    AdminJobRunner(AdminJobRepository adminJobRepository, List<AdminJobTask> tasks,
+                   AdminStatsReconciler adminStatsReconciler, PlatformTransactionManager transactionManager,
+                   MeterRegistry meterRegistry, int threads, int queueCapacity, int chunkSize, long chunkPauseMillis,
+                   Clock clock) {
+        this.adminJobRepository = adminJobRepository;
+        tasks.forEach(task -> this.tasks.put(task.type(), task));
+        this.adminStatsReconciler = adminStatsReconciler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPauseMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "admin-job-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean supports(AdminJobType type) {
+        return tasks.containsKey(type);
+    }
+
+    /**
+     * 실행 대기열에 넣는다.
+     *
+     * @return 대기열이 가득 차 넣지 못했으면 false
+     */
+    public boolean enqueue(Long jobId) {
+        try {
+            executor.execute(() -> run(jobId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    // 종료/재시작으로 멈춘 작업 이어서 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void resume() {
+        for (AdminJob job : adminJobRepository.findByStatusInOrderByIdAsc(List.of(AdminJobStatus.QUEUED, AdminJobStatus.RUNNING))) {
+            if (enqueue(job.getId())) {
+                log.info("[AdminJobRunner] 작업 재개 - jobId={}, type={}, cursor={}", job.getId(), job.getType(), job.getCursor());
+            } else {
+                log.warn("[AdminJobRunner] 대기열이 가득 차 작업을 재개하지 못함 - jobId={}", job.getId());
+            }
+        }
+    }
+
+    void run(Long jobId) {
+        AdminJob job = transactionTemplate.execute(status -> start(jobId));
+        if (job == null) {
+            return;
+        }
+        AdminJobTask task = tasks.get(job.getType());
+        long affected = 0;
+        try {
+            while (true) {
+                long chunkStart = System.nanoTime();
+                Chunk chunk = transactionTemplate.execute(status -> processChunk(jobId, task));
+                meterRegistry.timer("admin.job.chunk", "type", job.getType().name())
+                        .record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+
+                if (chunk.cancelled()) {
+                    finish(jobId, AdminJobStatus.CANCELLED, null);
+                    return;
+                }
+                task.afterCommit(chunk.ids());
+                affected += chunk.affected();
+                if (chunk.ids().size() < chunkSize) {
+                    finish(jobId, AdminJobStatus.COMPLETED, null);
+                    return;
+                }
+                // 서비스 트래픽이 끼어들 틈을 둔다.
+                Thread.sleep(chunkPauseMillis);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중 - RUNNING 으로 남겨 재시작 시 이어서 실행한다.
+            Thread.currentThread().interrupt();
+            log.info("[AdminJobRunner] 종료로 작업 중단 - jobId={}", jobId);
+        } catch (Exception e) {
+            log.error("[AdminJobRunner] 작업 실패 - jobId={}, type={}", jobId, job.getType(), e);
+            finish(jobId, AdminJobStatus.FAILED, e.getMessage());
+        } finally {
+            if (affected > 0 && job.getType().isAffectsStats()) {
+                reconcileStats();
+            }
+        }
+    }
+
+    private AdminJob start(Long jobId) {
+        AdminJob job = adminJobRepository.findById(jobId).orElse(null);
+        if (job == null || !job.getStatus().isActive()) {
+            return null;
+        }
+        if (job.isCancelRequested()) {
+            job.finish(AdminJobStatus.CANCELLED, LocalDateTime.now(clock), null);
+            return null;
+        }
+        job.start(LocalDateTime.now(clock));
+        if (job.getTotal() == null) {
+            job.estimate(tasks.get(job.getType()).count(job));
+        }
+        log.info("[AdminJobRunner] 작업 시작 - jobId={}, type={}, total={}, cursor={}", jobId, job.getType(), job.getTotal(), job.getCursor());
+        return job;
+    }
+
+    private Chunk processChunk(Long jobId, AdminJobTask task) {
+        AdminJob job = adminJobRepository.findById(jobId).orElseThrow();
+        if (job.isCancelRequested()) {
+            return Chunk.CANCELLED;
+        }
+        List<Long> ids = task.nextIds(job, job.getCursor(), chunkSize);
+        if (ids.isEmpty()) {
+            return new Chunk(ids, 0, false);
+        }
+        int affected = task.process(job, ids);
+        job.advance(ids.get(ids.size() - 1), ids.size(), affected);
+        return new Chunk(ids, affected, false);
+    }
+
+    private void finish(Long jobId, AdminJobStatus status, String message) {
+        transactionTemplate.executeWithoutResult(tx -> adminJobRepository.findById(jobId).ifPresent(job -> {
+            job.finish(status, LocalDateTime.now(clock), message);
+            log.info("[AdminJobRunner] 작업 종료 - jobId={}, status={}, processed={}, affected={}",
+                    jobId, status, job.getProcessed(), job.getAffected());
+        }));
+        meterRegistry.counter("admin.job.finished", "status", status.name()).increment();
+    }
+
+    private void reconcileStats() {
+        try {
+            adminStatsReconciler.reconcile();
+        } catch (Exception e) {
+            log.error("[AdminJobRunner] 작업 후 관리자 통계 재계산 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Chunk(List<Long> ids, int affected, boolean cancelled) {
+
+        static final Chunk CANCELLED = new Chunk(List.of(), 0, true);
+    }
+}
@@ -0,0 +1,31 @@
+package com.yfmf.footlog.domain.admin.job;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+
+import java.util.List;
+
+/**
+ * 관리자 대량 작업 한 종류
+ *
+ * nextIds 와 process 는 chunk 마다 같은 트랜잭션에서 호출된다.
+ */
+public interface AdminJobTask {
+
+    AdminJobType type();
+
+    // 진행률/남은 시간 계산용 대상 수 (시작 시 한 번)
+    long count(AdminJob job);
+
+    // afterId 다음 대상 id 를 오름차순으로 limit 건
+    List<Long> nextIds(AdminJob job, long afterId, int limit);
+
+    /**
+     * @return 실제로 바뀐 행 수
+     */
+    int process(AdminJob job, List<Long> ids);
+
+    // chunk 가 커밋된 뒤 호출 (캐시 정리 등)
+    default void afterCommit(List<Long> ids) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.yfmf.footlog.domain.admin.job.task;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.job.AdminJobTask;
+import com.yfmf.footlog.domain.admin.repository.AdminBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 구단 인원 수(Club.memberCount)를 실제 구단원 수로 재계산
+@Component
+@RequiredArgsConstructor
+public class ClubMemberCountTask implements AdminJobTask {
+
+    private final AdminBulkRepository adminBulkRepository;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.CLUB_MEMBER_COUNT;
+    }
+
+    @Override
+    public long count(AdminJob job) {
+        return adminBulkRepository.countClubs();
+    }
+
+    @Override
+    public List<Long> nextIds(AdminJob job, long afterId, int limit) {
+        return adminBulkRepository.findClubIds(afterId, limit);
+    }
+
+    @Override
+    public int process(AdminJob job, List<Long> ids) {
+        return adminBulkRepository.recomputeClubMemberCounts(ids);
+    }
+}
@@ -0,0 +1,67 @@
+package com.yfmf.footlog.domain.admin.job.task;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.job.AdminJobTask;
+import com.yfmf.footlog.domain.admin.repository.AdminBulkRepository;
+import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
+import com.yfmf.footlog.domain.member.cache.KakaoMemberCache;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 장기 미활동 회원 삭제
+ *
+ * 엔티티 단위로 지워 선수 검색 인덱스 등 Member 엔티티 리스너가 그대로 동작하게 한다.
+ * 커밋 후 카카오 회원 캐시와 남아 있는 리프레시 토큰 family 도 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InactiveMemberPurgeTask implements AdminJobTask {
+
+    private final AdminBulkRepository adminBulkRepository;
+    private final MemberRepository memberRepository;
+    private final KakaoMemberCache kakaoMemberCache;
+    private final RefreshTokenService refreshTokenService;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.INACTIVE_MEMBER_PURGE;
+    }
+
+    @Override
+    public long count(AdminJob job) {
+        return adminBulkRepository.countInactiveMembers(job.getCutoff());
+    }
+
+    @Override
+    public List<Long> nextIds(AdminJob job, long afterId, int limit) {
+        return adminBulkRepository.findInactiveMemberIds(job.getCutoff(), afterId, limit);
+    }
+
+    @Override
+    public int process(AdminJob job, List<Long> ids) {
+        List<Member> members = memberRepository.findAllById(ids);
+        memberRepository.deleteAll(members);
+        return members.size();
+    }
+
+    @Override
+    public void afterCommit(List<Long> ids) {
+        for (Long id : ids) {
+            kakaoMemberCache.evictMember(id);
+            // 이미 삭제된 회원이라 재시도 대상이 아니다 - 실패해도 토큰 TTL 이 지나면 사라진다.
+            try {
+                refreshTokenService.revokeAllRefreshTokens(id.toString());
+            } catch (RuntimeException e) {
+                log.warn("[InactiveMemberPurgeTask] 리프레시 토큰 폐기 실패 - memberId={}", id, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.yfmf.footlog.domain.admin.job.task;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.job.AdminJobTask;
+import com.yfmf.footlog.domain.admin.repository.AdminBulkRepository;
+import com.yfmf.footlog.domain.match.repository.MatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 경기일이 기준일보다 이전인 매치 삭제
+@Component
+@RequiredArgsConstructor
+public class OldMatchPurgeTask implements AdminJobTask {
+
+    private final AdminBulkRepository adminBulkRepository;
+    private final MatchRepository matchRepository;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.OLD_MATCH_PURGE;
+    }
+
+    @Override
+    public long count(AdminJob job) {
+        return adminBulkRepository.countMatchesBefore(job.getCutoff().toLocalDate());
+    }
+
+    @Override
+    public List<Long> nextIds(AdminJob job, long afterId, int limit) {
+        return adminBulkRepository.findMatchIdsBefore(job.getCutoff().toLocalDate(), afterId, limit);
+    }
+
+    @Override
+    public int process(AdminJob job, List<Long> ids) {
+        matchRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
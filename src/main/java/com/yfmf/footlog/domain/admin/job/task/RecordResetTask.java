@@ -0,0 +1,38 @@
+package com.yfmf.footlog.domain.admin.job.task;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.job.AdminJobTask;
+import com.yfmf.footlog.domain.admin.repository.AdminBulkRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 전체 회원의 경기 기록(Record)을 0 으로 초기화 (시즌 초기화 등)
+@Component
+@RequiredArgsConstructor
+public class RecordResetTask implements AdminJobTask {
+
+    private final AdminBulkRepository adminBulkRepository;
+
+    @Override
+    public AdminJobType type() {
+        return AdminJobType.RECORD_RESET;
+    }
+
+    @Override
+    public long count(AdminJob job) {
+        return adminBulkRepository.countMembers();
+    }
+
+    @Override
+    public List<Long> nextIds(AdminJob job, long afterId, int limit) {
+        return adminBulkRepository.findMemberIds(afterId, limit);
+    }
+
+    @Override
+    public int process(AdminJob job, List<Long> ids) {
+        return adminBulkRepository.resetRecords(ids);
+    }
+}
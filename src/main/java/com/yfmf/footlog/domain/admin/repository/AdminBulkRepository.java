@@ -0,0 +1,101 @@
+package com.yfmf.footlog.domain.admin.repository;
+
+import com.yfmf.footlog.domain.member.domain.Authority;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 관리자 대량 작업용 chunk 쿼리
+ *
+ * 대상 id 는 모두 PK 오름차순 keyset(afterId) 으로 limit 건씩 뽑는다.
+ */
+@Repository
+public class AdminBulkRepository {
+
+    // 장기 미활동 회원 - 마지막 로그인 기준. 관리자, 구단원, 구단주, 용병 모집글/경기 작성자는 제외
+    // 마지막 로그인 시각이 없는 회원(컬럼 추가 전 가입자)은 다음 로그인 전까지 대상이 아니다.
+    private static final String INACTIVE_MEMBER = " from Member m where m.lastLoginDate < :before"
+            + " and m.authority <> :admin"
+            + " and not exists (select 1 from ClubMember cm where cm.memberId = m.id)"
+            + " and not exists (select 1 from Club c where c.userId = m.id)"
+            + " and not exists (select 1 from Guest g where g.memberId = m.id)"
+            + " and not exists (select 1 from Match mt where mt.matchEnrollUserId = m.id or mt.matchApplyUserId = m.id)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public long countInactiveMembers(LocalDateTime before) {
+        return entityManager.createQuery("select count(m)" + INACTIVE_MEMBER, Long.class)
+                .setParameter("before", before)
+                .setParameter("admin", Authority.ROLE_ADMIN)
+                .getSingleResult();
+    }
+
+    public List<Long> findInactiveMemberIds(LocalDateTime before, long afterId, int limit) {
+        return entityManager.createQuery("select m.id" + INACTIVE_MEMBER + " and m.id > :afterId order by m.id", Long.class)
+                .setParameter("before", before)
+                .setParameter("admin", Authority.ROLE_ADMIN)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public long countMembers() {
+        return entityManager.createQuery("select count(m) from Member m", Long.class).getSingleResult();
+    }
+
+    public List<Long> findMemberIds(long afterId, int limit) {
+        return entityManager.createQuery("select m.id from Member m where m.id > :afterId order by m.id", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public int resetRecords(List<Long> memberIds) {
+        return entityManager.createQuery("update Member m set m.record.totalMatch = 0, m.record.totalScore = 0,"
+                        + " m.record.totalAssist = 0, m.record.totalMom = 0 where m.id in :ids")
+                .setParameter("ids", memberIds)
+                .executeUpdate();
+    }
+
+    public long countClubs() {
+        return entityManager.createQuery("select count(c) from Club c", Long.class).getSingleResult();
+    }
+
+    public List<Long> findClubIds(long afterId, int limit) {
+        return entityManager.createQuery("select c.clubId from Club c where c.clubId > :afterId order by c.clubId", Long.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // 실제 구단원 수와 다른 구단만 고친다.
+    public int recomputeClubMemberCounts(List<Long> clubIds) {
+        return entityManager.createQuery("update Club c set c.memberCount ="
+                        + " (select count(cm) from ClubMember cm where cm.clubId = c.clubId)"
+                        + " where c.clubId in :ids"
+                        + " and c.memberCount <> (select count(cm) from ClubMember cm where cm.clubId = c.clubId)")
+                .setParameter("ids", clubIds)
+                .executeUpdate();
+    }
+
+    public long countMatchesBefore(LocalDate before) {
+        return entityManager.createQuery("select count(m) from Match m where m.matchSchedule.matchDate < :before", Long.class)
+                .setParameter("before", before)
+                .getSingleResult();
+    }
+
+    public List<Long> findMatchIdsBefore(LocalDate before, long afterId, int limit) {
+        return entityManager.createQuery("select m.matchId from Match m where m.matchSchedule.matchDate < :before"
+                        + " and m.matchId > :afterId order by m.matchId", Long.class)
+                .setParameter("before", before)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,19 @@
+package com.yfmf.footlog.domain.admin.repository;
+
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AdminJobRepository extends JpaRepository<AdminJob, Long> {
+
+    // 재시작 시 이어서 실행할 작업
+    List<AdminJob> findByStatusInOrderByIdAsc(Collection<AdminJobStatus> statuses);
+
+    boolean existsByTypeAndStatusIn(AdminJobType type, Collection<AdminJobStatus> statuses);
+
+    List<AdminJob> findTop50ByOrderByIdDesc();
+}
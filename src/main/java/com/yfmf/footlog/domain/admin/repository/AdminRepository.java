@@ -1,7 +1,64 @@
 package com.yfmf.footlog.domain.admin.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관리자 통계 재계산용 집계 쿼리 - 요청 경로에서는 쓰지 않는다. (AdminStatsReconciler 전용)
+ */
 @Repository
 public class AdminRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Map<String, Long> countMembersByAuthority() {
+        return groupCount("select m.authority, count(m) from Member m group by m.authority");
+    }
+
+    public Map<String, Long> countMembersBySocialType() {
+        return groupCount("select m.socialType, count(m) from Member m group by m.socialType");
+    }
+
+    public Map<String, Long> countMembersByArea() {
+        return groupCount("select m.area, count(m) from Member m group by m.area");
+    }
+
+    public Map<String, Long> countClubsByLevel() {
+        return groupCount("select c.clubLevel, count(c) from Club c group by c.clubLevel");
+    }
+
+    public Map<String, Long> countMatchesByStatus() {
+        return groupCount("select m.matchStatus, count(m) from Match m group by m.matchStatus");
+    }
+
+    public Map<LocalDate, Long> countSignupsPerDay(LocalDateTime from) {
+        List<Object[]> rows = entityManager.createQuery(
+                        "select cast(m.createdAt as LocalDate), count(m) from Member m"
+                                + " where m.createdAt >= :from group by cast(m.createdAt as LocalDate)", Object[].class)
+                .setParameter("from", from)
+                .getResultList();
+        Map<LocalDate, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((LocalDate) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    // enum 그룹 키는 이름으로, null 은 NONE 으로 모은다.
+    private Map<String, Long> groupCount(String jpql) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : entityManager.createQuery(jpql, Object[].class).getResultList()) {
+            String key = row[0] == null ? "NONE" : ((Enum<?>) row[0]).name();
+            counts.merge(key, (Long) row[1], Long::sum);
+        }
+        return counts;
+    }
 }
@@ -0,0 +1,99 @@
+package com.yfmf.footlog.domain.admin.service;
+
+import com.yfmf.footlog.domain.admin.dto.AdminJobRequestDTO;
+import com.yfmf.footlog.domain.admin.dto.AdminJobResponseDTO;
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.job.AdminJobRunner;
+import com.yfmf.footlog.domain.admin.repository.AdminJobRepository;
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class AdminJobService {
+
+    private static final List<AdminJobStatus> ACTIVE = List.of(AdminJobStatus.QUEUED, AdminJobStatus.RUNNING);
+
+    private final AdminJobRepository adminJobRepository;
+    private final AdminJobRunner adminJobRunner;
+    private final Clock clock;
+
+    @Autowired
+    public AdminJobService(AdminJobRepository adminJobRepository, AdminJobRunner adminJobRunner) {
+        this(adminJobRepository, adminJobRunner, Clock.systemDefaultZone());
+    }
+
+    AdminJobService(AdminJobRepository adminJobRepository, AdminJobRunner adminJobRunner, Clock clock) {
+        this.adminJobRepository = adminJobRepository;
+        this.adminJobRunner = adminJobRunner;
+        this.clock = clock;
+    }
+
+    /**
+     * 작업 제출 - 저장(커밋) 후 대기열에 넣고 바로 반환한다.
+     */
+    public AdminJobResponseDTO submit(AdminJobRequestDTO request, Long requestedBy) {
+        if (request.type() == null || !adminJobRunner.supports(request.type())) {
+            throw new ApplicationException(ErrorCode.INVALID_ADMIN_JOB, "[AdminJobService] 지원하지 않는 작업 - " + request.type());
+        }
+        if (request.type().isRequiresDays() && (request.days() == null || request.days() < 1)) {
+            throw new ApplicationException(ErrorCode.INVALID_ADMIN_JOB, "[AdminJobService] 기준 일수 누락 - " + request.type(), "기준 일수(days)는 1 이상이어야 합니다.");
+        }
+        if (adminJobRepository.existsByTypeAndStatusIn(request.type(), ACTIVE)) {
+            throw new ApplicationException(ErrorCode.ADMIN_JOB_CONFLICT, "[AdminJobService] 이미 실행 중인 작업 - " + request.type());
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer days = request.type().isRequiresDays() ? request.days() : null;
+        AdminJob job = adminJobRepository.save(new AdminJob(request.type(), requestedBy, days, days == null ? null : now.minusDays(days)));
+
+        if (!adminJobRunner.enqueue(job.getId())) {
+            job.finish(AdminJobStatus.FAILED, now, "대기열 초과");
+            adminJobRepository.save(job);
+            throw new ApplicationException(ErrorCode.ADMIN_JOB_QUEUE_FULL, "[AdminJobService] 대기열 초과 - jobId=" + job.getId());
+        }
+        log.info("[AdminJobService] 작업 제출 - jobId={}, type={}, days={}, requestedBy={}", job.getId(), job.getType(), days, requestedBy);
+        return AdminJobResponseDTO.of(job, now);
+    }
+
+    @Transactional(readOnly = true)
+    public AdminJobResponseDTO getJob(Long jobId) {
+        return AdminJobResponseDTO.of(findJob(jobId), LocalDateTime.now(clock));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AdminJobResponseDTO> getRecentJobs() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return adminJobRepository.findTop50ByOrderByIdDesc().stream()
+                .map(job -> AdminJobResponseDTO.of(job, now))
+                .toList();
+    }
+
+    /**
+     * 작업 취소 - 실행 중인 chunk 는 커밋되고, 다음 chunk 전에 멈춘다.
+     */
+    @Transactional
+    public AdminJobResponseDTO cancel(Long jobId) {
+        AdminJob job = findJob(jobId);
+        if (!job.getStatus().isActive()) {
+            throw new ApplicationException(ErrorCode.INVALID_ADMIN_JOB, "[AdminJobService] 이미 끝난 작업 취소 - jobId=" + jobId, "이미 끝난 작업입니다.");
+        }
+        job.requestCancel();
+        log.info("[AdminJobService] 작업 취소 요청 - jobId={}", jobId);
+        return AdminJobResponseDTO.of(job, LocalDateTime.now(clock));
+    }
+
+    private AdminJob findJob(Long jobId) {
+        return adminJobRepository.findById(jobId)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.ADMIN_JOB_NOT_FOUND, "[AdminJobService] 존재하지 않는 작업 - jobId=" + jobId));
+    }
+}
@@ -1,11 +1,20 @@
 package com.yfmf.footlog.domain.admin.service;
 
-import com.yfmf.footlog.domain.admin.repository.AdminRepository;
+import com.yfmf.footlog.domain.admin.dto.AdminStatsResponseDTO;
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
+@RequiredArgsConstructor
 public class AdminService {
 
-    private AdminRepository adminRepository;
+    private final AdminStatsCounters adminStatsCounters;
 
+    /**
+     * 대시보드 통계 - 미리 집계된 카운터만 읽으며 DB 를 조회하지 않는다.
+     */
+    public AdminStatsResponseDTO getStats() {
+        return adminStatsCounters.snapshot();
+    }
 }
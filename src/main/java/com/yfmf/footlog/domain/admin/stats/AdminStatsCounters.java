@@ -0,0 +1,195 @@
+package com.yfmf.footlog.domain.admin.stats;
+
+import com.yfmf.footlog.domain.admin.dto.AdminStatsResponseDTO;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자 통계 카운터
+ *
+ * 회원/구단/매치 서비스가 변경을 커밋한 뒤 증감만 반영하므로 통계 조회는 메모리 값을 읽기만 한다.
+ * 대량 작업 등 서비스를 거치지 않은 변경으로 생기는 오차는 AdminStatsReconciler 가 주기적으로 COUNT(*) 결과로 바로잡는다.
+ */
+@Component
+public class AdminStatsCounters {
+
+    static final String NONE = "NONE";
+
+    private final Clock clock;
+    private final int signupDays;
+
+    private final Group membersByAuthority = new Group();
+    private final Group membersBySocialType = new Group();
+    private final Group membersByArea = new Group();
+    private final Group clubsByLevel = new Group();
+    private final Group matchesByStatus = new Group();
+    private final ConcurrentNavigableMap<LocalDate, AtomicLong> signupsPerDay = new ConcurrentSkipListMap<>();
+
+    private volatile LocalDateTime reconciledAt;
+
+    public AdminStatsCounters(@Value("${admin.stats.signup-days:30}") int signupDays) {
+        this(signupDays, Clock.systemDefaultZone());
+    }
+
+    AdminStatsCounters(int signupDays, Clock clock) {
+        this.signupDays = signupDays;
+        this.clock = clock;
+    }
+
+    public void memberJoined(Member member) {
+        TransactionUtils.afterCommit(() -> {
+            membersByAuthority.add(member.getAuthority(), 1);
+            membersBySocialType.add(member.getSocialType(), 1);
+            membersByArea.add(member.getArea(), 1);
+            signupsPerDay.computeIfAbsent(LocalDate.now(clock), day -> new AtomicLong()).incrementAndGet();
+        });
+    }
+
+    public void memberLeft(Member member) {
+        TransactionUtils.afterCommit(() -> {
+            membersByAuthority.add(member.getAuthority(), -1);
+            membersBySocialType.add(member.getSocialType(), -1);
+            membersByArea.add(member.getArea(), -1);
+        });
+    }
+
+    public void clubCreated(Enum<?> level) {
+        TransactionUtils.afterCommit(() -> clubsByLevel.add(level, 1));
+    }
+
+    public void clubLevelChanged(Enum<?> before, Enum<?> after) {
+        if (before != after) {
+            TransactionUtils.afterCommit(() -> clubsByLevel.move(before, after));
+        }
+    }
+
+    public void clubDeleted(Enum<?> level) {
+        TransactionUtils.afterCommit(() -> clubsByLevel.add(level, -1));
+    }
+
+    public void matchCreated(Enum<?> status) {
+        TransactionUtils.afterCommit(() -> matchesByStatus.add(status, 1));
+    }
+
+    public void matchStatusChanged(Enum<?> before, Enum<?> after) {
+        if (before != after) {
+            TransactionUtils.afterCommit(() -> matchesByStatus.move(before, after));
+        }
+    }
+
+    public void matchDeleted(Enum<?> status) {
+        TransactionUtils.afterCommit(() -> matchesByStatus.add(status, -1));
+    }
+
+    /**
+     * 현재 통계 - 메모리 값만 읽는다.
+     */
+    public AdminStatsResponseDTO snapshot() {
+        LocalDate from = firstSignupDay();
+        Map<LocalDate, Long> signups = new TreeMap<>();
+        signupsPerDay.tailMap(from).forEach((day, count) -> signups.put(day, count.get()));
+        return new AdminStatsResponseDTO(
+                membersByAuthority.total(),
+                membersByAuthority.snapshot(),
+                membersBySocialType.snapshot(),
+                membersByArea.snapshot(),
+                clubsByLevel.total(),
+                clubsByLevel.snapshot(),
+                matchesByStatus.total(),
+                matchesByStatus.snapshot(),
+                signups,
+                reconciledAt);
+    }
+
+    /**
+     * COUNT(*) 결과로 교체
+     *
+     * @return 교체 전 카운터와의 차이 합 (절댓값)
+     */
+    long reconcile(Counts counts) {
+        long drift = membersByAuthority.replace(counts.membersByAuthority())
+                + membersBySocialType.replace(counts.membersBySocialType())
+                + membersByArea.replace(counts.membersByArea())
+                + clubsByLevel.replace(counts.clubsByLevel())
+                + matchesByStatus.replace(counts.matchesByStatus());
+
+        signupsPerDay.headMap(firstSignupDay()).clear();
+        for (Map.Entry<LocalDate, Long> entry : counts.signupsPerDay().entrySet()) {
+            AtomicLong counter = signupsPerDay.computeIfAbsent(entry.getKey(), day -> new AtomicLong());
+            drift += Math.abs(counter.getAndSet(entry.getValue()) - entry.getValue());
+        }
+        reconciledAt = LocalDateTime.now(clock);
+        return drift;
+    }
+
+    LocalDate firstSignupDay() {
+        return LocalDate.now(clock).minusDays(signupDays - 1L);
+    }
+
+    /**
+     * 재계산 결과 - 키는 enum 이름, null 은 NONE
+     */
+    record Counts(Map<String, Long> membersByAuthority,
+                  Map<String, Long> membersBySocialType,
+                  Map<String, Long> membersByArea,
+                  Map<String, Long> clubsByLevel,
+                  Map<String, Long> matchesByStatus,
+                  Map<LocalDate, Long> signupsPerDay) {
+    }
+
+    private static final class Group {
+
+        private final ConcurrentMap<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+        void add(Enum<?> key, long delta) {
+            counts.computeIfAbsent(key == null ? NONE : key.name(), name -> new AtomicLong()).addAndGet(delta);
+        }
+
+        void move(Enum<?> from, Enum<?> to) {
+            add(from, -1);
+            add(to, 1);
+        }
+
+        long replace(Map<String, Long> actual) {
+            long drift = 0;
+            for (Map.Entry<String, AtomicLong> entry : counts.entrySet()) {
+                long expected = actual.getOrDefault(entry.getKey(), 0L);
+                drift += Math.abs(entry.getValue().getAndSet(expected) - expected);
+            }
+            for (Map.Entry<String, Long> entry : actual.entrySet()) {
+                if (!counts.containsKey(entry.getKey())) {
+                    counts.computeIfAbsent(entry.getKey(), name -> new AtomicLong()).set(entry.getValue());
+                    drift += entry.getValue();
+                }
+            }
+            return drift;
+        }
+
+        long total() {
+            return counts.values().stream().mapToLong(AtomicLong::get).sum();
+        }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new TreeMap<>();
+            counts.forEach((key, count) -> {
+                if (count.get() != 0) {
+                    snapshot.put(key, count.get());
+                }
+            });
+            return snapshot;
+        }
+    }
+}
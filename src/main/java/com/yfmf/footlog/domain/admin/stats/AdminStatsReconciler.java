@@ -0,0 +1,99 @@
+package com.yfmf.footlog.domain.admin.stats;
+
+import com.yfmf.footlog.domain.admin.repository.AdminRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관리자 통계 재계산
+ *
+ * 애플리케이션 시작 직후 한 번, 이후 admin.stats.reconcile.interval-millis 마다 GROUP BY 집계로 카운터를 교체한다.
+ * 재계산 사이에 커밋된 변경은 다음 재계산에서 맞춰지며, 바로잡은 차이는 admin.stats.drift 로 남긴다.
+ */
+@Slf4j
+@Component
+public class AdminStatsReconciler {
+
+    private final AdminRepository adminRepository;
+    private final AdminStatsCounters adminStatsCounters;
+    private final TaskScheduler taskScheduler;
+    private final boolean enabled;
+
+    private final Timer reconcileTimer;
+    private final DistributionSummary driftSummary;
+
+    public AdminStatsReconciler(AdminRepository adminRepository,
+                                AdminStatsCounters adminStatsCounters,
+                                MeterRegistry meterRegistry,
+                                @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                @Value("${admin.stats.reconcile.enabled:true}") boolean enabled) {
+        this.adminRepository = adminRepository;
+        this.adminStatsCounters = adminStatsCounters;
+        this.taskScheduler = taskScheduler;
+        this.enabled = enabled;
+
+        this.reconcileTimer = Timer.builder("admin.stats.reconcile")
+                .description("관리자 통계 재계산 소요 시간")
+                .register(meterRegistry);
+        this.driftSummary = DistributionSummary.builder("admin.stats.drift")
+                .description("재계산 시 바로잡은 카운터 차이")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("[AdminStatsReconciler] 관리자 통계 재계산 비활성화");
+            return;
+        }
+        // 첫 재계산도 스케줄러 스레드에서 돌려 기동 완료를 늦추지 않는다.
+        taskScheduler.schedule(this::reconcileQuietly, Instant.now());
+    }
+
+    /**
+     * @return 바로잡은 차이 합
+     */
+    public long reconcile() {
+        long start = System.nanoTime();
+        AdminStatsCounters.Counts counts = new AdminStatsCounters.Counts(
+                adminRepository.countMembersByAuthority(),
+                adminRepository.countMembersBySocialType(),
+                adminRepository.countMembersByArea(),
+                adminRepository.countClubsByLevel(),
+                adminRepository.countMatchesByStatus(),
+                adminRepository.countSignupsPerDay(adminStatsCounters.firstSignupDay().atStartOfDay()));
+        long drift = adminStatsCounters.reconcile(counts);
+
+        reconcileTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        driftSummary.record(drift);
+        if (drift > 0) {
+            log.info("[AdminStatsReconciler] 관리자 통계 재계산 - 차이 {}건 보정", drift);
+        }
+        return drift;
+    }
+
+    @Scheduled(initialDelayString = "${admin.stats.reconcile.interval-millis:3600000}",
+            fixedDelayString = "${admin.stats.reconcile.interval-millis:3600000}")
+    public void reconcileQuietly() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("[AdminStatsReconciler] 관리자 통계 재계산 실패", e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.yfmf.footlog.domain.auth.controller;
 
 import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
 import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -18,21 +20,25 @@ import java.util.Map;
 public class AuthController {
 
     private final JWTTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList revocationList;
 
     @Autowired
-    public AuthController(JWTTokenProvider jwtTokenProvider) {
+    public AuthController(JWTTokenProvider jwtTokenProvider, AccessTokenRevocationList revocationList) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationList = revocationList;
     }
 
-    // 로그인 상태 확인 API
+    // 로그인 상태 확인 API - 공개 경로라 JWT 필터를 거치지 않으므로 폐기된(로그아웃한) 토큰도 여기서 걸러낸다.
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> checkLoginStatus(HttpServletRequest request) {
         String token = jwtTokenProvider.resolveToken(request, "accessToken");  // 헤더 또는 쿠키에서 토큰을 추출
 
         Map<String, Object> response = new HashMap<>();
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        Claims claims = token == null ? null : jwtTokenProvider.getValidClaims(token);
+
+        if (claims != null && !revocationList.isRevoked(claims.getId())) {
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             LoginedInfo loginedInfo = (LoginedInfo) authentication.getPrincipal();
 
             response.put("isLoggedIn", true);
@@ -0,0 +1,15 @@
+package com.yfmf.footlog.domain.auth.exception;
+
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class TooManyAuthRequestsException extends ApplicationException {
+    private final long retryAfterSeconds;
+
+    public TooManyAuthRequestsException(long retryAfterSeconds, String logMessage) {
+        super(ErrorCode.TOO_MANY_AUTH_REQUESTS, logMessage);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
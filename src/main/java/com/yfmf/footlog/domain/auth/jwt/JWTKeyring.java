@@ -0,0 +1,183 @@
+package com.yfmf.footlog.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * JWT 서명 키 목록 - kid 헤더로 검증 키를 찾는다.
+ *
+ * 새 토큰은 활성 키로 서명하고, 이전 키는 retire 시각까지 검증에만 쓴다.
+ * 키를 교체해도 기존 세션이 한꺼번에 끊기지 않고 토큰이 자연 만료되며 넘어간다.
+ *
+ * jwt.keyring.file 이 있으면 아래 형식의 파일을 읽고, 파일이 바뀌면 재시작 없이 다시 읽는다.
+ * <pre>
+ * active=2024-11
+ * key.2024-11=(Base64 HMAC 키)
+ * key.2024-08=(Base64 HMAC 키)
+ * retire.2024-08=2024-11-08T00:00:00Z
+ * </pre>
+ * 파일이 없으면 jwt.secret 하나를 kid "default" 로 사용한다.
+ * kid 가 없는 토큰(키 목록 도입 전 발급)은 jwt.secret 으로 검증하되, 이 키도 jwt.legacy-retire 시각까지만 쓴다.
+ * 키 파일과 jwt.secret 을 함께 쓰면 jwt.legacy-retire 는 필수다. (기동 시각 기준으로 잡으면 배포마다 유예가 늘어난다)
+ * 키 파일이 없으면 jwt.secret 이 활성 키이므로 jwt.legacy-retire 가 없을 때 kid 없는 토큰도 계속 검증한다.
+ */
+@Slf4j
+@Component
+public class JWTKeyring extends SigningKeyResolverAdapter {
+
+    static final String DEFAULT_KID = "default";
+
+    private final VerificationKey legacyKey;
+    private final Path file;
+    private volatile Snapshot snapshot;
+    private long loadedModifiedTime;
+
+    public JWTKeyring(@Value("${jwt.secret:}") String secret,
+                      @Value("${jwt.keyring.file:}") String file,
+                      @Value("${jwt.legacy-retire:}") String legacyRetire) {
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+
+        Key secretKey = secret == null || secret.isBlank() ? null : Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.legacyKey = secretKey == null ? null : new VerificationKey(secretKey, legacyRetireAt(legacyRetire, this.file != null));
+        if (legacyKey != null && legacyKey.retireAt != Long.MAX_VALUE) {
+            log.info("[JWTKeyring] kid 없는 토큰은 {} 까지만 검증", Instant.ofEpochMilli(legacyKey.retireAt));
+        }
+
+        if (this.file == null) {
+            if (secretKey == null) {
+                throw new IllegalStateException("jwt.secret 또는 jwt.keyring.file 이 필요합니다.");
+            }
+            this.snapshot = new Snapshot(DEFAULT_KID, secretKey, Map.of(DEFAULT_KID, new VerificationKey(secretKey, Long.MAX_VALUE)));
+            return;
+        }
+
+        // 기동 시에는 파일이 잘못되면 바로 실패시킨다.
+        try {
+            this.loadedModifiedTime = modifiedTime(this.file);
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다. file=" + this.file, e);
+        }
+        this.snapshot = load(this.file);
+        log.info("[JWTKeyring] 키 목록 로드 - active={}, keys={}", snapshot.activeKid, snapshot.keys.keySet());
+    }
+
+    /**
+     * 서명 시 kid 와 키를 같은 스냅샷에서 꺼내도록 스냅샷 단위로 돌려준다.
+     */
+    Snapshot current() {
+        return snapshot;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return lookup(header.getKeyId());
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, String plaintext) {
+        return lookup(header.getKeyId());
+    }
+
+    /**
+     * 요청마다 호출 - 스냅샷의 HashMap 조회뿐이라 할당이 없다.
+     */
+    Key lookup(String kid) {
+        VerificationKey key = kid == null ? legacyKey : snapshot.keys.get(kid);
+        if (key == null || System.currentTimeMillis() >= key.retireAt) {
+            throw new JwtException("알 수 없거나 폐기된 서명 키입니다. kid=" + kid);
+        }
+        return key.key;
+    }
+
+    /**
+     * 파일이 바뀌었으면 다시 읽는다. 잘못된 파일이면 기존 키 목록을 유지한다. (키 파일이 없으면 할 일 없음)
+     */
+    @Scheduled(initialDelayString = "${jwt.keyring.reload-millis:10000}", fixedDelayString = "${jwt.keyring.reload-millis:10000}")
+    public synchronized void reloadIfModified() {
+        if (file == null) {
+            return;
+        }
+        try {
+            long modified = modifiedTime(file);
+            if (modified == loadedModifiedTime) {
+                return;
+            }
+            Snapshot loaded = load(file);
+            snapshot = loaded;
+            loadedModifiedTime = modified;
+            log.info("[JWTKeyring] 키 목록 다시 로드 - active={}, keys={}", loaded.activeKid, loaded.keys.keySet());
+        } catch (Exception e) {
+            log.error("[JWTKeyring] 키 목록 다시 로드 실패 - 기존 키 목록 유지", e);
+        }
+    }
+
+    static Snapshot load(Path file) {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        } catch (IOException e) {
+            throw new IllegalStateException("JWT 키 파일을 읽을 수 없습니다. file=" + file, e);
+        }
+
+        Map<String, VerificationKey> keys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith("key.")) {
+                continue;
+            }
+            String kid = name.substring("key.".length());
+            String retire = properties.getProperty("retire." + kid);
+            long retireAt = retire == null || retire.isBlank() ? Long.MAX_VALUE : Instant.parse(retire.trim()).toEpochMilli();
+            Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getProperty(name).trim()));
+            keys.put(kid, new VerificationKey(key, retireAt));
+        }
+
+        String activeKid = properties.getProperty("active", "").trim();
+        VerificationKey active = keys.get(activeKid);
+        if (active == null) {
+            throw new IllegalStateException("활성 키(active)가 키 목록에 없습니다. active=" + activeKid);
+        }
+        if (active.retireAt != Long.MAX_VALUE) {
+            throw new IllegalStateException("활성 키에는 retire 시각을 둘 수 없습니다. active=" + activeKid);
+        }
+        return new Snapshot(activeKid, active.key, keys);
+    }
+
+    private static long legacyRetireAt(String legacyRetire, boolean keyringFile) {
+        if (legacyRetire == null || legacyRetire.isBlank()) {
+            if (keyringFile) {
+                throw new IllegalStateException("jwt.keyring.file 과 jwt.secret 을 함께 쓰면 jwt.legacy-retire 가 필요합니다. "
+                        + "(키 목록 도입 시각 + 리프레시 토큰 수명 이후의 고정 시각)");
+            }
+            return Long.MAX_VALUE;
+        }
+        return Instant.parse(legacyRetire.trim()).toEpochMilli();
+    }
+
+    private static long modifiedTime(Path file) throws IOException {
+        return Files.getLastModifiedTime(file).toMillis();
+    }
+
+    record VerificationKey(Key key, long retireAt) {
+    }
+
+    record Snapshot(String activeKid, Key activeKey, Map<String, VerificationKey> keys) {
+    }
+}
@@ -1,49 +1,56 @@
 package com.yfmf.footlog.domain.auth.jwt;
 
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
-import jakarta.servlet.ServletRequest;
-import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
 @RequiredArgsConstructor
 @Slf4j
-public class JWTTokenFilter extends GenericFilterBean {
+public class JWTTokenFilter extends OncePerRequestFilter {
 
     private final JWTTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationList revocationList;
+    private final PublicRouteMatcher publicRoutes;
 
+    /*
+        공개 경로(로그인, 회원 가입, 토큰 재발급, 로그아웃, Swagger 등)는 인증 정보를 쓰지 않으므로 필터를 건너뛴다.
+        토큰 재발급/로그아웃은 서비스에서 직접 토큰을 검사한다.
+     */
     @Override
-    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
-
-        // Request Header 에서 JWT Token 추출
-        String token = jwtTokenProvider.resolveToken((HttpServletRequest) servletRequest, "accessToken");
-        String requestURI = ((HttpServletRequest) servletRequest).getRequestURI();
-
-        // 토큰 유효성 검사
-        /*
-            토큰 재발급 요청 시 
-            refresh token을 요청 headers에 Authorization 키로 받으면 
-            token이 존재하기 때문에 
-            getAuthentication 메소드가 동작
-            -> 내부적으로 권한에 대한 정보가 없기 때문에 Exception 발생
-            => 토큰 재발급 요청 path인 경우 필터 패스
-         */
-        if(token != null && jwtTokenProvider.validateToken(token)) {
-            if(!requestURI.equals("/api/auth/reissue") && !requestURI.equals("/api/auth/logout")) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRoutes.matches(request);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        // Request Header 에서 JWT Token 추출 (없으면 익명 요청으로 그대로 진행)
+        String token = jwtTokenProvider.resolveToken(request, "accessToken");
+
+        // 서명 검증과 파싱을 한 번만 수행
+        Claims claims = token == null ? null : jwtTokenProvider.getValidClaims(token);
+        if (claims != null) {
+            // 로그아웃으로 폐기된 토큰은 인증하지 않음 (메모리 조회만 수행)
+            if (revocationList.isRevoked(claims.getId())) {
+                log.info("폐기된 Access Token 으로 요청했습니다. jti={}", claims.getId());
+            } else {
+                Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.info(authentication.getName() + " 님이 로그인 하였습니다.");
+                log.debug("{} 님이 로그인 하였습니다.", authentication.getName());
             }
         }
 
-        filterChain.doFilter(servletRequest, servletResponse);
+        filterChain.doFilter(request, response);
     }
 }
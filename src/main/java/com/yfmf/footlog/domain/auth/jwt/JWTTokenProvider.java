@@ -6,12 +6,9 @@ import com.yfmf.footlog.domain.member.domain.Member;
 import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
 import com.yfmf.footlog.domain.member.repository.MemberRepository;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -22,6 +19,7 @@ import java.security.Key;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -36,14 +34,16 @@ public class JWTTokenProvider {
     private static final String CLAIM_TYPE = "type";
 
     private static final long ACCESS_TOKEN_LIFETIME = 60 * 60 * 1000L; // 60 분
-    private static final long REFRESH_TOKEN_LIFETIME = 3 * 24 * 60 * 60 * 1000L; // 3 days
+    static final long REFRESH_TOKEN_LIFETIME = 3 * 24 * 60 * 60 * 1000L; // 3 days
 
-    private final Key secretKey;
+    private final JWTKeyring keyring;
+    // 파서는 불변/스레드 안전하므로 한 번만 만들고, 검증 키는 kid 로 키 목록에서 찾는다.
+    private final JwtParser parser;
     private final MemberRepository memberRepository;
 
-    public JWTTokenProvider(@Value("${jwt.secret}") String secretKey, MemberRepository memberRepository) {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+    public JWTTokenProvider(JWTKeyring keyring, MemberRepository memberRepository) {
+        this.keyring = keyring;
+        this.parser = Jwts.parserBuilder().setSigningKeyResolver(keyring).build();
         this.memberRepository = memberRepository;
     }
 
@@ -84,8 +84,14 @@ public class JWTTokenProvider {
     public MemberResponseDTO.authTokenDTO generateToken(String email, Long userId, String name, Collection<? extends GrantedAuthority> grantedAuthorities) {
         String authorities = extractAuthorities(grantedAuthorities);
         Date now = new Date();
+        JWTKeyring.Snapshot keys = keyring.current();
+        String kid = keys.activeKid();
+        Key signingKey = keys.activeKey();
 
+        // 로그아웃 시 이 토큰만 폐기할 수 있도록 jti 부여
         String accessToken = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(email)
                 .claim("userId", userId)
                 .claim("name", name)
@@ -93,14 +99,18 @@ public class JWTTokenProvider {
                 .claim(CLAIM_TYPE, TYPE_ACCESS)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + ACCESS_TOKEN_LIFETIME))
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
+        // 재발급 시 사용자를 바로 찾을 수 있도록 userId 포함, 같은 시각에 발급돼도 토큰(해시)이 겹치지 않도록 jti 부여
         String refreshToken = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, kid)
+                .setId(UUID.randomUUID().toString())
+                .claim("userId", userId)
                 .claim(CLAIM_TYPE, TYPE_REFRESH)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + REFRESH_TOKEN_LIFETIME))
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
 
         // userId를 추가하여 반환
@@ -116,7 +126,7 @@ public class JWTTokenProvider {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
+            parser.parseClaimsJws(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.info("JWT Token 검증 실패: {}", e.getMessage());
@@ -124,9 +134,19 @@ public class JWTTokenProvider {
         return false;
     }
 
+    // 서명/만료 검증과 파싱을 한 번에 - 유효하지 않으면 null
+    public Claims getValidClaims(String token) {
+        try {
+            return parser.parseClaimsJws(token).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("JWT Token 검증 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public Claims parseClaims(String accessToken) {
         try {
-            return Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(accessToken).getBody();
+            return parser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException e) {
             log.info("만료된 JWT Token 입니다.", e);
             return e.getClaims();
@@ -135,7 +155,10 @@ public class JWTTokenProvider {
 
     // 토큰에서 권한 정보를 추출하고, 권한 문자열을 다루는 부분 수정
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token));
+    }
+
+    public Authentication getAuthentication(Claims claims) {
         String authoritiesClaim = claims.get(AUTHORITIES_KEY, String.class);
         if (authoritiesClaim == null || authoritiesClaim.isEmpty()) {
             throw new RuntimeException("권한 정보가 없는 Token 입니다.");
@@ -156,7 +179,7 @@ public class JWTTokenProvider {
     }
 
     public boolean isRefreshToken(String token) {
-        return TYPE_REFRESH.equals(Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token).getBody().get(CLAIM_TYPE));
+        return TYPE_REFRESH.equals(parser.parseClaimsJws(token).getBody().get(CLAIM_TYPE));
     }
 
     public String resolveToken(HttpServletRequest request, String tokenType) {
@@ -174,11 +197,10 @@ public class JWTTokenProvider {
     private String resolveAccessTokenFromHeader(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            log.info("Access Token 추출 성공: {}", bearerToken.substring(7));  // 디버그용 로그 추가
             return bearerToken.substring(7); // "Bearer " 이후의 토큰 값만 추출
-        } else {
-            log.warn("Authorization 헤더에 Access Token이 없습니다.");
         }
+        // 익명 요청은 정상 흐름이므로 경고하지 않음
+        log.debug("Authorization 헤더에 Access Token이 없습니다.");
         return null;
     }
 
@@ -188,12 +210,11 @@ public class JWTTokenProvider {
         if (cookies != null) {
             for (Cookie cookie : cookies) {
                 if ("refreshToken".equals(cookie.getName())) {
-                    log.info("Refresh Token 추출 성공: {}", cookie.getValue());  // 디버그용 로그 추가
                     return cookie.getValue();
                 }
             }
         }
-        log.warn("쿠키에 Refresh Token이 없습니다.");
+        log.debug("쿠키에 Refresh Token이 없습니다.");
         return null;
     }
 
@@ -0,0 +1,59 @@
+package com.yfmf.footlog.domain.auth.jwt;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인증 정보를 전혀 쓰지 않는 공개 경로 판별 - JWTTokenFilter 가 이 경로는 건너뛴다.
+ *
+ * 패턴은 생성 시 한 번만 파싱하고, 와일드카드가 없는 경로는 HashSet 으로 바로 찾는다.
+ */
+public class PublicRouteMatcher {
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    public PublicRouteMatcher(String... routes) {
+        PathPatternParser parser = PathPatternParser.defaultInstance;
+        for (String route : routes) {
+            PathPattern pattern = parser.parse(route);
+            if (pattern.hasPatternSyntax()) {
+                patterns.add(pattern);
+            } else {
+                exactPaths.add(route);
+            }
+        }
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        if (contextPath != null && !contextPath.isEmpty() && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        return matches(path);
+    }
+
+    boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+        if (patterns.isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(container)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,84 +1,81 @@
 package com.yfmf.footlog.domain.auth.refreshToken.service;
 
 import com.yfmf.footlog.domain.auth.refreshToken.exception.RedisSaveFailed;
-import com.yfmf.footlog.domain.member.domain.Member;
-import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import com.yfmf.footlog.domain.auth.refreshToken.store.RefreshTokenStore;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
 
 @Slf4j
 @Service
 public class RefreshTokenService {
-    private final StringRedisTemplate redisTemplate;
-    private final MemberRepository memberRepository;
 
-    public RefreshTokenService(StringRedisTemplate redisTemplate, MemberRepository memberRepository) {
-        this.redisTemplate = redisTemplate;
-        this.memberRepository = memberRepository;
+    private final RefreshTokenStore refreshTokenStore;
+
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore) {
+        this.refreshTokenStore = refreshTokenStore;
     }
 
-    // 리프레시 토큰을 Redis에 저장(유효시간 설정)
-    public void saveRefreshToken(String userId, String refreshToken, Long expirationTime) {
+    // 로그인 시 새 기기(패밀리)로 리프레시 토큰과 IP 저장(유효시간 설정)
+    public void saveRefreshToken(String userId, String refreshToken, String ip, Long expirationTime) {
+        String familyId = UUID.randomUUID().toString();
         try {
-            redisTemplate.opsForValue().set(userId + ":token", refreshToken, expirationTime, TimeUnit.MILLISECONDS);
-            log.info("사용자 ID: {}에 대한 리프레시 토큰 저장 완료. 리프레시 토큰: {}", userId, refreshToken);
+            refreshTokenStore.save(userId, familyId, hash(refreshToken), ip, expirationTime);
         } catch (Exception e) {
-            log.error("Redis에 리프레시 토큰 저장 실패", e);
+            log.error("리프레시 토큰 저장 실패", e);
             throw new RedisSaveFailed("리프레시 토큰 저장 실패", "[RefreshTokenService] saveRefreshToken");
         }
-
-        String savedToken = redisTemplate.opsForValue().get(userId + ":token");
-        if (savedToken == null) {
-            log.error("사용자 ID: {}에 대한 리프레시 토큰을 Redis에서 찾을 수 없습니다.", userId);
-            throw new RedisSaveFailed("Redis에서 리프레시 토큰을 찾을 수 없습니다.", "[RefreshTokenService] saveRefreshToken");
-        }
+        log.info("사용자 ID: {}에 대한 리프레시 토큰 저장 완료 (패밀리: {})", userId, familyId);
     }
 
-    // IP 주소 저장
-    public void saveIp(String userId, String ip) {
-        redisTemplate.opsForValue().set(userId + ":ip", ip);
-        log.info("사용자 ID: {}에 대한 IP 주소 저장 완료. IP: {}", userId, ip);
-    }
-
-    // 리프레시 토큰 가져오기
-    public String getRefreshToken(String userId) {
-        log.info("사용자 ID: {}에 대한 리프레시 토큰 조회 요청", userId);
-        return redisTemplate.opsForValue().get(userId + ":token");
+    // 리프레시 토큰 교체 - 기존 토큰, IP 확인과 교체를 한 번에 처리
+    public RefreshTokenStore.RotateResult rotateRefreshToken(String oldRefreshToken, String newRefreshToken, String ip, Long expirationTime) {
+        RefreshTokenStore.RotateResult result;
+        try {
+            result = refreshTokenStore.rotate(hash(oldRefreshToken), hash(newRefreshToken), ip, expirationTime);
+        } catch (Exception e) {
+            log.error("리프레시 토큰 교체 실패", e);
+            throw new RedisSaveFailed("리프레시 토큰 교체 실패", "[RefreshTokenService] rotateRefreshToken");
+        }
+        if (result == RefreshTokenStore.RotateResult.REUSED) {
+            log.warn("이미 교체된 리프레시 토큰이 재사용되어 해당 기기의 토큰을 모두 폐기했습니다.");
+        }
+        return result;
     }
 
-    // 저장된 IP 가져오기
-    public String getStoredIp(String userId) {
-        log.info("사용자 ID: {}에 대한 저장된 IP 주소 조회 요청", userId);
-        return redisTemplate.opsForValue().get(userId + ":ip");
+    // 현재 기기의 리프레시 토큰 폐기 (토큰, IP 함께)
+    public void revokeRefreshToken(String refreshToken) {
+        try {
+            refreshTokenStore.revoke(hash(refreshToken));
+        } catch (Exception e) {
+            log.error("리프레시 토큰 폐기 실패", e);
+            throw new RedisSaveFailed("리프레시 토큰 폐기 실패", "[RefreshTokenService] revokeRefreshToken");
+        }
     }
 
-    // 리프레시 토큰 삭제
-    public void deleteRefreshToken(String userId) {
+    // 사용자의 모든 기기 리프레시 토큰 폐기
+    public void revokeAllRefreshTokens(String userId) {
         try {
-            redisTemplate.delete(userId + ":token");
-            redisTemplate.delete(userId + ":ip");
-            log.info("사용자 ID: {}에 대한 리프레시 토큰 및 IP 주소 삭제 완료", userId);
+            refreshTokenStore.revokeAll(userId);
+            log.info("사용자 ID: {}의 모든 기기 리프레시 토큰 폐기 완료", userId);
         } catch (Exception e) {
-            log.error("Redis에서 리프레시 토큰 또는 IP 삭제 실패", e);
-            throw new RedisSaveFailed("리프레시 토큰 또는 IP 삭제 실패", "[RefreshTokenService] deleteRefreshToken");
+            log.error("리프레시 토큰 전체 폐기 실패", e);
+            throw new RedisSaveFailed("리프레시 토큰 전체 폐기 실패", "[RefreshTokenService] revokeAllRefreshTokens");
         }
     }
 
-    // 리프레시 토큰을 기반으로 사용자 조회
-    public Optional<Member> getMemberByToken(String refreshToken) {
-        log.info("리프레시 토큰으로 사용자 조회 시도. 리프레시 토큰: {}", refreshToken);
-        String userId = redisTemplate.opsForValue().get(refreshToken + ":token");  // 토큰을 사용해 유저 ID를 가져옴
-        if (userId == null) {
-            log.error("Redis에서 리프레시 토큰을 찾을 수 없습니다.");
-            throw new RedisSaveFailed("Redis에서 해당 리프레시 토큰을 찾을 수 없습니다.", "[RefreshTokenService] getMemberByToken");
+    // 저장소에는 토큰 원문 대신 SHA-256 해시만 보관
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
         }
-
-        // MemberRepository를 통해 Member 정보 조회
-        log.info("사용자 ID: {}에 대한 사용자 정보 조회 시도", userId);
-        return memberRepository.findById(Long.valueOf(userId));
     }
 }
@@ -0,0 +1,202 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 저장소 - Redis 없이 단일 서버/CI 에서 사용 (standalone 프로필)
+ *
+ * 토큰 해시 인덱스, 패밀리, 사용자별 패밀리 목록을 HashMap 으로 두고 만료는 계층형 타이밍 휠로 관리한다.
+ * 연산이 모두 O(1)(전체 폐기는 기기 수만큼)이라 락 하나로 묶어 세 자료구조를 함께 바꾼다.
+ * 조회 시에도 만료 시각을 확인하므로 휠 정리가 늦어져도 만료된 토큰은 사용되지 않는다.
+ */
+@Component
+@Profile("standalone")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Object lock = new Object();
+    private final Map<String, TokenRef> tokens = new HashMap<>();
+    private final Map<String, Family> families = new HashMap<>();
+    // 로그인 순서를 유지해 기기 수 초과 시 가장 오래된 패밀리부터 폐기
+    private final Map<String, LinkedHashMap<String, Family>> userFamilies = new HashMap<>();
+    private final TimingWheel<Expiring> wheel;
+    private final long tickMillis;
+    private final int maxDevices;
+    private final LongSupplier clock;
+
+    public InMemoryRefreshTokenStore(@Value("${auth.refresh-token.memory.tick-millis:1000}") long tickMillis,
+                                     @Value("${auth.refresh-token.max-devices:10}") int maxDevices) {
+        this(tickMillis, maxDevices, System::currentTimeMillis);
+    }
+
+    InMemoryRefreshTokenStore(long tickMillis, int maxDevices, LongSupplier clock) {
+        this.tickMillis = tickMillis;
+        this.maxDevices = maxDevices;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(clock.getAsLong() / tickMillis);
+    }
+
+    @Override
+    public void save(String userId, String familyId, String tokenHash, String ip, long ttlMillis) {
+        long expiresAt = clock.getAsLong() + ttlMillis;
+        synchronized (lock) {
+            Family family = new Family(familyId, userId, tokenHash, ip);
+            Family replaced = families.put(familyId, family);
+            if (replaced != null) {
+                removeFamily(replaced);
+            }
+            LinkedHashMap<String, Family> owned = userFamilies.computeIfAbsent(userId, key -> new LinkedHashMap<>());
+            owned.put(familyId, family);
+            while (owned.size() > maxDevices) {
+                removeFamily(owned.values().iterator().next());
+            }
+            schedule(family, expiresAt);
+            putToken(tokenHash, family, expiresAt);
+        }
+    }
+
+    @Override
+    public RotateResult rotate(String oldTokenHash, String newTokenHash, String ip, long ttlMillis) {
+        long now = clock.getAsLong();
+        synchronized (lock) {
+            TokenRef ref = tokens.get(oldTokenHash);
+            if (ref == null || ref.expiresAt <= now || families.get(ref.family.familyId) != ref.family) {
+                return RotateResult.NOT_FOUND;
+            }
+            Family family = ref.family;
+            if (family.expiresAt <= now) {
+                removeFamily(family);
+                return RotateResult.NOT_FOUND;
+            }
+            if (!family.currentHash.equals(oldTokenHash)) {
+                removeFamily(family);
+                return RotateResult.REUSED;
+            }
+            if (!Objects.equals(family.ip, ip)) {
+                return RotateResult.IP_MISMATCH;
+            }
+            family.currentHash = newTokenHash;
+            schedule(family, now + ttlMillis);
+            putToken(newTokenHash, family, now + ttlMillis);
+            return RotateResult.ROTATED;
+        }
+    }
+
+    @Override
+    public boolean revoke(String tokenHash) {
+        synchronized (lock) {
+            TokenRef ref = tokens.remove(tokenHash);
+            if (ref == null) {
+                return false;
+            }
+            wheel.cancel(ref);
+            if (families.get(ref.family.familyId) != ref.family) {
+                return false;
+            }
+            removeFamily(ref.family);
+            return true;
+        }
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        synchronized (lock) {
+            LinkedHashMap<String, Family> owned = userFamilies.remove(userId);
+            if (owned == null) {
+                return;
+            }
+            for (Family family : owned.values()) {
+                families.remove(family.familyId, family);
+                wheel.cancel(family);
+            }
+        }
+    }
+
+    /**
+     * 현재 시각까지 휠을 진행하고 만료된 토큰/패밀리 제거
+     */
+    @Scheduled(initialDelayString = "${auth.refresh-token.memory.tick-millis:1000}", fixedRateString = "${auth.refresh-token.memory.tick-millis:1000}")
+    public void expire() {
+        synchronized (lock) {
+            for (Expiring expired : wheel.advance(clock.getAsLong() / tickMillis)) {
+                if (expired instanceof TokenRef ref) {
+                    tokens.remove(ref.tokenHash, ref);
+                } else if (expired instanceof Family family) {
+                    removeFamily(family);
+                }
+            }
+        }
+    }
+
+    int familyCount() {
+        synchronized (lock) {
+            return families.size();
+        }
+    }
+
+    int tokenCount() {
+        synchronized (lock) {
+            return tokens.size();
+        }
+    }
+
+    private void putToken(String tokenHash, Family family, long expiresAt) {
+        TokenRef ref = new TokenRef(tokenHash, family);
+        TokenRef replaced = tokens.put(tokenHash, ref);
+        if (replaced != null) {
+            wheel.cancel(replaced);
+        }
+        schedule(ref, expiresAt);
+    }
+
+    // 패밀리만 지우고 토큰 인덱스는 수명이 끝날 때까지 둔다. (폐기된 패밀리를 가리키면 NOT_FOUND)
+    private void removeFamily(Family family) {
+        families.remove(family.familyId, family);
+        wheel.cancel(family);
+        Map<String, Family> owned = userFamilies.get(family.userId);
+        if (owned != null && owned.remove(family.familyId, family) && owned.isEmpty()) {
+            userFamilies.remove(family.userId);
+        }
+    }
+
+    private void schedule(Expiring node, long expiresAt) {
+        node.expiresAt = expiresAt;
+        wheel.schedule(node, (expiresAt + tickMillis - 1) / tickMillis);
+    }
+
+    abstract static class Expiring extends TimingWheel.Node {
+        long expiresAt;
+    }
+
+    static final class TokenRef extends Expiring {
+        private final String tokenHash;
+        private final Family family;
+
+        TokenRef(String tokenHash, Family family) {
+            this.tokenHash = tokenHash;
+            this.family = family;
+        }
+    }
+
+    static final class Family extends Expiring {
+        private final String familyId;
+        private final String userId;
+        private final String ip;
+        private String currentHash;
+
+        Family(String familyId, String userId, String currentHash, String ip) {
+            this.familyId = familyId;
+            this.userId = userId;
+            this.currentHash = currentHash;
+            this.ip = ip;
+        }
+    }
+}
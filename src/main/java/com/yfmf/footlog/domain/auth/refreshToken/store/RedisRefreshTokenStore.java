@@ -0,0 +1,155 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 저장소 - 키 구성
+ *
+ *   refreshToken:token:{tokenHash} -> familyId           (토큰 수명만큼 유지, 교체 후에도 재사용 탐지용으로 남는다)
+ *   refreshToken:family:{familyId} -> user, current, ip  (기기 하나)
+ *   refreshToken:user:{userId}     -> familyId (score: 로그인 시각)
+ *
+ * 모든 연산은 Lua 스크립트로 Redis 왕복 1회에 원자적으로 처리하며, 키 스캔은 하지 않는다.
+ * 패밀리/사용자 키는 스크립트 안에서 조합하므로 단일 Redis(비클러스터) 구성을 전제로 한다.
+ */
+@Component
+@Profile("!standalone")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_PREFIX = "refreshToken:token:";
+    private static final String FAMILY_PREFIX = "refreshToken:family:";
+    private static final String USER_PREFIX = "refreshToken:user:";
+
+    // 만료된 패밀리를 정리한 뒤 새 패밀리를 등록하고, 최대 기기 수를 넘으면 오래된 패밀리부터 폐기
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>("""
+            local families = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for _, fid in ipairs(families) do
+                if redis.call('EXISTS', ARGV[7] .. fid) == 0 then
+                    redis.call('ZREM', KEYS[1], fid)
+                end
+            end
+            redis.call('HSET', KEYS[2], 'user', ARGV[1], 'current', ARGV[3], 'ip', ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[5])
+            redis.call('ZADD', KEYS[1], ARGV[6], ARGV[2])
+            local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[8])
+            if overflow > 0 then
+                local oldest = redis.call('ZRANGE', KEYS[1], 0, overflow - 1)
+                for _, fid in ipairs(oldest) do
+                    redis.call('DEL', ARGV[7] .. fid)
+                end
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, overflow - 1)
+            end
+            if redis.call('PTTL', KEYS[1]) < tonumber(ARGV[5]) then
+                redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            end
+            return 1
+            """, Long.class);
+
+    // 1: 교체, 0: 없음, -1: IP 불일치, -2: 이미 교체된 토큰 재사용 (패밀리 폐기)
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('GET', KEYS[1])
+            if not fid then
+                return 0
+            end
+            local familyKey = ARGV[5] .. fid
+            local family = redis.call('HMGET', familyKey, 'user', 'current', 'ip')
+            if not family[1] then
+                return 0
+            end
+            if family[2] ~= ARGV[1] then
+                redis.call('DEL', familyKey)
+                redis.call('ZREM', ARGV[6] .. family[1], fid)
+                return -2
+            end
+            if family[3] ~= ARGV[3] then
+                return -1
+            end
+            redis.call('HSET', familyKey, 'current', ARGV[2])
+            redis.call('PEXPIRE', familyKey, ARGV[4])
+            redis.call('SET', KEYS[2], fid, 'PX', ARGV[4])
+            local userKey = ARGV[6] .. family[1]
+            if redis.call('PTTL', userKey) < tonumber(ARGV[4]) then
+                redis.call('PEXPIRE', userKey, ARGV[4])
+            end
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REVOKE_SCRIPT = new DefaultRedisScript<>("""
+            local fid = redis.call('GET', KEYS[1])
+            if not fid then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            local familyKey = ARGV[1] .. fid
+            local user = redis.call('HGET', familyKey, 'user')
+            if not user then
+                return 0
+            end
+            redis.call('DEL', familyKey)
+            redis.call('ZREM', ARGV[2] .. user, fid)
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local families = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for _, fid in ipairs(families) do
+                redis.call('DEL', ARGV[1] .. fid)
+            end
+            redis.call('DEL', KEYS[1])
+            return #families
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxDevices;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate,
+                                  @Value("${auth.refresh-token.max-devices:10}") int maxDevices) {
+        this.redisTemplate = redisTemplate;
+        this.maxDevices = maxDevices;
+    }
+
+    @Override
+    public void save(String userId, String familyId, String tokenHash, String ip, long ttlMillis) {
+        Long result = redisTemplate.execute(SAVE_SCRIPT,
+                List.of(USER_PREFIX + userId, FAMILY_PREFIX + familyId, TOKEN_PREFIX + tokenHash),
+                userId, familyId, tokenHash, ip, String.valueOf(ttlMillis),
+                String.valueOf(System.currentTimeMillis()), FAMILY_PREFIX, String.valueOf(maxDevices));
+        if (result == null || result != 1L) {
+            throw new IllegalStateException("리프레시 토큰 저장 결과가 올바르지 않습니다. result=" + result);
+        }
+    }
+
+    @Override
+    public RotateResult rotate(String oldTokenHash, String newTokenHash, String ip, long ttlMillis) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(TOKEN_PREFIX + oldTokenHash, TOKEN_PREFIX + newTokenHash),
+                oldTokenHash, newTokenHash, ip, String.valueOf(ttlMillis), FAMILY_PREFIX, USER_PREFIX);
+
+        if (result == null || result == 0L) {
+            return RotateResult.NOT_FOUND;
+        }
+        if (result == 1L) {
+            return RotateResult.ROTATED;
+        }
+        return result == -2L ? RotateResult.REUSED : RotateResult.IP_MISMATCH;
+    }
+
+    @Override
+    public boolean revoke(String tokenHash) {
+        Long result = redisTemplate.execute(REVOKE_SCRIPT, List.of(TOKEN_PREFIX + tokenHash), FAMILY_PREFIX, USER_PREFIX);
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void revokeAll(String userId) {
+        redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(USER_PREFIX + userId), FAMILY_PREFIX);
+    }
+}
@@ -0,0 +1,35 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+/**
+ * 리프레시 토큰 저장소 - 로그인(기기)마다 토큰 패밀리를 하나씩 만들고, 토큰 해시로 패밀리를 O(1) 에 찾는다.
+ *
+ * 패밀리는 재발급될 때마다 현재 토큰 해시만 바뀌며, 이미 교체된 토큰이 다시 들어오면
+ * 탈취로 보고 해당 패밀리(기기)를 폐기한다.
+ * 기본은 Redis, standalone 프로필에서는 Redis 없이 동작하는 메모리 저장소를 사용한다.
+ */
+public interface RefreshTokenStore {
+
+    enum RotateResult {
+        ROTATED, NOT_FOUND, REUSED, IP_MISMATCH
+    }
+
+    /**
+     * 새 패밀리 등록 - 사용자별 최대 기기 수를 넘으면 가장 오래된 패밀리를 폐기한다.
+     */
+    void save(String userId, String familyId, String tokenHash, String ip, long ttlMillis);
+
+    /**
+     * oldTokenHash 가 패밀리의 현재 토큰이고 IP 가 같을 때만 newTokenHash 로 교체하고 TTL 을 다시 설정
+     */
+    RotateResult rotate(String oldTokenHash, String newTokenHash, String ip, long ttlMillis);
+
+    /**
+     * 토큰이 속한 패밀리(한 기기) 폐기
+     */
+    boolean revoke(String tokenHash);
+
+    /**
+     * 사용자의 모든 패밀리(전체 기기) 폐기
+     */
+    void revokeAll(String userId);
+}
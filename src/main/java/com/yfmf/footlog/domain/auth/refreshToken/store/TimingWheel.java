@@ -0,0 +1,151 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 계층형 타이밍 휠 - 만료 예약/취소 O(1), 틱 진행은 해당 슬롯만 처리한다.
+ *
+ * 레벨마다 64칸이며 레벨 L 의 한 칸은 64^L 틱을 덮는다. (4 레벨, 1초 틱이면 약 194일)
+ * 상위 레벨 칸은 시간이 그 칸의 시작에 닿으면 한 단계 아래 레벨로 내려간다(cascade).
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화한다.
+ */
+class TimingWheel<N extends TimingWheel.Node> {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    /**
+     * 휠에 들어가는 원소 - 슬롯의 이중 연결 리스트에 직접 연결되어 취소가 O(1) 이다.
+     */
+    static class Node {
+        long deadlineTick;
+        private Node prev;
+        private Node next;
+
+        boolean isScheduled() {
+            return prev != null;
+        }
+    }
+
+    private final Node[][] slots = new Node[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+    private int size;
+
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                Node sentinel = new Node();
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                slots[level][slot] = sentinel;
+            }
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 이미 지난 시각이면 다음 틱에 만료된다.
+     */
+    void schedule(N node, long deadlineTick) {
+        cancel(node);
+        node.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+        place(node);
+        size++;
+    }
+
+    void cancel(N node) {
+        if (node.isScheduled()) {
+            unlink(node);
+            size--;
+        }
+    }
+
+    /**
+     * nowTick 까지 진행하며 만료된 원소를 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    List<N> advance(long nowTick) {
+        List<N> expired = new ArrayList<>();
+        while (currentTick < nowTick) {
+            currentTick++;
+
+            // 상위 레벨 칸의 경계에 닿았으면 아래 레벨로 내린다.
+            for (int level = 1; level < LEVELS; level++) {
+                if ((currentTick & ((1L << (WHEEL_BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                Node sentinel = slots[level][(int) ((currentTick >>> (WHEEL_BITS * level)) & MASK)];
+                for (Node node = detachAll(sentinel); node != null; ) {
+                    Node next = node.next;
+                    node.next = null;
+                    place(node);
+                    node = next;
+                }
+            }
+
+            Node sentinel = slots[0][(int) (currentTick & MASK)];
+            for (Node node = detachAll(sentinel); node != null; ) {
+                Node next = node.next;
+                node.next = null;
+                if (node.deadlineTick <= currentTick) {
+                    size--;
+                    expired.add((N) node);
+                } else {
+                    // 최대 범위를 넘는 만료 시각은 한 바퀴 더 돈다.
+                    place(node);
+                }
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    private void place(Node node) {
+        long target = Math.max(currentTick, Math.min(node.deadlineTick, currentTick + MAX_SPAN - 1));
+        long delta = target - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        Node sentinel = slots[level][(int) ((target >>> (WHEEL_BITS * level)) & MASK)];
+        node.prev = sentinel.prev;
+        node.next = sentinel;
+        sentinel.prev.next = node;
+        sentinel.prev = node;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * 슬롯의 원소를 모두 떼어 단방향 리스트로 반환 (prev 는 비워 미예약 상태로 만든다)
+     */
+    private Node detachAll(Node sentinel) {
+        Node first = sentinel.next == sentinel ? null : sentinel.next;
+        if (first != null) {
+            sentinel.prev.next = null;
+        }
+        sentinel.next = sentinel;
+        sentinel.prev = sentinel;
+        for (Node node = first; node != null; node = node.next) {
+            node.prev = null;
+        }
+        return first;
+    }
+}
@@ -0,0 +1,104 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 로그아웃 등으로 폐기된 Access Token(jti) 목록
+ *
+ * JWTTokenFilter 가 요청마다 조회하므로 네트워크 없이 메모리만 본다.
+ * 블룸 필터에 없으면 바로 통과시키고, 있을 때만 정확한 집합(jti -> 만료 시각)을 확인한다.
+ * 토큰이 만료되면 더 이상 막을 필요가 없으므로 주기적으로 집합에서 지우고 블룸 필터를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationList {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevocationChannel channel;
+    private final int expectedEntries;
+    private final LongSupplier clock;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    public AccessTokenRevocationList(RevocationChannel channel,
+                                     @Value("${auth.revocation.expected-entries:100000}") int expectedEntries) {
+        this(channel, expectedEntries, System::currentTimeMillis);
+    }
+
+    AccessTokenRevocationList(RevocationChannel channel, int expectedEntries, LongSupplier clock) {
+        this.channel = channel;
+        this.expectedEntries = expectedEntries;
+        this.clock = clock;
+        this.filter = new BloomFilter(expectedEntries, FALSE_POSITIVE_RATE);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            channel.subscribe(this::apply);
+        } catch (Exception e) {
+            // 동기화 채널이 없어도 이 서버에서 폐기한 토큰은 막을 수 있도록 기동은 계속한다.
+            log.error("[AccessTokenRevocationList] 폐기 목록 동기화 구독 실패", e);
+        }
+    }
+
+    /**
+     * 토큰 폐기 - 만료 시각까지만 보관하고 다른 서버에도 알린다.
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || !apply(tokenId, expiresAtMillis)) {
+            return;
+        }
+        try {
+            channel.publish(tokenId, expiresAtMillis);
+        } catch (Exception e) {
+            log.error("[AccessTokenRevocationList] 폐기 알림 전파 실패 - jti={}", tokenId, e);
+        }
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > clock.getAsLong();
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    boolean apply(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.getAsLong()) {
+            return false;
+        }
+        // 블룸 필터 재생성과 겹치지 않도록 추가는 직렬화 (폐기는 드물다)
+        synchronized (this) {
+            revoked.merge(tokenId, expiresAtMillis, Math::max);
+            filter.put(tokenId);
+        }
+        return true;
+    }
+
+    /**
+     * 만료된 항목 제거 후 남은 항목으로 블룸 필터 재생성
+     */
+    @Scheduled(initialDelayString = "${auth.revocation.sweep-millis:60000}", fixedDelayString = "${auth.revocation.sweep-millis:60000}")
+    public synchronized void sweep() {
+        long now = clock.getAsLong();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+    }
+}
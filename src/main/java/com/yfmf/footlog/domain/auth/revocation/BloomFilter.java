@@ -0,0 +1,65 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기 목록 앞단의 블룸 필터 - 대부분의 요청(폐기되지 않은 토큰)을 정확한 집합 조회 없이 걸러낸다.
+ *
+ * 추가는 호출하는 쪽에서 직렬화하고, 조회는 락 없이 한다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(int expectedEntries, double falsePositiveRate) {
+        int n = Math.max(expectedEntries, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (bits + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.words = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = words.get(word);
+            } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 64비트 FNV-1a
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    // 이중 해싱용 두 번째 해시 - 홀수로 만들어 모든 비트 위치를 돌 수 있게 한다.
+    private static long secondHash(long h1) {
+        long h = h1 * 0x9E3779B97F4A7C15L;
+        return (h ^ (h >>> 29)) | 1L;
+    }
+}
@@ -0,0 +1,20 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 서버용 채널 (standalone 프로필) - 폐기 목록은 서버 메모리에만 있으므로 전파할 대상이 없다.
+ */
+@Component
+@Profile("standalone")
+public class LocalRevocationChannel implements RevocationChannel {
+
+    @Override
+    public void publish(String tokenId, long expiresAtMillis) {
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+    }
+}
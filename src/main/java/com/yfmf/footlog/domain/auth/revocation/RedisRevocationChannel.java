@@ -0,0 +1,86 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 채널 - 폐기 알림은 pub/sub 로 전파하고, 나중에 뜬 서버를 위해 만료 시각을 점수로 하는 ZSET 에도 남긴다.
+ *
+ * 요청 처리 중에는 Redis 를 조회하지 않으며, 알림을 받은 각 서버가 자기 메모리의 폐기 목록을 갱신한다.
+ */
+@Slf4j
+@Component
+@Profile("!standalone")
+public class RedisRevocationChannel implements RevocationChannel {
+
+    private static final String KEY = "revokedAccessToken";
+    private static final String CHANNEL = "auth:revoked-access-token";
+
+    // 저장, 만료 항목 정리, 전파를 왕복 1회로 처리
+    private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+            redis.call('PUBLISH', ARGV[4], ARGV[1] .. ':' .. ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+
+    public RedisRevocationChannel(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(connectionFactory);
+    }
+
+    @Override
+    public void publish(String tokenId, long expiresAtMillis) {
+        redisTemplate.execute(PUBLISH_SCRIPT, List.of(KEY), tokenId, String.valueOf(expiresAtMillis),
+                String.valueOf(System.currentTimeMillis()), CHANNEL);
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        // 구독을 먼저 시작해 기존 목록을 읽는 사이의 폐기 알림도 놓치지 않는다.
+        container.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            try {
+                listener.onRevoked(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                log.warn("[RedisRevocationChannel] 잘못된 폐기 알림: {}", body);
+            }
+        }, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+
+        Set<ZSetOperations.TypedTuple<String>> revoked = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        if (revoked != null) {
+            for (ZSetOperations.TypedTuple<String> entry : revoked) {
+                if (entry.getValue() != null && entry.getScore() != null) {
+                    listener.onRevoked(entry.getValue(), entry.getScore().longValue());
+                }
+            }
+        }
+        log.info("[RedisRevocationChannel] 기존 폐기 목록 {}건 로드", revoked == null ? 0 : revoked.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        container.destroy();
+    }
+}
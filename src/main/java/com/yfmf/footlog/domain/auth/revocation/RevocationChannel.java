@@ -0,0 +1,20 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+/**
+ * 서버 간 Access Token 폐기 목록 동기화 채널
+ *
+ * 기본은 Redis pub/sub, standalone 프로필에서는 단일 서버용 로컬 채널을 사용한다.
+ */
+public interface RevocationChannel {
+
+    interface Listener {
+        void onRevoked(String tokenId, long expiresAtMillis);
+    }
+
+    void publish(String tokenId, long expiresAtMillis);
+
+    /**
+     * 다른 서버의 폐기 알림을 받을 리스너 등록 - 아직 만료되지 않은 기존 폐기 목록도 전달한다.
+     */
+    void subscribe(Listener listener);
+}
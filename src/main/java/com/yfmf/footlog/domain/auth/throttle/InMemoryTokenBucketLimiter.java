@@ -0,0 +1,181 @@
+package com.yfmf.footlog.domain.auth.throttle;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 토큰 버킷
+ *
+ * 버킷 상태 변경은 키 해시로 고른 stripe 락 안에서만 일어난다.
+ * 가득 찬 상태로 되돌아갈 만큼 쉰 버킷은 새로 만든 버킷과 같으므로 주기적으로 제거하고,
+ * 그래도 maxEntries 에 닿으면 가장 오래 쓰이지 않은 버킷부터 제거해 메모리를 제한한다.
+ * 키마다 자기 버킷을 쓰므로 키를 바꿔 가며 보내는 요청이 다른 사용자의 한도를 소모하지 않는다.
+ */
+@Slf4j
+public class InMemoryTokenBucketLimiter implements TokenBucketLimiter {
+
+    private static final int STRIPES = 64;
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+    // 한도에 닿으면 maxEntries 의 1/10 을 한 번에 비워 새 키마다 전체를 훑지 않는다.
+    private static final int EVICT_DIVISOR = 10;
+
+    private final long capacity;
+    private final long nanosPerToken;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private volatile long lastSweep;
+
+    public InMemoryTokenBucketLimiter(long capacity, long refillPeriodSeconds, int maxEntries) {
+        this(capacity, refillPeriodSeconds, maxEntries, System::nanoTime);
+    }
+
+    InMemoryTokenBucketLimiter(long capacity, long refillPeriodSeconds, int maxEntries, LongSupplier clock) {
+        this.capacity = capacity;
+        this.nanosPerToken = TimeUnit.SECONDS.toNanos(refillPeriodSeconds) / capacity;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.lastSweep = clock.getAsLong();
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public long tryConsume(String key) {
+        long now = clock.getAsLong();
+        sweepIfDue(now);
+
+        if (!buckets.containsKey(key) && buckets.size() >= maxEntries) {
+            evictLeastRecentlyUsed(now);
+        }
+
+        ReentrantLock lock = lockFor(key);
+        while (true) {
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+            lock.lock();
+            try {
+                // 락을 잡기 전에 sweep 으로 제거된 버킷이면 다시 가져온다.
+                if (buckets.get(key) != bucket) {
+                    continue;
+                }
+                bucket.refill(now, capacity, nanosPerToken);
+                bucket.lastAccess = now;
+                if (bucket.tokens > 0) {
+                    bucket.tokens--;
+                    return 0;
+                }
+                long waitNanos = nanosPerToken - (now - bucket.lastRefill);
+                return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 쉰 시간이 버킷을 가득 채우는 시간 이상이면 제거 - 다음 요청 때 가득 찬 새 버킷이 만들어진다.
+     */
+    void sweep(long now) {
+        removeBuckets(now, Long.MIN_VALUE);
+    }
+
+    /**
+     * 버킷 수 한도 도달 - 쉰 버킷과 함께 마지막 사용이 오래된 버킷부터 제거한다.
+     * 다른 스레드가 정리 중이면 기다리지 않고 넘어가므로 그동안은 한도를 잠깐 넘을 수 있다.
+     */
+    void evictLeastRecentlyUsed(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int before = buckets.size();
+            if (before < maxEntries) {
+                return;
+            }
+            long[] accessed = buckets.values().stream().mapToLong(bucket -> bucket.lastAccess).toArray();
+            if (accessed.length == 0) {
+                return;
+            }
+            Arrays.sort(accessed);
+            int evict = Math.min(accessed.length, accessed.length - maxEntries + Math.max(1, maxEntries / EVICT_DIVISOR));
+            removeBuckets(now, accessed[evict - 1]);
+            lastSweep = now;
+            log.warn("[InMemoryTokenBucketLimiter] 버킷 수 한도 도달 - 오래 쓰이지 않은 버킷 제거 {} -> {}", before, buckets.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void removeBuckets(long now, long accessedAtOrBefore) {
+        long idleNanos = nanosPerToken * capacity;
+        buckets.entrySet().removeIf(entry -> {
+            ReentrantLock lock = lockFor(entry.getKey());
+            lock.lock();
+            try {
+                Bucket bucket = entry.getValue();
+                return now - bucket.lastRefill >= idleNanos || bucket.lastAccess <= accessedAtOrBefore;
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void sweepIfDue(long now) {
+        long interval = Math.min(nanosPerToken * capacity, SWEEP_INTERVAL);
+        if (now - lastSweep >= interval && sweeping.compareAndSet(false, true)) {
+            try {
+                sweep(now);
+                lastSweep = now;
+            } finally {
+                sweeping.set(false);
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(String key) {
+        return locks[(key.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private static final class Bucket {
+        private long tokens;
+        private long lastRefill;
+        // 락 밖의 한도 정리에서 읽는다.
+        private volatile long lastAccess;
+
+        Bucket(long tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+            this.lastAccess = now;
+        }
+
+        void refill(long now, long capacity, long nanosPerToken) {
+            long elapsed = now - lastRefill;
+            if (elapsed < nanosPerToken) {
+                return;
+            }
+            long added = elapsed / nanosPerToken;
+            if (tokens + added >= capacity) {
+                tokens = capacity;
+                lastRefill = now;
+            } else {
+                tokens += added;
+                lastRefill += added * nanosPerToken;
+            }
+        }
+    }
+}
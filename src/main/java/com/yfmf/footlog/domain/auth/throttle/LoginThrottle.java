@@ -0,0 +1,64 @@
+package com.yfmf.footlog.domain.auth.throttle;
+
+import com.yfmf.footlog.domain.auth.exception.TooManyAuthRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 로그인 시도 제한 - IP 별, 이메일(계정) 별 토큰 버킷
+ *
+ * auth.throttle.store=memory (기본) 는 서버별 메모리, redis 는 서버 간 공유 버킷을 사용한다.
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter emailLimiter;
+
+    public LoginThrottle(ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                         @Value("${auth.throttle.store:memory}") String store,
+                         @Value("${auth.throttle.ip.capacity:20}") long ipCapacity,
+                         @Value("${auth.throttle.ip.refill-period-seconds:60}") long ipRefillPeriodSeconds,
+                         @Value("${auth.throttle.email.capacity:5}") long emailCapacity,
+                         @Value("${auth.throttle.email.refill-period-seconds:300}") long emailRefillPeriodSeconds,
+                         @Value("${auth.throttle.max-entries:100000}") int maxEntries) {
+
+        if ("redis".equalsIgnoreCase(store)) {
+            StringRedisTemplate redisTemplate = redisTemplateProvider.getObject();
+            this.ipLimiter = new RedisTokenBucketLimiter(redisTemplate, "login:ip:", ipCapacity, ipRefillPeriodSeconds);
+            this.emailLimiter = new RedisTokenBucketLimiter(redisTemplate, "login:email:", emailCapacity, emailRefillPeriodSeconds);
+        } else {
+            this.ipLimiter = new InMemoryTokenBucketLimiter(ipCapacity, ipRefillPeriodSeconds, maxEntries);
+            this.emailLimiter = new InMemoryTokenBucketLimiter(emailCapacity, emailRefillPeriodSeconds, maxEntries);
+        }
+        log.info("[LoginThrottle] store={}, ip={}/{}s, email={}/{}s", store, ipCapacity, ipRefillPeriodSeconds, emailCapacity, emailRefillPeriodSeconds);
+    }
+
+    LoginThrottle(TokenBucketLimiter ipLimiter, TokenBucketLimiter emailLimiter) {
+        this.ipLimiter = ipLimiter;
+        this.emailLimiter = emailLimiter;
+    }
+
+    /**
+     * 허용되지 않으면 TooManyAuthRequestsException (429, Retry-After)
+     */
+    public void check(String clientIp, String email) {
+        long waitSeconds = ipLimiter.tryConsume(clientIp);
+        if (waitSeconds > 0) {
+            throw new TooManyAuthRequestsException(waitSeconds, "[LoginThrottle] IP 로그인 시도 초과 - ip=" + clientIp);
+        }
+
+        if (email != null) {
+            waitSeconds = emailLimiter.tryConsume(email.trim().toLowerCase(Locale.ROOT));
+            if (waitSeconds > 0) {
+                throw new TooManyAuthRequestsException(waitSeconds, "[LoginThrottle] 계정 로그인 시도 초과 - email=" + email);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.yfmf.footlog.domain.auth.throttle;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 토큰 버킷 - 여러 서버가 같은 버킷을 공유한다.
+ *
+ * 조회/보충/차감을 Lua 스크립트 한 번으로 처리해 왕복 1회로 원자적으로 실행하고,
+ * 버킷이 가득 찰 시간만큼 TTL 을 걸어 쉬는 키는 Redis 가 정리한다.
+ */
+@Slf4j
+public class RedisTokenBucketLimiter implements TokenBucketLimiter {
+
+    private static final RedisScript<Long> SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local millisPerToken = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local ts = tonumber(state[2]) or now
+            local elapsed = now - ts
+            if elapsed >= millisPerToken then
+                local added = math.floor(elapsed / millisPerToken)
+                if tokens + added >= capacity then
+                    tokens = capacity
+                    ts = now
+                else
+                    tokens = tokens + added
+                    ts = ts + added * millisPerToken
+                end
+            end
+            local wait = 0
+            if tokens > 0 then
+                tokens = tokens - 1
+            else
+                wait = millisPerToken - (now - ts)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tokens, 'ts', ts)
+            redis.call('PEXPIRE', KEYS[1], capacity * millisPerToken)
+            return wait
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final long capacity;
+    private final long millisPerToken;
+
+    public RedisTokenBucketLimiter(StringRedisTemplate redisTemplate, String keyPrefix, long capacity, long refillPeriodSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.capacity = capacity;
+        this.millisPerToken = Math.max(1, TimeUnit.SECONDS.toMillis(refillPeriodSeconds) / capacity);
+    }
+
+    @Override
+    public long tryConsume(String key) {
+        Long waitMillis;
+        try {
+            waitMillis = redisTemplate.execute(SCRIPT, List.of(keyPrefix + key),
+                    String.valueOf(capacity), String.valueOf(millisPerToken));
+        } catch (Exception e) {
+            // Redis 장애 시 로그인 자체를 막지 않는다. (해시 실행기가 CPU 사용량은 따로 제한)
+            log.warn("[RedisTokenBucketLimiter] Redis 호출 실패로 요청 허용 - key={}", key, e);
+            return 0;
+        }
+        if (waitMillis == null || waitMillis <= 0) {
+            return 0;
+        }
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+}
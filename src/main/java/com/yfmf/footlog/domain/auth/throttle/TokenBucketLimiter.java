@@ -0,0 +1,12 @@
+package com.yfmf.footlog.domain.auth.throttle;
+
+/**
+ * 키별 토큰 버킷 - 요청 1회에 토큰 1개를 소모한다.
+ */
+public interface TokenBucketLimiter {
+
+    /**
+     * @return 0 이면 허용, 0 보다 크면 다음 토큰이 생길 때까지 기다려야 하는 초
+     */
+    long tryConsume(String key);
+}
@@ -0,0 +1,128 @@
+package com.yfmf.footlog.domain.auth.utils;
+
+import com.yfmf.footlog.domain.auth.exception.TooManyAuthRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시/검증 전용 실행기
+ *
+ * BCrypt 는 CPU 를 오래 점유하므로 Tomcat 요청 스레드가 아닌 코어 수 크기의 전용 풀에서 실행한다.
+ * 대기열이 가득 차면 기다리지 않고 바로 429 (Retry-After) 로 거절한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.hashing.threads:0}") int threads,
+                          @Value("${auth.hashing.queue-capacity:0}") int queueCapacity,
+                          @Value("${auth.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                          @Value("${auth.hashing.timeout-millis:5000}") long timeoutMillis) {
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int capacity = queueCapacity > 0 ? queueCapacity : poolSize * 4;
+
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("비밀번호 해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해시 실행 중인 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("auth.password.hashing.latency")
+                .tag("operation", "encode")
+                .description("비밀번호 해시 소요 시간")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hashing.latency")
+                .tag("operation", "matches")
+                .description("비밀번호 검증 소요 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.hashing.rejected")
+                .description("대기열 초과로 거절된 요청 수")
+                .register(meterRegistry);
+
+        log.info("[PasswordHasher] 스레드 {}개, 대기열 {}", poolSize, capacity);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(timer.wrap(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TooManyAuthRequestsException(retryAfterSeconds, "[PasswordHasher] 해시 대기열 초과 - queue=" + executor.getQueue().size());
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TooManyAuthRequestsException(retryAfterSeconds, "[PasswordHasher] 해시 대기 시간 초과 - " + timeoutMillis + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -5,6 +5,7 @@ import com.yfmf.footlog.domain.auth.exception.LoginRequiredException;
 import com.yfmf.footlog.domain.club.dto.ClubMemberResponseDTO;
 import com.yfmf.footlog.domain.club.enums.ClubMemberRole;
 import com.yfmf.footlog.domain.club.service.ClubMemberService;
+import com.yfmf.footlog.domain.member.domain.Member;
 import com.yfmf.footlog.error.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -151,11 +152,13 @@ public class ClubMemberController {
         }
 
         log.info("[ClubMemberController] 구단 ID={}의 구단원 목록을 조회합니다.", clubId);
-        List<ClubMemberResponseDTO> members = clubMemberService.getClubMembers(clubId).stream()
+        List<Member> clubMembers = clubMemberService.getClubMembers(clubId);
+        String clubName = clubMemberService.getClubNameById(clubId);  // 구단원마다 조회하지 않도록 한 번만
+        List<ClubMemberResponseDTO> members = clubMembers.stream()
                 .map(member -> new ClubMemberResponseDTO(
                         member.getId(),
                         clubId,
-                        clubMemberService.getClubNameById(clubId),
+                        clubName,
                         "조회 성공"
                 ))
                 .collect(Collectors.toList());
@@ -7,6 +7,7 @@ import com.yfmf.footlog.domain.club.enums.ClubLevel;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -37,13 +38,16 @@ public class Club extends BaseTimeEntity {
     @Column(name = "MEMBER_COUNT", nullable = false)
     private int memberCount = 1;  // 기본값을 1로 설정
 
+    // 목록 응답 직렬화 시 구단마다 따로 조회하지 않고 IN 절로 묶어서 로딩
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "tbl_club_days", joinColumns = @JoinColumn(name = "CLUB_ID"))
     @Column(name = "DAYS")
     @Enumerated(EnumType.STRING)
     private List<PeakDays> days;  // 자주 운동하는 요일 (Enum)
 
     @ElementCollection
+    @BatchSize(size = 100)
     @CollectionTable(name = "tbl_club_times", joinColumns = @JoinColumn(name = "CLUB_ID"))
     @Column(name = "TIMES")
     @Enumerated(EnumType.STRING)
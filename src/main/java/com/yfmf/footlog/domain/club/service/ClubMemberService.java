@@ -15,6 +15,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -113,9 +116,12 @@ public class ClubMemberService {
         // 구단에 속한 구단원 조회
         List<ClubMember> clubMembers = clubMemberRepository.findByClubId(clubId);
 
-        // 구단원 ID로 회원 정보 조회
+        // 구단원 ID로 회원 정보를 한 번에 조회 (구단원 순서 유지)
+        Map<Long, Member> membersById = memberRepository.findAllById(
+                        clubMembers.stream().map(ClubMember::getMemberId).toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
         List<Member> members = clubMembers.stream()
-                .map(clubMember -> memberRepository.findById(clubMember.getMemberId())
+                .map(clubMember -> Optional.ofNullable(membersById.get(clubMember.getMemberId()))
                         .orElseThrow(() -> new IllegalArgumentException("구단원의 회원 정보를 찾을 수 없습니다."))
                 )
                 .collect(Collectors.toList());
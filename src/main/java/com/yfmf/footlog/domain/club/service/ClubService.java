@@ -1,7 +1,9 @@
 package com.yfmf.footlog.domain.club.service;
 
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
 import com.yfmf.footlog.domain.club.dto.ClubRegistResponseDTO;
 import com.yfmf.footlog.domain.club.entity.ClubMember;
+import com.yfmf.footlog.domain.club.enums.ClubLevel;
 import com.yfmf.footlog.domain.club.enums.ClubMemberRole;
 import com.yfmf.footlog.domain.club.exception.ClubDuplicatedException;
 import com.yfmf.footlog.domain.club.exception.ClubNotFoundException;
@@ -23,11 +25,13 @@ public class ClubService {
 
     private final ClubRepository clubRepository;
     private final ClubMemberRepository clubMemberRepository;
+    private final AdminStatsCounters adminStatsCounters;
 
     @Autowired
-    public ClubService(ClubRepository clubRepository, ClubMemberRepository clubMemberRepository) {
+    public ClubService(ClubRepository clubRepository, ClubMemberRepository clubMemberRepository, AdminStatsCounters adminStatsCounters) {
         this.clubRepository = clubRepository;
         this.clubMemberRepository = clubMemberRepository;
+        this.adminStatsCounters = adminStatsCounters;
     }
 
     /**
@@ -49,6 +53,7 @@ public class ClubService {
                 clubInfo.getTimes(), clubInfo.getClubLevel(), clubInfo.getStadiumName(),
                 clubInfo.getCity(), clubInfo.getRegion(), clubInfo.getAgeGroup(), clubInfo.getGender());
         clubRepository.save(newClub);
+        adminStatsCounters.clubCreated(newClub.getClubLevel());
         log.info("[ClubService] 구단 등록 성공: 구단 ID={}", newClub.getClubId());
 
         // 구단 생성자를 구단주(OWNER)로 구단에 추가
@@ -119,6 +124,7 @@ public class ClubService {
         }
 
         Club club = optionalClub.get();
+        ClubLevel previousLevel = club.getClubLevel();
         club.setUserId(clubInfo.getUserId());
         club.setClubName(clubInfo.getClubName());
         club.setClubIntroduction(clubInfo.getClubIntroduction());
@@ -131,6 +137,7 @@ public class ClubService {
         club.setRegion(clubInfo.getRegion());
         log.debug("업데이트된 구단 정보: {}", club);
         clubRepository.save(club);
+        adminStatsCounters.clubLevelChanged(previousLevel, club.getClubLevel());
         log.info("[ClubService] 구단 업데이트 완료: 구단 ID={}", clubId);
     }
 
@@ -141,12 +148,13 @@ public class ClubService {
     public void deleteClub(Long clubId) {
         log.info("[ClubService] 구단 삭제 시도: 구단 ID={}", clubId);
 
-        if (!clubRepository.existsById(clubId)) {
+        Club club = clubRepository.findById(clubId).orElseThrow(() -> {
             log.error("[ClubService] 구단을 찾을 수 없음: 구단 ID={}", clubId);
-            throw new ClubNotFoundException("해당 구단을 찾을 수 없습니다.", "[ClubService] deleteClub");
-        }
+            return new ClubNotFoundException("해당 구단을 찾을 수 없습니다.", "[ClubService] deleteClub");
+        });
 
-        clubRepository.deleteById(clubId);
+        clubRepository.delete(club);
+        adminStatsCounters.clubDeleted(club.getClubLevel());
         log.info("[ClubService] 구단 삭제 성공: 구단 ID={}", clubId);
     }
 
@@ -1,11 +1,14 @@
 package com.yfmf.footlog.domain.guest.controller;
 
 import com.yfmf.footlog.domain.guest.dto.GuestSaveRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSearchPageDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSearchRequestDto;
 import com.yfmf.footlog.domain.guest.entity.Guest;
 import com.yfmf.footlog.domain.guest.service.GuestService;
 //import com.yfmf.footlog.domain.guest.dto.GuestSaveRequestDto;
 import com.yfmf.footlog.domain.guest.dto.GuestUpdateRequestDto;
 import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import com.yfmf.footlog.domain.member.enums.Position;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -93,10 +96,18 @@ public class GuestController {
         return ResponseEntity.noContent().build();
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "용병 검색", description = "지역/날짜/요일/나이/시간대/포지션 조건으로 모집 가능한 용병을 검색합니다. 응답의 nextCursorScheduleDate, nextCursorId 로 다음 페이지를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "용병 검색 성공")
+    public ResponseEntity<GuestSearchPageDto> searchGuests(@Valid @ModelAttribute GuestSearchRequestDto condition) {
+        return ResponseEntity.ok(guestService.searchGuests(condition));
+    }
+
     @GetMapping("/by-position")
-    @Operation(summary = "포지션별 용병 조회", description = "특정 선호 포지션의 사용 가능한 용병을 조회합니다.")
+    @Operation(summary = "포지션별 용병 조회", description = "특정 선호 포지션의 사용 가능한 용병을 조회합니다. 검색과 같은 조건/페이지네이션을 지원합니다.")
     @ApiResponse(responseCode = "200", description = "포지션별 용병 조회 성공")
-    public ResponseEntity<List<Guest>> getGuestsByPosition(@RequestParam String preferredPosition) {
-        return ResponseEntity.ok(guestService.findGuestsByLocation(preferredPosition));
+    public ResponseEntity<GuestSearchPageDto> getGuestsByPosition(@RequestParam Position preferredPosition,
+                                                                  @Valid @ModelAttribute GuestSearchRequestDto condition) {
+        return ResponseEntity.ok(guestService.searchGuests(condition.withPosition(preferredPosition)));
     }
 }
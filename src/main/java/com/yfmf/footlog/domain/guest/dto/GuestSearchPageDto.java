@@ -0,0 +1,13 @@
+package com.yfmf.footlog.domain.guest.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 용병 검색 페이지 - nextCursorScheduleDate/nextCursorId 를 다음 요청의 cursor 로 전달
+public record GuestSearchPageDto(
+        List<GuestSummaryDto> guests,
+        LocalDateTime nextCursorScheduleDate,
+        Long nextCursorId,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,57 @@
+package com.yfmf.footlog.domain.guest.dto;
+
+import com.yfmf.footlog.domain.member.enums.Position;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 용병 검색 조건 (null 인 조건은 무시, 모집 가능한 용병만 조회)
+public record GuestSearchRequestDto(
+        @Schema(description = "지역", example = "서울")
+        String location,
+        @Schema(description = "선호 포지션 (회원 프로필 기준)", example = "ST")
+        Position position,
+        @Schema(description = "조회 시작 날짜", example = "2026-10-20")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dateFrom,
+        @Schema(description = "조회 종료 날짜 (포함)", example = "2026-10-31")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        LocalDate dateTo,
+        @Schema(description = "요일", example = "SATURDAY")
+        DayOfWeek scheduleDay,
+        @Min(value = 0, message = "나이는 음수일 수 없습니다.") Integer minAge,
+        @Min(value = 0, message = "나이는 음수일 수 없습니다.") Integer maxAge,
+        @Schema(description = "경기 시작 시간 - 이 시간대와 겹치는 용병을 조회", example = "18:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+        LocalTime startTime,
+        @Schema(description = "경기 종료 시간", example = "20:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.TIME)
+        LocalTime endTime,
+
+        @Schema(description = "이전 페이지의 nextCursorScheduleDate (첫 페이지는 비움)", example = "2026-10-25T18:00:00")
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime cursorScheduleDate,
+        @Schema(description = "이전 페이지의 nextCursorId (첫 페이지는 비움)", example = "120")
+        Long cursorId,
+        @Schema(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+        Integer size
+) {
+    public static final int DEFAULT_SIZE = 20;
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    public GuestSearchRequestDto withPosition(Position position) {
+        return new GuestSearchRequestDto(location, position, dateFrom, dateTo, scheduleDay, minAge, maxAge,
+                startTime, endTime, cursorScheduleDate, cursorId, size);
+    }
+}
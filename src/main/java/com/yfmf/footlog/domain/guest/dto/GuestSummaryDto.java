@@ -0,0 +1,20 @@
+package com.yfmf.footlog.domain.guest.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// 용병 검색 결과 projection
+public record GuestSummaryDto(
+        Long id,
+        Long memberId,
+        String location,
+        Integer age,
+        LocalDateTime scheduleDate,
+        DayOfWeek scheduleDay,
+        LocalTime scheduleStartTime,
+        LocalTime scheduleEndTime,
+        String specialRequests,
+        boolean available
+) {
+}
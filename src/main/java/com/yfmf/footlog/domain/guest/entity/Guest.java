@@ -14,7 +14,11 @@ import java.time.LocalTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tbl_guest")
+@Table(name = "tbl_guest", indexes = {
+        @Index(name = "idx_guest_available_location_date", columnList = "available, location, schedule_date, id"),
+        @Index(name = "idx_guest_available_day_date", columnList = "available, schedule_day, schedule_date, id"),
+        @Index(name = "idx_guest_available_date", columnList = "available, schedule_date, id")
+})
 public class Guest extends BaseTimeEntity {
 
     @Id
@@ -59,7 +63,7 @@ public class Guest extends BaseTimeEntity {
         this.scheduleStartTime = scheduleStartTime;
         this.scheduleEndTime = scheduleEndTime;
         this.specialRequests = specialRequests;
-        this.available = available;
+        this.available = available == null || available;
     }
 
     public void update(String location, Integer age, LocalDateTime scheduleDate, DayOfWeek scheduleDay,
@@ -70,12 +74,14 @@ public class Guest extends BaseTimeEntity {
         this.scheduleDay = scheduleDay;
         this.scheduleStartTime = scheduleStartTime;
         this.scheduleEndTime = scheduleEndTime;
-        this.available = available;
-
+        this.specialRequests = specialRequests;
+        if (available != null) {
+            this.available = available;
+        }
     }
 
-    public boolean updateAvailability(boolean available) {
-        return available;
+    public void updateAvailability(boolean available) {
+        this.available = available;
     }
 
 }
\ No newline at end of file
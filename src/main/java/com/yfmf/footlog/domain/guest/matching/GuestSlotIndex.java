@@ -0,0 +1,256 @@
+package com.yfmf.footlog.domain.guest.matching;
+
+import com.yfmf.footlog.domain.guest.entity.Guest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 모집 가능한 용병의 일정 구간 인덱스 - 매치 일정을 모두 포함하는 용병 후보 검색용
+ *
+ * (날짜, 지역) 버킷마다 시작 시간 오름차순 배열을 두고, 질의 시 매치 시작 이전에 시작하는 구간만
+ * 훑어 매치 종료 이후까지 가능한 용병을 고른다. 지역은 location 의 첫 단어(시/도) 기준으로 나눈다.
+ */
+@Component
+public class GuestSlotIndex {
+
+    public static final int MAX_LIMIT = 100;
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingInt(Candidate::proximity).reversed()
+            .thenComparingInt(Candidate::slackMinutes)
+            .thenComparingLong(Candidate::guestId);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<LocalDate, Map<String, Bucket>> days = new HashMap<>();
+    private final Map<Long, Slot> slots = new HashMap<>();
+
+    public void upsert(Guest guest) {
+        upsert(guest.getId(), guest.getMemberId(), guest.getLocation(), guest.getScheduleDate(),
+                guest.getScheduleStartTime(), guest.getScheduleEndTime(), guest.isAvailable());
+    }
+
+    /**
+     * 용병 등록/수정 - 모집 불가로 바뀌었거나 일정이 비어 있으면 인덱스에서 뺀다.
+     */
+    public void upsert(long guestId, long memberId, String location, LocalDateTime scheduleDate,
+                       LocalTime startTime, LocalTime endTime, boolean available) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(guestId);
+            if (!available || location == null || scheduleDate == null || startTime == null || endTime == null) {
+                return;
+            }
+            Slot slot = new Slot(guestId, memberId, normalize(location), scheduleDate.toLocalDate(),
+                    minutes(startTime), minutes(endTime));
+            days.computeIfAbsent(slot.date, date -> new HashMap<>())
+                    .computeIfAbsent(regionOf(slot.location), region -> new Bucket())
+                    .add(slot);
+            slots.put(guestId, slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long guestId) {
+        lock.writeLock().lock();
+        try {
+            removeSlot(guestId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 지난 날짜의 버킷을 통째로 비운다.
+     *
+     * @return 제거된 용병 수
+     */
+    public int removeBefore(LocalDate date) {
+        lock.writeLock().lock();
+        try {
+            int removed = 0;
+            Iterator<Map.Entry<LocalDate, Map<String, Bucket>>> it = days.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<LocalDate, Map<String, Bucket>> day = it.next();
+                if (!day.getKey().isBefore(date)) {
+                    continue;
+                }
+                for (Bucket bucket : day.getValue().values()) {
+                    for (int i = 0; i < bucket.size; i++) {
+                        slots.remove(bucket.slots[i].guestId);
+                    }
+                    removed += bucket.size;
+                }
+                it.remove();
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            days.clear();
+            slots.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 매치 일정(date, start ~ end)을 모두 포함하는 용병 후보
+     *
+     * 같은 시/도 안에서 구장 위치와 가까운 순(완전 일치 > 구/군 일치 > 시/도 일치),
+     * 그 다음 일정 여유가 적은 순으로 정렬한다.
+     */
+    public List<Candidate> candidates(LocalDate date, LocalTime start, LocalTime end, String fieldLocation, int limit) {
+        if (fieldLocation == null) {
+            return List.of();
+        }
+        String location = normalize(fieldLocation);
+        int from = minutes(start);
+        int to = minutes(end);
+
+        List<Candidate> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<String, Bucket> regions = days.get(date);
+            Bucket bucket = regions == null ? null : regions.get(regionOf(location));
+            if (bucket == null) {
+                return List.of();
+            }
+            // 시작 시간 오름차순이므로 매치 시작 이후에 시작하는 구간부터는 볼 필요가 없다.
+            int upper = bucket.upperBound(from);
+            for (int i = 0; i < upper; i++) {
+                Slot slot = bucket.slots[i];
+                if (slot.end >= to) {
+                    result.add(new Candidate(slot.guestId, slot.memberId, slot.location,
+                            LocalTime.ofSecondOfDay(slot.start * 60L), LocalTime.ofSecondOfDay(slot.end * 60L),
+                            proximity(location, slot.location), (from - slot.start) + (slot.end - to)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        result.sort(RANKING);
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    // write lock 안에서 호출
+    private void removeSlot(long guestId) {
+        Slot slot = slots.remove(guestId);
+        if (slot == null) {
+            return;
+        }
+        Map<String, Bucket> regions = days.get(slot.date);
+        String region = regionOf(slot.location);
+        Bucket bucket = regions.get(region);
+        bucket.remove(slot);
+        if (bucket.size == 0) {
+            regions.remove(region);
+            if (regions.isEmpty()) {
+                days.remove(slot.date);
+            }
+        }
+    }
+
+    static String normalize(String location) {
+        return location.trim().replaceAll("\\s+", " ");
+    }
+
+    static String regionOf(String location) {
+        int space = location.indexOf(' ');
+        return space < 0 ? location : location.substring(0, space);
+    }
+
+    // 3: 완전 일치, 2: 구/군(두 번째 단어)까지 일치, 1: 시/도만 일치
+    static int proximity(String fieldLocation, String guestLocation) {
+        if (fieldLocation.equals(guestLocation)) {
+            return 3;
+        }
+        String[] field = fieldLocation.split(" ");
+        String[] guest = guestLocation.split(" ");
+        if (field.length > 1 && guest.length > 1 && field[1].equals(guest[1])) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static int minutes(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    public record Candidate(long guestId, long memberId, String location, LocalTime scheduleStartTime,
+                            LocalTime scheduleEndTime, int proximity, int slackMinutes) {
+    }
+
+    private record Slot(long guestId, long memberId, String location, LocalDate date, int start, int end) {
+    }
+
+    /**
+     * 시작 시간 오름차순으로 정렬된 배열 - 버킷 하나에는 하루치 한 지역 게시글만 들어가므로 삽입/삭제는 배열 복사로 충분하다.
+     */
+    private static final class Bucket {
+
+        private Slot[] slots = new Slot[8];
+        private int size;
+
+        void add(Slot slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            int at = upperBound(slot.start);
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+        }
+
+        void remove(Slot slot) {
+            for (int i = upperBound(slot.start) - 1; i >= 0 && slots[i].start == slot.start; i--) {
+                if (slots[i].guestId == slot.guestId) {
+                    System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+                    slots[--size] = null;
+                    return;
+                }
+            }
+        }
+
+        // start 가 minute 이하인 구간의 개수
+        int upperBound(int minute) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (slots[mid].start <= minute) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.yfmf.footlog.domain.guest.matching;
+
+import com.yfmf.footlog.domain.guest.dto.GuestSummaryDto;
+import com.yfmf.footlog.domain.guest.repository.GuestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 오늘 이후 일정의 모집 가능한 용병을 id 순으로 나누어 읽어 인덱스를 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestSlotIndexLoader {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final GuestRepository guestRepository;
+    private final GuestSlotIndex guestSlotIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        guestSlotIndex.clear();
+
+        Long cursor = null;
+        List<GuestSummaryDto> chunk;
+        do {
+            chunk = guestRepository.findAvailableGuests(LocalDate.now().atStartOfDay(), cursor, CHUNK_SIZE);
+            for (GuestSummaryDto row : chunk) {
+                guestSlotIndex.upsert(row.id(), row.memberId(), row.location(), row.scheduleDate(),
+                        row.scheduleStartTime(), row.scheduleEndTime(), row.available());
+            }
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+
+        log.info("[GuestSlotIndexLoader] 용병 일정 인덱스 적재 완료 - {}건, {}ms", guestSlotIndex.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -7,8 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface GuestRepository extends JpaRepository<Guest, Long> {
-    List<Guest> findByScheduleDateGreaterThanEqual(LocalDateTime date);
+public interface GuestRepository extends JpaRepository<Guest, Long>, GuestSearchRepository {
+    List<Guest> findByAvailableTrueAndScheduleDateGreaterThanEqual(LocalDateTime date);
     List<Guest> findByLocation(String location);
     List<Guest> findByAgeBetween(int minAge, int maxAge);
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.yfmf.footlog.domain.guest.repository;
+
+import com.yfmf.footlog.domain.guest.dto.GuestSearchRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSummaryDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GuestSearchRepository {
+
+    /**
+     * 모집 가능한 용병 검색 - (scheduleDate, id) 오름차순 keyset 페이지네이션
+     *
+     * @param condition 검색 조건 (cursor 가 있으면 cursor 이후만 조회)
+     * @param limit     최대 조회 건수
+     */
+    List<GuestSummaryDto> searchGuests(GuestSearchRequestDto condition, int limit);
+
+    /**
+     * 일정 인덱스 적재용 - from 이후 일정의 모집 가능한 용병을 id 오름차순으로 cursor 이후 limit 건 조회
+     */
+    List<GuestSummaryDto> findAvailableGuests(LocalDateTime from, Long cursor, int limit);
+
+    /**
+     * 정리 대상 조회 - before 이전 일정이면서 모집 상태가 available 인 용병 id 를 일정 순으로 limit 건 조회
+     * (idx_guest_available_date 의 범위 스캔)
+     */
+    List<Long> findExpiredGuestIds(boolean available, LocalDateTime before, int limit);
+
+    /**
+     * 주어진 id 의 용병을 한 번에 모집 마감 처리
+     *
+     * @return 변경된 행 수
+     */
+    int markUnavailable(List<Long> guestIds);
+}
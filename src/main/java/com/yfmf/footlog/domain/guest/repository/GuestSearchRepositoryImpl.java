@@ -0,0 +1,161 @@
+package com.yfmf.footlog.domain.guest.repository;
+
+import com.yfmf.footlog.domain.guest.dto.GuestSearchRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSummaryDto;
+import com.yfmf.footlog.domain.guest.entity.Guest;
+import com.yfmf.footlog.domain.member.domain.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class GuestSearchRepositoryImpl implements GuestSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<GuestSummaryDto> searchGuests(GuestSearchRequestDto condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GuestSummaryDto> query = cb.createQuery(GuestSummaryDto.class);
+        Root<Guest> guest = query.from(Guest.class);
+        Path<LocalDateTime> scheduleDate = guest.get("scheduleDate");
+        Path<Long> id = guest.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        // 인덱스 선두 컬럼 (available, location / scheduleDay)
+        predicates.add(cb.isTrue(guest.get("available")));
+        if (condition.location() != null) {
+            predicates.add(cb.equal(guest.get("location"), condition.location()));
+        }
+        if (condition.scheduleDay() != null) {
+            predicates.add(cb.equal(guest.get("scheduleDay"), condition.scheduleDay()));
+        }
+
+        // 날짜 범위 - 인덱스의 scheduleDate 구간 스캔
+        if (condition.dateFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(scheduleDate, condition.dateFrom().atStartOfDay()));
+        }
+        if (condition.dateTo() != null) {
+            predicates.add(cb.lessThan(scheduleDate, condition.dateTo().plusDays(1).atStartOfDay()));
+        }
+
+        if (condition.minAge() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(guest.get("age"), condition.minAge()));
+        }
+        if (condition.maxAge() != null) {
+            predicates.add(cb.lessThanOrEqualTo(guest.get("age"), condition.maxAge()));
+        }
+
+        // 시간대 겹침 - 용병 시작 < 요청 종료 && 용병 종료 > 요청 시작
+        if (condition.endTime() != null) {
+            predicates.add(cb.lessThan(guest.get("scheduleStartTime"), condition.endTime()));
+        }
+        if (condition.startTime() != null) {
+            predicates.add(cb.greaterThan(guest.get("scheduleEndTime"), condition.startTime()));
+        }
+
+        // 포지션은 회원 프로필 기준 (tbl_member 포지션 인덱스 사용)
+        if (condition.position() != null) {
+            Subquery<Long> members = query.subquery(Long.class);
+            Root<Member> member = members.from(Member.class);
+            members.select(member.get("id"))
+                    .where(cb.equal(member.get("position"), condition.position()));
+            predicates.add(guest.get("memberId").in(members));
+        }
+
+        // keyset - 이전 페이지 마지막 (scheduleDate, id) 이후부터
+        if (condition.cursorScheduleDate() != null && condition.cursorId() != null) {
+            predicates.add(cb.or(
+                    cb.greaterThan(scheduleDate, condition.cursorScheduleDate()),
+                    cb.and(cb.equal(scheduleDate, condition.cursorScheduleDate()), cb.greaterThan(id, condition.cursorId()))));
+        }
+
+        query.select(summaryOf(cb, guest))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(scheduleDate), cb.asc(id));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<GuestSummaryDto> findAvailableGuests(LocalDateTime from, Long cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GuestSummaryDto> query = cb.createQuery(GuestSummaryDto.class);
+        Root<Guest> guest = query.from(Guest.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.isTrue(guest.get("available")));
+        predicates.add(cb.greaterThanOrEqualTo(guest.get("scheduleDate"), from));
+        if (cursor != null) {
+            predicates.add(cb.greaterThan(guest.get("id"), cursor));
+        }
+
+        query.select(summaryOf(cb, guest))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(guest.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findExpiredGuestIds(boolean available, LocalDateTime before, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Guest> guest = query.from(Guest.class);
+
+        query.select(guest.get("id"))
+                .where(cb.equal(guest.get("available"), available),
+                        cb.lessThan(guest.get("scheduleDate"), before))
+                .orderBy(cb.asc(guest.get("scheduleDate")), cb.asc(guest.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int markUnavailable(List<Long> guestIds) {
+        if (guestIds.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Guest> update = cb.createCriteriaUpdate(Guest.class);
+        Root<Guest> guest = update.from(Guest.class);
+
+        update.set(guest.<Boolean>get("available"), false)
+                .where(guest.get("id").in(guestIds));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private CompoundSelection<GuestSummaryDto> summaryOf(CriteriaBuilder cb, Root<Guest> guest) {
+        return cb.construct(
+                GuestSummaryDto.class,
+                guest.get("id"),
+                guest.get("memberId"),
+                guest.get("location"),
+                guest.get("age"),
+                guest.get("scheduleDate"),
+                guest.get("scheduleDay"),
+                guest.get("scheduleStartTime"),
+                guest.get("scheduleEndTime"),
+                guest.get("specialRequests"),
+                guest.get("available"));
+    }
+}
@@ -3,9 +3,14 @@ package com.yfmf.footlog.domain.guest.service;
 import com.yfmf.footlog.domain.guest.entity.Guest;
 import com.yfmf.footlog.domain.guest.repository.GuestRepository;
 import com.yfmf.footlog.domain.guest.dto.GuestSaveRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSearchPageDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSearchRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSummaryDto;
 import com.yfmf.footlog.domain.guest.dto.GuestUpdateRequestDto;
+import com.yfmf.footlog.domain.guest.matching.GuestSlotIndex;
 import com.yfmf.footlog.error.ApplicationException;
 import com.yfmf.footlog.error.ErrorCode;
+import com.yfmf.footlog.utils.TransactionUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +23,7 @@ import java.util.List;
 public class GuestService {
 
     private final GuestRepository guestRepository;
+    private final GuestSlotIndex guestSlotIndex;
 
     @Transactional
     public Guest registerGuest(Long memberId ,GuestSaveRequestDto requestDto) {
@@ -30,9 +36,12 @@ public class GuestService {
                 .scheduleStartTime(requestDto.getScheduleStartTime())
                 .scheduleEndTime(requestDto.getScheduleEndTime())
                 .specialRequests(requestDto.getSpecialRequests())
+                .available(requestDto.getAvailable())
                 .build();
 
-        return guestRepository.save(guest);
+        Guest saved = guestRepository.save(guest);
+        TransactionUtils.afterCommit(() -> guestSlotIndex.upsert(saved));
+        return saved;
     }
 
     @Transactional(readOnly = true)
@@ -42,7 +51,7 @@ public class GuestService {
 
     @Transactional(readOnly = true)
     public List<Guest> findAvailableGuests(LocalDateTime date) {
-        return guestRepository.findByScheduleDateGreaterThanEqual(date);
+        return guestRepository.findByAvailableTrueAndScheduleDateGreaterThanEqual(date);
     }
 
     @Transactional(readOnly = true)
@@ -66,14 +75,18 @@ public class GuestService {
                 requestDto.getAvailable()
         );
 
-        return guestRepository.save(guest);
+        Guest saved = guestRepository.save(guest);
+        TransactionUtils.afterCommit(() -> guestSlotIndex.upsert(saved));
+        return saved;
     }
 
     @Transactional
     public Guest updateGuestAvailability(Long guestId, boolean available) {
         Guest guest = findGuestById(guestId);
         guest.updateAvailability(available);
-        return guestRepository.save(guest);
+        Guest saved = guestRepository.save(guest);
+        TransactionUtils.afterCommit(() -> guestSlotIndex.upsert(saved));
+        return saved;
     }
 
     @Transactional
@@ -82,6 +95,7 @@ public class GuestService {
             throw new ApplicationException(ErrorCode.GUEST_NOT_FOUND, "[GuestService] GUEST_NOT_FOUND");
         }
         guestRepository.deleteById(guestId);
+        TransactionUtils.afterCommit(() -> guestSlotIndex.remove(guestId));
     }
 
     @Transactional(readOnly = true)
@@ -93,4 +107,41 @@ public class GuestService {
     public List<Guest> findGuestsByAgeRange(int minAge, int maxAge) {
         return guestRepository.findByAgeBetween(minAge, maxAge);
     }
+
+    /**
+     * 용병 검색 - 지역/날짜/요일/나이/시간대/포지션 조건, (scheduleDate, id) 기준 keyset 페이지네이션
+     */
+    @Transactional(readOnly = true)
+    public GuestSearchPageDto searchGuests(GuestSearchRequestDto condition) {
+
+        validateCondition(condition);
+
+        int size = condition.pageSize();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<GuestSummaryDto> guests = guestRepository.searchGuests(condition, size + 1);
+
+        boolean hasNext = guests.size() > size;
+        if (hasNext) {
+            guests = guests.subList(0, size);
+        }
+        GuestSummaryDto last = hasNext ? guests.get(guests.size() - 1) : null;
+
+        return new GuestSearchPageDto(guests, last != null ? last.scheduleDate() : null, last != null ? last.id() : null, hasNext);
+    }
+
+    private void validateCondition(GuestSearchRequestDto condition) {
+        if (condition.minAge() != null && condition.maxAge() != null && condition.minAge() > condition.maxAge()) {
+            throw new ApplicationException(ErrorCode.INVALID_GUEST_SEARCH_CONDITION, "[GuestService] 최소 나이가 최대 나이보다 큽니다. min=" + condition.minAge() + ", max=" + condition.maxAge());
+        }
+        if (condition.dateFrom() != null && condition.dateTo() != null && condition.dateFrom().isAfter(condition.dateTo())) {
+            throw new ApplicationException(ErrorCode.INVALID_GUEST_SEARCH_CONDITION, "[GuestService] 시작 날짜가 종료 날짜보다 늦습니다. from=" + condition.dateFrom() + ", to=" + condition.dateTo());
+        }
+        if (condition.startTime() != null && condition.endTime() != null && !condition.startTime().isBefore(condition.endTime())) {
+            throw new ApplicationException(ErrorCode.INVALID_GUEST_SEARCH_CONDITION, "[GuestService] 시작 시간이 종료 시간보다 늦습니다. start=" + condition.startTime() + ", end=" + condition.endTime());
+        }
+        if ((condition.cursorScheduleDate() == null) != (condition.cursorId() == null)) {
+            throw new ApplicationException(ErrorCode.INVALID_GUEST_SEARCH_CONDITION, "[GuestService] cursor 는 날짜와 id 를 함께 전달해야 합니다.");
+        }
+    }
 }
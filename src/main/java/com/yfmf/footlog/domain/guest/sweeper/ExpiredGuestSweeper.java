@@ -0,0 +1,157 @@
+package com.yfmf.footlog.domain.guest.sweeper;
+
+import com.yfmf.footlog.domain.guest.matching.GuestSlotIndex;
+import com.yfmf.footlog.domain.guest.repository.GuestRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * 지난 용병 모집글 정리
+ *
+ * 1) 일정 날짜가 오늘 이전인 모집글을 모집 마감(available = false) 처리하고
+ * 2) 보관 기간이 지난 마감 글은 삭제한다.
+ * 두 단계 모두 (available, schedule_date) 인덱스 순서로 chunk 단위 id 를 뽑아 chunk 마다 짧은 트랜잭션으로 처리하고,
+ * 한 번 실행에 처리하는 chunk 수에도 상한을 두어 테이블을 오래 잡지 않는다.
+ * 상한에 걸려 남은 행이 있어도 용병 일정 인덱스(GuestSlotIndex)에서는 지난 날짜를 매번 통째로 비운다.
+ */
+@Slf4j
+@Component
+public class ExpiredGuestSweeper {
+
+    private final GuestRepository guestRepository;
+    private final GuestSlotIndex guestSlotIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final Duration retention;
+
+    private final Timer runTimer;
+    private final DistributionSummary expiredPerRun;
+    private final DistributionSummary deletedPerRun;
+
+    public ExpiredGuestSweeper(GuestRepository guestRepository,
+                               GuestSlotIndex guestSlotIndex,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${guest.sweeper.enabled:true}") boolean enabled,
+                               @Value("${guest.sweeper.chunk-size:500}") int chunkSize,
+                               @Value("${guest.sweeper.max-chunks-per-run:100}") int maxChunksPerRun,
+                               @Value("${guest.sweeper.retention-days:30}") int retentionDays) {
+        this(guestRepository, guestSlotIndex, transactionManager, meterRegistry, enabled, chunkSize, maxChunksPerRun,
+                retentionDays, Clock.systemDefaultZone());
+    }
+
+    ExpiredGuestSweeper(GuestRepository guestRepository, GuestSlotIndex guestSlotIndex,
+                        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry, boolean enabled,
+                        int chunkSize, int maxChunksPerRun, int retentionDays, Clock clock) {
+        this.guestRepository = guestRepository;
+        this.guestSlotIndex = guestSlotIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.retention = Duration.ofDays(retentionDays);
+
+        this.runTimer = Timer.builder("guest.sweeper.duration")
+                .description("지난 용병 모집글 정리 소요 시간")
+                .register(meterRegistry);
+        this.expiredPerRun = DistributionSummary.builder("guest.sweeper.rows")
+                .tag("action", "expire")
+                .description("정리 1회당 모집 마감 처리한 행 수")
+                .register(meterRegistry);
+        this.deletedPerRun = DistributionSummary.builder("guest.sweeper.rows")
+                .tag("action", "delete")
+                .description("정리 1회당 삭제한 행 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("[ExpiredGuestSweeper] 용병 모집글 정리 비활성화");
+        }
+    }
+
+    /**
+     * 한 번 정리 실행
+     */
+    public SweepResult sweep() {
+        long start = System.nanoTime();
+        // scheduleDate 는 날짜만 담는 경우가 많아 지금 시각과 비교하면 오늘 경기도 자정이 지나자마자 마감된다.
+        LocalDateTime today = LocalDate.now(clock).atStartOfDay();
+        int unindexed = guestSlotIndex.removeBefore(today.toLocalDate());
+
+        int expired = inChunks(true, today, guestRepository::markUnavailable);
+        int deleted = inChunks(false, today.minus(retention), ids -> {
+            guestRepository.deleteAllByIdInBatch(ids);
+            return ids.size();
+        });
+
+        runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        expiredPerRun.record(expired);
+        deletedPerRun.record(deleted);
+
+        if (expired > 0 || deleted > 0 || unindexed > 0) {
+            log.info("[ExpiredGuestSweeper] 모집 마감 {}건, 삭제 {}건, 인덱스 정리 {}건", expired, deleted, unindexed);
+        }
+        return new SweepResult(expired, deleted);
+    }
+
+    private int inChunks(boolean available, LocalDateTime before, ToIntFunction<List<Long>> action) {
+        int total = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int[] affected = new int[1];
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> found = guestRepository.findExpiredGuestIds(available, before, chunkSize);
+                if (!found.isEmpty()) {
+                    affected[0] = action.applyAsInt(found);
+                }
+                return found;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            // 커밋된 chunk 만 인덱스에서 뺀다.
+            ids.forEach(guestSlotIndex::remove);
+            total += affected[0];
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @Scheduled(initialDelayString = "${guest.sweeper.interval-millis:600000}", fixedDelayString = "${guest.sweeper.interval-millis:600000}")
+    public void sweepQuietly() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("[ExpiredGuestSweeper] 용병 모집글 정리 실패", e);
+        }
+    }
+
+    public record SweepResult(int expired, int deleted) {
+    }
+}
@@ -2,6 +2,7 @@ package com.yfmf.footlog.domain.match.controller;
 
 import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
 import com.yfmf.footlog.domain.auth.exception.LoginRequiredException;
+import com.yfmf.footlog.domain.guest.matching.GuestSlotIndex;
 import com.yfmf.footlog.domain.match.dto.MatchRegisterRequestDTO;
 import com.yfmf.footlog.domain.match.dto.MatchResponseDTO;
 import com.yfmf.footlog.domain.match.entity.Match;
@@ -229,5 +230,11 @@ public class MatchController {
         return ResponseEntity.ok(matchResponseDTO);
     }
 
-
+    // 용병 후보 조회
+    @Operation(summary = "용병 후보 조회", description = "수락된 매치의 일정을 모두 포함하고 구장 위치와 가까운 모집 가능한 용병을 추천 순으로 조회합니다.")
+    @GetMapping("/{matchId}/guest-candidates")
+    public ResponseEntity<List<GuestSlotIndex.Candidate>> getGuestCandidates(@PathVariable("matchId") Long matchId,
+                                                                             @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(matchService.findGuestCandidates(matchId, limit));
+    }
 }
@@ -1,8 +1,16 @@
 package com.yfmf.footlog.domain.match.repository;
 
 import com.yfmf.footlog.domain.match.entity.Match;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 
 public interface MatchRepository extends JpaRepository<Match, Long> {
+
+    // 목록 조회 시 myClub / enemyClub 을 경기마다 따로 조회하지 않도록 한 번에 join
+    @Override
+    @EntityGraph(attributePaths = {"myClub", "enemyClub"})
+    List<Match> findAll();
 }
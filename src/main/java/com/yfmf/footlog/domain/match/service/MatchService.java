@@ -1,7 +1,9 @@
 package com.yfmf.footlog.domain.match.service;
 
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
 import com.yfmf.footlog.domain.club.entity.Club;
 import com.yfmf.footlog.domain.club.repository.ClubRepository;
+import com.yfmf.footlog.domain.guest.matching.GuestSlotIndex;
 import com.yfmf.footlog.domain.match.dto.MatchRegisterRequestDTO;
 import com.yfmf.footlog.domain.match.dto.MatchResponseDTO;
 import com.yfmf.footlog.domain.match.entity.Match;
@@ -25,11 +27,16 @@ public class MatchService {
 
     private final MatchRepository matchRepository;
     private final ClubRepository clubRepository;
+    private final GuestSlotIndex guestSlotIndex;
+    private final AdminStatsCounters adminStatsCounters;
 
     @Autowired
-    public MatchService(MatchRepository matchRepository, ClubRepository clubRepository) {
+    public MatchService(MatchRepository matchRepository, ClubRepository clubRepository, GuestSlotIndex guestSlotIndex,
+                        AdminStatsCounters adminStatsCounters) {
         this.matchRepository = matchRepository;
         this.clubRepository = clubRepository;
+        this.guestSlotIndex = guestSlotIndex;
+        this.adminStatsCounters = adminStatsCounters;
     }
 
     // 모든 경기 조회
@@ -53,6 +60,7 @@ public class MatchService {
 
         // 초기 등록시 enemyClub null
         Match savedMatch = matchRepository.save(matchInfo.toEntity(myClub, null));
+        adminStatsCounters.matchCreated(savedMatch.getMatchStatus());
 
         log.warn("[MatchService] savedMatch + ", savedMatch);
         MatchResponseDTO matchResponse = new MatchResponseDTO(savedMatch);
@@ -64,6 +72,7 @@ public class MatchService {
     @Transactional
     public MatchResponseDTO updateMatch(Long matchId, MatchRegisterRequestDTO updateRequestDTO) {
         Match foundMatch = getMatchOrThrow(matchId);
+        MatchStatus previousStatus = foundMatch.getMatchStatus();
 
         LocalDate matchDate = updateRequestDTO.getMatchDate();
 
@@ -104,6 +113,7 @@ public class MatchService {
         );
 
         matchRepository.save(foundMatch);
+        adminStatsCounters.matchStatusChanged(previousStatus, foundMatch.getMatchStatus());
         return new MatchResponseDTO(foundMatch);
     }
 
@@ -112,6 +122,7 @@ public class MatchService {
     public void removeMatch(Long matchId) {
         Match foundMatch = getMatchOrThrow(matchId);
         matchRepository.delete(foundMatch);
+        adminStatsCounters.matchDeleted(foundMatch.getMatchStatus());
     }
 
     private Match getMatchOrThrow(Long matchId) {
@@ -135,6 +146,7 @@ public class MatchService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 구단을 찾을 수 없습니다."));
 
         // 매치 상태 및 상대 유저, 구단 정보 업데이트
+        adminStatsCounters.matchStatusChanged(match.getMatchStatus(), MatchStatus.PENDING);
         match.updateApplyInfo(applyingUserId, enemyClub, MatchStatus.PENDING);
 
         // 변경 사항 저장
@@ -159,6 +171,7 @@ public class MatchService {
 
         // 매치 상태를 ACCEPTED로 변경
         match.acceptMatchStatus();
+        adminStatsCounters.matchStatusChanged(MatchStatus.PENDING, match.getMatchStatus());
 
         // 변경 사항 저장
         return matchRepository.save(match);
@@ -182,8 +195,30 @@ public class MatchService {
 
         // 매치 상태를 WAITING 변경
         match.rejectMatchStatus();
+        adminStatsCounters.matchStatusChanged(MatchStatus.PENDING, match.getMatchStatus());
 
         // 변경 사항 저장
         return matchRepository.save(match);
     }
+
+    // 수락된 매치의 일정과 구장 위치에 맞는 용병 후보 조회
+    public List<GuestSlotIndex.Candidate> findGuestCandidates(Long matchId, int limit) {
+        if (limit < 1 || limit > GuestSlotIndex.MAX_LIMIT) {
+            throw new IllegalArgumentException("조회 개수는 1 이상 " + GuestSlotIndex.MAX_LIMIT + " 이하여야 합니다.");
+        }
+
+        Match match = getMatchOrThrow(matchId);
+
+        if (match.getMatchStatus() != MatchStatus.ACCEPTED) {
+            throw new IllegalStateException("수락된 매치만 용병을 찾을 수 있습니다.");
+        }
+
+        MatchSchedule schedule = match.getMatchSchedule();
+        if (schedule == null) {
+            throw new IllegalStateException("경기 일정이 없는 매치입니다.");
+        }
+
+        return guestSlotIndex.candidates(schedule.getMatchDate(), schedule.getMatchStartTime(), schedule.getMatchEndTime(),
+                match.getFieldLocation(), limit);
+    }
 }
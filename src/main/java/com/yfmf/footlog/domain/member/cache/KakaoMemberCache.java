@@ -0,0 +1,93 @@
+package com.yfmf.footlog.domain.member.cache;
+
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Member;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 카카오 계정 ID -> 회원 정보 단기 캐시
+ *
+ * 같은 사용자가 하루에 여러 번 카카오 로그인해도 토큰 발급에 필요한 회원 정보(id, 이메일, 이름, 권한)는
+ * 거의 바뀌지 않으므로 짧은 TTL 동안 DB 조회를 건너뛴다. 회원 삭제 시에는 바로 제거한다.
+ * 마지막 로그인 시각도 함께 두어 캐시 적중 시에도 하루 단위 갱신 여부를 DB 없이 판단한다.
+ */
+@Component
+public class KakaoMemberCache {
+
+    private final Map<Long, CachedMember> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    public KakaoMemberCache(@Value("${kakao.member-cache.ttl-seconds:600}") long ttlSeconds,
+                            @Value("${kakao.member-cache.max-entries:10000}") int maxEntries) {
+        this(ttlSeconds * 1000, maxEntries, System::currentTimeMillis);
+    }
+
+    KakaoMemberCache(long ttlMillis, int maxEntries, LongSupplier clock) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public CachedMember get(long kakaoId) {
+        CachedMember cached = entries.get(kakaoId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt <= clock.getAsLong()) {
+            entries.remove(kakaoId, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * 회원 정보를 캐시에 넣고 그 값을 돌려준다. (캐시가 가득 차 저장하지 못해도 값은 돌려준다)
+     */
+    public CachedMember put(long kakaoId, Member member) {
+        long now = clock.getAsLong();
+        CachedMember cached = new CachedMember(member.getId(), member.getEmail(), member.getName(), member.getAuthority(),
+                member.getLastLoginDate(), now + ttlMillis);
+        if (entries.size() >= maxEntries && !entries.containsKey(kakaoId)) {
+            // 가득 차면 만료된 항목부터 정리하고, 그래도 자리가 없으면 캐시하지 않는다.
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxEntries) {
+                return cached;
+            }
+        }
+        entries.put(kakaoId, cached);
+        return cached;
+    }
+
+    /**
+     * 로그인 기록 후 호출 - 캐시된 마지막 로그인 시각을 앞으로만 당긴다. (만료 시각은 그대로)
+     */
+    public void recordLogin(long kakaoId, LocalDateTime lastLoginDate) {
+        entries.computeIfPresent(kakaoId, (key, cached) ->
+                cached.lastLoginDate != null && !cached.lastLoginDate.isBefore(lastLoginDate)
+                        ? cached
+                        : new CachedMember(cached.memberId, cached.email, cached.name, cached.authority, lastLoginDate, cached.expiresAt));
+    }
+
+    /**
+     * 회원 삭제 시 호출 - 드문 작업이라 전체를 훑는다. (최대 maxEntries)
+     */
+    public void evictMember(Long memberId) {
+        entries.values().removeIf(cached -> cached.memberId.equals(memberId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public record CachedMember(Long memberId, String email, String name, Authority authority,
+                               LocalDateTime lastLoginDate, long expiresAt) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.yfmf.footlog.domain.member.client;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 API 호출용 서킷 브레이커
+ *
+ * 연속 실패가 임계치에 닿으면 일정 시간 호출을 바로 거절(OPEN)하고,
+ * 시간이 지나면 한 건만 시험 호출(HALF_OPEN)해 성공하면 다시 닫는다.
+ */
+final class CircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출해도 되면 true - true 를 받았으면 반드시 onSuccess/onFailure 중 하나를 호출한다.
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    synchronized void onFailure() {
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || ++consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = clock.getAsLong();
+            consecutiveFailures = 0;
+        }
+    }
+
+    synchronized State state() {
+        return state;
+    }
+}
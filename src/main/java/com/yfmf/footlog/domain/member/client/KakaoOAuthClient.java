@@ -0,0 +1,205 @@
+package com.yfmf.footlog.domain.member.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.property.KakaoProviderProperties;
+import com.yfmf.footlog.domain.member.property.KakaoRegistrationProperties;
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 카카오 OAuth 전용 HTTP 클라이언트
+ *
+ * JDK HttpClient 하나를 재사용해 keep-alive 커넥션을 풀링하고, 연결/응답/전체 시간 제한을 둔다.
+ * 호출은 모두 비동기(sendAsync)라 카카오 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+ * 카카오 쪽 장애(5xx, 타임아웃, 연결 실패)가 이어지면 서킷 브레이커가 열려 바로 503 으로 응답한다.
+ * 전용 스레드 풀은 HTTP 응답 처리에만 쓰고 대기열 길이를 제한한다. 로그인 후속 작업은 KakaoLoginExecutor 에서 실행한다.
+ */
+@Slf4j
+@Component
+public class KakaoOAuthClient {
+
+    private final KakaoProviderProperties providerProperties;
+    private final KakaoRegistrationProperties registrationProperties;
+    private final ObjectMapper objectMapper;
+    private final Duration responseTimeout;
+    private final long totalTimeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+
+    public KakaoOAuthClient(KakaoProviderProperties providerProperties,
+                            KakaoRegistrationProperties registrationProperties,
+                            ObjectMapper objectMapper,
+                            @Value("${kakao.client.threads:4}") int threads,
+                            @Value("${kakao.client.queue-capacity:1000}") int queueCapacity,
+                            @Value("${kakao.client.connect-timeout-millis:1000}") long connectTimeoutMillis,
+                            @Value("${kakao.client.response-timeout-millis:3000}") long responseTimeoutMillis,
+                            @Value("${kakao.client.circuit.failure-threshold:5}") int failureThreshold,
+                            @Value("${kakao.client.circuit.open-millis:30000}") long openMillis) {
+        this.providerProperties = providerProperties;
+        this.registrationProperties = registrationProperties;
+        this.objectMapper = objectMapper;
+        this.responseTimeout = Duration.ofMillis(responseTimeoutMillis);
+        // 토큰 + 프로필 두 번의 호출에 여유를 더한 전체 시간 제한
+        this.totalTimeoutMillis = connectTimeoutMillis * 2 + responseTimeoutMillis * 2;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis, System::currentTimeMillis);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "kakao-client-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * 인가 코드로 토큰을 받고 이어서 프로필을 조회한다. 실패하면 ApplicationException 으로 완료된다.
+     */
+    public CompletableFuture<MemberResponseDTO.KakaoInfoDTO> fetchProfile(String code) {
+        if (!circuitBreaker.tryAcquire()) {
+            return CompletableFuture.failedFuture(new ApplicationException(ErrorCode.KAKAO_UNAVAILABLE,
+                    "[KakaoOAuthClient] 서킷 브레이커 OPEN - 카카오 호출 생략"));
+        }
+
+        return requestAccessToken(code)
+                .thenCompose(this::requestProfile)
+                .orTimeout(totalTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((profile, error) -> {
+                    record(error);
+                    if (error != null) {
+                        throw toApplicationException(error);
+                    }
+                    return profile;
+                });
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    private CompletableFuture<String> requestAccessToken(String code) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("grant_type", registrationProperties.getAuthorizationGrantType());
+        params.put("client_id", registrationProperties.getClientId());
+        params.put("redirect_uri", registrationProperties.getRedirectUri());
+        params.put("code", code);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(providerProperties.getTokenUri()))
+                .timeout(responseTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(formEncode(params)))
+                .build();
+
+        return send(request, MemberResponseDTO.KakaoTokenDTO.class, ErrorCode.FAILED_GET_ACCESS_TOKEN)
+                .thenApply(MemberResponseDTO.KakaoTokenDTO::accessToken);
+    }
+
+    private CompletableFuture<MemberResponseDTO.KakaoInfoDTO> requestProfile(String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(providerProperties.getUserInfoUri()))
+                .timeout(responseTimeout)
+                .header("Content-Type", "application/x-www-form-urlencoded;charset=utf-8")
+                .header("Authorization", "Bearer " + accessToken)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        return send(request, MemberResponseDTO.KakaoInfoDTO.class, ErrorCode.FAILED_GET_KAKAO_PROFILE);
+    }
+
+    private <T> CompletableFuture<T> send(HttpRequest request, Class<T> type, ErrorCode errorCode) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> {
+                    int status = response.statusCode();
+                    if (status >= 500) {
+                        throw new KakaoServerException("[KakaoOAuthClient] 카카오 서버 오류 - status=" + status + ", uri=" + request.uri());
+                    }
+                    if (status < 200 || status >= 300) {
+                        // 잘못된 인가 코드 등 요청 오류 - 카카오는 정상이므로 서킷 실패로 세지 않는다.
+                        throw new ApplicationException(errorCode, "[KakaoOAuthClient] 카카오 요청 실패 - status=" + status + ", uri=" + request.uri());
+                    }
+                    try {
+                        return objectMapper.readValue(response.body(), type);
+                    } catch (IOException e) {
+                        throw new ApplicationException(errorCode, "[KakaoOAuthClient] 카카오 응답 파싱 실패 - uri=" + request.uri());
+                    }
+                });
+    }
+
+    private void record(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause == null || cause instanceof ApplicationException) {
+            circuitBreaker.onSuccess();
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    // 실패는 모두 ApplicationException 으로 바꿔 GlobalControllerAdvice 가 처리하게 한다.
+    private static ApplicationException toApplicationException(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof ApplicationException applicationException) {
+            return applicationException;
+        }
+        if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+            return new ApplicationException(ErrorCode.KAKAO_UNAVAILABLE, "[KakaoOAuthClient] 카카오 응답 시간 초과");
+        }
+        return new ApplicationException(ErrorCode.KAKAO_UNAVAILABLE, "[KakaoOAuthClient] 카카오 호출 실패 - " + cause);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static String formEncode(Map<String, String> params) {
+        return params.entrySet().stream()
+                .filter(entry -> entry.getValue() != null)
+                .map(entry -> URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "="
+                        + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    static final class KakaoServerException extends RuntimeException {
+        KakaoServerException(String message) {
+            super(message);
+        }
+    }
+}
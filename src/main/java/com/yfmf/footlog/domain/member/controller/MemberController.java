@@ -1,9 +1,9 @@
 package com.yfmf.footlog.domain.member.controller;
 
 
-import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
-import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
+import com.yfmf.footlog.domain.auth.throttle.LoginThrottle;
 import com.yfmf.footlog.domain.auth.utils.ApiUtils;
+import com.yfmf.footlog.domain.auth.utils.ClientUtils;
 import com.yfmf.footlog.domain.member.dto.MemberDeleteResponseDTO;
 import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
 import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
@@ -31,8 +31,7 @@ import java.util.List;
 public class MemberController {
 
     private final MemberService memberService;
-    private final RefreshTokenService refreshTokenService;
-    private final JWTTokenProvider jwtTokenProvider;
+    private final LoginThrottle loginThrottle;
 
     /**
           기본 회원 가입
@@ -53,6 +52,9 @@ public class MemberController {
     @Operation(summary = "로그인", description = "회원 로그인을 처리하고 인증 토큰을 발급합니다.")
     @PostMapping("/login")
     public ResponseEntity<?> login(@Valid @RequestBody MemberRequestDTO.loginDTO loginDTO, HttpServletRequest request, HttpServletResponse response) {
+        // IP/계정별 시도 횟수 제한 - 초과 시 BCrypt 검증 전에 429 응답
+        loginThrottle.check(ClientUtils.getClientIp(request), loginDTO.email());
+
         MemberResponseDTO.authTokenDTO authTokenDTO = memberService.login(request, response, loginDTO);
         log.info("{}님이 로그인에 성공했습니다.", authTokenDTO.userId());
 
@@ -65,9 +67,9 @@ public class MemberController {
     */
     @Operation(summary = "토큰 재발급", description = "Refresh Token을 사용하여 Access Token을 재발급합니다.")
     @PostMapping("/reissue")
-    public ResponseEntity<?> reissueToken(HttpServletRequest httpServletRequest) {
+    public ResponseEntity<?> reissueToken(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
-        MemberResponseDTO.authTokenDTO responseDTO = memberService.reissueToken(httpServletRequest);
+        MemberResponseDTO.authTokenDTO responseDTO = memberService.reissueToken(httpServletRequest, httpServletResponse);
 
         return ResponseEntity.ok().body(ApiUtils.success(responseDTO));
     }
@@ -80,15 +82,9 @@ public class MemberController {
     public ResponseEntity<?> logout(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
         log.info("로그아웃 시도");
 
-        // 로그아웃 처리 (Refresh Token 확인 및 제거)
+        // 로그아웃 처리 (현재 기기의 Refresh Token 폐기)
         memberService.logout(httpServletRequest);
 
-        // Redis에서 Refresh Token 삭제
-        String refreshToken = jwtTokenProvider.resolveToken(httpServletRequest, "refreshToken");
-        if (refreshToken != null) {
-            refreshTokenService.deleteRefreshToken(refreshToken);
-        }
-
         // Access Token 쿠키 삭제
         Cookie accessTokenCookie = new Cookie("accessToken", null);
         accessTokenCookie.setHttpOnly(true);
@@ -108,6 +104,17 @@ public class MemberController {
         return ResponseEntity.ok().body(ApiUtils.success(null));
     }
 
+    /**
+        전체 기기 로그아웃
+     */
+    @Operation(summary = "전체 기기 로그아웃", description = "로그인한 모든 기기의 Refresh Token을 폐기합니다.")
+    @PostMapping("/logout/all")
+    public ResponseEntity<?> logoutAll(HttpServletRequest httpServletRequest) {
+        memberService.logoutAll(httpServletRequest);
+
+        return ResponseEntity.ok().body(ApiUtils.success(null));
+    }
+
     /**
      * 전체회원 조회
      */
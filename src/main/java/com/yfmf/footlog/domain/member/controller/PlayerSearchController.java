@@ -0,0 +1,59 @@
+package com.yfmf.footlog.domain.member.controller;
+
+import com.yfmf.footlog.domain.auth.utils.ApiUtils;
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.service.MemberService;
+import com.yfmf.footlog.domain.member.service.PlayerSimilarityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/players")
+@Tag(name = "선수 검색 API", description = "포지션, 지역, 스탯 조건으로 선수를 검색하는 API")
+public class PlayerSearchController {
+
+    private final MemberService memberService;
+    private final PlayerSimilarityService playerSimilarityService;
+
+    /**
+     * 선수 검색
+     */
+    @Operation(summary = "선수 검색", description = "포지션/지역/주발/성별/선출 여부와 스탯 범위로 선수를 검색합니다. 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPlayers(@Valid @ModelAttribute MemberRequestDTO.PlayerSearchDTO condition) {
+
+        MemberResponseDTO.PlayerSearchPageDTO page = memberService.searchPlayers(condition);
+
+        return ResponseEntity.ok().body(ApiUtils.success(page));
+    }
+
+    /**
+     * 스탯이 비슷한 선수 조회
+     */
+    @Operation(summary = "유사 선수 조회", description = "기준 회원과 스탯(체력/수비/스피드/패스/슛/드리블)이 가까운 선수를 최대 k명 조회합니다.")
+    @GetMapping("/{memberId}/similar")
+    public ResponseEntity<?> findSimilarPlayers(@PathVariable("memberId") Long memberId,
+                                                @RequestParam(value = "k", defaultValue = "10") int k,
+                                                @RequestParam(value = "samePosition", defaultValue = "false") boolean samePosition,
+                                                @RequestParam(value = "sameArea", defaultValue = "false") boolean sameArea) {
+
+        List<MemberResponseDTO.SimilarPlayerDTO> players = playerSimilarityService.findSimilarPlayers(memberId, k, samePosition, sameArea);
+
+        return ResponseEntity.ok().body(ApiUtils.success(players));
+    }
+}
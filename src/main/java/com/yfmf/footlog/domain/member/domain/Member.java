@@ -4,6 +4,7 @@ import com.yfmf.footlog.BaseTimeEntity;
 import com.yfmf.footlog.domain.member.enums.Area;
 import com.yfmf.footlog.domain.member.enums.MainFoot;
 import com.yfmf.footlog.domain.member.enums.Position;
+import com.yfmf.footlog.domain.member.similarity.PlayerStatIndexListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,11 +13,17 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 @Entity
+@EntityListeners(PlayerStatIndexListener.class)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "tbl_member")
+@Table(name = "tbl_member", indexes = {
+        @Index(name = "idx_member_position_area", columnList = "position, area, id"),
+        @Index(name = "idx_member_area_position", columnList = "area, position, id"),
+        @Index(name = "idx_member_main_foot_gender", columnList = "main_foot, gender, is_pro, id")
+})
 @Builder
 public class Member extends BaseTimeEntity {
 
@@ -76,10 +83,21 @@ public class Member extends BaseTimeEntity {
     @Embedded
     private Record record;
 
+    // 마지막 로그인 / 토큰 재발급 시각 - 장기 미활동 회원 판별 기준 (하루 단위로만 갱신)
+    private LocalDateTime lastLoginDate;
+
     public Member(Long id, String name, String email, String password, Gender gender, SocialType socialType,
                   Authority authority, LocalDate birth, MainFoot mainFoot, Area area, Position position,
                   String introduction, Boolean isPro, Double height, Double weight, String profileImageUrl,
                   String phoneNumber, Stat stat, Record record) {
+        this(id, name, email, password, gender, socialType, authority, birth, mainFoot, area, position,
+                introduction, isPro, height, weight, profileImageUrl, phoneNumber, stat, record, null);
+    }
+
+    public Member(Long id, String name, String email, String password, Gender gender, SocialType socialType,
+                  Authority authority, LocalDate birth, MainFoot mainFoot, Area area, Position position,
+                  String introduction, Boolean isPro, Double height, Double weight, String profileImageUrl,
+                  String phoneNumber, Stat stat, Record record, LocalDateTime lastLoginDate) {
         this.id = id;
         this.name = name;
         this.email = email;
@@ -99,6 +117,7 @@ public class Member extends BaseTimeEntity {
         this.phoneNumber = phoneNumber;
         this.stat = stat;
         this.record = record;
+        this.lastLoginDate = lastLoginDate;
     }
 
     @Builder
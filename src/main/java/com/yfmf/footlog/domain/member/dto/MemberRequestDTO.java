@@ -1,7 +1,13 @@
 package com.yfmf.footlog.domain.member.dto;
 
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.enums.Area;
+import com.yfmf.footlog.domain.member.enums.MainFoot;
+import com.yfmf.footlog.domain.member.enums.Position;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 
@@ -32,5 +38,45 @@ public class MemberRequestDTO {
             String password
     ) {
     }
-    
+
+    // 선수 검색 조건 (null 인 조건은 무시)
+    public record PlayerSearchDTO(
+            @Schema(description = "포지션", example = "ST")
+            Position position,
+            @Schema(description = "활동 지역", example = "서울")
+            Area area,
+            @Schema(description = "주발", example = "오른발")
+            MainFoot mainFoot,
+            @Schema(description = "성별", example = "MALE")
+            Gender gender,
+            @Schema(description = "선출 여부", example = "false")
+            Boolean isPro,
+
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minStamina,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxStamina,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minDefend,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxDefend,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minSpeed,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxSpeed,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minPass,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxPass,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minShoot,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxShoot,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer minDribble,
+            @Min(value = 0, message = "스탯 검색 값은 음수일 수 없습니다.") Integer maxDribble,
+
+            @Schema(description = "이전 페이지의 nextCursor (첫 페이지는 비움)", example = "120")
+            Long cursor,
+            @Schema(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다.")
+            @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.")
+            Integer size
+    ) {
+        public static final int DEFAULT_SIZE = 20;
+
+        public int pageSize() {
+            return size == null ? DEFAULT_SIZE : size;
+        }
+    }
+
 }
@@ -3,13 +3,18 @@ package com.yfmf.footlog.domain.member.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.yfmf.footlog.domain.member.domain.Authority;
 import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.enums.Area;
+import com.yfmf.footlog.domain.member.enums.MainFoot;
+import com.yfmf.footlog.domain.member.enums.Position;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class MemberResponseDTO {
 
@@ -76,6 +81,60 @@ public class MemberResponseDTO {
     ) {
     }
 
+    // 선수 검색 결과 (비밀번호 등 민감 정보는 조회하지 않음)
+    public record PlayerSummaryDTO(
+            Long id,
+            String name,
+            Gender gender,
+            LocalDate birth,
+            MainFoot mainFoot,
+            Area area,
+            Position position,
+            Boolean isPro,
+            String profileImageUrl,
+            Integer stamina,
+            Integer defend,
+            Integer speed,
+            Integer pass,
+            Integer shoot,
+            Integer dribble
+    ) {
+    }
+
+    // 스탯 인덱스 적재용 projection
+    public record PlayerStatDTO(
+            Long id,
+            Position position,
+            Area area,
+            Integer stamina,
+            Integer defend,
+            Integer speed,
+            Integer pass,
+            Integer shoot,
+            Integer dribble
+    ) {
+        public int[] toVector() {
+            if (stamina == null || defend == null || speed == null || pass == null || shoot == null || dribble == null) {
+                return null;
+            }
+            return new int[]{stamina, defend, speed, pass, shoot, dribble};
+        }
+    }
+
+    public record SimilarPlayerDTO(
+            PlayerSummaryDTO player,
+            double distance
+    ) {
+    }
+
+    // 선수 검색 페이지 - nextCursor 를 다음 요청의 cursor 로 전달
+    public record PlayerSearchPageDTO(
+            List<PlayerSummaryDTO> players,
+            Long nextCursor,
+            boolean hasNext
+    ) {
+    }
+
     public record KakaoProfile(
             String nickname,
             String email,
@@ -2,9 +2,24 @@ package com.yfmf.footlog.domain.member.repository;
 
 import com.yfmf.footlog.domain.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Repository
-public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom, MemberSearchRepository {
 
-}
\ No newline at end of file
+    /**
+     * 마지막 로그인 시각 갱신 - staleBefore 이전 값일 때만 UPDATE 해 로그인마다 회원 행을 쓰지 않는다.
+     * 벌크 UPDATE 라 updatedDate 는 바뀌지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Member m set m.lastLoginDate = :now where m.id = :id"
+            + " and (m.lastLoginDate is null or m.lastLoginDate < :staleBefore)")
+    int touchLastLoginDate(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+}
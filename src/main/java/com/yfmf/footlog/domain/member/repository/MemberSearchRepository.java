@@ -0,0 +1,22 @@
+package com.yfmf.footlog.domain.member.repository;
+
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+
+import java.util.List;
+
+public interface MemberSearchRepository {
+
+    /**
+     * 선수 검색 - id 내림차순 keyset 페이지네이션
+     *
+     * @param condition 검색 조건 (cursor 가 있으면 cursor 보다 작은 id 만 조회)
+     * @param limit     최대 조회 건수
+     */
+    List<MemberResponseDTO.PlayerSummaryDTO> searchPlayers(MemberRequestDTO.PlayerSearchDTO condition, int limit);
+
+    /**
+     * 스탯 인덱스 적재용 - id 오름차순으로 cursor 이후 limit 건 조회
+     */
+    List<MemberResponseDTO.PlayerStatDTO> findPlayerStats(Long cursor, int limit);
+}
@@ -0,0 +1,119 @@
+package com.yfmf.footlog.domain.member.repository;
+
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.Stat;
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberSearchRepositoryImpl implements MemberSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<MemberResponseDTO.PlayerSummaryDTO> searchPlayers(MemberRequestDTO.PlayerSearchDTO condition, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberResponseDTO.PlayerSummaryDTO> query = cb.createQuery(MemberResponseDTO.PlayerSummaryDTO.class);
+        Root<Member> member = query.from(Member.class);
+        Path<Stat> stat = member.get("stat");
+
+        List<Predicate> predicates = new ArrayList<>();
+
+        // 인덱스 선두 컬럼 (position, area) 및 동등 조건
+        addEqual(predicates, cb, member.get("position"), condition.position());
+        addEqual(predicates, cb, member.get("area"), condition.area());
+        addEqual(predicates, cb, member.get("mainFoot"), condition.mainFoot());
+        addEqual(predicates, cb, member.get("gender"), condition.gender());
+        addEqual(predicates, cb, member.get("isPro"), condition.isPro());
+
+        // 스탯 범위 조건
+        addRange(predicates, cb, stat.get("stamina"), condition.minStamina(), condition.maxStamina());
+        addRange(predicates, cb, stat.get("defend"), condition.minDefend(), condition.maxDefend());
+        addRange(predicates, cb, stat.get("speed"), condition.minSpeed(), condition.maxSpeed());
+        addRange(predicates, cb, stat.get("pass"), condition.minPass(), condition.maxPass());
+        addRange(predicates, cb, stat.get("shoot"), condition.minShoot(), condition.maxShoot());
+        addRange(predicates, cb, stat.get("dribble"), condition.minDribble(), condition.maxDribble());
+
+        // keyset - 이전 페이지 마지막 id 이후부터
+        if (condition.cursor() != null) {
+            predicates.add(cb.lessThan(member.get("id"), condition.cursor()));
+        }
+
+        query.select(cb.construct(
+                        MemberResponseDTO.PlayerSummaryDTO.class,
+                        member.get("id"),
+                        member.get("name"),
+                        member.get("gender"),
+                        member.get("birth"),
+                        member.get("mainFoot"),
+                        member.get("area"),
+                        member.get("position"),
+                        member.get("isPro"),
+                        member.get("profileImageUrl"),
+                        stat.get("stamina"),
+                        stat.get("defend"),
+                        stat.get("speed"),
+                        stat.get("pass"),
+                        stat.get("shoot"),
+                        stat.get("dribble")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(member.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<MemberResponseDTO.PlayerStatDTO> findPlayerStats(Long cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<MemberResponseDTO.PlayerStatDTO> query = cb.createQuery(MemberResponseDTO.PlayerStatDTO.class);
+        Root<Member> member = query.from(Member.class);
+        Path<Stat> stat = member.get("stat");
+
+        query.select(cb.construct(
+                MemberResponseDTO.PlayerStatDTO.class,
+                member.get("id"),
+                member.get("position"),
+                member.get("area"),
+                stat.get("stamina"),
+                stat.get("defend"),
+                stat.get("speed"),
+                stat.get("pass"),
+                stat.get("shoot"),
+                stat.get("dribble")));
+        if (cursor != null) {
+            query.where(cb.greaterThan(member.get("id"), cursor));
+        }
+        query.orderBy(cb.asc(member.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private <T> void addEqual(List<Predicate> predicates, CriteriaBuilder cb, Path<T> path, T value) {
+        if (value != null) {
+            predicates.add(cb.equal(path, value));
+        }
+    }
+
+    private void addRange(List<Predicate> predicates, CriteriaBuilder cb, Path<Integer> path, Integer min, Integer max) {
+        if (min != null) {
+            predicates.add(cb.greaterThanOrEqualTo(path, min));
+        }
+        if (max != null) {
+            predicates.add(cb.lessThanOrEqualTo(path, max));
+        }
+    }
+}
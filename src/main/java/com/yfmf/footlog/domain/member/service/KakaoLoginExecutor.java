@@ -0,0 +1,49 @@
+package com.yfmf.footlog.domain.member.service;
+
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카카오 프로필 조회 후 회원 확인 / 토큰 발급 / 리프레시 토큰 저장을 실행하는 스레드 풀
+ *
+ * DB, Redis 를 기다리는 블로킹 작업이라 HTTP 응답 콜백 스레드(KakaoOAuthClient)와 나눈다.
+ * 대기열이 가득 차면 기다리지 않고 KAKAO_UNAVAILABLE(503) 로 실패시킨다.
+ */
+@Component
+public class KakaoLoginExecutor implements Executor {
+
+    private final ThreadPoolExecutor executor;
+
+    public KakaoLoginExecutor(@Value("${kakao.login.threads:8}") int threads,
+                              @Value("${kakao.login.queue-capacity:200}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kakao-login-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    throw new ApplicationException(ErrorCode.KAKAO_UNAVAILABLE, "[KakaoLoginExecutor] 로그인 처리 대기열 초과");
+                });
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
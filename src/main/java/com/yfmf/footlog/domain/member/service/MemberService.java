@@ -1,10 +1,14 @@
 package com.yfmf.footlog.domain.member.service;
 
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
 import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
 import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
-import com.yfmf.footlog.domain.auth.refreshToken.domain.RefreshToken;
 import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
+import com.yfmf.footlog.domain.auth.refreshToken.store.RefreshTokenStore;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
 import com.yfmf.footlog.domain.auth.utils.ClientUtils;
+import com.yfmf.footlog.domain.auth.utils.PasswordHasher;
+import com.yfmf.footlog.domain.member.cache.KakaoMemberCache;
 import com.yfmf.footlog.domain.member.domain.Authority;
 import com.yfmf.footlog.domain.member.domain.Gender;
 import com.yfmf.footlog.domain.member.domain.Member;
@@ -14,21 +18,22 @@ import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
 import com.yfmf.footlog.domain.member.repository.MemberRepository;
 import com.yfmf.footlog.error.ApplicationException;
 import com.yfmf.footlog.error.ErrorCode;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,12 +44,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class MemberService {
+
+    // 마지막 로그인 시각은 이 간격이 지났을 때만 갱신
+    private static final Duration LAST_LOGIN_GRANULARITY = Duration.ofDays(1);
     
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final PasswordHasher passwordHasher;
     private final JWTTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final KakaoMemberCache kakaoMemberCache;
+    private final AdminStatsCounters adminStatsCounters;
 
     /**
         기본 회원 가입
@@ -53,14 +63,17 @@ public class MemberService {
     public void signUp(MemberRequestDTO.signUpDTO requestDTO) {
 
 
-        // 비밀번호 확인
-        checkValidPassword(requestDTO.password(), passwordEncoder.encode(requestDTO.confirmPassword()));
+        // 비밀번호 확인 - 평문끼리 비교 (해시 불필요)
+        if (requestDTO.password() == null || !requestDTO.password().equals(requestDTO.confirmPassword())) {
+            throw new ApplicationException(ErrorCode.INVALID_PASSWORD, "[MemberService] 비밀번호와 비밀번호 확인이 일치하지 않습니다.");
+        }
 
         // 회원 생성
         Member member = newMember(requestDTO);
 
         // 회원 저장
         memberRepository.save(member);
+        adminStatsCounters.memberJoined(member);
 
     }
 
@@ -69,27 +82,47 @@ public class MemberService {
     */
     public MemberResponseDTO.authTokenDTO login(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, MemberRequestDTO.loginDTO requestDTO) {
 
-        // 1. 이메일 확인
+        // 1. 이메일 확인 - 로그인 과정의 유일한 회원 조회
         Member member = findMemberByEmail(requestDTO.email())
                 .orElseThrow(() -> new ApplicationException(ErrorCode.EMPTY_EMAIL_MEMBER, "[MemberService] not exited email"));
 
-        // 2. 비밀번호 확인
+        // 2. 비밀번호 확인 - 로그인 과정의 유일한 BCrypt 검증
         checkValidPassword(requestDTO.password(), member.getPassword());
 
-        // 3. Access Token 발급
-        MemberResponseDTO.authTokenDTO authTokenDTO = getAuthTokenDTO(requestDTO.email(), requestDTO.password(), httpServletRequest);
+        // 3. Access Token 발급 - 검증된 회원 정보로 바로 발급
+        MemberResponseDTO.authTokenDTO authTokenDTO = getAuthTokenDTO(member);
 
         // 4. Refresh Token을 HttpOnly 쿠키에 저장
         addTokenToCookie(httpServletResponse, "refreshToken", authTokenDTO.refreshToken());
 
 
-        // 5. Refresh Token은 클라이언트에 응답하지 않고, Redis에 저장
-        refreshTokenService.saveRefreshToken(member.getId().toString(), authTokenDTO.refreshToken(), authTokenDTO.refreshTokenValidTime());
+        // 5. Refresh Token은 클라이언트에 응답하지 않고, 로그인 IP와 함께 Redis에 저장
+        refreshTokenService.saveRefreshToken(member.getId().toString(), authTokenDTO.refreshToken(),
+                ClientUtils.getClientIp(httpServletRequest), authTokenDTO.refreshTokenValidTime());
 
-        // 6. Access Token은 클라이언트가 로컬 스토리지에 저장할 수 있도록 응답 바디로 반환
+        // 6. 마지막 로그인 시각 기록 (하루에 한 번만 UPDATE)
+        recordLogin(member.getId(), member.getLastLoginDate());
+
+        // 7. Access Token은 클라이언트가 로컬 스토리지에 저장할 수 있도록 응답 바디로 반환
         return authTokenDTO; // 여기에서는 Access Token만 클라이언트에 응답
     }
 
+    /**
+     * 마지막 로그인 시각 기록 - 장기 미활동 회원 정리 기준
+     *
+     * @param lastLoginDate 알고 있는 마지막 로그인 시각, 모르면 null (조건부 UPDATE 로 판단)
+     * @return 기록 후 마지막 로그인 시각으로 볼 수 있는 값 - 갱신했으면 지금, 아니면 알고 있던 시각 (모르면 갱신 기준 시각)
+     */
+    public LocalDateTime recordLogin(Long memberId, LocalDateTime lastLoginDate) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(LAST_LOGIN_GRANULARITY);
+        if (lastLoginDate != null && !lastLoginDate.isBefore(staleBefore)) {
+            return lastLoginDate;
+        }
+        int touched = memberRepository.touchLastLoginDate(memberId, now, staleBefore);
+        return touched > 0 ? now : staleBefore;
+    }
+
     /**
      * 쿠키에 토큰 추가
      */
@@ -110,9 +143,7 @@ public class MemberService {
      */
     private void checkValidPassword(String rawPassword, String encodedPassword) {
 
-        log.info("{} {}", rawPassword, encodedPassword);
-
-        if(!passwordEncoder.matches(rawPassword, encodedPassword)) {
+        if(!passwordHasher.matches(rawPassword, encodedPassword)) {
             throw new ApplicationException(ErrorCode.INVALID_PASSWORD, "[MemberService] checkValidPassword");
         }
     }
@@ -132,36 +163,31 @@ public class MemberService {
         return Member.builder()
                 .name(requestDTO.name())
                 .email(requestDTO.email())
-                .password(passwordEncoder.encode(requestDTO.password()))
+                .password(passwordHasher.encode(requestDTO.password()))
                 .gender(Gender.fromString(requestDTO.gender()))
                 .socialType(SocialType.NONE)
                 .authority(Authority.ROLE_USER)
+                .lastLoginDate(LocalDateTime.now())
                 .build();
     }
 
     /** 토큰 발급
      *
-     * @param email
-     * @param password
-     * @param httpServletRequest
+     * 비밀번호 검증이 끝난 회원으로 인증 객체를 만든다.
+     * AuthenticationManager 를 거치면 회원 조회와 BCrypt 검증이 한 번 더 일어나므로 사용하지 않는다.
+     *
+     * @param member 비밀번호 검증이 끝난 회원
      * @return
      */
-    protected MemberResponseDTO.authTokenDTO getAuthTokenDTO(String email, String password, HttpServletRequest httpServletRequest) {
-
-        UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken
-                = new UsernamePasswordAuthenticationToken(email, password);
-        AuthenticationManager manager = authenticationManagerBuilder.getObject();
-        Authentication authentication = manager.authenticate(usernamePasswordAuthenticationToken);
+    protected MemberResponseDTO.authTokenDTO getAuthTokenDTO(Member member) {
 
-        // 회원 정보 조회 후 LoginedInfo 생성
-        Member member = findMemberByEmail(email).orElseThrow(() -> new ApplicationException(ErrorCode.EMPTY_EMAIL_MEMBER, "[MemberService] not exited email"));
+        List<GrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(member.getAuthority().name()));
         LoginedInfo loginedInfo = new LoginedInfo(member.getId(), member.getName(), member.getEmail(), member.getAuthority());
 
-        // 인증 객체에서 LoginedInfo로 교체
-        Authentication newAuth = new UsernamePasswordAuthenticationToken(loginedInfo, authentication.getCredentials(), authentication.getAuthorities());
-        SecurityContextHolder.getContext().setAuthentication(newAuth);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(loginedInfo, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        return jwtTokenProvider.generateToken(loginedInfo.getEmail(), loginedInfo.getUserId(), loginedInfo.getName(), authentication.getAuthorities());
+        return jwtTokenProvider.generateToken(loginedInfo.getEmail(), loginedInfo.getUserId(), loginedInfo.getName(), authorities);
     }
 
 
@@ -170,7 +196,7 @@ public class MemberService {
      * @param httpServletRequest
      * @return
      */
-    public MemberResponseDTO.authTokenDTO reissueToken(HttpServletRequest httpServletRequest) {
+    public MemberResponseDTO.authTokenDTO reissueToken(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) {
 
         // Request 쿠키에서 Refresh Token 추출
         String refreshToken = jwtTokenProvider.resolveToken(httpServletRequest, "refreshToken");
@@ -185,21 +211,12 @@ public class MemberService {
             throw new ApplicationException(ErrorCode.IS_NOT_REFRESH_TOKEN, "[MemberService] 제공된 토큰은 리프레시 토큰이 아닙니다.");
         }
 
-        // 저장된 리프레시 토큰 가져오기
-        String storedRefreshToken = refreshTokenService.getRefreshToken(refreshToken);
-        if (storedRefreshToken == null) {
-            throw new ApplicationException(ErrorCode.FAILED_GET_REFRESH_TOKEN, "[MemberService] 저장된 리프레시 토큰을 찾을 수 없습니다.");
+        // 토큰의 userId로 사용자 조회
+        Long userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        if (userId == null) {
+            throw new ApplicationException(ErrorCode.FAILED_VALIDATE_REFRESH_TOKEN, "[MemberService] 리프레시 토큰에 사용자 정보가 없습니다.");
         }
-
-        // IP 주소 확인
-        String currentIp = ClientUtils.getClientIp(httpServletRequest);
-        String storedIp = refreshTokenService.getStoredIp(refreshToken);
-        if (!currentIp.equals(storedIp)) {
-            throw new ApplicationException(ErrorCode.DIFFERENT_IP_ADDRESS, "[MemberService] 로그인한 IP와 다릅니다.");
-        }
-
-        // 저장된 리프레시 토큰과 일치하는 사용자 찾기
-        Member member = refreshTokenService.getMemberByToken(storedRefreshToken)
+        Member member = memberRepository.findById(userId)
                 .orElseThrow(() -> new ApplicationException(ErrorCode.EMPTY_EMAIL_MEMBER, "[MemberService] 리프레시 토큰에 해당하는 사용자를 찾을 수 없습니다."));
 
         // 새로운 엑세스 토큰 발급
@@ -207,8 +224,25 @@ public class MemberService {
                 member.getEmail(), member.getId(), member.getName(), Collections.singletonList(new SimpleGrantedAuthority(member.getAuthority().name()))
         );
 
-        // 리프레시 토큰 갱신 후 저장
-        refreshTokenService.saveRefreshToken(member.getEmail(), authTokenDTO.refreshToken(), authTokenDTO.refreshTokenValidTime());
+        // 저장된 토큰, IP 확인 후 새 리프레시 토큰으로 교체 (Redis 왕복 1회)
+        String currentIp = ClientUtils.getClientIp(httpServletRequest);
+        RefreshTokenStore.RotateResult result = refreshTokenService.rotateRefreshToken(
+                refreshToken, authTokenDTO.refreshToken(), currentIp, authTokenDTO.refreshTokenValidTime());
+        if (result == RefreshTokenStore.RotateResult.NOT_FOUND) {
+            throw new ApplicationException(ErrorCode.FAILED_GET_REFRESH_TOKEN, "[MemberService] 저장된 리프레시 토큰을 찾을 수 없습니다.");
+        }
+        if (result == RefreshTokenStore.RotateResult.REUSED) {
+            throw new ApplicationException(ErrorCode.FAILED_VALIDATE_REFRESH_TOKEN, "[MemberService] 이미 사용된 리프레시 토큰입니다. userId=" + userId);
+        }
+        if (result == RefreshTokenStore.RotateResult.IP_MISMATCH) {
+            throw new ApplicationException(ErrorCode.DIFFERENT_IP_ADDRESS, "[MemberService] 로그인한 IP와 다릅니다.");
+        }
+
+        // 교체된 Refresh Token으로 쿠키 갱신
+        addTokenToCookie(httpServletResponse, "refreshToken", authTokenDTO.refreshToken());
+
+        // 토큰 재발급으로 로그인을 유지하는 회원도 활동 중으로 기록
+        recordLogin(member.getId(), member.getLastLoginDate());
 
         // 새로운 토큰 반환
         return authTokenDTO;
@@ -221,6 +255,29 @@ public class MemberService {
     public void logout(HttpServletRequest httpServletRequest) {
         log.info("로그아웃 요청 수신");  // 로그아웃 시도 시 로그 기록
 
+        Long userId = revokeAccessToken(httpServletRequest);
+
+        // 현재 기기의 리프레시 토큰만 폐기 (다른 기기 로그인은 유지)
+        String refreshToken = jwtTokenProvider.resolveToken(httpServletRequest, "refreshToken");
+        if (refreshToken != null) {
+            refreshTokenService.revokeRefreshToken(refreshToken);
+        }
+
+        log.info("로그아웃 성공 - 사용자 ID: {}", userId);  // 성공적인 로그아웃 후 기록
+    }
+
+    /**
+        전체 기기 로그아웃
+     */
+    public void logoutAll(HttpServletRequest httpServletRequest) {
+        Long userId = revokeAccessToken(httpServletRequest);
+        refreshTokenService.revokeAllRefreshTokens(userId.toString());
+
+        log.info("전체 기기 로그아웃 성공 - 사용자 ID: {}", userId);
+    }
+
+    // 요청의 Access Token 을 남은 수명 동안 폐기하고 사용자 ID 반환
+    private Long revokeAccessToken(HttpServletRequest httpServletRequest) {
         String token = jwtTokenProvider.resolveToken(httpServletRequest, "accessToken");
         if(token == null) {
             log.error("토큰이 없습니다."); // 로그에 토큰이 없을 경우를 기록
@@ -231,11 +288,10 @@ public class MemberService {
             throw new ApplicationException(ErrorCode.FAILED_VALIDATE_ACCESS_TOKEN, "유효하지 않은 액세스 토큰입니다.");
         }
 
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
-        log.info("사용자 ID: {}의 리프레시 토큰 삭제 요청", userId);  // 유저 정보와 함께 로그 출력
-        refreshTokenService.deleteRefreshToken(userId.toString());
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        accessTokenRevocationList.revoke(claims.getId(), claims.getExpiration().getTime());
 
-        log.info("로그아웃 성공 - 사용자 ID: {}", userId);  // 성공적인 로그아웃 후 기록
+        return claims.get("userId", Long.class);
     }
 
     /**
@@ -266,5 +322,40 @@ public class MemberService {
                 .orElseThrow(() -> new ApplicationException(ErrorCode.MEMBER_NOT_FOUND, "존재하지 않는 회원입니다."));
 
         memberRepository.deleteById(memberId);
+        kakaoMemberCache.evictMember(memberId);
+        adminStatsCounters.memberLeft(member);
+    }
+
+    /**
+     * 선수 검색 - 포지션/지역/스탯 범위 조건, id 기준 keyset 페이지네이션
+     */
+    @Transactional(readOnly = true)
+    public MemberResponseDTO.PlayerSearchPageDTO searchPlayers(MemberRequestDTO.PlayerSearchDTO condition) {
+
+        validateRange(condition.minStamina(), condition.maxStamina());
+        validateRange(condition.minDefend(), condition.maxDefend());
+        validateRange(condition.minSpeed(), condition.maxSpeed());
+        validateRange(condition.minPass(), condition.maxPass());
+        validateRange(condition.minShoot(), condition.maxShoot());
+        validateRange(condition.minDribble(), condition.maxDribble());
+
+        int size = condition.pageSize();
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<MemberResponseDTO.PlayerSummaryDTO> players = memberRepository.searchPlayers(condition, size + 1);
+
+        boolean hasNext = players.size() > size;
+        if (hasNext) {
+            players = players.subList(0, size);
+        }
+        Long nextCursor = hasNext ? players.get(players.size() - 1).id() : null;
+
+        return new MemberResponseDTO.PlayerSearchPageDTO(players, nextCursor, hasNext);
+    }
+
+    private void validateRange(Integer min, Integer max) {
+        if (min != null && max != null && min > max) {
+            throw new ApplicationException(ErrorCode.INVALID_PLAYER_SEARCH_CONDITION, "[MemberService] 최소값이 최대값보다 큽니다. min=" + min + ", max=" + max);
+        }
     }
 }
@@ -1,41 +1,31 @@
 package com.yfmf.footlog.domain.member.service;
 
 
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
 import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
-import com.yfmf.footlog.domain.auth.refreshToken.domain.RefreshToken;
 import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
-import com.yfmf.footlog.domain.auth.utils.ClientUtils;
+import com.yfmf.footlog.domain.auth.utils.PasswordHasher;
+import com.yfmf.footlog.domain.member.cache.KakaoMemberCache;
+import com.yfmf.footlog.domain.member.client.KakaoOAuthClient;
 import com.yfmf.footlog.domain.member.domain.Authority;
 import com.yfmf.footlog.domain.member.domain.Gender;
 import com.yfmf.footlog.domain.member.domain.Member;
 import com.yfmf.footlog.domain.member.domain.SocialType;
 import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
-import com.yfmf.footlog.domain.member.property.KakaoProviderProperties;
-import com.yfmf.footlog.domain.member.property.KakaoRegistrationProperties;
 import com.yfmf.footlog.domain.member.repository.MemberRepository;
 import com.yfmf.footlog.error.ApplicationException;
 import com.yfmf.footlog.error.ErrorCode;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Transactional(readOnly = true)
@@ -46,109 +36,80 @@ public class MemberSocialLoginService {
     private final MemberRepository memberRepository;
     private final MemberService memberService;
 
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JWTTokenProvider jwtTokenProvider;
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final KakaoProviderProperties KakaoProviderProperties;
-    private final KakaoRegistrationProperties kakaoRegistrationProperties;
+    private final KakaoOAuthClient kakaoOAuthClient;
+    private final KakaoLoginExecutor kakaoLoginExecutor;
+    private final KakaoMemberCache kakaoMemberCache;
     private final RefreshTokenService refreshTokenService;
+    private final AdminStatsCounters adminStatsCounters;
 
 
     /*
-        카카오 로그인
+        카카오 로그인 - 카카오 호출은 비동기로 처리하고, 응답이 오면 회원 확인/토큰 발급을 이어서 수행
      */
     // 카카오로부터 받은 최신 사용자 정보로 데이터베이스 내의 사용자 정보를 갱신할 필요가 있을까?
-    @Transactional
-    public MemberResponseDTO.authTokenDTO kakaoLogin(String code, HttpServletRequest httpServletRequest) {
-        // 토큰 발급
-        String accessToken = generateAccessToken(code);
-
-        // 사용자 정보
-        MemberResponseDTO.KakaoInfoDTO profile = getKakaoProfile(accessToken);
-
-        // 회원 확인
-        Member member = memberService.findMemberByEmail(profile.kakaoAccount().email())
-                .orElseGet(() -> kakaoSignUp(profile));
-
-        // Access Token 및 Refresh Token 발급
-        MemberResponseDTO.authTokenDTO authTokenDTO = jwtTokenProvider.generateToken(
-                member.getEmail(),
-                member.getId(),
-                member.getName(),
-                Collections.singletonList(new SimpleGrantedAuthority(member.getAuthority().name()))
-        );
-
-        return authTokenDTO;  // **클라이언트에 Access Token만 반환**
+    public CompletableFuture<MemberResponseDTO.authTokenDTO> kakaoLogin(String code, String clientIp) {
+        return kakaoOAuthClient.fetchProfile(code)
+                .thenApplyAsync(profile -> login(profile, clientIp), kakaoLoginExecutor);
     }
 
-    private String generateAccessToken(String code) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
-        params.add("grant_type", kakaoRegistrationProperties.getAuthorizationGrantType());
-        params.add("client_id", kakaoRegistrationProperties.getClientId());
-        params.add("redirect_uri", kakaoRegistrationProperties.getRedirectUri());
-        params.add("code", code);
-
-        HttpEntity<MultiValueMap<String, String>> httpEntity = new HttpEntity<>(params, headers);
-        ResponseEntity<MemberResponseDTO.KakaoTokenDTO> response = restTemplate.postForEntity(
-                KakaoProviderProperties.getTokenUri(),
-                httpEntity,
-                MemberResponseDTO.KakaoTokenDTO.class
-        );
-
-        if(!response.getStatusCode().is2xxSuccessful()) {
-            throw new ApplicationException(ErrorCode.FAILED_GET_ACCESS_TOKEN, "[MemberSocialLoginService] fail generateAccessToken");
+    private MemberResponseDTO.authTokenDTO login(MemberResponseDTO.KakaoInfoDTO profile, String clientIp) {
+        // 회원 확인 - 최근 로그인한 카카오 계정이면 DB 조회 생략
+        KakaoMemberCache.CachedMember member = kakaoMemberCache.get(profile.id());
+        if (member == null) {
+            Member found = memberService.findMemberByEmail(profile.kakaoAccount().email())
+                    .orElseGet(() -> kakaoSignUp(profile));
+            member = kakaoMemberCache.put(profile.id(), found);
         }
 
-        return response.getBody().accessToken();
-    }
-
-    private MemberResponseDTO.KakaoInfoDTO getKakaoProfile(String accessToken) {
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-        headers.setBearerAuth(accessToken);
+        // 마지막 로그인 시각 기록 (하루에 한 번만 UPDATE) - 캐시에 둔 시각으로 판단해 적중 시에는 DB 를 건너뛴다
+        LocalDateTime lastLoginDate = memberService.recordLogin(member.memberId(), member.lastLoginDate());
+        if (!lastLoginDate.equals(member.lastLoginDate())) {
+            kakaoMemberCache.recordLogin(profile.id(), lastLoginDate);
+        }
 
-        ResponseEntity<MemberResponseDTO.KakaoInfoDTO> response = restTemplate.postForEntity(
-                KakaoProviderProperties.getUserInfoUri(),
-                new HttpEntity<>(headers),
-                MemberResponseDTO.KakaoInfoDTO.class
+        // Access Token 및 Refresh Token 발급
+        MemberResponseDTO.authTokenDTO authTokenDTO = jwtTokenProvider.generateToken(
+                member.email(),
+                member.memberId(),
+                member.name(),
+                Collections.singletonList(new SimpleGrantedAuthority(member.authority().name()))
         );
 
-        if(!response.getStatusCode().is2xxSuccessful()) {
-            throw new ApplicationException(ErrorCode.FAILED_GET_KAKAO_PROFILE, "[MemberSocialLoginService] fail getKakaoProfile");
-        }
+        // Refresh Token은 로그인 IP와 함께 저장 - 저장하지 못하면 재발급할 수 없으므로 로그인도 실패시킨다.
+        refreshTokenService.saveRefreshToken(member.memberId().toString(), authTokenDTO.refreshToken(), clientIp, authTokenDTO.refreshTokenValidTime());
 
-        return response.getBody();
+        return authTokenDTO;  // **클라이언트에 Access Token만 반환**
     }
 
+    /**
+     * 카카오 회원 생성 - 같은 계정의 첫 로그인이 동시에 들어와도 이메일 unique 제약으로 한 건만 저장되고,
+     * 나머지는 먼저 저장된 회원을 그대로 사용한다.
+     */
     protected Member kakaoSignUp(MemberResponseDTO.KakaoInfoDTO profile) {
-        log.info("카카오 회원 생성 : " + profile.kakaoAccount().email());
+        String email = profile.kakaoAccount().email();
+        log.info("카카오 회원 생성 : {}", email);
 
         Member member = Member.builder()
                 .name(profile.properties().nickname())
-                .email(profile.kakaoAccount().email())
-                .password(passwordEncoder.encode(UUID.randomUUID().toString()))
+                .email(email)
+                .password(passwordHasher.encode(UUID.randomUUID().toString()))
                 .gender(Gender.fromString(profile.kakaoAccount().gender()))
                 .socialType(SocialType.KAKAO)
                 .authority(Authority.ROLE_USER)
+                .lastLoginDate(LocalDateTime.now())
                 .build();
 
-        memberRepository.save(member);
-
-        return member;
-    }
-
-
-    // Redis에 Refresh Token 저장 메서드 수정
-    public void saveRefreshTokenInRedis(String userId, String refreshToken, HttpServletRequest httpServletRequest) {
-        String ipAddress = ClientUtils.getClientIp(httpServletRequest);
-
-        // userId와 IP 주소를 함께 Redis에 저장
-        refreshTokenService.saveRefreshToken(userId, refreshToken, /* expirationTime */ 7L * 24 * 60 * 60 * 1000); // 7일 설정
-        refreshTokenService.saveIp(userId, ipAddress);
+        try {
+            Member saved = memberRepository.saveAndFlush(member);
+            adminStatsCounters.memberJoined(saved);
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            log.info("동시에 가입된 카카오 회원 사용 : {}", email);
+            return memberRepository.findByEmail(email)
+                    .orElseThrow(() -> new ApplicationException(ErrorCode.SAME_EMAIL, "[MemberSocialLoginService] 카카오 회원 생성 실패 - " + email));
+        }
     }
 }
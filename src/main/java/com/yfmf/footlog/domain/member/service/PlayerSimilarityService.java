@@ -0,0 +1,86 @@
+package com.yfmf.footlog.domain.member.service;
+
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.Stat;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import com.yfmf.footlog.domain.member.similarity.PlayerStatIndex;
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+@Service
+public class PlayerSimilarityService {
+
+    public static final int MAX_K = 100;
+
+    private final MemberRepository memberRepository;
+    private final PlayerStatIndex playerStatIndex;
+
+    /**
+     * 기준 회원과 스탯이 비슷한 선수 조회
+     *
+     * @param samePosition true 면 기준 회원과 같은 포지션만
+     * @param sameArea     true 면 기준 회원과 같은 지역만
+     */
+    public List<MemberResponseDTO.SimilarPlayerDTO> findSimilarPlayers(Long memberId, int k, boolean samePosition, boolean sameArea) {
+
+        if (k < 1 || k > MAX_K) {
+            throw new ApplicationException(ErrorCode.INVALID_PLAYER_SEARCH_CONDITION, "[PlayerSimilarityService] k 범위 초과: " + k);
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.MEMBER_NOT_FOUND, "[PlayerSimilarityService] 존재하지 않는 회원입니다."));
+
+        int[] query = PlayerStatIndex.vectorOf(member.getStat());
+        if (query == null) {
+            throw new ApplicationException(ErrorCode.INVALID_PLAYER_SEARCH_CONDITION, "[PlayerSimilarityService] 스탯 정보가 없는 회원입니다. memberId=" + memberId);
+        }
+
+        List<PlayerStatIndex.Neighbor> neighbors = playerStatIndex.nearest(query, k,
+                samePosition ? member.getPosition() : null,
+                sameArea ? member.getArea() : null,
+                memberId);
+
+        // 인덱스 결과 순서(가까운 순)를 유지하며 회원 정보 채우기
+        Map<Long, Member> members = memberRepository.findAllById(neighbors.stream().map(PlayerStatIndex.Neighbor::memberId).toList())
+                .stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        return neighbors.stream()
+                .filter(neighbor -> members.containsKey(neighbor.memberId()))
+                .map(neighbor -> new MemberResponseDTO.SimilarPlayerDTO(toSummary(members.get(neighbor.memberId())), neighbor.distance()))
+                .toList();
+    }
+
+    private MemberResponseDTO.PlayerSummaryDTO toSummary(Member member) {
+        Stat stat = member.getStat();
+        return new MemberResponseDTO.PlayerSummaryDTO(
+                member.getId(),
+                member.getName(),
+                member.getGender(),
+                member.getBirth(),
+                member.getMainFoot(),
+                member.getArea(),
+                member.getPosition(),
+                member.getIsPro(),
+                member.getProfileImageUrl(),
+                stat.getStamina(),
+                stat.getDefend(),
+                stat.getSpeed(),
+                stat.getPass(),
+                stat.getShoot(),
+                stat.getDribble());
+    }
+}
@@ -0,0 +1,134 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+/**
+ * long -> int 해시 맵 (open addressing, 선형 탐색)
+ *
+ * 회원 id 마다 Long / Integer 객체와 엔트리를 만들지 않도록 키와 값을 primitive 배열에 둔다.
+ * 값은 0 이상만 저장하며 없는 키는 MISSING 을 돌려준다. 동기화는 호출하는 쪽에서 한다.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    LongIntHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int get(long key) {
+        for (int i = index(key); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 이전 값, 없었으면 MISSING
+     */
+    int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("값은 0 이상이어야 합니다. value=" + value);
+        }
+        int i = index(key);
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        used[i] = true;
+        // 적재율 3/4 를 넘으면 두 배로 늘린다.
+        if (++size > (mask + 1) / 4 * 3) {
+            rehash((mask + 1) * 2);
+        }
+        return MISSING;
+    }
+
+    /**
+     * @return 지운 값, 없었으면 MISSING
+     */
+    int remove(long key) {
+        int i = index(key);
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                int previous = values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+        }
+        return MISSING;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    // 지운 자리 뒤에 같은 탐색 구간으로 이어진 키들을 앞으로 당겨 빈 칸(tombstone) 없이 유지한다.
+    private void shiftBack(int hole) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) {
+                break;
+            }
+            int home = index(keys[i]);
+            // home 이 (hole, i] 구간 밖이면 hole 로 옮겨도 탐색 경로가 끊기지 않는다.
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        used[hole] = false;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldUsed[j]) {
+                int i = index(oldKeys[j]);
+                while (used[i]) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+                used[i] = true;
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    // 연속된 회원 id 가 한곳에 몰리지 않도록 섞는다.
+    private int index(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
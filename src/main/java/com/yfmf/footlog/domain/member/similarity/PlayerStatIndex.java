@@ -0,0 +1,333 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+import com.yfmf.footlog.domain.member.domain.Stat;
+import com.yfmf.footlog.domain.member.enums.Area;
+import com.yfmf.footlog.domain.member.enums.Position;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+/**
+ * 스탯 벡터 (stamina, defend, speed, pass, shoot, dribble) 기반 유사 선수 검색 인덱스
+ *
+ * 회원 스탯을 (포지션, 지역) 파티션별로 boxing 없이 int[] 에 저장하고 (회원 id 위치도 LongIntHashMap),
+ * 질의 시 조건에 맞는 파티션만 유클리드 거리로 스캔하여 상위 K 명을 구한다.
+ */
+@Component
+public class PlayerStatIndex {
+
+    public static final int DIMENSION = 6;
+
+    // 제곱 거리 합이 int 범위를 넘지 않도록 저장 값 상한을 둔다. (6 * 10_000^2 < 2^31)
+    public static final int MAX_STAT_VALUE = 10_000;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final ThreadLocal<int[]> SCRATCH = ThreadLocal.withInitial(() -> new int[INITIAL_CAPACITY]);
+    private static final int AREA_SLOTS = Area.values().length + 1;
+    private static final Position[] POSITIONS = Position.values();
+
+    // 파티션 개수가 적으므로 (포지션 + 미지정) x (지역 + 미지정) 배열로 미리 생성
+    private final Partition[] partitions = new Partition[(POSITIONS.length + 1) * AREA_SLOTS];
+
+    // memberId -> 소속 파티션 번호 (이 객체의 모니터로 보호)
+    private final LongIntHashMap locations = new LongIntHashMap();
+
+    public PlayerStatIndex() {
+        for (int i = 0; i < partitions.length; i++) {
+            partitions[i] = new Partition();
+        }
+    }
+
+    /**
+     * 회원 스탯 등록/갱신 - 포지션/지역이 바뀌면 파티션을 옮긴다.
+     */
+    public synchronized void upsert(long memberId, Position position, Area area, int[] vector) {
+        if (vector.length != DIMENSION) {
+            throw new IllegalArgumentException("스탯 벡터는 " + DIMENSION + "차원이어야 합니다.");
+        }
+
+        int target = partitionOf(position, area);
+        int current = locations.get(memberId);
+        if (current != LongIntHashMap.MISSING && current != target) {
+            partitions[current].remove(memberId);
+        }
+        partitions[target].put(memberId, vector);
+        locations.put(memberId, target);
+    }
+
+    public synchronized void remove(long memberId) {
+        int current = locations.remove(memberId);
+        if (current != LongIntHashMap.MISSING) {
+            partitions[current].remove(memberId);
+        }
+    }
+
+    public synchronized void clear() {
+        for (Partition partition : partitions) {
+            partition.clear();
+        }
+        locations.clear();
+    }
+
+    public synchronized int size() {
+        return locations.size();
+    }
+
+    /**
+     * 질의 벡터와 가까운 순으로 최대 k 명 반환
+     *
+     * @param position  null 이면 전체 포지션
+     * @param area      null 이면 전체 지역
+     * @param excludeId 결과에서 제외할 회원 (보통 기준 회원 본인)
+     */
+    public List<Neighbor> nearest(int[] query, int k, Position position, Area area, long excludeId) {
+        if (query.length != DIMENSION || k <= 0) {
+            return List.of();
+        }
+
+        int[] targets = IntStream.range(0, partitions.length)
+                .filter(i -> matches(i, position, area) && partitions[i].size > 0)
+                .toArray();
+
+        // 파티션을 차례로 스캔하며 하나의 힙을 공유해 k 번째 거리 기준을 계속 좁힌다.
+        TopK top = new TopK(k);
+        for (int target : targets) {
+            partitions[target].scan(query, excludeId, top);
+        }
+        return top.toSortedList();
+    }
+
+    public static int[] vectorOf(Stat stat) {
+        if (stat == null || stat.getStamina() == null || stat.getDefend() == null || stat.getSpeed() == null
+                || stat.getPass() == null || stat.getShoot() == null || stat.getDribble() == null) {
+            return null;
+        }
+        return new int[]{stat.getStamina(), stat.getDefend(), stat.getSpeed(),
+                stat.getPass(), stat.getShoot(), stat.getDribble()};
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(value, MAX_STAT_VALUE));
+    }
+
+    private static int partitionOf(Position position, Area area) {
+        int p = position == null ? 0 : position.ordinal() + 1;
+        int a = area == null ? 0 : area.ordinal() + 1;
+        return p * AREA_SLOTS + a;
+    }
+
+    private static boolean matches(int partition, Position position, Area area) {
+        int p = partition / AREA_SLOTS;
+        int a = partition % AREA_SLOTS;
+        return (position == null || p == position.ordinal() + 1)
+                && (area == null || a == area.ordinal() + 1);
+    }
+
+    public record Neighbor(long memberId, long squaredDistance) {
+
+        public double distance() {
+            return Math.sqrt(squaredDistance);
+        }
+    }
+
+    /**
+     * 한 파티션의 스탯 저장소 - 차원별 int[] 에 나누어 저장해 거리 계산 루프가 벡터화되도록 하고,
+     * 삭제 시 마지막 원소를 빈 자리로 옮겨 배열을 항상 꽉 채운다.
+     */
+    private static final class Partition {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final LongIntHashMap slots = new LongIntHashMap();
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[][] columns = new int[DIMENSION][INITIAL_CAPACITY];
+        private volatile int size;
+
+        void put(long memberId, int[] vector) {
+            lock.writeLock().lock();
+            try {
+                int slot = slots.get(memberId);
+                if (slot == LongIntHashMap.MISSING) {
+                    if (size == ids.length) {
+                        grow();
+                    }
+                    slot = size;
+                    ids[slot] = memberId;
+                    slots.put(memberId, slot);
+                    size = slot + 1;
+                }
+                for (int d = 0; d < DIMENSION; d++) {
+                    columns[d][slot] = clamp(vector[d]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(long memberId) {
+            lock.writeLock().lock();
+            try {
+                int slot = slots.remove(memberId);
+                if (slot == LongIntHashMap.MISSING) {
+                    return;
+                }
+                int last = size - 1;
+                if (slot != last) {
+                    ids[slot] = ids[last];
+                    for (int d = 0; d < DIMENSION; d++) {
+                        columns[d][slot] = columns[d][last];
+                    }
+                    slots.put(ids[slot], slot);
+                }
+                size = last;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            lock.writeLock().lock();
+            try {
+                slots.clear();
+                ids = new long[INITIAL_CAPACITY];
+                columns = new int[DIMENSION][INITIAL_CAPACITY];
+                size = 0;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void scan(int[] query, long excludeId, TopK top) {
+            lock.readLock().lock();
+            try {
+                int n = size;
+                int[] c0 = columns[0], c1 = columns[1], c2 = columns[2], c3 = columns[3], c4 = columns[4], c5 = columns[5];
+                int q0 = clamp(query[0]), q1 = clamp(query[1]), q2 = clamp(query[2]),
+                        q3 = clamp(query[3]), q4 = clamp(query[4]), q5 = clamp(query[5]);
+
+                // 1) 거리 계산만 하는 단순 루프 (SIMD 대상)
+                int[] distances = SCRATCH.get();
+                if (distances.length < n) {
+                    distances = new int[Math.max(n, distances.length * 2)];
+                    SCRATCH.set(distances);
+                }
+                for (int i = 0; i < n; i++) {
+                    int d0 = c0[i] - q0;
+                    int d1 = c1[i] - q1;
+                    int d2 = c2[i] - q2;
+                    int d3 = c3[i] - q3;
+                    int d4 = c4[i] - q4;
+                    int d5 = c5[i] - q5;
+                    distances[i] = d0 * d0 + d1 * d1 + d2 * d2 + d3 * d3 + d4 * d4 + d5 * d5;
+                }
+
+                // 2) 현재 k 번째 거리보다 가까운 후보만 힙에 반영
+                long bound = top.bound();
+                for (int i = 0; i < n; i++) {
+                    if (distances[i] < bound && ids[i] != excludeId) {
+                        top.offer(ids[i], distances[i]);
+                        bound = top.bound();
+                    }
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            for (int d = 0; d < DIMENSION; d++) {
+                columns[d] = Arrays.copyOf(columns[d], capacity);
+            }
+        }
+    }
+
+    /**
+     * 거리 기준 최대 힙으로 가장 가까운 k 개만 유지
+     */
+    static final class TopK {
+
+        private final int capacity;
+        private final long[] ids;
+        private final long[] distances;
+        private int size;
+
+        TopK(int capacity) {
+            this.capacity = capacity;
+            this.ids = new long[capacity];
+            this.distances = new long[capacity];
+        }
+
+        /** 가득 찼을 때 새 후보가 넘어야 하는 거리 */
+        long bound() {
+            return size < capacity ? Long.MAX_VALUE : distances[0];
+        }
+
+        void offer(long id, long distance) {
+            if (size < capacity) {
+                int i = size++;
+                ids[i] = id;
+                distances[i] = distance;
+                siftUp(i);
+            } else if (distance < distances[0]) {
+                ids[0] = id;
+                distances[0] = distance;
+                siftDown(0);
+            }
+        }
+
+        List<Neighbor> toSortedList() {
+            List<Neighbor> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(new Neighbor(ids[i], distances[i]));
+            }
+            result.sort((a, b) -> a.squaredDistance() != b.squaredDistance()
+                    ? Long.compare(a.squaredDistance(), b.squaredDistance())
+                    : Long.compare(a.memberId(), b.memberId()));
+            return result;
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (distances[parent] >= distances[i]) {
+                    return;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    return;
+                }
+                int largest = left;
+                int right = left + 1;
+                if (right < size && distances[right] > distances[left]) {
+                    largest = right;
+                }
+                if (distances[i] >= distances[largest]) {
+                    return;
+                }
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            ids[a] = ids[b];
+            ids[b] = id;
+            long distance = distances[a];
+            distances[a] = distances[b];
+            distances[b] = distance;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.utils.TransactionUtils;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 저장/수정/삭제 시 스탯 인덱스 반영 - 트랜잭션 커밋 이후에만 적용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PlayerStatIndexListener {
+
+    private final PlayerStatIndex playerStatIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Member member) {
+        long memberId = member.getId();
+        int[] vector = PlayerStatIndex.vectorOf(member.getStat());
+        if (vector == null) {
+            TransactionUtils.afterCommit(() -> playerStatIndex.remove(memberId));
+            return;
+        }
+        TransactionUtils.afterCommit(() -> playerStatIndex.upsert(memberId, member.getPosition(), member.getArea(), vector));
+    }
+
+    @PostRemove
+    public void onRemove(Member member) {
+        long memberId = member.getId();
+        TransactionUtils.afterCommit(() -> playerStatIndex.remove(memberId));
+    }
+}
@@ -0,0 +1,48 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 전체 회원 스탯을 id 순으로 나누어 읽어 인덱스를 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlayerStatIndexLoader {
+
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final MemberRepository memberRepository;
+    private final PlayerStatIndex playerStatIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.currentTimeMillis();
+        playerStatIndex.clear();
+
+        Long cursor = null;
+        List<MemberResponseDTO.PlayerStatDTO> chunk;
+        do {
+            chunk = memberRepository.findPlayerStats(cursor, CHUNK_SIZE);
+            for (MemberResponseDTO.PlayerStatDTO row : chunk) {
+                int[] vector = row.toVector();
+                if (vector != null) {
+                    playerStatIndex.upsert(row.id(), row.position(), row.area(), vector);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                cursor = chunk.get(chunk.size() - 1).id();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+
+        log.info("[PlayerStatIndexLoader] 스탯 인덱스 적재 완료 - {}명, {}ms", playerStatIndex.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -18,6 +18,7 @@ public enum ErrorCode {
     INVALID_EMAIL_CODE(HttpStatus.CONFLICT, "Invalid Email Code", "이메일 인증 코드가 일치하지 않습니다.", "USER-005"),
     INVALID_EMAIL(HttpStatus.CONFLICT, "Invalid Email", "이메일이 인증되지 않았습니다.", "USER-006"),
     EMAIL_NON_EXIST(HttpStatus.CONFLICT, "Not Existed Email", "해당 이메일의 회원을 찾을 수 없습니다.", "USER-007"),
+    INVALID_PLAYER_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "Invalid Search Condition", "검색 조건이 올바르지 않습니다.", "USER-008"),
     /* Email 도메인 예외 */
     NO_SUCH_ALGORITHM(HttpStatus.INTERNAL_SERVER_ERROR, "No Such Algorithm", "사용 가능한 암호화 알고리즘을 찾을 수 없습니다.", "EMAIL-001"),
     /* Token 도메인 예외 */
@@ -26,6 +27,7 @@ public enum ErrorCode {
     FAILED_GET_ACCESS_TOKEN(HttpStatus.EXPECTATION_FAILED, "Failed to Get Access Token", "Access Token 을 가져오는데 실패했습니다.", "TOKEN-003"),
     IS_NOT_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "Invalid Refresh Token", "Refresh Token 이 아닙니다.", "TOKEN-004"),
     FAILED_GET_KAKAO_PROFILE(HttpStatus.EXPECTATION_FAILED, "Failed to Get Kakao Profile", "Kakao 유저 프로필을 가져오는데 실패했습니다.", "SOCIAL-001"),
+    KAKAO_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "Kakao Unavailable", "카카오 로그인이 원활하지 않습니다. 잠시 후 다시 시도해주세요.", "SOCIAL-002"),
     FAILED_GET_REFRESH_TOKEN(HttpStatus.BAD_REQUEST, "Failed to Get Refresh Token", "Refresh Token 을 얻을 수 없습니다.", "TOKEN-004"),
     /* Auth 도메인 예외 */
     FAILED_AUTHENTICATION(HttpStatus.UNAUTHORIZED, "Authentication Failed", "인증에 실패하였습니다.", "AUTH-001"),
@@ -33,11 +35,18 @@ public enum ErrorCode {
     DIFFERENT_IP_ADDRESS(HttpStatus.BAD_REQUEST, "Different IP Address", "기존 IP 주소와 다른 IP 주소에서의 요청입니다.", "AUTH-003"),
     ANONYMOUS_USER(HttpStatus.UNAUTHORIZED, "Anonymous User", "익명의 유저가 접근하였습니다.", "AUTH-004"),
     LOGIN_REQUIRED(HttpStatus.UNAUTHORIZED, "login required", "로그인 후 이용이 가능합니다.", "AUTH-005"),
+    TOO_MANY_AUTH_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", "요청이 많습니다. 잠시 후 다시 시도해주세요.", "AUTH-006"),
     GUEST_NOT_FOUND(HttpStatus.NOT_FOUND, "Guest Not Found", "해당하는 게스트가 없습니다.", "GUEST-001"),
+    INVALID_GUEST_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "Invalid Search Condition", "용병 검색 조건이 올바르지 않습니다.", "GUEST-002"),
     /* Club 도메인 예외 */
     INVALID_CLUB(HttpStatus.CONFLICT, "Invalid Club", "유효하지 않은 구단입니다.", "CLUB-001"),
     DUPLICATED_CLUB(HttpStatus.CONFLICT, "Duplicated Club", "이미 존재하는 구단입니다.", "CLUB-002"),
     NOT_FOUND_CLUB(HttpStatus.NOT_FOUND, "Not Found Club", "해당 구단을 찾을 수 없습니다.", "CLUB-003"),
+    /* Admin 도메인 예외 */
+    ADMIN_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "Admin Job Not Found", "해당 작업을 찾을 수 없습니다.", "ADMIN-001"),
+    INVALID_ADMIN_JOB(HttpStatus.BAD_REQUEST, "Invalid Admin Job", "작업 요청이 올바르지 않습니다.", "ADMIN-002"),
+    ADMIN_JOB_CONFLICT(HttpStatus.CONFLICT, "Admin Job Conflict", "같은 종류의 작업이 이미 실행 중입니다.", "ADMIN-003"),
+    ADMIN_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "Admin Job Queue Full", "대기 중인 작업이 많습니다. 잠시 후 다시 시도해주세요.", "ADMIN-004"),
     /* Club 도메인 예외 */
     REDIS_SAVE_FAILED(HttpStatus.BAD_REQUEST, "Not Saved RefreshToken", "리프레시 토큰이 저장되지 않았습니다.", "REDIS-001");
 
@@ -1,6 +1,7 @@
 package com.yfmf.footlog.error;
 
 import com.yfmf.footlog.domain.auth.exception.LoginRequiredException;
+import com.yfmf.footlog.domain.auth.exception.TooManyAuthRequestsException;
 import com.yfmf.footlog.domain.auth.utils.ApiUtils;
 import com.yfmf.footlog.domain.club.exception.ClubAlreadyJoinedException;
 import com.yfmf.footlog.domain.club.exception.ClubDuplicatedException;
@@ -8,6 +9,7 @@ import com.yfmf.footlog.domain.club.exception.ClubNotFoundException;
 import com.yfmf.footlog.domain.club.exception.IllegalClubArgumentException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -38,6 +40,19 @@ public class GlobalControllerAdvice {
         return ResponseEntity.status(e.getErrorCode().getStatus()).body(ApiUtils.error(data));
     }
 
+    @ExceptionHandler(TooManyAuthRequestsException.class)
+    public ResponseEntity<?> handleTooManyAuthRequestsException(TooManyAuthRequestsException e) {
+        Map<String,Object> data = new HashMap<>();
+        data.put("status", e.getErrorCode().getStatus().value());
+        data.put("errorCode", e.getErrorCode().getCode());
+        data.put("message", e.getErrorCode().getDescription());
+        data.put("timestamp", LocalDateTime.now());
+
+        return ResponseEntity.status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiUtils.error(data));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneralException(Exception e) {
         log.error("Error occurs {}", e.getMessage());
@@ -0,0 +1,34 @@
+package com.yfmf.footlog.seed;
+
+import java.time.LocalDateTime;
+
+/**
+ * 생성 계획 - 같은 계획(seed, 기준 시각, 시작 id 포함)이면 항상 같은 데이터가 만들어진다.
+ *
+ * @param memberIdBase 기존 회원 최대 id (이후 id 부터 채운다)
+ * @param clubIdBase   기존 구단 최대 id
+ */
+public record SeedPlan(
+        long members,
+        int clubs,
+        long matches,
+        long guests,
+        long seed,
+        LocalDateTime now,
+        long memberIdBase,
+        long clubIdBase
+) {
+
+    public SeedPlan {
+        if (members < 1 || clubs < 1 || members < clubs * 2L) {
+            throw new IllegalArgumentException("회원 수는 구단 수의 2배 이상이어야 합니다. members=" + members + ", clubs=" + clubs);
+        }
+        if (matches < 0 || guests < 0) {
+            throw new IllegalArgumentException("매치/용병 모집글 수는 음수일 수 없습니다.");
+        }
+    }
+
+    public SeedPlan withIdBase(long memberIdBase, long clubIdBase) {
+        return new SeedPlan(members, clubs, matches, guests, seed, now, memberIdBase, clubIdBase);
+    }
+}
@@ -0,0 +1,14 @@
+package com.yfmf.footlog.seed;
+
+import java.time.Duration;
+
+// 생성 결과 - 테이블별 삽입 행 수
+public record SeedReport(
+        long members,
+        long clubMembers,
+        long clubs,
+        long matches,
+        long guests,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,313 @@
+package com.yfmf.footlog.seed;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.SplittableRandom;
+
+/**
+ * 합성 데이터 행 생성
+ *
+ * 행마다 (seed, 테이블, 행 번호)로 만든 난수만 쓰므로 스레드 수나 chunk 크기와 관계없이 같은 행이 나온다.
+ * 구단 i 의 구단주는 회원 ownerIndex(i) 로 정해져 있어 회원/구단원/구단/매치가 서로 어긋나지 않는다.
+ * 컬럼 순서는 각 INSERT 문과 같다.
+ */
+final class SeedRows {
+
+    static final String MEMBER_SQL = "insert into tbl_member (id, name, email, password, gender, social_type, authority,"
+            + " birth, main_foot, area, position, introduction, is_pro, height, weight, phone_number,"
+            + " stamina, defend, speed, pass, shoot, dribble, total_match, total_score, total_assist, total_mom,"
+            + " created_at, updated_date) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String CLUB_MEMBER_SQL = "insert into tbl_club_member (club_id, member_id, role) values (?, ?, ?)";
+
+    static final String CLUB_SQL = "insert into tbl_club (club_id, club_owner_id, club_name, club_introduction, club_code,"
+            + " member_count, club_level, age_group, gender, stadium_name, city, region, created_at, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String CLUB_DAYS_SQL = "insert into tbl_club_days (club_id, days) values (?, ?)";
+
+    static final String CLUB_TIMES_SQL = "insert into tbl_club_times (club_id, times) values (?, ?)";
+
+    static final String MATCH_SQL = "insert into tbl_match (match_enroll_user_id, match_apply_user_id, my_club_id,"
+            + " enemy_club_id, match_introduce, match_date, match_start_time, match_end_time, match_time,"
+            + " match_player_quantity, quarter_quantity, field_location, match_cost, is_pro, pro_quantity, club_level,"
+            + " match_gender, match_status, created_at, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    static final String GUEST_SQL = "insert into tbl_guest (member_id, location, age, schedule_date, schedule_day,"
+            + " schedule_start_time, schedule_end_time, special_requests, available, created_at, updated_date)"
+            + " values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 성씨는 인구 비율을 대략 따른다. (천분율)
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황", "안", "송", "류", "전"};
+    private static final int[] SURNAME_WEIGHTS = {215, 147, 84, 47, 44, 24, 21, 20, 20, 17, 15, 8, 8, 8, 7, 7, 7, 7, 6, 6};
+    private static final String[] GIVEN_NAMES = {"민", "서", "지", "현", "준", "우", "도", "하", "예", "수", "윤", "은", "영", "진", "성",
+            "재", "호", "연", "원", "태", "승", "혜", "유", "주", "동", "경", "상", "희", "정", "나"};
+
+    // Area 순서 / 지역별 인구 비율(%)
+    private static final String[] AREAS = {"서울", "경기", "인천", "대전", "세종", "충남", "충북", "부산", "울산", "경남", "경북", "대구", "광주", "전남", "전북", "제주"};
+    private static final int[] AREA_WEIGHTS = {19, 26, 6, 3, 1, 4, 3, 6, 2, 6, 5, 5, 3, 4, 3, 1};
+
+    // Position 순서 / 비율 - 골키퍼가 가장 적다.
+    private static final String[] POSITIONS = {"LW", "ST", "RW", "LM", "CM", "RM", "LB", "CB", "RB", "SW", "GK"};
+    private static final int[] POSITION_WEIGHTS = {9, 14, 9, 8, 14, 8, 9, 12, 9, 2, 6};
+    // 포지션별 능력치 보정 (stamina, defend, speed, pass, shoot, dribble)
+    private static final int[][] POSITION_BIAS = {
+            {0, -12, 10, 0, 4, 10}, {-4, -15, 5, -2, 15, 5}, {0, -12, 10, 0, 4, 10}, {6, -5, 5, 6, 0, 6},
+            {8, 0, 0, 12, 0, 4}, {6, -5, 5, 6, 0, 6}, {6, 10, 5, 0, -10, -4}, {0, 15, -4, 0, -12, -8},
+            {6, 10, 5, 0, -10, -4}, {0, 14, -2, 4, -12, -6}, {-10, 10, -10, 0, -20, -15}};
+
+    private static final String[] MAIN_FEET = {"오른발", "왼발", "양발"};
+    private static final int[] MAIN_FOOT_WEIGHTS = {70, 20, 10};
+
+    private static final String[] CLUB_SUFFIXES = {"FC", "유나이티드", "시티", "레인저스", "스타즈", "풋볼클럽"};
+    private static final String[] CLUB_LEVELS = {"BEGINNER", "AMATEUR", "SEMI_PRO", "PRO", "WORLD_CLASS"};
+    private static final String[] MATCH_LEVELS = {"입문자", "아마추어", "세미프로", "프로", "월드클래스"};
+    private static final int[] LEVEL_WEIGHTS = {30, 40, 20, 8, 2};
+    private static final String[] AGE_GROUPS = {"20대", "30대", "40대", "50대"};
+    private static final String[] PEAK_DAYS = {"월", "화", "수", "목", "금", "토", "일"};
+    private static final String[] PEAK_HOURS = {"아침", "낮", "저녁", "심야"};
+
+    private static final String[] MATCH_STATUSES = {"WAITING", "PENDING", "ACCEPTED", "PLAYING", "FINISHED"};
+    private static final int[] MATCH_STATUS_WEIGHTS = {40, 15, 20, 5, 20};
+    private static final String[] PLAYER_QUANTITIES = {"FIVE", "SIX", "SEVEN", "EIGHT", "ELEVEN"};
+    private static final String[] QUARTER_QUANTITIES = {"TWO", "THREE", "FOUR"};
+
+    private static final String[] INTRODUCTIONS = {"즐겁게 공 차실 분 환영합니다.", "주말마다 꾸준히 운동합니다.",
+            "매너 좋은 팀과 경기하고 싶습니다.", "실력보다 열정!", "초보도 환영합니다."};
+
+    private static final long MEMBER = 0x6D656D62L;
+    private static final long CLUB_MEMBER = 0x636C6D62L;
+    private static final long CLUB = 0x636C7562L;
+    private static final long CLUB_AREA = 0x61726561L;
+    private static final long CLUB_DAYS = 0x64617973L;
+    private static final long CLUB_TIME = 0x74696D65L;
+    private static final long MATCH = 0x6D617463L;
+    private static final long GUEST = 0x67756573L;
+
+    private final SeedPlan plan;
+    private final String passwordHash;
+    private final long ownerStride;
+
+    SeedRows(SeedPlan plan, String passwordHash) {
+        this.plan = plan;
+        this.passwordHash = passwordHash;
+        this.ownerStride = plan.members() / plan.clubs();
+    }
+
+    long memberId(long index) {
+        return plan.memberIdBase() + index + 1;
+    }
+
+    long clubId(int club) {
+        return plan.clubIdBase() + club + 1;
+    }
+
+    long ownerIndex(int club) {
+        return club * ownerStride;
+    }
+
+    Object[] member(long index) {
+        SplittableRandom random = random(MEMBER, index);
+        boolean male = random.nextInt(100) < 85;
+        int position = weighted(random, POSITION_WEIGHTS);
+        boolean pro = random.nextInt(100) < 3;
+        long id = memberId(index);
+
+        double height = male ? normal(random, 175, 6) : normal(random, 163, 5);
+        double weight = height * height / 10_000 * normal(random, 22, 2);
+        int[] bias = POSITION_BIAS[position];
+        Object[] stats = new Object[6];
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = clamp((int) Math.round(normal(random, pro ? 72 : 58, 11)) + bias[i], 1, 99);
+        }
+        int totalMatch = (int) (-Math.log(1 - random.nextDouble()) * 40);
+        int attack = position <= 2 ? 3 : position <= 5 ? 2 : 1;
+        LocalDateTime createdAt = plan.now().minusMinutes(random.nextLong(3L * 365 * 24 * 60));
+        LocalDateTime updatedAt = createdAt.plusMinutes(random.nextLong(Math.max(1, Duration.between(createdAt, plan.now()).toMinutes())));
+
+        return new Object[]{
+                id,
+                name(random),
+                "seed" + id + "@footlog.test",
+                passwordHash,
+                male ? "MALE" : "FEMALE",
+                random.nextInt(100) < 20 ? "KAKAO" : "NONE",
+                "ROLE_USER",
+                plan.now().toLocalDate().minusYears(18).minusDays(random.nextInt(32 * 365)),
+                MAIN_FEET[weighted(random, MAIN_FOOT_WEIGHTS)],
+                AREAS[weighted(random, AREA_WEIGHTS)],
+                POSITIONS[position],
+                INTRODUCTIONS[random.nextInt(INTRODUCTIONS.length)],
+                pro,
+                Math.round(height * 10) / 10.0,
+                Math.round(weight * 10) / 10.0,
+                String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000)),
+                stats[0], stats[1], stats[2], stats[3], stats[4], stats[5],
+                totalMatch,
+                random.nextInt(totalMatch * attack / 2 + 1),
+                random.nextInt(totalMatch / 2 + 1),
+                random.nextInt(totalMatch / 5 + 1),
+                createdAt,
+                updatedAt
+        };
+    }
+
+    /**
+     * 회원 index 의 구단 가입 정보 (club_id, member_id, role) - 가입하지 않은 회원이면 null
+     * 구단주는 자기 구단에만, 나머지 회원은 60% 확률로 한 구단에 가입한다.
+     */
+    Object[] clubMember(long index) {
+        if (index % ownerStride == 0 && index / ownerStride < plan.clubs()) {
+            return new Object[]{clubId((int) (index / ownerStride)), memberId(index), "OWNER"};
+        }
+        SplittableRandom random = random(CLUB_MEMBER, index);
+        if (random.nextInt(100) >= 60) {
+            return null;
+        }
+        return new Object[]{clubId(random.nextInt(plan.clubs())), memberId(index), random.nextInt(100) < 10 ? "MANAGER" : "MEMBER"};
+    }
+
+    Object[] club(int club, int memberCount) {
+        SplittableRandom random = random(CLUB, club);
+        String area = clubArea(club);
+        long id = clubId(club);
+        LocalDateTime createdAt = plan.now().minusDays(random.nextInt(3 * 365));
+        return new Object[]{
+                id,
+                memberId(ownerIndex(club)),
+                area + " " + CLUB_SUFFIXES[random.nextInt(CLUB_SUFFIXES.length)] + " " + (club + 1),
+                INTRODUCTIONS[random.nextInt(INTRODUCTIONS.length)],
+                "SEED" + id,
+                memberCount,
+                CLUB_LEVELS[weighted(random, LEVEL_WEIGHTS)],
+                AGE_GROUPS[random.nextInt(AGE_GROUPS.length)],
+                random.nextInt(100) < 85 ? "남성" : random.nextBoolean() ? "여성" : "혼성",
+                area + " " + (random.nextInt(20) + 1) + "구장",
+                area,
+                area,
+                createdAt,
+                createdAt.plusDays(random.nextInt(30))
+        };
+    }
+
+    // 주말 하루 + 평일 하루
+    String[] clubDays(int club) {
+        SplittableRandom random = random(CLUB_DAYS, club);
+        return new String[]{PEAK_DAYS[5 + random.nextInt(2)], PEAK_DAYS[random.nextInt(5)]};
+    }
+
+    String clubTime(int club) {
+        return PEAK_HOURS[random(CLUB_TIME, club).nextInt(PEAK_HOURS.length)];
+    }
+
+    Object[] match(long index) {
+        SplittableRandom random = random(MATCH, index);
+        int myClub = random.nextInt(plan.clubs());
+        String status = MATCH_STATUSES[weighted(random, MATCH_STATUS_WEIGHTS)];
+        Integer enemyClub = null;
+        if (!status.equals("WAITING") && plan.clubs() > 1) {
+            enemyClub = (myClub + 1 + random.nextInt(plan.clubs() - 1)) % plan.clubs();
+        }
+        // 종료된 매치는 지난 날짜, 나머지는 앞으로 60일 안
+        LocalDate date = status.equals("FINISHED")
+                ? plan.now().toLocalDate().minusDays(1 + random.nextInt(365))
+                : plan.now().toLocalDate().plusDays(random.nextInt(60));
+        LocalTime start = LocalTime.of(6 + random.nextInt(16), random.nextBoolean() ? 0 : 30);
+        LocalTime end = start.plusHours(2);
+        int level = weighted(random, LEVEL_WEIGHTS);
+        boolean pro = random.nextInt(100) < 10;
+        LocalDateTime createdAt = earlier(date.atStartOfDay(), plan.now()).minusDays(random.nextInt(30));
+
+        return new Object[]{
+                memberId(ownerIndex(myClub)),
+                enemyClub == null ? null : memberId(ownerIndex(enemyClub)),
+                clubId(myClub),
+                enemyClub == null ? null : clubId(enemyClub),
+                INTRODUCTIONS[random.nextInt(INTRODUCTIONS.length)],
+                date,
+                start,
+                end,
+                Duration.between(start, end).toSeconds(),
+                PLAYER_QUANTITIES[random.nextInt(PLAYER_QUANTITIES.length)],
+                QUARTER_QUANTITIES[random.nextInt(QUARTER_QUANTITIES.length)],
+                clubArea(myClub),
+                random.nextInt(21) * 10_000,
+                pro,
+                pro ? 1 + random.nextInt(3) : 0,
+                MATCH_LEVELS[level],
+                random.nextInt(100) < 85 ? "MALE" : random.nextBoolean() ? "FEMALE" : "MIX",
+                status,
+                createdAt,
+                createdAt
+        };
+    }
+
+    Object[] guest(long index) {
+        SplittableRandom random = random(GUEST, index);
+        LocalDateTime schedule = plan.now().toLocalDate().plusDays(random.nextInt(120) - 60)
+                .atTime(6 + random.nextInt(16), 0);
+        DayOfWeek day = schedule.getDayOfWeek();
+        LocalDateTime createdAt = earlier(schedule, plan.now()).minusDays(1 + random.nextInt(14));
+        return new Object[]{
+                memberId(random.nextLong(plan.members())),
+                AREAS[weighted(random, AREA_WEIGHTS)],
+                20 + random.nextInt(26),
+                schedule,
+                day.name(),
+                schedule.toLocalTime(),
+                schedule.toLocalTime().plusHours(2),
+                random.nextInt(100) < 30 ? INTRODUCTIONS[random.nextInt(INTRODUCTIONS.length)] : null,
+                !schedule.isBefore(plan.now()),
+                createdAt,
+                createdAt
+        };
+    }
+
+    private String clubArea(int club) {
+        return AREAS[weighted(random(CLUB_AREA, club), AREA_WEIGHTS)];
+    }
+
+    private String name(SplittableRandom random) {
+        return SURNAMES[weighted(random, SURNAME_WEIGHTS)]
+                + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]
+                + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+    }
+
+    private SplittableRandom random(long table, long index) {
+        return new SplittableRandom(plan.seed() * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static int weighted(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double normal(SplittableRandom random, double mean, double deviation) {
+        // Box-Muller
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return mean + deviation * Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    private static LocalDateTime earlier(LocalDateTime first, LocalDateTime second) {
+        return first.isBefore(second) ? first : second;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,197 @@
+package com.yfmf.footlog.seed;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 합성 데이터 JDBC 일괄 삽입
+ *
+ * 테이블마다 행 번호 구간(chunk)을 여러 스레드가 나눠 batch insert 하고 chunk 마다 커밋한다.
+ * 회원/구단은 id 를 직접 넣어 참조를 맞추므로, 끝나면 두 테이블의 identity 를 다음 값으로 옮긴다.
+ * 순서: 회원 → 구단원(구단별 인원 집계) → 구단(+ 요일/시간대) → 매치 → 용병 모집글
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private final DataSource dataSource;
+    private final int threads;
+    private final int batchSize;
+    private final int chunkRows;
+
+    public SyntheticDataGenerator(DataSource dataSource, int threads, int batchSize, int chunkRows) {
+        this.dataSource = dataSource;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.chunkRows = chunkRows;
+    }
+
+    public SeedReport generate(SeedPlan plan, String passwordHash) {
+        long start = System.nanoTime();
+        SeedPlan based = plan.withIdBase(maxId("tbl_member", "id"), maxId("tbl_club", "club_id"));
+        SeedRows rows = new SeedRows(based, passwordHash);
+        AtomicIntegerArray clubSizes = new AtomicIntegerArray(plan.clubs());
+
+        AtomicInteger sequence = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "seed-writer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long members = insert(pool, "tbl_member", plan.members(), (connection, from, to) ->
+                    batch(connection, SeedRows.MEMBER_SQL, from, to, (index, out) -> out.accept(rows.member(index))));
+
+            long clubMembers = insert(pool, "tbl_club_member", plan.members(), (connection, from, to) ->
+                    batch(connection, SeedRows.CLUB_MEMBER_SQL, from, to, (index, out) -> {
+                        Object[] row = rows.clubMember(index);
+                        if (row != null) {
+                            clubSizes.incrementAndGet((int) ((Long) row[0] - based.clubIdBase() - 1));
+                            out.accept(row);
+                        }
+                    }));
+
+            long clubs = insert(pool, "tbl_club", plan.clubs(), (connection, from, to) -> {
+                long inserted = batch(connection, SeedRows.CLUB_SQL, from, to,
+                        (index, out) -> out.accept(rows.club((int) index, clubSizes.get((int) index))));
+                batch(connection, SeedRows.CLUB_DAYS_SQL, from, to, (index, out) -> {
+                    for (String day : rows.clubDays((int) index)) {
+                        out.accept(new Object[]{rows.clubId((int) index), day});
+                    }
+                });
+                batch(connection, SeedRows.CLUB_TIMES_SQL, from, to,
+                        (index, out) -> out.accept(new Object[]{rows.clubId((int) index), rows.clubTime((int) index)}));
+                return inserted;
+            });
+
+            long matches = insert(pool, "tbl_match", plan.matches(), (connection, from, to) ->
+                    batch(connection, SeedRows.MATCH_SQL, from, to, (index, out) -> out.accept(rows.match(index))));
+
+            long guests = insert(pool, "tbl_guest", plan.guests(), (connection, from, to) ->
+                    batch(connection, SeedRows.GUEST_SQL, from, to, (index, out) -> out.accept(rows.guest(index))));
+
+            restartIdentity("tbl_member", "id", rows.memberId(plan.members()));
+            restartIdentity("tbl_club", "club_id", rows.clubId(plan.clubs()));
+
+            return new SeedReport(members, clubMembers, clubs, matches, guests, Duration.ofNanos(System.nanoTime() - start));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long insert(ExecutorService pool, String table, long count, ChunkWriter writer) {
+        long start = System.nanoTime();
+        List<Future<Long>> chunks = new ArrayList<>();
+        for (long from = 0; from < count; from += chunkRows) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(count, from + chunkRows);
+            chunks.add(pool.submit(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.setAutoCommit(false);
+                    long inserted = writer.write(connection, chunkFrom, chunkTo);
+                    connection.commit();
+                    return inserted;
+                }
+            }));
+        }
+
+        long inserted = 0;
+        try {
+            for (Future<Long> chunk : chunks) {
+                inserted += chunk.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[SyntheticDataGenerator] 중단됨 - " + table, e);
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw new IllegalStateException("[SyntheticDataGenerator] 삽입 실패 - " + table, e.getCause());
+        }
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("[SyntheticDataGenerator] {} {}건 삽입 - {}ms ({}건/초)", table, inserted, millis, inserted * 1000 / millis);
+        return inserted;
+    }
+
+    private long batch(Connection connection, String sql, long from, long to, RowSource source) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            long[] counts = new long[2]; // 삽입 수, batch 에 쌓인 수
+            RowSink sink = row -> {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+                counts[0]++;
+                if (++counts[1] == batchSize) {
+                    statement.executeBatch();
+                    counts[1] = 0;
+                }
+            };
+            for (long index = from; index < to; index++) {
+                source.rows(index, sink);
+            }
+            if (counts[1] > 0) {
+                statement.executeBatch();
+            }
+            return counts[0];
+        }
+    }
+
+    private long maxId(String table, String column) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("select coalesce(max(" + column + "), 0) from " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } catch (SQLException e) {
+            throw new IllegalStateException("[SyntheticDataGenerator] 최대 id 조회 실패 - " + table, e);
+        }
+    }
+
+    // 직접 넣은 id 다음부터 발급되도록 identity 를 옮긴다. (H2 는 직접 넣은 값을 따라가지 않는다.)
+    private void restartIdentity(String table, String column, long next) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            if (product.equalsIgnoreCase("H2")) {
+                statement.execute("alter table " + table + " alter column " + column + " restart with " + next);
+            } else if (product.equalsIgnoreCase("MySQL")) {
+                statement.execute("alter table " + table + " auto_increment = " + next);
+            } else {
+                log.warn("[SyntheticDataGenerator] identity 재설정을 지원하지 않는 DB - {}, {} 다음 id 를 {} 이상으로 맞춰주세요.", product, table, next);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("[SyntheticDataGenerator] identity 재설정 실패 - " + table, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long write(Connection connection, long from, long to) throws SQLException;
+    }
+
+    // index 번째 대상의 행(0개 이상)을 out 으로 넘긴다.
+    @FunctionalInterface
+    private interface RowSource {
+        void rows(long index, RowSink out) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(Object[] row) throws SQLException;
+    }
+}
@@ -0,0 +1,88 @@
+package com.yfmf.footlog.seed;
+
+import com.yfmf.footlog.domain.auth.utils.PasswordHasher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 부하 테스트용 합성 데이터 생성 (seed 프로필)
+ *
+ * 예) ./gradlew bootRun --args='--spring.profiles.active=standalone,seed --seed.members=1000000'
+ * 같은 seed.random-seed / seed.base-date 면 같은 데이터가 만들어진다. 생성된 회원의 비밀번호는 seed.password
+ */
+@Slf4j
+@Component
+@Profile("seed")
+public class SyntheticDataRunner implements CommandLineRunner {
+
+    private final DataSource dataSource;
+    private final PasswordHasher passwordHasher;
+    private final ConfigurableApplicationContext applicationContext;
+
+    private final long members;
+    private final int clubs;
+    private final long matches;
+    private final long guests;
+    private final long randomSeed;
+    private final String baseDate;
+    private final String password;
+    private final int threads;
+    private final int batchSize;
+    private final int chunkRows;
+    private final boolean exit;
+
+    public SyntheticDataRunner(DataSource dataSource,
+                               PasswordHasher passwordHasher,
+                               ConfigurableApplicationContext applicationContext,
+                               @Value("${seed.members:1000000}") long members,
+                               @Value("${seed.clubs:40000}") int clubs,
+                               @Value("${seed.matches:200000}") long matches,
+                               @Value("${seed.guests:200000}") long guests,
+                               @Value("${seed.random-seed:42}") long randomSeed,
+                               @Value("${seed.base-date:}") String baseDate,
+                               @Value("${seed.password:password123}") String password,
+                               @Value("${seed.threads:0}") int threads,
+                               @Value("${seed.batch-size:1000}") int batchSize,
+                               @Value("${seed.chunk-rows:20000}") int chunkRows,
+                               @Value("${seed.exit:true}") boolean exit) {
+        this.dataSource = dataSource;
+        this.passwordHasher = passwordHasher;
+        this.applicationContext = applicationContext;
+        this.members = members;
+        this.clubs = clubs;
+        this.matches = matches;
+        this.guests = guests;
+        this.randomSeed = randomSeed;
+        this.baseDate = baseDate;
+        this.password = password;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.chunkRows = chunkRows;
+        this.exit = exit;
+    }
+
+    @Override
+    public void run(String... args) {
+        LocalDateTime now = baseDate.isBlank() ? LocalDate.now().atStartOfDay() : LocalDate.parse(baseDate).atStartOfDay();
+        SeedPlan plan = new SeedPlan(members, clubs, matches, guests, randomSeed, now, 0, 0);
+        log.info("[SyntheticDataRunner] 합성 데이터 생성 시작 - {}, threads={}, batchSize={}", plan, threads, batchSize);
+
+        // BCrypt 는 한 번만 계산해 모든 회원이 같은 해시를 쓴다.
+        SeedReport report = new SyntheticDataGenerator(dataSource, threads, batchSize, chunkRows)
+                .generate(plan, passwordHasher.encode(password));
+        log.info("[SyntheticDataRunner] 합성 데이터 생성 완료 - {}", report);
+
+        if (exit) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
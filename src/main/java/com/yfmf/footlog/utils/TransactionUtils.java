@@ -0,0 +1,24 @@
+package com.yfmf.footlog.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TransactionUtils {
+
+    // 메모리 인덱스/카운터 반영용 - 트랜잭션이 있으면 커밋된 뒤에만 실행하고 (롤백되면 버린다), 없으면 바로 실행한다.
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,79 @@
+package com.yfmf.footlog.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageWriterTests {
+
+    @Mock
+    private ChatMessageStore chatMessageStore;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private ChatMessage message(int i) {
+        return ChatMessage.builder()
+                .roomType(ChatRoomType.CLUB)
+                .roomId(1L)
+                .senderId(10L)
+                .senderName("홍길동")
+                .content("메시지 " + i)
+                .sentAt(LocalDateTime.of(2026, 10, 24, 12, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 기다리지 않고 저장만 포기한다")
+    void enqueueDropsWhenFull() {
+        ChatMessageWriter writer = new ChatMessageWriter(chatMessageStore, meterRegistry, 2, 10, 50);
+
+        assertThat(writer.enqueue(message(1))).isTrue();
+        assertThat(writer.enqueue(message(2))).isTrue();
+        assertThat(writer.enqueue(message(3))).isFalse();
+
+        assertThat(writer.pending()).isEqualTo(2);
+        assertThat(meterRegistry.get("chat.persist.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("저장 스레드가 쌓인 메시지를 batchSize 단위로 한 번에 저장한다")
+    void writerFlushesInBatches() throws InterruptedException {
+        ChatMessageWriter writer = new ChatMessageWriter(chatMessageStore, meterRegistry, 100, 5, 50);
+        IntStream.range(0, 12).forEach(i -> writer.enqueue(message(i)));
+
+        writer.start();
+
+        verify(chatMessageStore, timeout(2_000).times(3)).saveAll(anyList());
+        writer.shutdown();
+        assertThat(meterRegistry.get("chat.persist.saved").counter().count()).isEqualTo(12.0);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 batch 는 dropped 로 센다")
+    void flushFailureCountsDropped() {
+        ChatMessageWriter writer = new ChatMessageWriter(chatMessageStore, meterRegistry, 10, 10, 50);
+        doThrow(new IllegalStateException("db down")).when(chatMessageStore).saveAll(anyList());
+
+        assertThat(writer.flush(List.of(message(1), message(2)))).isZero();
+        assertThat(meterRegistry.get("chat.persist.dropped").counter().count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,30 @@
+package com.yfmf.footlog.chat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatRoomTests {
+
+    @Test
+    @DisplayName("구독/전송 주소에서 채팅방을 추출한다")
+    void fromDestination() {
+        assertThat(ChatRoom.fromDestination("/topic/chat/match/12")).isEqualTo(new ChatRoom(ChatRoomType.MATCH, 12L));
+        assertThat(ChatRoom.fromDestination("/app/chat/club/3")).isEqualTo(new ChatRoom(ChatRoomType.CLUB, 3L));
+        assertThat(ChatRoom.fromDestination("/app/chat/club/3/recent")).isEqualTo(new ChatRoom(ChatRoomType.CLUB, 3L));
+        assertThat(ChatRoom.fromDestination("/topic/chat/match/12/presence")).isEqualTo(new ChatRoom(ChatRoomType.MATCH, 12L));
+        assertThat(ChatRoom.fromDestination("/app/chat/match/12/typing")).isEqualTo(new ChatRoom(ChatRoomType.MATCH, 12L));
+        assertThat(ChatRoom.fromDestination("/user/queue/errors")).isNull();
+        assertThat(new ChatRoom(ChatRoomType.CLUB, 3L).topic()).isEqualTo("/topic/chat/club/3");
+    }
+
+    @Test
+    @DisplayName("잘못된 채팅방 주소는 거부한다")
+    void invalidDestination() {
+        assertThatThrownBy(() -> ChatRoom.fromDestination("/topic/chat/team/1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatRoom.fromDestination("/topic/chat/club/abc")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ChatRoom.fromDestination("/topic/chat/club/1/2")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
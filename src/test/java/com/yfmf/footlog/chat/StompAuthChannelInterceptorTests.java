@@ -0,0 +1,163 @@
+package com.yfmf.footlog.chat;
+
+import com.yfmf.footlog.chat.presence.PresenceRegistry;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import io.jsonwebtoken.Claims;
+import org.assertj.core.api.InstanceOfAssertFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+class StompAuthChannelInterceptorTests {
+
+    private static final ChatRoom ROOM = new ChatRoom(ChatRoomType.CLUB, 1L);
+    private static final Authentication MEMBER = new UsernamePasswordAuthenticationToken(
+            new LoginedInfo(10L, "홍길동", "hong@footlog.test", Authority.ROLE_USER), null, List.of());
+
+    @Mock
+    private JWTTokenProvider jwtTokenProvider;
+
+    @Mock
+    private AccessTokenRevocationList revocationList;
+
+    @Mock
+    private ChatRoomAccess chatRoomAccess;
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @Mock
+    private MessageChannel channel;
+
+    @Mock
+    private Claims claims;
+
+    private StompAuthChannelInterceptor interceptor;
+    private Map<String, Object> sessionAttributes;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        interceptor = new StompAuthChannelInterceptor(jwtTokenProvider, revocationList, chatRoomAccess, presenceRegistry);
+        sessionAttributes = new HashMap<>();
+
+        when(jwtTokenProvider.getValidClaims(anyString())).thenReturn(null);
+        when(jwtTokenProvider.getValidClaims("valid-token")).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims)).thenReturn(MEMBER);
+        when(claims.getId()).thenReturn("jti-1");
+    }
+
+    @Test
+    @DisplayName("CONNECT - 유효한 Access Token 이면 세션 사용자로 등록하고, 없거나 폐기된 토큰은 거부한다")
+    void connect() {
+        Message<?> connected = interceptor.preSend(connect("Bearer valid-token"), channel);
+        assertThat(StompHeaderAccessor.wrap(connected).getUser()).isSameAs(MEMBER);
+
+        assertThatThrownBy(() -> interceptor.preSend(connect(null), channel)).isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(connect("Bearer invalid"), channel)).isInstanceOf(AccessDeniedException.class);
+
+        when(revocationList.isRevoked("jti-1")).thenReturn(true);
+        assertThatThrownBy(() -> interceptor.preSend(connect("Bearer valid-token"), channel)).isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 입장 권한이 있는 방만 구독하고 세션에 입장한 방으로 기록한다")
+    void subscribe() {
+        when(chatRoomAccess.canJoin(10L, ROOM)).thenReturn(true);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, ROOM.topic(), MEMBER), channel);
+        assertThat(sessionAttributes.get(StompAuthChannelInterceptor.JOINED_ROOMS))
+                .asInstanceOf(InstanceOfAssertFactories.collection(String.class))
+                .containsExactly(ROOM.key());
+
+        ChatRoom other = new ChatRoom(ChatRoomType.MATCH, 7L);
+        when(chatRoomAccess.canJoin(10L, other)).thenReturn(false);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, other.topic(), MEMBER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, ROOM.topic(), null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    @DisplayName("SUBSCRIBE - 브로커가 패턴으로 매칭하는 주소(*, ?, {})와 채팅방이 아닌 /topic, /queue 주소는 거부한다")
+    void subscribeRejectsPatterns() {
+        when(chatRoomAccess.canJoin(any(), any())).thenReturn(true);
+
+        for (String destination : List.of("/topic/**", "/topic/*/club/5", "/topic/chat/club/{id}", "/topic/chat/club/?",
+                "/topic/chat/club/1/**", "/topic/other", "/topic/chat/unknown/1", "/queue/errors-user1", "/queue/**")) {
+            assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SUBSCRIBE, destination, MEMBER), channel))
+                    .as(destination)
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+        assertThat(sessionAttributes).doesNotContainKey(StompAuthChannelInterceptor.JOINED_ROOMS);
+
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, "/user/queue/errors", MEMBER), channel);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, ROOM.presenceTopic(), MEMBER), channel);
+    }
+
+    @Test
+    @DisplayName("SEND - 입장한 방의 /app 주소로만 보낼 수 있고, 브로커 주소(/topic, /queue)로 직접 보내면 거부한다")
+    void send() {
+        when(chatRoomAccess.canJoin(any(), any())).thenReturn(true);
+        interceptor.preSend(frame(StompCommand.SUBSCRIBE, ROOM.topic(), MEMBER), channel);
+
+        interceptor.preSend(frame(StompCommand.SEND, "/app/chat/club/1", MEMBER), channel);
+        interceptor.preSend(frame(StompCommand.SEND, "/app/chat/club/1/typing", MEMBER), channel);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/chat/club/2", MEMBER), channel))
+                .isInstanceOf(AccessDeniedException.class);
+        for (String destination : List.of(ROOM.topic(), ROOM.presenceTopic(), "/queue/errors", "/user/10/queue/errors")) {
+            assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, destination, MEMBER), channel))
+                    .as(destination)
+                    .isInstanceOf(AccessDeniedException.class);
+        }
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, "/app/chat/club/1", null), channel))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    private Message<byte[]> connect(String authorization) {
+        StompHeaderAccessor accessor = accessor(StompCommand.CONNECT);
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> frame(StompCommand command, String destination, Authentication user) {
+        StompHeaderAccessor accessor = accessor(command);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-1");
+        accessor.setUser(user);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private StompHeaderAccessor accessor(StompCommand command) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
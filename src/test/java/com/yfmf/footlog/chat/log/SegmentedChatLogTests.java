@@ -0,0 +1,262 @@
+package com.yfmf.footlog.chat.log;
+
+import com.yfmf.footlog.chat.ChatMessage;
+import com.yfmf.footlog.chat.ChatRoom;
+import com.yfmf.footlog.chat.ChatRoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentedChatLogTests {
+
+    private static final ChatRoom ROOM = new ChatRoom(ChatRoomType.CLUB, 1L);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 24, 12, 0);
+
+    @TempDir
+    Path dir;
+
+    private SegmentedChatLog chatLog;
+
+    @AfterEach
+    void tearDown() {
+        if (chatLog != null) {
+            chatLog.close();
+        }
+    }
+
+    private SegmentedChatLog open(int segmentBytes) {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        chatLog = new SegmentedChatLog(dir, segmentBytes, Long.MAX_VALUE, 256, clock);
+        return chatLog;
+    }
+
+    private List<ChatMessage> messages(int from, int count, LocalDateTime sentAt) {
+        return IntStream.range(from, from + count)
+                .mapToObj(i -> ChatMessage.builder()
+                        .roomType(ROOM.type())
+                        .roomId(ROOM.roomId())
+                        .senderId(10L)
+                        .senderName("홍길동")
+                        .content("메시지 " + i)
+                        .sentAt(sentAt)
+                        .build())
+                .toList();
+    }
+
+    private List<String> contents(List<ChatLogEntry> entries) {
+        return entries.stream().map(ChatLogEntry::content).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir.resolve("club-1"))) {
+            return files.filter(file -> file.toString().endsWith(ChatLogSegment.LOG_SUFFIX)).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("offset 이전 N건을 세그먼트를 넘나들며 오래된 순으로 읽는다")
+    void readBeforeAcrossSegments() throws IOException {
+        SegmentedChatLog log = open(2_000);
+
+        assertThat(log.append(ROOM, messages(0, 100, NOW))).isZero();
+        assertThat(log.append(ROOM, messages(100, 50, NOW))).isEqualTo(100);
+        assertThat(segmentFiles()).hasSizeGreaterThan(3);
+
+        List<ChatLogEntry> latest = log.readBefore(ROOM, null, 5);
+        assertThat(latest).extracting(ChatLogEntry::offset).containsExactly(145L, 146L, 147L, 148L, 149L);
+
+        List<ChatLogEntry> page = log.readBefore(ROOM, 60L, 40);
+        assertThat(page).extracting(ChatLogEntry::offset).containsExactlyElementsOf(offsets(20, 60));
+        assertThat(page.get(0).senderName()).isEqualTo("홍길동");
+        assertThat(page.get(0).sentAt()).isEqualTo(NOW);
+
+        assertThat(log.readBefore(ROOM, 3L, 10)).extracting(ChatLogEntry::offset).containsExactly(0L, 1L, 2L);
+        assertThat(log.readBefore(new ChatRoom(ChatRoomType.MATCH, 1L), null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 열면 봉인된 세그먼트는 인덱스로, 쓰다 만 꼬리는 잘라내고 이어 쓴다")
+    void recoversTruncatedTail() throws IOException {
+        SegmentedChatLog log = open(1 << 20);
+        log.append(ROOM, messages(0, 10, NOW));
+        log.close();
+
+        // 마지막 레코드 일부만 기록된 채 멈춘 상황 + 쓰레기 바이트
+        Path segment = segmentFiles().get(0);
+        long size = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+        Files.deleteIfExists(segment.resolveSibling(ChatLogSegment.fileName(0, ChatLogSegment.INDEX_SUFFIX)));
+        Files.write(segment, new byte[]{1, 2, 3}, StandardOpenOption.APPEND);
+
+        log = open(1 << 20);
+        assertThat(contents(log.readBefore(ROOM, null, 100))).hasSize(9).endsWith("메시지 8");
+
+        assertThat(log.append(ROOM, messages(9, 1, NOW))).isEqualTo(9);
+        assertThat(contents(log.readBefore(ROOM, null, 2))).containsExactly("메시지 8", "메시지 9");
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지나거나 용량을 넘은 오래된 세그먼트를 지워도 offset 은 이어진다")
+    void retentionDeletesOldSegments() throws IOException {
+        SegmentedChatLog log = open(2_000);
+        log.append(ROOM, messages(0, 50, NOW.minusDays(10)));
+        log.append(ROOM, messages(50, 50, NOW));
+        int before = segmentFiles().size();
+
+        int deleted = log.applyRetention(Duration.ofDays(7), Long.MAX_VALUE);
+
+        assertThat(deleted).isPositive();
+        assertThat(segmentFiles()).hasSize(before - deleted);
+        List<ChatLogEntry> rest = log.readBefore(ROOM, null, 1_000);
+        assertThat(rest.get(0).offset()).isPositive();
+        assertThat(rest.get(rest.size() - 1).offset()).isEqualTo(99L);
+
+        log.applyRetention(Duration.ofDays(-1), 0);
+        assertThat(log.readBefore(ROOM, null, 10)).isEmpty();
+        assertThat(log.append(ROOM, messages(100, 1, NOW))).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("작은 봉인 세그먼트를 합치고, 다시 열어도 같은 내용을 읽는다")
+    void compactMergesSmallSegments() throws IOException {
+        SegmentedChatLog log = open(1 << 20);
+        for (int i = 0; i < 5; i++) {
+            log.append(ROOM, messages(i * 10, 10, NOW));
+            log.close();
+            log = open(1 << 20);
+        }
+        assertThat(segmentFiles()).hasSize(5);
+
+        assertThat(log.compact()).isEqualTo(4);
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(log.readBefore(ROOM, 25L, 10)).extracting(ChatLogEntry::offset).containsExactlyElementsOf(offsets(15, 25));
+        log.close();
+
+        log = open(1 << 20);
+        assertThat(log.readBefore(ROOM, null, 100)).extracting(ChatLogEntry::offset).containsExactlyElementsOf(offsets(0, 50));
+        assertThat(log.append(ROOM, messages(50, 1, NOW))).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("압축 중 멈춰 남은 세그먼트와 임시 파일은 다시 열 때 정리한다")
+    void cleansUpInterruptedCompaction() throws IOException {
+        SegmentedChatLog log = open(1 << 20);
+        log.append(ROOM, messages(0, 10, NOW));
+        log.close();
+        log = open(1 << 20);
+        log.append(ROOM, messages(10, 10, NOW));
+        log.close();
+
+        // 합친 파일이 첫 세그먼트 자리로 옮겨졌지만 두 번째 세그먼트는 아직 지우지 못한 상태
+        List<Path> files = segmentFiles();
+        byte[] merged = concat(Files.readAllBytes(files.get(0)), Files.readAllBytes(files.get(1)));
+        Files.write(files.get(0), merged);
+        Files.write(files.get(0).resolveSibling("garbage" + ChatLogSegment.TEMP_SUFFIX), new byte[]{1});
+
+        log = open(1 << 20);
+        assertThat(log.readBefore(ROOM, null, 100)).extracting(ChatLogEntry::offset).containsExactlyElementsOf(offsets(0, 20));
+        try (Stream<Path> rest = Files.list(dir.resolve("club-1"))) {
+            assertThat(rest.map(path -> path.getFileName().toString()))
+                    .containsExactlyInAnyOrder(ChatLogSegment.fileName(0, ChatLogSegment.LOG_SUFFIX), ChatLogSegment.fileName(0, ChatLogSegment.INDEX_SUFFIX));
+        }
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 활성 세그먼트를 봉인하고 새 세그먼트에 쓴다")
+    void rollsByAge() throws IOException {
+        Instant start = NOW.toInstant(ZoneOffset.UTC);
+        MutableClock clock = new MutableClock(start);
+        chatLog = new SegmentedChatLog(dir, 1 << 20, 60_000, 256, clock);
+
+        chatLog.append(ROOM, messages(0, 3, NOW));
+        clock.now = start.plusSeconds(61);
+        chatLog.append(ROOM, messages(3, 3, NOW));
+
+        assertThat(segmentFiles()).extracting(path -> path.getFileName().toString())
+                .containsExactly(ChatLogSegment.fileName(0, ChatLogSegment.LOG_SUFFIX), ChatLogSegment.fileName(3, ChatLogSegment.LOG_SUFFIX));
+        assertThat(chatLog.readBefore(ROOM, null, 10)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("채팅방 로그는 쓰거나 읽을 때 열고, 유휴 채팅방은 닫았다가 다시 열어 이어 쓴다")
+    void opensRoomsOnDemandAndClosesIdle() throws IOException {
+        Instant start = NOW.toInstant(ZoneOffset.UTC);
+        MutableClock clock = new MutableClock(start);
+        chatLog = new SegmentedChatLog(dir, 1 << 20, Long.MAX_VALUE, 256, clock);
+        chatLog.append(ROOM, messages(0, 10, NOW.minusDays(10)));
+        chatLog.close();
+
+        chatLog = new SegmentedChatLog(dir, 1 << 20, Long.MAX_VALUE, 256, clock);
+        assertThat(chatLog.openRoomCount()).isZero();
+
+        // 열지 않은 채팅방에도 보존 정책을 적용하고, 정리 때문에 연 채팅방은 바로 닫는다.
+        assertThat(chatLog.applyRetention(Duration.ofDays(7), Long.MAX_VALUE)).isEqualTo(1);
+        assertThat(chatLog.closeIdle(Duration.ofMinutes(10))).isEqualTo(1);
+        assertThat(chatLog.openRoomCount()).isZero();
+
+        assertThat(chatLog.append(ROOM, messages(10, 1, NOW))).isEqualTo(10);
+        clock.now = start.plusSeconds(60);
+        assertThat(chatLog.closeIdle(Duration.ofMinutes(10))).isZero();
+        clock.now = start.plusSeconds(601);
+        assertThat(chatLog.closeIdle(Duration.ofMinutes(10))).isEqualTo(1);
+
+        assertThat(contents(chatLog.readBefore(ROOM, null, 10))).containsExactly("메시지 10");
+        assertThat(chatLog.append(ROOM, messages(11, 1, NOW))).isEqualTo(11);
+        assertThat(chatLog.openRoomCount()).isEqualTo(1);
+    }
+
+    private static List<Long> offsets(long from, long to) {
+        return LongStream.range(from, to).boxed().toList();
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
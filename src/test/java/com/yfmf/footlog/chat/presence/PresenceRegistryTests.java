@@ -0,0 +1,123 @@
+package com.yfmf.footlog.chat.presence;
+
+import com.yfmf.footlog.chat.ChatRoom;
+import com.yfmf.footlog.chat.ChatRoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PresenceRegistryTests {
+
+    private static final ChatRoom ROOM = new ChatRoom(ChatRoomType.CLUB, 1L);
+
+    private MutableClock clock;
+    private PresenceRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-10-24T12:00:00Z"));
+        registry = new PresenceRegistry(60_000, 5_000, clock);
+    }
+
+    @Test
+    @DisplayName("한 주기 안의 변경은 채팅방당 delta 한 건으로 묶이고, 결과가 같으면 보내지 않는다")
+    void coalescesChangesPerRoom() {
+        LongStream.rangeClosed(1, 50).forEach(id -> registry.subscribe("s" + id, "sub", id, ROOM));
+        registry.subscribe("s99", "sub", 99L, ROOM);
+        registry.disconnect("s99");
+
+        List<PresenceDelta> deltas = registry.drain();
+
+        assertThat(deltas).hasSize(1);
+        assertThat(deltas.get(0).online()).hasSize(50).doesNotContain(99L);
+        assertThat(deltas.get(0).offline()).isEmpty();
+        assertThat(registry.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("회원의 모든 세션이 나가야 오프라인이 된다")
+    void offlineAfterLastSession() {
+        registry.subscribe("web", "sub-1", 10L, ROOM);
+        registry.subscribe("mobile", "sub-1", 10L, ROOM);
+        registry.drain();
+
+        registry.unsubscribe("web", "sub-1");
+        assertThat(registry.drain()).isEmpty();
+        assertThat(registry.onlineMembers(ROOM)).containsExactly(10L);
+
+        registry.disconnect("mobile");
+        assertThat(registry.drain()).singleElement()
+                .satisfies(delta -> assertThat(delta.offline()).containsExactly(10L));
+        assertThat(registry.roomCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("입력 중 표시는 다시 보내지 않으면 TTL 후 꺼진다")
+    void typingExpires() {
+        registry.subscribe("s1", "sub", 10L, ROOM);
+        registry.drain();
+
+        registry.typing(ROOM, 10L, true);
+        assertThat(registry.drain()).singleElement()
+                .satisfies(delta -> assertThat(delta.typing()).containsExactly(10L));
+
+        clock.plusMillis(5_000);
+        assertThat(registry.drain()).singleElement()
+                .satisfies(delta -> assertThat(delta.stoppedTyping()).containsExactly(10L));
+        assertThat(registry.isTyping(ROOM, 10L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("heart-beat 가 끊긴 세션은 시간이 지나면 오프라인 처리한다")
+    void expiresSilentSessions() {
+        registry.subscribe("alive", "sub", 1L, ROOM);
+        registry.subscribe("silent", "sub", 2L, ROOM);
+        registry.drain();
+
+        clock.plusMillis(40_000);
+        registry.touch("alive");
+        clock.plusMillis(30_000);
+
+        assertThat(registry.drain()).singleElement()
+                .satisfies(delta -> assertThat(delta.offline()).containsExactly(2L));
+        assertThat(registry.sessionCount()).isEqualTo(1);
+        assertThat(registry.onlineMembers(ROOM)).containsExactly(1L);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void plusMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
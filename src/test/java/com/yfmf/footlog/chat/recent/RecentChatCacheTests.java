@@ -0,0 +1,177 @@
+package com.yfmf.footlog.chat.recent;
+
+import com.yfmf.footlog.chat.ChatHistoryMessage;
+import com.yfmf.footlog.chat.ChatMessageResponse;
+import com.yfmf.footlog.chat.ChatMessageStore;
+import com.yfmf.footlog.chat.ChatRoom;
+import com.yfmf.footlog.chat.ChatRoomType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentChatCacheTests {
+
+    private static final ChatRoom ROOM = new ChatRoom(ChatRoomType.MATCH, 7L);
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 24, 12, 0);
+
+    @Mock
+    private ChatMessageStore chatMessageStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW.toInstant(ZoneOffset.UTC));
+    }
+
+    private RecentChatCache cache(int capacity, long maxBytes) {
+        return new RecentChatCache(chatMessageStore, meterRegistry, capacity, maxBytes, 60_000, clock);
+    }
+
+    private ChatMessageResponse message(ChatRoom room, int i) {
+        return new ChatMessageResponse(room.type(), room.roomId(), 1L, "홍길동", "메시지 " + i, NOW);
+    }
+
+    private List<String> contents(List<ChatMessageResponse> messages) {
+        return messages.stream().map(ChatMessageResponse::content).toList();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 오래된 메시지를 덮어쓰고 최근 메시지를 순서대로 돌려준다")
+    void keepsLatestMessages() {
+        RecentChatCache cache = cache(8, Long.MAX_VALUE);
+        IntStream.range(0, 20).forEach(i -> cache.add(ROOM, message(ROOM, i)));
+
+        assertThat(contents(cache.recent(ROOM, 100))).containsExactly(
+                "메시지 12", "메시지 13", "메시지 14", "메시지 15", "메시지 16", "메시지 17", "메시지 18", "메시지 19");
+        assertThat(contents(cache.recent(ROOM, 3))).containsExactly("메시지 17", "메시지 18", "메시지 19");
+        verify(chatMessageStore, times(1)).findBefore(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 채팅방은 저장소에서 한 번만 채운다")
+    void loadsColdRoomOnce() {
+        RecentChatCache cache = cache(8, Long.MAX_VALUE);
+        when(chatMessageStore.findBefore(eq(ROOM), eq(null), eq(8))).thenReturn(List.of(
+                new ChatHistoryMessage(1L, 1L, "홍길동", "지난 메시지 1", NOW),
+                new ChatHistoryMessage(2L, 1L, "홍길동", "지난 메시지 2", NOW)));
+
+        assertThat(contents(cache.recent(ROOM, 100))).containsExactly("지난 메시지 1", "지난 메시지 2");
+        cache.add(ROOM, message(ROOM, 3));
+        assertThat(contents(cache.recent(ROOM, 100))).containsExactly("지난 메시지 1", "지난 메시지 2", "메시지 3");
+
+        verify(chatMessageStore, times(1)).findBefore(any(), any(), anyInt());
+        assertThat(meterRegistry.get("chat.recent.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("식은 채팅방에 메시지가 먼저 오면 첫 입장 때 저장소의 이전 메시지를 중복 없이 앞에 채운다")
+    void backfillsRoomCreatedBySend() {
+        RecentChatCache cache = cache(8, Long.MAX_VALUE);
+        ChatMessageResponse sent = new ChatMessageResponse(ROOM.type(), ROOM.roomId(), 1L, "홍길동", "메시지 3",
+                NOW.withNano(123_456_789));
+        // 저장소는 마이크로초까지만 남기고, 비동기 저장이 먼저 끝나 방금 보낸 메시지도 함께 읽힌다.
+        when(chatMessageStore.findBefore(eq(ROOM), eq(null), eq(8))).thenReturn(List.of(
+                new ChatHistoryMessage(1L, 1L, "홍길동", "지난 메시지 1", NOW.minusMinutes(1)),
+                new ChatHistoryMessage(2L, 1L, "홍길동", "지난 메시지 2", NOW.minusMinutes(1)),
+                new ChatHistoryMessage(3L, 1L, "홍길동", "메시지 3", NOW.withNano(123_456_000))));
+
+        cache.add(ROOM, sent);
+        assertThat(contents(cache.recent(ROOM, 100))).containsExactly("지난 메시지 1", "지난 메시지 2", "메시지 3");
+        cache.add(ROOM, message(ROOM, 4));
+        assertThat(contents(cache.recent(ROOM, 100)))
+                .containsExactly("지난 메시지 1", "지난 메시지 2", "메시지 3", "메시지 4");
+
+        verify(chatMessageStore, times(1)).findBefore(any(), any(), anyInt());
+        assertThat(meterRegistry.get("chat.recent.requests").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.recent.requests").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(cache.bytes()).isEqualTo(
+                RecentChatBuffer.estimateBytes(sent) * 2 + 2 * RecentChatBuffer.estimateBytes(
+                        new ChatMessageResponse(ROOM.type(), ROOM.roomId(), 1L, "홍길동", "지난 메시지 1", NOW)));
+    }
+
+    @Test
+    @DisplayName("유휴 채팅방은 정리 시 비운다")
+    void evictsIdleRooms() {
+        RecentChatCache cache = cache(8, Long.MAX_VALUE);
+        ChatRoom quiet = new ChatRoom(ChatRoomType.CLUB, 1L);
+        cache.add(quiet, message(quiet, 1));
+        clock.plusMillis(50_000);
+        cache.add(ROOM, message(ROOM, 1));
+        clock.plusMillis(20_000);
+
+        assertThat(cache.sweep()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.bytes()).isEqualTo(RecentChatBuffer.estimateBytes(message(ROOM, 1)));
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 가장 오래 쓰이지 않은 채팅방부터 비운다")
+    void evictsLeastRecentlyUsedOverBudget() {
+        long perMessage = RecentChatBuffer.estimateBytes(message(ROOM, 0));
+        RecentChatCache cache = cache(8, perMessage * 2);
+        ChatRoom first = new ChatRoom(ChatRoomType.CLUB, 1L);
+        ChatRoom second = new ChatRoom(ChatRoomType.CLUB, 2L);
+
+        cache.add(first, message(first, 1));
+        clock.plusMillis(1);
+        cache.add(second, message(second, 1));
+        clock.plusMillis(1);
+        cache.add(ROOM, message(ROOM, 1));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.bytes()).isEqualTo(perMessage * 2);
+        assertThat(contents(cache.recent(second, 10))).containsExactly("메시지 1");
+        assertThat(meterRegistry.get("chat.recent.evicted").counter().count()).isEqualTo(1.0);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void plusMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.yfmf.footlog.domain.admin.job;
+
+import com.yfmf.footlog.domain.admin.dto.AdminJobResponseDTO;
+import com.yfmf.footlog.domain.admin.entity.AdminJob;
+import com.yfmf.footlog.domain.admin.enums.AdminJobStatus;
+import com.yfmf.footlog.domain.admin.enums.AdminJobType;
+import com.yfmf.footlog.domain.admin.repository.AdminJobRepository;
+import com.yfmf.footlog.domain.admin.stats.AdminStatsReconciler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminJobRunnerTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 24, 12, 0);
+
+    @Mock
+    private AdminJobRepository adminJobRepository;
+
+    @Mock
+    private AdminStatsReconciler adminStatsReconciler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private FakeTask task;
+    private AdminJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        task = new FakeTask(LongStream.rangeClosed(1, 5).boxed().toList());
+        runner = new AdminJobRunner(adminJobRepository, List.of(task), adminStatsReconciler, transactionManager,
+                new SimpleMeterRegistry(), 1, 4, 2, 0, Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private AdminJob job(long id) {
+        AdminJob job = new AdminJob(AdminJobType.OLD_MATCH_PURGE, 1L, 30, NOW.minusDays(30));
+        ReflectionTestUtils.setField(job, "id", id);
+        when(adminJobRepository.findById(id)).thenReturn(Optional.of(job));
+        return job;
+    }
+
+    @Test
+    @DisplayName("chunk 단위로 처리하며 cursor 와 처리 건수를 남기고, 끝나면 통계를 다시 계산한다")
+    void runsInChunks() {
+        AdminJob job = job(1L);
+
+        runner.run(1L);
+
+        assertThat(task.chunks).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(task.committed).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(job.getStatus()).isEqualTo(AdminJobStatus.COMPLETED);
+        assertThat(job.getTotal()).isEqualTo(5);
+        assertThat(job.getProcessed()).isEqualTo(5);
+        assertThat(job.getCursor()).isEqualTo(5L);
+        assertThat(job.getFinishedAt()).isEqualTo(NOW);
+        assertThat(AdminJobResponseDTO.of(job, NOW).progress()).isEqualTo(100.0);
+        verify(adminStatsReconciler).reconcile();
+    }
+
+    @Test
+    @DisplayName("재시작된 작업은 cursor 다음부터 이어서 처리하고 대상 수는 다시 세지 않는다")
+    void resumesFromCursor() {
+        AdminJob job = job(1L);
+        job.start(NOW.minusMinutes(1));
+        job.estimate(5);
+        job.advance(2L, 2, 2);
+
+        runner.run(1L);
+
+        assertThat(task.chunks).containsExactly(List.of(3L, 4L), List.of(5L));
+        assertThat(task.counted).isFalse();
+        assertThat(job.getProcessed()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("취소 요청이 들어오면 다음 chunk 전에 멈춘다")
+    void stopsWhenCancelled() {
+        AdminJob job = job(1L);
+        task.onChunk = ids -> job.requestCancel();
+
+        runner.run(1L);
+
+        assertThat(task.chunks).containsExactly(List.of(1L, 2L));
+        assertThat(job.getStatus()).isEqualTo(AdminJobStatus.CANCELLED);
+        assertThat(job.getCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("실패하면 FAILED 로 남기고, 끝난 작업은 다시 실행하지 않는다")
+    void failsAndSkipsFinished() {
+        AdminJob job = job(1L);
+        task.onChunk = ids -> {
+            throw new IllegalStateException("boom");
+        };
+
+        runner.run(1L);
+        runner.run(1L);
+
+        assertThat(job.getStatus()).isEqualTo(AdminJobStatus.FAILED);
+        assertThat(job.getMessage()).isEqualTo("boom");
+        assertThat(task.chunks).isEmpty();
+        verify(adminStatsReconciler, never()).reconcile();
+    }
+
+    @Test
+    @DisplayName("남은 시간은 이번 실행의 처리 속도로 계산한다")
+    void estimatesRemainingTime() {
+        AdminJob job = new AdminJob(AdminJobType.RECORD_RESET, 1L, null, null);
+        job.advance(100L, 100, 100);
+        job.start(NOW.minusSeconds(10));
+        job.estimate(1_000);
+        job.advance(300L, 200, 200);
+
+        AdminJobResponseDTO response = AdminJobResponseDTO.of(job, NOW);
+
+        assertThat(response.progress()).isEqualTo(30.0);
+        assertThat(response.etaSeconds()).isEqualTo(35L);
+    }
+
+    private static final class FakeTask implements AdminJobTask {
+
+        private final List<Long> ids;
+        private final List<List<Long>> chunks = new ArrayList<>();
+        private final List<Long> committed = new ArrayList<>();
+        private boolean counted;
+        private Consumer<List<Long>> onChunk = ids -> {
+        };
+
+        private FakeTask(List<Long> ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public AdminJobType type() {
+            return AdminJobType.OLD_MATCH_PURGE;
+        }
+
+        @Override
+        public long count(AdminJob job) {
+            counted = true;
+            return ids.size();
+        }
+
+        @Override
+        public List<Long> nextIds(AdminJob job, long afterId, int limit) {
+            return ids.stream().filter(id -> id > afterId).limit(limit).toList();
+        }
+
+        @Override
+        public int process(AdminJob job, List<Long> ids) {
+            onChunk.accept(ids);
+            chunks.add(ids);
+            return ids.size();
+        }
+
+        @Override
+        public void afterCommit(List<Long> ids) {
+            committed.addAll(ids);
+        }
+    }
+}
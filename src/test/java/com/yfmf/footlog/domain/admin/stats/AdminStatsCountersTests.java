@@ -0,0 +1,91 @@
+package com.yfmf.footlog.domain.admin.stats;
+
+import com.yfmf.footlog.domain.admin.dto.AdminStatsResponseDTO;
+import com.yfmf.footlog.domain.club.enums.ClubLevel;
+import com.yfmf.footlog.domain.match.enums.MatchStatus;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.SocialType;
+import com.yfmf.footlog.domain.member.enums.Area;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdminStatsCountersTests {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 24);
+
+    private final AdminStatsCounters counters = new AdminStatsCounters(7,
+            Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    private Member member(SocialType socialType, Area area) {
+        return new Member(1L, "홍길동", "test@example.com", "{hashed}", Gender.MALE, socialType, Authority.ROLE_USER,
+                null, null, area, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("서비스가 알린 생성/상태 변경/삭제를 그룹별 카운터에 반영한다")
+    void appliesChanges() {
+        counters.memberJoined(member(SocialType.KAKAO, Area.서울));
+        counters.memberJoined(member(SocialType.NONE, null));
+        counters.memberLeft(member(SocialType.NONE, null));
+
+        counters.clubCreated(ClubLevel.BEGINNER);
+        counters.clubCreated(ClubLevel.BEGINNER);
+        counters.clubLevelChanged(ClubLevel.BEGINNER, ClubLevel.PRO);
+        counters.clubLevelChanged(ClubLevel.PRO, ClubLevel.PRO);
+
+        counters.matchCreated(MatchStatus.WAITING);
+        counters.matchStatusChanged(MatchStatus.WAITING, MatchStatus.PENDING);
+        counters.matchCreated(MatchStatus.WAITING);
+        counters.matchDeleted(MatchStatus.WAITING);
+
+        AdminStatsResponseDTO stats = counters.snapshot();
+
+        assertThat(stats.totalMembers()).isEqualTo(1);
+        assertThat(stats.membersBySocialType()).containsExactly(Map.entry("KAKAO", 1L));
+        assertThat(stats.membersByArea()).containsExactly(Map.entry("서울", 1L));
+        assertThat(stats.clubsByLevel()).containsOnly(Map.entry("BEGINNER", 1L), Map.entry("PRO", 1L));
+        assertThat(stats.totalMatches()).isEqualTo(1);
+        assertThat(stats.matchesByStatus()).containsExactly(Map.entry("PENDING", 1L));
+        assertThat(stats.signupsPerDay()).containsExactly(Map.entry(TODAY, 2L));
+        assertThat(stats.reconciledAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("재계산 결과로 카운터를 교체하고, 바로잡은 차이와 오래된 가입 일자를 정리한다")
+    void reconcileReplacesCounts() {
+        counters.clubCreated(ClubLevel.BEGINNER);
+        counters.clubCreated(ClubLevel.AMATEUR);
+        counters.memberJoined(member(SocialType.NONE, Area.부산));
+
+        long drift = counters.reconcile(new AdminStatsCounters.Counts(
+                Map.of("ROLE_USER", 3L),
+                Map.of("NONE", 3L),
+                Map.of("부산", 3L),
+                Map.of("BEGINNER", 4L),
+                Map.of(),
+                Map.of(TODAY, 3L, TODAY.minusDays(1), 2L)));
+
+        // 회원 2 x 3 그룹 + 구단 (BEGINNER 3, AMATEUR 1) + 가입 (오늘 2, 어제 2)
+        assertThat(drift).isEqualTo(6 + 4 + 4);
+        assertThat(counters.firstSignupDay()).isEqualTo(TODAY.minusDays(6));
+
+        AdminStatsResponseDTO stats = counters.snapshot();
+        assertThat(stats.totalMembers()).isEqualTo(3);
+        assertThat(stats.clubsByLevel()).containsExactly(Map.entry("BEGINNER", 4L));
+        assertThat(stats.signupsPerDay()).containsExactly(Map.entry(TODAY.minusDays(1), 2L), Map.entry(TODAY, 3L));
+        assertThat(stats.reconciledAt()).isEqualTo(TODAY.atStartOfDay());
+
+        assertThat(counters.reconcile(new AdminStatsCounters.Counts(
+                Map.of("ROLE_USER", 3L), Map.of("NONE", 3L), Map.of("부산", 3L),
+                Map.of("BEGINNER", 4L), Map.of(), Map.of(TODAY, 3L, TODAY.minusDays(1), 2L)))).isZero();
+    }
+}
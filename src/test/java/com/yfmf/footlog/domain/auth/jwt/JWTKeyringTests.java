@@ -0,0 +1,126 @@
+package com.yfmf.footlog.domain.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.Key;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JWTKeyringTests {
+
+    private static final String KEY_A = secret('a');
+    private static final String KEY_B = secret('b');
+
+    @TempDir
+    Path dir;
+
+    private JWTKeyring keyring;
+
+    @Test
+    @DisplayName("키 교체 후에도 유예 기간 동안 이전 키로 서명된 토큰을 검증한다")
+    void verifiesWithGraceKeyAfterRotation() throws IOException {
+        Path file = write("active=a\nkey.a=" + KEY_A + "\n", 1_000);
+        keyring = new JWTKeyring("", file.toString(), "");
+        JwtParser parser = Jwts.parserBuilder().setSigningKeyResolver(keyring).build();
+        String oldToken = sign(keyring.current());
+
+        write("active=b\nkey.b=" + KEY_B + "\nkey.a=" + KEY_A + "\nretire.a=2999-01-01T00:00:00Z\n", 2_000);
+        keyring.reloadIfModified();
+        String newToken = sign(keyring.current());
+
+        assertThat(keyring.current().activeKid()).isEqualTo("b");
+        assertThat(parser.parseClaimsJws(oldToken).getBody().getSubject()).isEqualTo("user");
+        assertThat(parser.parseClaimsJws(newToken).getHeader().getKeyId()).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("retire 시각이 지난 키와 모르는 kid 는 거부한다")
+    void rejectsRetiredAndUnknownKeys() throws IOException {
+        Path file = write("active=b\nkey.b=" + KEY_B + "\nkey.a=" + KEY_A + "\nretire.a=2000-01-01T00:00:00Z\n", 1_000);
+        keyring = new JWTKeyring("", file.toString(), "");
+
+        assertThat(keyring.lookup("b")).isNotNull();
+        assertThatThrownBy(() -> keyring.lookup("a")).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> keyring.lookup("c")).isInstanceOf(JwtException.class);
+        // jwt.secret 이 없으면 kid 없는 토큰도 거부
+        assertThatThrownBy(() -> keyring.lookup(null)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 파일로 바뀌면 기존 키 목록을 유지한다")
+    void keepsPreviousKeysOnInvalidFile() throws IOException {
+        Path file = write("active=a\nkey.a=" + KEY_A + "\n", 1_000);
+        keyring = new JWTKeyring("", file.toString(), "");
+
+        write("active=missing\nkey.a=" + KEY_A + "\n", 2_000);
+        keyring.reloadIfModified();
+
+        assertThat(keyring.current().activeKid()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("키 파일이 없으면 jwt.secret 을 kid 'default' 로 쓰고, kid 없는 기존 토큰도 검증한다")
+    void fallsBackToSecret() {
+        keyring = new JWTKeyring(KEY_A, "", "");
+        Key legacy = keyring.current().activeKey();
+        String legacyToken = Jwts.builder().setSubject("user").signWith(legacy, SignatureAlgorithm.HS256).compact();
+
+        assertThat(keyring.current().activeKid()).isEqualTo(JWTKeyring.DEFAULT_KID);
+        assertThat(Jwts.parserBuilder().setSigningKeyResolver(keyring).build()
+                .parseClaimsJws(legacyToken).getBody().getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    @DisplayName("jwt.legacy-retire 가 지나면 kid 없는 토큰을 거부한다")
+    void rejectsKidlessTokensAfterLegacyRetire() throws IOException {
+        Path file = write("active=b\nkey.b=" + KEY_B + "\n", 1_000);
+        keyring = new JWTKeyring(KEY_A, file.toString(), "2999-01-01T00:00:00Z");
+        assertThat(keyring.lookup(null)).isNotNull();
+
+        keyring = new JWTKeyring(KEY_A, file.toString(), "2000-01-01T00:00:00Z");
+        assertThatThrownBy(() -> keyring.lookup(null)).isInstanceOf(JwtException.class);
+        assertThat(keyring.lookup("b")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 파일과 jwt.secret 을 함께 쓰면서 jwt.legacy-retire 가 없으면 기동에 실패한다")
+    void requiresLegacyRetireWithKeyringFile() throws IOException {
+        Path file = write("active=b\nkey.b=" + KEY_B + "\n", 1_000);
+
+        assertThatThrownBy(() -> new JWTKeyring(KEY_A, file.toString(), ""))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(new JWTKeyring("", file.toString(), "").lookup("b")).isNotNull();
+    }
+
+    private Path write(String content, long modifiedMillis) throws IOException {
+        Path file = dir.resolve("jwt-keys.properties");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+        return file;
+    }
+
+    private static String sign(JWTKeyring.Snapshot keys) {
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keys.activeKid())
+                .setSubject("user")
+                .signWith(keys.activeKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}
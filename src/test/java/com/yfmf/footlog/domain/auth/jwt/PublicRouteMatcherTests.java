@@ -0,0 +1,35 @@
+package com.yfmf.footlog.domain.auth.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PublicRouteMatcherTests {
+
+    private final PublicRouteMatcher matcher = new PublicRouteMatcher(
+            "/api/auth/login", "/api/auth/kakao/**", "/swagger-ui/**", "/swagger-ui.html");
+
+    @Test
+    @DisplayName("공개 경로만 일치하고, 같은 접두사의 보호 경로는 일치하지 않는다")
+    void matchesOnlyPublicRoutes() {
+        assertThat(matcher.matches("/api/auth/login")).isTrue();
+        assertThat(matcher.matches("/api/auth/kakao/login")).isTrue();
+        assertThat(matcher.matches("/swagger-ui/index.html")).isTrue();
+        assertThat(matcher.matches("/swagger-ui.html")).isTrue();
+
+        assertThat(matcher.matches("/api/auth/members")).isFalse();
+        assertThat(matcher.matches("/api/auth/1/delete")).isFalse();
+        assertThat(matcher.matches("/api/clubs/1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 제외하고 비교한다")
+    void ignoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/footlog/api/auth/login");
+        request.setContextPath("/footlog");
+
+        assertThat(matcher.matches(request)).isTrue();
+    }
+}
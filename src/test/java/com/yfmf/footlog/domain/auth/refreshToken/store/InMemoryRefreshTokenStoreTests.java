@@ -0,0 +1,104 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRefreshTokenStoreTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(1_000, 3, clock::get);
+    }
+
+    @Test
+    @DisplayName("현재 토큰이고 IP 가 같을 때만 교체된다")
+    void rotateChecksTokenAndIp() {
+        store.save("1", "phone", "token-1", "127.0.0.1", 60_000);
+
+        assertThat(store.rotate("unknown", "token-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(store.rotate("token-1", "token-2", "10.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.IP_MISMATCH);
+        assertThat(store.rotate("token-1", "token-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+        assertThat(store.rotate("token-2", "token-3", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 들어오면 그 기기만 폐기된다")
+    void reuseRevokesFamily() {
+        store.save("1", "phone", "phone-1", "127.0.0.1", 60_000);
+        store.save("1", "laptop", "laptop-1", "127.0.0.1", 60_000);
+        store.rotate("phone-1", "phone-2", "127.0.0.1", 60_000);
+
+        assertThat(store.rotate("phone-1", "phone-x", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.REUSED);
+
+        // 탈취 의심 기기의 최신 토큰도 더 이상 쓸 수 없고, 다른 기기는 그대로
+        assertThat(store.rotate("phone-2", "phone-3", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(store.rotate("laptop-1", "laptop-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("기기 하나 폐기와 전체 폐기")
+    void revokeOneAndAll() {
+        store.save("1", "phone", "phone-1", "127.0.0.1", 60_000);
+        store.save("1", "laptop", "laptop-1", "127.0.0.1", 60_000);
+        store.save("2", "tablet", "tablet-1", "127.0.0.1", 60_000);
+
+        assertThat(store.revoke("phone-1")).isTrue();
+        assertThat(store.rotate("laptop-1", "laptop-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+
+        store.revokeAll("1");
+
+        assertThat(store.rotate("laptop-2", "laptop-3", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(store.familyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 기기 수를 넘으면 가장 오래된 기기부터 폐기된다")
+    void evictsOldestFamily() {
+        store.save("1", "a", "a-1", "127.0.0.1", 60_000);
+        store.save("1", "b", "b-1", "127.0.0.1", 60_000);
+        store.save("1", "c", "c-1", "127.0.0.1", 60_000);
+        store.save("1", "d", "d-1", "127.0.0.1", 60_000);
+
+        assertThat(store.familyCount()).isEqualTo(3);
+        assertThat(store.rotate("a-1", "a-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(store.rotate("d-1", "d-2", "127.0.0.1", 60_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 교체할 수 없고, 휠이 진행되면 메모리에서도 제거된다")
+    void expiresAfterTtl() {
+        store.save("1", "phone", "token-1", "127.0.0.1", 5_000);
+        store.save("2", "tablet", "token-2", "127.0.0.1", 60_000);
+
+        clock.addAndGet(5_000);
+        assertThat(store.rotate("token-1", "token-x", "127.0.0.1", 5_000)).isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+
+        store.expire();
+        assertThat(store.familyCount()).isEqualTo(1);
+        assertThat(store.tokenCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("교체하면 만료 시각이 새 TTL 기준으로 연장되고, 이전 토큰은 자기 수명까지만 남는다")
+    void rotateExtendsTtl() {
+        store.save("1", "phone", "token-1", "127.0.0.1", 5_000);
+
+        clock.addAndGet(4_000);
+        store.rotate("token-1", "token-2", "127.0.0.1", 5_000);
+        clock.addAndGet(4_000);
+        store.expire();
+
+        assertThat(store.familyCount()).isEqualTo(1);
+        assertThat(store.tokenCount()).isEqualTo(1);
+        assertThat(store.rotate("token-2", "token-3", "127.0.0.1", 5_000)).isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+    }
+}
@@ -0,0 +1,87 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/*
+ * Redis 왕복 횟수 확인
+ *
+ * StringRedisTemplate 호출 1번이 Redis 왕복 1번이므로, 템플릿 호출 수로 로그인/재발급/로그아웃의 왕복 수를 센다.
+ */
+class RedisRefreshTokenStoreTests {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        refreshTokenStore = new RedisRefreshTokenStore(redisTemplate, 10);
+    }
+
+    @Test
+    @DisplayName("로그인 - 패밀리, 토큰 해시 인덱스, 사용자 기기 목록을 왕복 1회로 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveIsSingleRoundTrip() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        refreshTokenStore.save("1", "family", "hash", "127.0.0.1", 1000L);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("refreshToken:user:1", "refreshToken:family:family", "refreshToken:token:hash")),
+                eq("1"), eq("family"), eq("hash"), eq("127.0.0.1"), eq("1000"), any(), eq("refreshToken:family:"), eq("10"));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("재발급 - 토큰 해시로 패밀리를 찾아 확인과 교체를 왕복 1회로 처리한다")
+    @SuppressWarnings("unchecked")
+    void rotateIsSingleRoundTrip() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L, 0L, -1L, -2L);
+
+        assertThat(refreshTokenStore.rotate("old", "new", "127.0.0.1", 1000L))
+                .isEqualTo(RefreshTokenStore.RotateResult.ROTATED);
+        assertThat(refreshTokenStore.rotate("old", "new", "127.0.0.1", 1000L))
+                .isEqualTo(RefreshTokenStore.RotateResult.NOT_FOUND);
+        assertThat(refreshTokenStore.rotate("old", "new", "10.0.0.1", 1000L))
+                .isEqualTo(RefreshTokenStore.RotateResult.IP_MISMATCH);
+        assertThat(refreshTokenStore.rotate("old", "new", "127.0.0.1", 1000L))
+                .isEqualTo(RefreshTokenStore.RotateResult.REUSED);
+
+        verify(redisTemplate, times(4)).execute(any(RedisScript.class),
+                eq(List.of("refreshToken:token:old", "refreshToken:token:new")), any(Object[].class));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 기기 하나, 전체 기기 폐기 모두 키 스캔 없이 왕복 1회로 처리한다")
+    @SuppressWarnings("unchecked")
+    void revokeIsSingleRoundTrip() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L, 2L);
+
+        assertThat(refreshTokenStore.revoke("hash")).isTrue();
+        refreshTokenStore.revokeAll("1");
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("refreshToken:token:hash")), any(Object[].class));
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("refreshToken:user:1")), any(Object[].class));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,75 @@
+package com.yfmf.footlog.domain.auth.refreshToken.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTests {
+
+    static final class Item extends TimingWheel.Node {
+        final int id;
+
+        Item(int id) {
+            this.id = id;
+        }
+    }
+
+    @Test
+    @DisplayName("상위 레벨로 예약된 원소도 정확한 틱에 만료된다")
+    void expiresAtExactTickAcrossLevels() {
+        TimingWheel<Item> wheel = new TimingWheel<>(1_000);
+        Random random = new Random(7);
+        List<Item> items = new ArrayList<>();
+        // 1틱 ~ 약 3일(초 단위) 범위, 레벨 0~2 에 골고루 분포
+        for (int i = 0; i < 2_000; i++) {
+            Item item = new Item(i);
+            wheel.schedule(item, 1_000 + 1 + random.nextInt(260_000));
+            items.add(item);
+        }
+
+        int expiredCount = 0;
+        for (long tick = 1_001; tick <= 1_000 + 260_001; tick++) {
+            for (Item item : wheel.advance(tick)) {
+                assertThat(item.deadlineTick).isEqualTo(tick);
+                expiredCount++;
+            }
+        }
+
+        assertThat(expiredCount).isEqualTo(items.size());
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소된 원소는 만료되지 않고, 다시 예약하면 새 시각에 만료된다")
+    void cancelAndReschedule() {
+        TimingWheel<Item> wheel = new TimingWheel<>(0);
+        Item cancelled = new Item(1);
+        Item moved = new Item(2);
+        wheel.schedule(cancelled, 100);
+        wheel.schedule(moved, 100);
+
+        wheel.cancel(cancelled);
+        wheel.schedule(moved, 5_000);
+
+        assertThat(wheel.advance(4_999)).isEmpty();
+        assertThat(wheel.advance(5_000)).extracting(item -> item.id).containsExactly(2);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("휠 범위를 넘는 만료 시각도 처리한다")
+    void handlesDeadlineBeyondSpan() {
+        TimingWheel<Item> wheel = new TimingWheel<>(0);
+        Item far = new Item(1);
+        long deadline = (1L << 24) + 12_345;
+        wheel.schedule(far, deadline);
+
+        assertThat(wheel.advance(deadline - 1)).isEmpty();
+        assertThat(wheel.advance(deadline)).extracting(item -> item.id).containsExactly(1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.yfmf.footlog.domain.auth.revocation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationListTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private final List<String> published = new ArrayList<>();
+    private RevocationChannel.Listener remote;
+
+    private AccessTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        RevocationChannel channel = new RevocationChannel() {
+            @Override
+            public void publish(String tokenId, long expiresAtMillis) {
+                published.add(tokenId);
+            }
+
+            @Override
+            public void subscribe(Listener listener) {
+                remote = listener;
+            }
+        };
+        revocationList = new AccessTokenRevocationList(channel, 1_000, clock::get);
+        channel.subscribe(revocationList::apply);
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰만 막고, 다른 서버에도 알린다")
+    void revokesOnlyGivenToken() {
+        revocationList.revoke("jti-1", clock.get() + 60_000);
+
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+        assertThat(revocationList.isRevoked("jti-2")).isFalse();
+        assertThat(revocationList.isRevoked(null)).isFalse();
+        assertThat(published).containsExactly("jti-1");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 받은 폐기 알림도 반영한다")
+    void appliesRemoteRevocation() {
+        remote.onRevoked("jti-remote", clock.get() + 60_000);
+
+        assertThat(revocationList.isRevoked("jti-remote")).isTrue();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 목록에서 빠진다")
+    void entriesExpireWithToken() {
+        revocationList.revoke("jti-1", clock.get() + 5_000);
+        revocationList.revoke("jti-2", clock.get() + 60_000);
+        // 이미 만료된 토큰은 저장하지도, 알리지도 않는다.
+        revocationList.revoke("jti-3", clock.get());
+
+        clock.addAndGet(5_000);
+        assertThat(revocationList.isRevoked("jti-1")).isFalse();
+
+        revocationList.sweep();
+        assertThat(revocationList.size()).isEqualTo(1);
+        assertThat(revocationList.isRevoked("jti-2")).isTrue();
+        assertThat(published).containsExactly("jti-1", "jti-2");
+    }
+
+    @Test
+    @DisplayName("블룸 필터는 추가된 값을 놓치지 않는다")
+    void bloomFilterHasNoFalseNegative() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("jti-" + i)).isTrue();
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
@@ -0,0 +1,74 @@
+package com.yfmf.footlog.domain.auth.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenBucketLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    private void advanceSeconds(long seconds) {
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    @Test
+    @DisplayName("용량만큼 허용한 뒤 거절하고, 다음 토큰까지 남은 초를 알려준다")
+    void consumesUntilEmpty() {
+        // 5개 / 300초 -> 60초마다 1개 보충
+        InMemoryTokenBucketLimiter limiter = new InMemoryTokenBucketLimiter(5, 300, 100, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryConsume("test@example.com")).isZero();
+        }
+        assertThat(limiter.tryConsume("test@example.com")).isEqualTo(60L);
+
+        advanceSeconds(45);
+        assertThat(limiter.tryConsume("test@example.com")).isEqualTo(15L);
+
+        advanceSeconds(15);
+        assertThat(limiter.tryConsume("test@example.com")).isZero();
+        assertThat(limiter.tryConsume("other@example.com")).isZero();
+    }
+
+    @Test
+    @DisplayName("가득 찰 만큼 쉰 버킷은 제거된다")
+    void sweepsIdleBuckets() {
+        InMemoryTokenBucketLimiter limiter = new InMemoryTokenBucketLimiter(10, 60, 100, clock::get);
+        limiter.tryConsume("1.1.1.1");
+        limiter.tryConsume("2.2.2.2");
+
+        advanceSeconds(30);
+        limiter.tryConsume("2.2.2.2");
+        advanceSeconds(30);
+        limiter.sweep(clock.get());
+
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 수 한도에 닿으면 오래 쓰이지 않은 버킷부터 제거하고, 새 키도 자기 버킷을 쓴다")
+    void boundsMemoryUnderKeySpraying() {
+        InMemoryTokenBucketLimiter limiter = new InMemoryTokenBucketLimiter(3, 60, 10, clock::get);
+        for (int i = 0; i < 3; i++) {
+            limiter.tryConsume("victim@example.com");
+        }
+
+        int allowed = 0;
+        for (int i = 0; i < 1_000; i++) {
+            clock.incrementAndGet();
+            if (limiter.tryConsume("10.0." + (i / 256) + "." + (i % 256)) == 0) {
+                allowed++;
+            }
+            // 계속 쓰이는 키의 버킷은 제거되지 않아 한도가 풀리지 않는다.
+            assertThat(limiter.tryConsume("victim@example.com")).isPositive();
+        }
+
+        assertThat(limiter.size()).isLessThanOrEqualTo(10);
+        assertThat(allowed).isEqualTo(1_000);
+    }
+}
@@ -0,0 +1,69 @@
+package com.yfmf.footlog.domain.auth.utils;
+
+import com.yfmf.footlog.domain.auth.exception.TooManyAuthRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTests {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 해시 작업이 끝나지 않도록 막아 두는 인코더
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{hashed}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    };
+
+    private final PasswordHasher passwordHasher = new PasswordHasher(blockingEncoder, meterRegistry, 1, 1, 3, 5000);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 즉시 거절하고 Retry-After 값을 전달한다")
+    void rejectsWhenSaturated() throws Exception {
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordHasher.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordHasher.encode("b"));
+        while (meterRegistry.get("auth.password.hashing.queue").gauge().value() < 1) {
+            Thread.sleep(5);
+        }
+
+        assertThatThrownBy(() -> passwordHasher.encode("c"))
+                .isInstanceOf(TooManyAuthRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{hashed}a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{hashed}b");
+    }
+}
@@ -3,10 +3,12 @@ package com.yfmf.footlog.domain.club;
 import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
 import com.yfmf.footlog.domain.auth.exception.LoginRequiredException;
 import com.yfmf.footlog.domain.club.controller.ClubController;
+import com.yfmf.footlog.domain.club.dto.ClubDetailResponseDTO;
 import com.yfmf.footlog.domain.club.dto.ClubRegistRequestDTO;
 import com.yfmf.footlog.domain.club.dto.ClubRegistResponseDTO;
 import com.yfmf.footlog.domain.club.entity.Club;
 import com.yfmf.footlog.domain.club.exception.ClubNotFoundException;
+import com.yfmf.footlog.domain.club.service.ClubMemberService;
 import com.yfmf.footlog.domain.club.service.ClubService;
 import com.yfmf.footlog.domain.member.domain.Authority;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +37,9 @@ class ClubControllerTest {
     @Mock
     private ClubService clubService;
 
+    @Mock
+    private ClubMemberService clubMemberService;
+
     // 각 테스트 메서드 실행 전에 Mockito로 선언된 Mock 객체들을 초기화
     @BeforeEach
     void setUp() {
@@ -46,7 +51,7 @@ class ClubControllerTest {
     void createClub_Success() {
         // given: 테스트에 필요한 입력 데이터와 예상되는 동작 설정
         ClubRegistRequestDTO requestDTO = new ClubRegistRequestDTO();
-        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.USER); // 로그인된 사용자 정보
+        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.ROLE_USER); // 로그인된 사용자 정보
         ClubRegistResponseDTO responseDTO = new ClubRegistResponseDTO();
 
         // 구단 등록 시 service가 성공적으로 처리한다고 가정
@@ -121,48 +126,54 @@ class ClubControllerTest {
     }
 
     @Test
-    @DisplayName("구단 ID로 구단 조회 성공")
+    @DisplayName("구단 ID로 구단 조회 성공 - 구단원 여부와 수정 권한을 함께 돌려준다")
     void getClubById_Success() {
         // given: 특정 구단 ID로 조회할 클럽 설정
         Long clubId = 1L;
         Club club = new Club();
-        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.USER);  // 로그인 정보 포함
+        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.ROLE_USER);  // 로그인 정보 포함
         when(clubService.getClubByClubId(clubId)).thenReturn(club);
+        when(clubMemberService.isClubMember(1L, clubId)).thenReturn(true);
+        when(clubMemberService.hasClubPermission(1L, clubId)).thenReturn(false);
 
         // when: 구단 ID로 클럽 조회 API 호출
-        ResponseEntity<Club> response = clubController.getClubById(clubId, loginedInfo);
+        ResponseEntity<ClubDetailResponseDTO> response = clubController.getClubById(clubId, loginedInfo);
 
-        // then: 조회된 클럽이 정상적으로 반환되는지 확인
+        // then: 조회된 클럽과 구단원 여부가 정상적으로 반환되는지 확인
         assertEquals(HttpStatus.OK, response.getStatusCode());  // 응답 상태가 200(OK)인지 확인
-        assertNotNull(response.getBody());  // 응답 내용이 null이 아님을 확인
+        assertSame(club, response.getBody().getClub());
+        assertTrue(response.getBody().isMember());
+        assertFalse(response.getBody().isHasPermission());
         verify(clubService, times(1)).getClubByClubId(clubId);  // getClubByClubId 메서드가 한 번 호출되었는지 확인
     }
 
     @Test
-    @DisplayName("로그인하지 않은 사용자가 구단 조회 시 예외 발생")
-    void getClubById_Unauthorized() {
+    @DisplayName("로그인하지 않은 사용자도 구단을 조회할 수 있고, 구단원/권한은 false 로 내려준다")
+    void getClubById_Anonymous() {
         // given: 구단 ID로 조회
         Long clubId = 1L;
+        when(clubService.getClubByClubId(clubId)).thenReturn(new Club());
+
+        // when: 로그인하지 않은 상태에서 조회
+        ResponseEntity<ClubDetailResponseDTO> response = clubController.getClubById(clubId, null);
 
-        // when & then: 로그인하지 않은 상태에서 요청 시 LoginRequiredException 발생 확인
-        assertThrows(LoginRequiredException.class, () -> clubController.getClubById(clubId, null));
-        verify(clubService, never()).getClubByClubId(anyLong());  // getClubByClubId 메서드가 호출되지 않았음을 확인
+        // then: 구단원 확인은 하지 않는다
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.getBody().isMember());
+        assertFalse(response.getBody().isHasPermission());
+        verify(clubMemberService, never()).isClubMember(anyLong(), anyLong());
     }
 
     @Test
-    @DisplayName("구단 ID로 구단 조회 시 구단이 없을 때 예외 발생")
+    @DisplayName("구단 ID로 구단 조회 시 구단이 없으면 예외가 그대로 전달된다")
     void getClubById_NotFound() {
         // given: 구단 ID로 조회 시 클럽이 없음을 설정
         Long clubId = 1L;
-        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.USER);  // 로그인 정보 포함
+        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.ROLE_USER);  // 로그인 정보 포함
         when(clubService.getClubByClubId(clubId)).thenThrow(new ClubNotFoundException("구단이 존재하지 않습니다.", "[ClubService] getClubById"));
 
-        // when: 구단 ID로 클럽 조회 API 호출
-        ResponseEntity<Club> response = clubController.getClubById(clubId, loginedInfo);
-
-        // then: 클럽이 없을 때 404 응답 확인
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());  // 응답 상태가 404(NOT_FOUND)인지 확인
-        verify(clubService, times(1)).getClubByClubId(clubId);  // getClubByClubId 메서드가 호출되었는지 확인
+        // when & then: GlobalControllerAdvice 가 404 로 바꾸도록 예외를 전달
+        assertThrows(ClubNotFoundException.class, () -> clubController.getClubById(clubId, loginedInfo));
     }
 
     @Test
@@ -171,7 +182,8 @@ class ClubControllerTest {
         // given: 구단 업데이트 요청 설정
         Long clubId = 1L;
         ClubRegistRequestDTO requestDTO = new ClubRegistRequestDTO();
-        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.USER);  // 로그인 정보 포함
+        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.ROLE_USER);  // 로그인 정보 포함
+        when(clubService.hasClubAuthority(clubId, 1L)).thenReturn(true);
 
         // when: 구단 업데이트 API 호출
         ResponseEntity<String> response = clubController.updateClub(clubId, requestDTO, loginedInfo);
@@ -195,21 +207,20 @@ class ClubControllerTest {
     }
 
     @Test
-    @DisplayName("구단 업데이트 시 구단이 없을 때 예외 발생")
-    void updateClub_NotFound() {
-        // given: 구단 ID로 업데이트할 클럽이 없음을 설정
+    @DisplayName("구단주 또는 매니저가 아니면 구단 업데이트 시 403")
+    void updateClub_Forbidden() {
+        // given: 권한 없는 사용자
         Long clubId = 1L;
         ClubRegistRequestDTO requestDTO = new ClubRegistRequestDTO();
-        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.USER);  // 로그인 정보 포함
-        doThrow(new ClubNotFoundException("업데이트할 구단이 존재하지 않습니다.", "[ClubService] updateClub"))
-                .when(clubService).updateClub(clubId, requestDTO);
+        LoginedInfo loginedInfo = new LoginedInfo(2L, "member", "member@example.com", Authority.ROLE_USER);
+        when(clubService.hasClubAuthority(clubId, 2L)).thenReturn(false);
 
         // when: 구단 업데이트 API 호출
         ResponseEntity<String> response = clubController.updateClub(clubId, requestDTO, loginedInfo);
 
-        // then: 클럽이 없을 때 404 응답 확인
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());  // 응답 상태가 404(NOT_FOUND)인지 확인
-        verify(clubService, times(1)).updateClub(clubId, requestDTO);  // updateClub 메서드가 호출되었는지 확인
+        // then: 403 응답, 업데이트하지 않음
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verify(clubService, never()).updateClub(anyLong(), any(ClubRegistRequestDTO.class));
     }
 
     @Test
@@ -217,9 +228,11 @@ class ClubControllerTest {
     void deleteClub_Success() {
         // given: 삭제할 클럽 ID 설정
         Long clubId = 1L;
+        LoginedInfo loginedInfo = new LoginedInfo(1L, "testuser", "test@example.com", Authority.ROLE_USER);
+        when(clubService.hasClubAuthority(clubId, 1L)).thenReturn(true);
 
         // when: 구단 삭제 API 호출
-        ResponseEntity<String> response = clubController.deleteClub(clubId);
+        ResponseEntity<String> response = clubController.deleteClub(clubId, loginedInfo);
 
         // then: 구단 삭제가 성공적으로 이루어졌는지 확인
         assertEquals(HttpStatus.OK, response.getStatusCode());  // 응답 상태가 200(OK)인지 확인
@@ -228,18 +241,18 @@ class ClubControllerTest {
     }
 
     @Test
-    @DisplayName("구단 삭제 시 구단이 없을 때 예외 발생")
-    void deleteClub_NotFound() {
-        // given: 삭제할 클럽이 없음을 설정
+    @DisplayName("구단주 또는 매니저가 아니면 구단 삭제 시 403")
+    void deleteClub_Forbidden() {
+        // given: 권한 없는 사용자
         Long clubId = 1L;
-        doThrow(new ClubNotFoundException("삭제할 구단이 존재하지 않습니다.", "[ClubService] deleteClub"))
-                .when(clubService).deleteClub(clubId);
+        LoginedInfo loginedInfo = new LoginedInfo(2L, "member", "member@example.com", Authority.ROLE_USER);
+        when(clubService.hasClubAuthority(clubId, 2L)).thenReturn(false);
 
         // when: 구단 삭제 API 호출
-        ResponseEntity<String> response = clubController.deleteClub(clubId);
+        ResponseEntity<String> response = clubController.deleteClub(clubId, loginedInfo);
 
-        // then: 클럽이 없을 때 404 응답 확인
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());  // 응답 상태가 404(NOT_FOUND)인지 확인
-        verify(clubService, times(1)).deleteClub(clubId);  // deleteClub 메서드가 호출되었는지 확인
+        // then: 403 응답, 삭제하지 않음
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verify(clubService, never()).deleteClub(anyLong());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,125 @@
+package com.yfmf.footlog.domain.club;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
+import com.yfmf.footlog.domain.club.controller.ClubController;
+import com.yfmf.footlog.domain.club.controller.ClubMemberController;
+import com.yfmf.footlog.domain.club.dto.ClubMemberResponseDTO;
+import com.yfmf.footlog.domain.club.entity.Club;
+import com.yfmf.footlog.domain.club.entity.ClubMember;
+import com.yfmf.footlog.domain.club.enums.ClubLevel;
+import com.yfmf.footlog.domain.club.enums.ClubMemberRole;
+import com.yfmf.footlog.domain.club.enums.PeakDays;
+import com.yfmf.footlog.domain.club.enums.PeakHours;
+import com.yfmf.footlog.domain.club.repository.ClubMemberRepository;
+import com.yfmf.footlog.domain.club.repository.ClubRepository;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.SocialType;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import com.yfmf.footlog.support.QueryBudget;
+import com.yfmf.footlog.support.QueryCountConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구단 API 쿼리 예산 - 컨트롤러 호출과 JSON 직렬화까지 한 요청으로 보고 SQL 문 수를 센다.
+ * 목록 크기보다 작은 예산을 잡아 행마다 쿼리가 나가면 실패한다.
+ */
+@SpringBootTest
+@Transactional
+@Import(QueryCountConfig.class)
+class ClubQueryBudgetTests {
+
+    private static final int CLUBS = 20;
+    private static final int MEMBERS = 10;
+
+    @Autowired
+    private ClubController clubController;
+
+    @Autowired
+    private ClubMemberController clubMemberController;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private ClubMemberRepository clubMemberRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("구단 목록 조회 - 요일/시간대는 구단 수와 관계없이 묶어서 로딩한다 (예산 3)")
+    void getAllClubs() {
+        for (int i = 0; i < CLUBS; i++) {
+            clubRepository.save(club(1L, i));
+        }
+        clearPersistenceContext();
+
+        // 구단 목록 1 + 요일 1 + 시간대 1
+        String json = QueryBudget.assertAtMost(3, () -> objectMapper.writeValueAsString(clubController.getAllClubs()));
+
+        assertThat(json).contains("\"days\":[\"토\",\"일\"]");
+    }
+
+    @Test
+    @DisplayName("구단원 목록 조회 - 회원 정보와 구단 이름을 구단원마다 조회하지 않는다 (예산 4)")
+    void getClubMembers() {
+        Club club = clubRepository.save(club(1L, 0));
+        for (int i = 0; i < MEMBERS; i++) {
+            Member member = memberRepository.save(member(i));
+            clubMemberRepository.save(new ClubMember(club.getClubId(), member.getId(), ClubMemberRole.MEMBER));
+        }
+        clearPersistenceContext();
+        LoginedInfo logined = new LoginedInfo(1L, "구단주", "owner@footlog.test", Authority.ROLE_USER);
+
+        // 구단 확인 1 + 구단원 1 + 회원 1 + 구단 이름 1
+        ResponseEntity<List<ClubMemberResponseDTO>> response = QueryBudget.assertAtMost(4, () -> {
+            ResponseEntity<List<ClubMemberResponseDTO>> result = clubMemberController.getClubMembers(club.getClubId(), logined);
+            objectMapper.writeValueAsString(result.getBody());
+            return result;
+        });
+
+        assertThat(response.getBody()).hasSize(MEMBERS);
+    }
+
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Club club(Long ownerId, int index) {
+        return new Club(ownerId, "예산구단" + index, "쿼리 예산 테스트", "budget" + index, 11,
+                List.of(PeakDays.토, PeakDays.일), List.of(PeakHours.아침), ClubLevel.AMATEUR,
+                "종합운동장", "서울", "중구", "20대", "MALE");
+    }
+
+    private static Member member(int index) {
+        return Member.builder()
+                .name("구단원" + index)
+                .email("budget" + index + "@footlog.test")
+                .password("password")
+                .gender(Gender.MALE)
+                .socialType(SocialType.NONE)
+                .authority(Authority.ROLE_USER)
+                .build();
+    }
+}
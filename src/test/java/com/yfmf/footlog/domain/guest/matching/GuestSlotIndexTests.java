@@ -0,0 +1,85 @@
+package com.yfmf.footlog.domain.guest.matching;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GuestSlotIndexTests {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 24);
+
+    private GuestSlotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new GuestSlotIndex();
+    }
+
+    private void put(long guestId, String location, int startHour, int endHour) {
+        index.upsert(guestId, guestId * 10, location, DATE.atTime(startHour, 0),
+                LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), true);
+    }
+
+    private List<Long> candidateIds(String fieldLocation, int startHour, int endHour) {
+        return index.candidates(DATE, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), fieldLocation, 10)
+                .stream().map(GuestSlotIndex.Candidate::guestId).toList();
+    }
+
+    @Test
+    @DisplayName("매치 일정을 모두 포함하는 같은 시/도 용병만 후보가 된다")
+    void candidatesCoverMatchSchedule() {
+        put(1L, "서울 강남구", 17, 22);
+        put(2L, "서울 강남구", 19, 22); // 매치 시작 이후 합류
+        put(3L, "서울 마포구", 18, 20); // 매치 종료 전 이탈
+        put(4L, "부산 해운대구", 17, 22); // 다른 시/도
+
+        assertThat(candidateIds("서울 강남구", 18, 21)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("구장 위치와 가까운 순, 그 다음 일정 여유가 적은 순으로 정렬한다")
+    void candidatesRankedByProximityAndSlack() {
+        put(1L, "서울 마포구", 18, 21);
+        put(2L, "서울 강남구 역삼동", 16, 23);
+        put(3L, "서울 강남구 역삼동", 18, 21);
+        put(4L, "서울 강남구", 17, 22);
+
+        assertThat(candidateIds("서울 강남구 역삼동", 18, 21)).containsExactly(3L, 2L, 4L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정/모집 마감/삭제가 바로 반영된다")
+    void upsertAndRemoveAreIncremental() {
+        put(1L, "서울 강남구", 17, 22);
+        put(2L, "서울 강남구", 17, 22);
+
+        put(1L, "서울 강남구", 20, 22);
+        index.upsert(2L, 20L, "서울 강남구", DATE.atTime(17, 0), LocalTime.of(17, 0), LocalTime.of(22, 0), false);
+
+        assertThat(candidateIds("서울 강남구", 18, 21)).isEmpty();
+
+        put(2L, "서울 강남구", 17, 22);
+        assertThat(candidateIds("서울 강남구", 18, 21)).containsExactly(2L);
+
+        index.remove(2L);
+        assertThat(candidateIds("서울 강남구", 18, 21)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지난 날짜의 버킷을 한 번에 비운다")
+    void removeBefore() {
+        put(1L, "서울 강남구", 17, 22);
+        index.upsert(2L, 20L, "서울 강남구", DATE.plusDays(1).atTime(17, 0), LocalTime.of(17, 0), LocalTime.of(22, 0), true);
+
+        assertThat(index.removeBefore(DATE.plusDays(1))).isEqualTo(1);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(candidateIds("서울 강남구", 18, 21)).isEmpty();
+    }
+}
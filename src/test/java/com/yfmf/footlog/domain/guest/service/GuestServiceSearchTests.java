@@ -0,0 +1,92 @@
+package com.yfmf.footlog.domain.guest.service;
+
+import com.yfmf.footlog.domain.guest.dto.GuestSearchPageDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSearchRequestDto;
+import com.yfmf.footlog.domain.guest.dto.GuestSummaryDto;
+import com.yfmf.footlog.domain.guest.repository.GuestRepository;
+import com.yfmf.footlog.error.ApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GuestServiceSearchTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 24, 18, 0);
+
+    @Mock
+    private GuestRepository guestRepository;
+
+    @InjectMocks
+    private GuestService guestService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private GuestSearchRequestDto condition(LocalTime startTime, LocalTime endTime,
+                                            LocalDateTime cursorScheduleDate, Long cursorId, Integer size) {
+        return new GuestSearchRequestDto("서울", null, LocalDate.of(2026, 10, 20), LocalDate.of(2026, 10, 31), null,
+                null, null, startTime, endTime, cursorScheduleDate, cursorId, size);
+    }
+
+    private List<GuestSummaryDto> guests(long fromId, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new GuestSummaryDto(fromId + i, 1L, "서울", 25, BASE.plusHours(i), BASE.getDayOfWeek(),
+                        LocalTime.of(18, 0), LocalTime.of(20, 0), null, true))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("size + 1 건이 조회되면 다음 페이지가 있고 마지막 (날짜, id) 가 커서가 된다")
+    void searchGuestsHasNext() {
+        when(guestRepository.searchGuests(any(), eq(4))).thenReturn(guests(10, 4));
+
+        GuestSearchPageDto page = guestService.searchGuests(condition(null, null, null, null, 3));
+
+        assertThat(page.guests()).hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursorScheduleDate()).isEqualTo(BASE.plusHours(2));
+        assertThat(page.nextCursorId()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지다")
+    void searchGuestsLastPage() {
+        when(guestRepository.searchGuests(any(), eq(4))).thenReturn(guests(13, 2));
+
+        GuestSearchPageDto page = guestService.searchGuests(condition(null, null, BASE.plusHours(2), 12L, 3));
+
+        assertThat(page.guests()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursorId()).isNull();
+    }
+
+    @Test
+    @DisplayName("시작 시간이 종료 시간보다 늦거나 커서가 반쪽이면 예외가 발생한다")
+    void searchGuestsInvalidCondition() {
+        assertThatThrownBy(() -> guestService.searchGuests(condition(LocalTime.of(20, 0), LocalTime.of(18, 0), null, null, null)))
+                .isInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> guestService.searchGuests(condition(null, null, BASE, null, null)))
+                .isInstanceOf(ApplicationException.class);
+        verify(guestRepository, never()).searchGuests(any(), anyInt());
+    }
+}
@@ -0,0 +1,115 @@
+package com.yfmf.footlog.domain.guest.sweeper;
+
+import com.yfmf.footlog.domain.guest.matching.GuestSlotIndex;
+import com.yfmf.footlog.domain.guest.repository.GuestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpiredGuestSweeperTests {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 24, 12, 0);
+    private static final LocalDateTime TODAY = NOW.toLocalDate().atStartOfDay();
+
+    @Mock
+    private GuestRepository guestRepository;
+
+    @Mock
+    private GuestSlotIndex guestSlotIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExpiredGuestSweeper sweeper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW.atZone(ZONE).toInstant(), ZONE);
+        sweeper = new ExpiredGuestSweeper(guestRepository, guestSlotIndex, transactionManager, meterRegistry,
+                false, 2, 3, 30, clock);
+    }
+
+    @Test
+    @DisplayName("지난 모집글을 chunk 단위로 마감 처리하고 보관 기간이 지난 글은 삭제하며, 인덱스에서 지난 날짜를 비운다")
+    void sweepInChunks() {
+        when(guestRepository.findExpiredGuestIds(eq(true), eq(TODAY), anyInt()))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+        when(guestRepository.markUnavailable(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        when(guestRepository.findExpiredGuestIds(eq(false), eq(TODAY.minusDays(30)), anyInt()))
+                .thenReturn(List.of(7L));
+
+        ExpiredGuestSweeper.SweepResult result = sweeper.sweep();
+
+        assertThat(result.expired()).isEqualTo(3);
+        assertThat(result.deleted()).isEqualTo(1);
+        verify(guestRepository).markUnavailable(List.of(1L, 2L));
+        verify(guestRepository).markUnavailable(List.of(3L));
+        verify(guestRepository).deleteAllByIdInBatch(List.of(7L));
+        verify(guestSlotIndex).remove(3L);
+        verify(guestSlotIndex).removeBefore(NOW.toLocalDate());
+        assertThat(meterRegistry.get("guest.sweeper.rows").tag("action", "expire").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("guest.sweeper.rows").tag("action", "delete").summary().totalAmount()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("오늘 일정의 모집글은 경기 시각이 지나도 오늘 안에는 마감하지 않는다")
+    void keepsPostingsScheduledToday() {
+        // 일정 날짜만 담긴 오늘 모집글(2L), 오늘 오전 모집글(3L), 어제 모집글(1L)
+        Map<Long, LocalDateTime> schedules = Map.of(
+                1L, TODAY.minusDays(1),
+                2L, TODAY,
+                3L, NOW.minusHours(3));
+        when(guestRepository.findExpiredGuestIds(eq(true), any(), anyInt())).thenAnswer(invocation -> {
+            LocalDateTime before = invocation.getArgument(1);
+            return schedules.entrySet().stream()
+                    .filter(entry -> entry.getValue().isBefore(before))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+        when(guestRepository.markUnavailable(anyList())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        when(guestRepository.findExpiredGuestIds(eq(false), any(), anyInt())).thenReturn(List.of());
+
+        ExpiredGuestSweeper.SweepResult result = sweeper.sweep();
+
+        assertThat(result.expired()).isEqualTo(1);
+        verify(guestRepository).markUnavailable(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("한 번 실행에 처리하는 chunk 수에는 상한이 있다")
+    void sweepStopsAtMaxChunks() {
+        when(guestRepository.findExpiredGuestIds(eq(true), any(), anyInt())).thenReturn(List.of(1L, 2L));
+        when(guestRepository.markUnavailable(anyList())).thenReturn(2);
+        when(guestRepository.findExpiredGuestIds(eq(false), any(), anyInt())).thenReturn(List.of());
+
+        ExpiredGuestSweeper.SweepResult result = sweeper.sweep();
+
+        assertThat(result.expired()).isEqualTo(6);
+        verify(guestRepository, times(3)).markUnavailable(anyList());
+        verify(guestRepository, never()).deleteAllByIdInBatch(any());
+    }
+}
@@ -1,116 +1,157 @@
 package com.yfmf.footlog.domain.match;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yfmf.footlog.domain.auth.dto.LoginedInfo;
 import com.yfmf.footlog.domain.club.entity.Club;
-import com.yfmf.footlog.domain.match.dto.LoadMatchResponseDTO;
-import com.yfmf.footlog.domain.match.dto.MatchRegistRequestDTO;
+import com.yfmf.footlog.domain.club.enums.PeakDays;
+import com.yfmf.footlog.domain.club.enums.PeakHours;
+import com.yfmf.footlog.domain.club.repository.ClubRepository;
+import com.yfmf.footlog.domain.match.controller.MatchController;
+import com.yfmf.footlog.domain.match.dto.MatchRegisterRequestDTO;
+import com.yfmf.footlog.domain.match.dto.MatchResponseDTO;
+import com.yfmf.footlog.domain.match.entity.Match;
 import com.yfmf.footlog.domain.match.entity.MatchSchedule;
 import com.yfmf.footlog.domain.match.entity.Pro;
-import jakarta.transaction.Transactional;
-import org.junit.jupiter.api.Assertions;
+import com.yfmf.footlog.domain.match.enums.ClubLevel;
+import com.yfmf.footlog.domain.match.enums.MatchGender;
+import com.yfmf.footlog.domain.match.enums.MatchPlayerQuantity;
+import com.yfmf.footlog.domain.match.enums.MatchStatus;
+import com.yfmf.footlog.domain.match.enums.QuarterQuantity;
+import com.yfmf.footlog.domain.match.repository.MatchRepository;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.support.QueryBudget;
+import com.yfmf.footlog.support.QueryCountConfig;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.Arguments;
-import org.junit.jupiter.params.provider.CsvSource;
-import org.junit.jupiter.params.provider.MethodSource;
-import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.stream.Stream;
 
-import static com.yfmf.footlog.domain.match.enums.ClubLevel.LEVEL_MEDIUM;
-import static com.yfmf.footlog.domain.match.enums.MatchGender.GENDER_MALE;
-import static com.yfmf.footlog.domain.match.enums.MatchPlayerQuantity.PLAYER_QUANTITY_ELEVEN;
-import static com.yfmf.footlog.domain.match.enums.MatchStatus.MATCH_STATUS_IN_PROGRESS;
-import static com.yfmf.footlog.domain.match.enums.QuarterQuantity.QUARTER_QUANTITY_FOUR;
+import static org.assertj.core.api.Assertions.assertThat;
 
-
-@Transactional
+/**
+ * 경기 API 쿼리 예산 - 컨트롤러 호출과 JSON 직렬화까지 한 요청으로 보고 SQL 문 수를 센다.
+ * 경기마다 myClub / enemyClub 과 구단의 요일/시간대를 따로 조회하면 예산을 넘는다.
+ */
 @SpringBootTest
+@Transactional
+@Import(QueryCountConfig.class)
 public class MatchTests {
 
+    private static final int MATCHES = 10;
+
     @Autowired
-    private MatchService matchService;
+    private MatchController matchController;
 
+    @Autowired
+    private ClubRepository clubRepository;
 
-    @DisplayName("경기 전체 목록 조회 테스트")
-    @Test
-    void testLoadAllMatch() {
+    @Autowired
+    private MatchRepository matchRepository;
 
-        Assertions.assertDoesNotThrow(
-                () -> {
-                    List<LoadMatchResponseDTO> matches = matchService.loadAllMatches();
-                    matches.forEach(System.out::println);
-                }
-        );
-    }
+    @Autowired
+    private EntityManager entityManager;
 
+    @Autowired
+    private ObjectMapper objectMapper;
 
-    private static Stream<Arguments> newMatch() {
-        return Stream.of(
-                Arguments.of(
-                        new MatchRegistRequestDTO(
-                                LocalDateTime.now(),
-                                1L,
-                                2L,
-                                new Club(),
-                                new Club(),
-                                "매치 사진",
-                                "매치 설명",
-                                new MatchSchedule(LocalDate.now(), LocalTime.now(), LocalTime.now()),
-                                PLAYER_QUANTITY_ELEVEN,
-                                QUARTER_QUANTITY_FOUR,
-                                "종합운동장",
-                                10000,
-                                new Pro(),
-                                LEVEL_MEDIUM,
-                                GENDER_MALE,
-                                MATCH_STATUS_IN_PROGRESS
-                        )
-                ));
-    }
+    @DisplayName("경기 전체 목록 조회 - 경기 수와 관계없이 경기 1 + 요일 1 + 시간대 1 (예산 3)")
+    @Test
+    void testLoadAllMatch() {
+        for (int i = 0; i < MATCHES; i++) {
+            Club myClub = clubRepository.save(club(i * 2));
+            Club enemyClub = clubRepository.save(club(i * 2 + 1));
+            matchRepository.save(match(myClub, enemyClub));
+        }
+        clearPersistenceContext();
 
-    @Transactional
-    @ParameterizedTest
-    @MethodSource("newMatch")
-    @DisplayName("경기 등록 테스트")
-    void testRegistMatch(MatchRegistRequestDTO newMatch) {
-        Assertions.assertDoesNotThrow(
-                () -> matchService.registMatch(newMatch)
-        );
+        String json = QueryBudget.assertAtMost(3,
+                () -> objectMapper.writeValueAsString(matchController.getAllMatches().getBody()));
 
-        matchService.loadAllMatches().forEach(System.out::println);
+        assertThat(objectMapper.readTree(json)).hasSize(MATCHES);
     }
 
+    @DisplayName("단일 경기 조회 - 경기와 두 구단 1 + 요일 1 + 시간대 1 (예산 3)")
+    @Test
+    void testFindMatchById() {
+        Match saved = matchRepository.save(match(clubRepository.save(club(0)), clubRepository.save(club(1))));
+        clearPersistenceContext();
 
-    @CsvSource({"1, 수정할 경기 이름 1", "2, 수정할 경기 이름 2"})
-    @ParameterizedTest
-    @DisplayName("경기 ID로 경기 수정 테스트")
-    void testFindMatchById(Long matchId, String matchIntroduce) {
+        MatchResponseDTO response = QueryBudget.assertAtMost(3, () -> {
+            ResponseEntity<MatchResponseDTO> result = matchController.getMatchById(saved.getMatchId());
+            objectMapper.writeValueAsString(result.getBody());
+            return result.getBody();
+        });
 
-        Assertions.assertDoesNotThrow(
-                () -> matchService.modifyMatch(matchId, matchIntroduce)
-        );
+        assertThat(response.getEnemyClub().getClubName()).isEqualTo("예산구단1");
+    }
 
-        matchService.loadAllMatches().forEach(System.out::println);
+    @DisplayName("경기 등록 - 구단 조회 1 + 등록 1 + 요일 1 + 시간대 1 (예산 4)")
+    @Test
+    void testRegistMatch() {
+        Club myClub = clubRepository.save(club(0));
+        clearPersistenceContext();
+
+        MatchRegisterRequestDTO request = new MatchRegisterRequestDTO();
+        request.setMyClubId(myClub.getClubId());
+        request.setMatchIntroduce("매치 설명");
+        request.setMatchDate(LocalDate.now().plusDays(7));
+        request.setMatchStartTime("10:00");
+        request.setMatchEndTime("12:00");
+        request.setMatchPlayerQuantity(MatchPlayerQuantity.ELEVEN);
+        request.setQuarterQuantity(QuarterQuantity.FOUR);
+        request.setFieldLocation("종합운동장");
+        request.setMatchCost(10000);
+        request.setPro(new Pro(false, 0));
+        request.setClubLevel(ClubLevel.아마추어);
+        request.setMatchGender(MatchGender.MALE);
+        request.setMatchStatus(MatchStatus.WAITING);
+        LoginedInfo logined = new LoginedInfo(1L, "구단주", "owner@footlog.test", Authority.ROLE_USER);
+
+        MatchResponseDTO response = QueryBudget.assertAtMost(4, () -> {
+            ResponseEntity<MatchResponseDTO> result = matchController.createMatch(request, logined);
+            objectMapper.writeValueAsString(result.getBody());
+            return result.getBody();
+        });
+
+        assertThat(response.getMatchId()).isNotNull();
+        assertThat(response.getMatchEnrollUserId()).isEqualTo(1L);
     }
 
+    private void clearPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+    }
 
-    @Transactional
-    @ParameterizedTest
-    @ValueSource(longs = {1})
-    @DisplayName("경기 ID로 경기 삭제")
-    void testRemoveMatchById(Long matchId) {
-        Assertions.assertDoesNotThrow(
-                () -> matchService.removeMatch(matchId)
-        );
+    private static Club club(int index) {
+        return new Club(1L, "예산구단" + index, "쿼리 예산 테스트", "matchbudget" + index, 11,
+                List.of(PeakDays.토), List.of(PeakHours.아침, PeakHours.낮),
+                com.yfmf.footlog.domain.club.enums.ClubLevel.AMATEUR,
+                "종합운동장", "서울", "중구", "20대", "MALE");
+    }
 
-        matchService.loadAllMatches().forEach(System.out::println);
+    private static Match match(Club myClub, Club enemyClub) {
+        return Match.builder()
+                .matchEnrollUserId(1L)
+                .myClub(myClub)
+                .enemyClub(enemyClub)
+                .matchIntroduce("매치 설명")
+                .matchSchedule(new MatchSchedule(LocalDate.now().plusDays(7), LocalTime.of(10, 0), LocalTime.of(12, 0)))
+                .matchPlayerQuantity(MatchPlayerQuantity.ELEVEN)
+                .quarterQuantity(QuarterQuantity.FOUR)
+                .fieldLocation("종합운동장")
+                .matchCost(10000)
+                .pro(new Pro(false, 0))
+                .clubLevel(ClubLevel.아마추어)
+                .matchGender(MatchGender.MALE)
+                .matchStatus(MatchStatus.ACCEPTED)
+                .build();
     }
 }
-
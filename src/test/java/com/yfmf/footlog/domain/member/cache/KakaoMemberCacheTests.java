@@ -0,0 +1,92 @@
+package com.yfmf.footlog.domain.member.cache;
+
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.SocialType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KakaoMemberCacheTests {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private KakaoMemberCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new KakaoMemberCache(500L, 2, now::get);
+    }
+
+    @Test
+    @DisplayName("TTL 안에서는 캐시된 회원 정보를 돌려주고 지나면 비운다")
+    void expiresAfterTtl() {
+        cache.put(100L, member(1L, "a@kakao.com"));
+
+        assertThat(cache.get(100L)).extracting(KakaoMemberCache.CachedMember::memberId).isEqualTo(1L);
+
+        now.addAndGet(500L);
+
+        assertThat(cache.get(100L)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 삭제 시 해당 회원의 캐시를 제거한다")
+    void evictMember() {
+        cache.put(100L, member(1L, "a@kakao.com"));
+        cache.put(200L, member(2L, "b@kakao.com"));
+
+        cache.evictMember(1L);
+
+        assertThat(cache.get(100L)).isNull();
+        assertThat(cache.get(200L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료 항목을 정리하고, 자리가 없으면 저장하지 않고 값만 돌려준다")
+    void boundedByMaxEntries() {
+        cache.put(100L, member(1L, "a@kakao.com"));
+        now.addAndGet(300L);
+        cache.put(200L, member(2L, "b@kakao.com"));
+
+        KakaoMemberCache.CachedMember overflow = cache.put(300L, member(3L, "c@kakao.com"));
+
+        assertThat(overflow.memberId()).isEqualTo(3L);
+        assertThat(cache.get(300L)).isNull();
+
+        now.addAndGet(300L);
+        cache.put(300L, member(3L, "c@kakao.com"));
+
+        assertThat(cache.get(100L)).isNull();
+        assertThat(cache.get(300L)).isNotNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로그인 기록 후 캐시된 마지막 로그인 시각을 앞으로만 당기고 만료 시각은 유지한다")
+    void recordLogin() {
+        LocalDateTime yesterday = LocalDateTime.of(2024, 11, 1, 9, 0);
+        cache.put(100L, member(1L, "a@kakao.com"));
+        assertThat(cache.get(100L).lastLoginDate()).isNull();
+
+        cache.recordLogin(100L, yesterday.plusDays(1));
+        cache.recordLogin(100L, yesterday);
+        cache.recordLogin(200L, yesterday);
+
+        assertThat(cache.get(100L).lastLoginDate()).isEqualTo(yesterday.plusDays(1));
+        assertThat(cache.get(200L)).isNull();
+        now.addAndGet(500L);
+        assertThat(cache.get(100L)).isNull();
+    }
+
+    private Member member(Long id, String email) {
+        return new Member(id, "카카오", email, null, Gender.MALE, SocialType.KAKAO,
+                Authority.ROLE_USER, null, null, null, null, null, false, null, null, null, null, null, null);
+    }
+}
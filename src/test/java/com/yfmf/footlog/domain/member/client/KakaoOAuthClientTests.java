@@ -0,0 +1,165 @@
+package com.yfmf.footlog.domain.member.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.property.KakaoProviderProperties;
+import com.yfmf.footlog.domain.member.property.KakaoRegistrationProperties;
+import com.yfmf.footlog.error.ApplicationException;
+import com.yfmf.footlog.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * 로컬 스텁 서버(JDK HttpServer)를 카카오 토큰/프로필 API 대신 띄워 실제 HTTP 로 검증한다.
+ */
+class KakaoOAuthClientTests {
+
+    private static final String TOKEN_BODY = """
+            {"token_type":"bearer","access_token":"kakao-access","expires_in":21599}""";
+    private static final String PROFILE_BODY = """
+            {"id":1234,"properties":{"nickname":"홍길동"},
+             "kakao_account":{"email":"kakao@example.com","gender":"male"},"unknown_field":true}""";
+
+    private HttpServer server;
+    private final AtomicInteger tokenStatus = new AtomicInteger(200);
+    private final AtomicLong profileDelayMillis = new AtomicLong();
+    private final AtomicInteger tokenCalls = new AtomicInteger();
+    private final AtomicReference<String> tokenRequestBody = new AtomicReference<>();
+    private final AtomicReference<String> profileAuthorization = new AtomicReference<>();
+
+    private KakaoOAuthClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/oauth/token", exchange -> {
+            tokenCalls.incrementAndGet();
+            tokenRequestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            respond(exchange, tokenStatus.get(), TOKEN_BODY);
+        });
+        server.createContext("/v2/user/me", exchange -> {
+            profileAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            sleep(profileDelayMillis.get());
+            respond(exchange, 200, PROFILE_BODY);
+        });
+        server.start();
+
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        KakaoProviderProperties provider = new KakaoProviderProperties();
+        provider.setTokenUri(baseUrl + "/oauth/token");
+        provider.setUserInfoUri(baseUrl + "/v2/user/me");
+        KakaoRegistrationProperties registration = new KakaoRegistrationProperties();
+        registration.setClientId("client-id");
+        registration.setRedirectUri("http://localhost:3000/callback");
+        registration.setAuthorizationGrantType("authorization_code");
+
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        client = new KakaoOAuthClient(provider, registration, objectMapper, 2, 100, 500, 300, 2, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("인가 코드로 토큰을 받아 프로필을 조회한다")
+    void fetchesProfile() {
+        MemberResponseDTO.KakaoInfoDTO profile = client.fetchProfile("auth-code").join();
+
+        assertThat(profile.kakaoAccount().email()).isEqualTo("kakao@example.com");
+        assertThat(tokenRequestBody.get()).contains("grant_type=authorization_code", "client_id=client-id", "code=auth-code");
+        assertThat(profileAuthorization.get()).isEqualTo("Bearer kakao-access");
+    }
+
+    @Test
+    @DisplayName("잘못된 인가 코드(4xx)는 요청 오류로 응답하고 서킷은 닫힌 채로 둔다")
+    void clientErrorDoesNotOpenCircuit() {
+        tokenStatus.set(401);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.fetchProfile("bad-code").join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause().isInstanceOf(ApplicationException.class)
+                    .extracting(e -> ((ApplicationException) e).getErrorCode()).isEqualTo(ErrorCode.FAILED_GET_ACCESS_TOKEN);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("응답이 느리면 시간 제한으로 끊고, 장애가 이어지면 서킷이 열려 카카오를 호출하지 않는다")
+    void timeoutsOpenCircuit() {
+        profileDelayMillis.set(1_000);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.fetchProfile("code").join())
+                    .cause().isInstanceOf(ApplicationException.class)
+                    .extracting(e -> ((ApplicationException) e).getErrorCode()).isEqualTo(ErrorCode.KAKAO_UNAVAILABLE);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsBefore = tokenCalls.get();
+        assertThatThrownBy(() -> client.fetchProfile("code").join())
+                .cause().isInstanceOf(ApplicationException.class);
+        assertThat(tokenCalls.get()).isEqualTo(callsBefore);
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커 - OPEN 후 대기 시간이 지나면 한 건만 시험 호출하고, 성공하면 닫힌다")
+    void circuitBreakerHalfOpen() {
+        AtomicLong clock = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(2, 1_000, clock::get);
+
+        breaker.tryAcquire();
+        breaker.onFailure();
+        breaker.tryAcquire();
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        clock.addAndGet(1_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
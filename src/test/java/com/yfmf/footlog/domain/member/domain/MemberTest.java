@@ -0,0 +1,81 @@
+package com.yfmf.footlog.domain.member.domain;
+
+import com.yfmf.footlog.domain.member.enums.Area;
+import com.yfmf.footlog.domain.member.enums.MainFoot;
+import com.yfmf.footlog.domain.member.enums.Position;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MemberTest {
+
+    private static Stream<Arguments> getMember() {
+        return Stream.of(
+                Arguments.of(
+                        1L,
+                        "테스트 유저 1",
+                        "test1@example.com",
+                        LocalDate.now(),
+                        MainFoot.왼발,
+                        Area.서울,
+                        Position.ST,
+                        "자기 소개",
+                        false,
+                        172.2,
+                        73.4,
+                        "URL이 어쩌구 저쩌구",
+                        "010-1234-5678",
+                        Authority.ROLE_USER,
+                        new Stat(
+                                20,
+                                40,
+                                50,
+                                60,
+                                80,
+                                100
+                        ),
+                        new Record(
+                                1,
+                                2,
+                                3,
+                                4
+                        )
+                )
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMember")
+    void createMemberTest(Long id, String name, String email, LocalDate birth, MainFoot mainFoot, Area area,
+                          Position position, String introduction, Boolean isPro, Double height, Double weight,
+                          String profileImageUrl, String phoneNumber, Authority authority, Stat stat, Record record) {
+
+        Member member = new Member(
+                id, name, email, "{hashed}", Gender.MALE, SocialType.NONE, authority, birth, mainFoot, area, position,
+                introduction, isPro, height, weight, profileImageUrl, phoneNumber, stat, record
+        );
+
+        assertThat(member.getId()).isEqualTo(id);
+        assertThat(member.getName()).isEqualTo(name);
+        assertThat(member.getEmail()).isEqualTo(email);
+        assertThat(member.getBirth()).isEqualTo(birth);
+        assertThat(member.getMainFoot()).isEqualTo(mainFoot);
+        assertThat(member.getArea()).isEqualTo(area);
+        assertThat(member.getPosition()).isEqualTo(position);
+        assertThat(member.getIntroduction()).isEqualTo(introduction);
+        assertThat(member.getIsPro()).isEqualTo(isPro);
+        assertThat(member.getHeight()).isEqualTo(height);
+        assertThat(member.getWeight()).isEqualTo(weight);
+        assertThat(member.getProfileImageUrl()).isEqualTo(profileImageUrl);
+        assertThat(member.getPhoneNumber()).isEqualTo(phoneNumber);
+        assertThat(member.getAuthority()).isEqualTo(authority);
+        assertThat(member.getStat()).isEqualTo(stat);
+        assertThat(member.getRecord()).isEqualTo(record);
+        assertThat(member.getLastLoginDate()).isNull();
+    }
+}
@@ -1,4 +1,4 @@
-package com.yfmf.footlog.users.entity;
+package com.yfmf.footlog.domain.member.domain;
 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
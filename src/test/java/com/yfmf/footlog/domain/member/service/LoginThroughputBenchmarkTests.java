@@ -0,0 +1,124 @@
+package com.yfmf.footlog.domain.member.service;
+
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
+import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
+import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
+import com.yfmf.footlog.domain.auth.revocation.AccessTokenRevocationList;
+import com.yfmf.footlog.domain.auth.utils.PasswordHasher;
+import com.yfmf.footlog.domain.member.cache.KakaoMemberCache;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.SocialType;
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/*
+ * 로그인 처리량 측정 (./gradlew benchmark)
+ *
+ * 실제 BCrypt(cost 10)를 사용하고 DB/Redis 는 Mocking 한다.
+ * 이전 로그인 경로는 회원 조회 3회 + BCrypt 검증 2회였으므로,
+ * 같은 조건에서 BCrypt 2회를 수행하는 경우를 기준선으로 함께 측정한다.
+ */
+@Tag("benchmark")
+class LoginThroughputBenchmarkTests {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 50;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private JWTTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private AccessTokenRevocationList accessTokenRevocationList;
+
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+
+    private PasswordHasher passwordHasher;
+
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        passwordHasher = new PasswordHasher(passwordEncoder, new SimpleMeterRegistry(), 0, 0, 1, 5000);
+        memberService = new MemberService(memberRepository, passwordHasher, jwtTokenProvider, refreshTokenService, accessTokenRevocationList, new KakaoMemberCache(600, 100), new AdminStatsCounters(30));
+
+        Member member = new Member(1L, "홍길동", "test@example.com", passwordEncoder.encode("password1"), Gender.MALE, SocialType.NONE,
+                Authority.ROLE_USER, null, null, null, null, null, null, null, null, null, null, null, null);
+        when(memberRepository.findByEmail("test@example.com")).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.generateToken(anyString(), anyLong(), anyString(), anyCollection()))
+                .thenReturn(new MemberResponseDTO.authTokenDTO("Bearer", "access", 1000L, "refresh", 2000L, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("BCrypt 1회 로그인 경로 처리량이 이전 경로(BCrypt 2회) 대비 높다")
+    void loginThroughput() {
+        MemberRequestDTO.loginDTO request = new MemberRequestDTO.loginDTO("test@example.com", "password1");
+        String hash = passwordEncoder.encode("password1");
+
+        for (int i = 0; i < WARMUP; i++) {
+            login(request);
+            legacyHashing(hash);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            login(request);
+        }
+        double current = ITERATIONS / ((System.nanoTime() - start) / 1e9);
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyHashing(hash);
+        }
+        double legacy = ITERATIONS / ((System.nanoTime() - start) / 1e9);
+
+        System.out.printf("[LoginThroughput] 현재 경로 %.1f logins/s, 이전 경로(BCrypt 2회) %.1f logins/s, %.2fx%n",
+                current, legacy, current / legacy);
+        assertThat(current).isGreaterThan(legacy * 1.5);
+    }
+
+    private void login(MemberRequestDTO.loginDTO request) {
+        memberService.login(new MockHttpServletRequest(), new MockHttpServletResponse(), request);
+    }
+
+    private void legacyHashing(String hash) {
+        passwordEncoder.matches("password1", hash);
+        passwordEncoder.matches("password1", hash);
+    }
+}
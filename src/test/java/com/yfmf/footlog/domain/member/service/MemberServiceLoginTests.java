@@ -0,0 +1,145 @@
+package com.yfmf.footlog.domain.member.service;
+
+import com.yfmf.footlog.domain.admin.stats.AdminStatsCounters;
+import com.yfmf.footlog.domain.auth.jwt.JWTTokenProvider;
+import com.yfmf.footlog.domain.auth.refreshToken.service.RefreshTokenService;
+import com.yfmf.footlog.domain.auth.utils.PasswordHasher;
+import com.yfmf.footlog.domain.member.domain.Authority;
+import com.yfmf.footlog.domain.member.domain.Gender;
+import com.yfmf.footlog.domain.member.domain.Member;
+import com.yfmf.footlog.domain.member.domain.SocialType;
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import com.yfmf.footlog.error.ApplicationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberServiceLoginTests {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private JWTTokenProvider jwtTokenProvider;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private AdminStatsCounters adminStatsCounters;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        member = new Member(1L, "홍길동", "test@example.com", "{hashed}", Gender.MALE, SocialType.NONE, Authority.ROLE_USER,
+                null, null, null, null, null, null, null, null, null, null, null, null);
+        when(memberRepository.findByEmail("test@example.com")).thenReturn(Optional.of(member));
+        when(jwtTokenProvider.generateToken(anyString(), anyLong(), anyString(), anyCollection()))
+                .thenReturn(new MemberResponseDTO.authTokenDTO("Bearer", "access", 1000L, "refresh", 2000L, 1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("로그인은 회원 조회 1회, 비밀번호 검증 1회만 수행한다")
+    void loginLooksUpAndVerifiesOnce() {
+        when(passwordHasher.matches("password1", "{hashed}")).thenReturn(true);
+
+        MemberResponseDTO.authTokenDTO token = memberService.login(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                new MemberRequestDTO.loginDTO("test@example.com", "password1"));
+
+        assertThat(token.accessToken()).isEqualTo("access");
+        verify(memberRepository, times(1)).findByEmail("test@example.com");
+        verify(passwordHasher, times(1)).matches(anyString(), anyString());
+        verify(refreshTokenService).saveRefreshToken("1", "refresh", "127.0.0.1", 2000L);
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getAuthorities())
+                .extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("마지막 로그인 시각은 모르거나 하루가 지났을 때만 갱신한다")
+    void recordLoginOncePerDay() {
+        LocalDateTime recent = LocalDateTime.now().minusHours(1);
+        when(memberRepository.touchLastLoginDate(eq(2L), any(), any())).thenReturn(1);
+
+        LocalDateTime unknown = memberService.recordLogin(1L, null);
+        LocalDateTime touched = memberService.recordLogin(2L, LocalDateTime.now().minusDays(2));
+        LocalDateTime skipped = memberService.recordLogin(3L, recent);
+
+        verify(memberRepository).touchLastLoginDate(eq(1L), any(), any());
+        verify(memberRepository).touchLastLoginDate(eq(2L), any(), any());
+        verify(memberRepository, never()).touchLastLoginDate(eq(3L), any(), any());
+        // 돌려준 시각은 캐시에 두고 다음 로그인의 갱신 여부 판단에 쓴다
+        assertThat(unknown).isBefore(LocalDateTime.now().minusHours(23));
+        assertThat(touched).isAfter(recent);
+        assertThat(skipped).isEqualTo(recent);
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 토큰을 발급하지 않는다")
+    void loginFailsWithWrongPassword() {
+        when(passwordHasher.matches("wrong", "{hashed}")).thenReturn(false);
+
+        assertThatThrownBy(() -> memberService.login(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                new MemberRequestDTO.loginDTO("test@example.com", "wrong")))
+                .isInstanceOf(ApplicationException.class);
+        verify(jwtTokenProvider, never()).generateToken(anyString(), anyLong(), anyString(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("회원 가입 시 비밀번호 확인은 해시 없이 비교하고, 저장용 해시만 1회 만든다")
+    void signUpHashesOnce() {
+        when(passwordHasher.encode("password1")).thenReturn("{hashed}");
+
+        memberService.signUp(new MemberRequestDTO.signUpDTO("홍길동", "new@example.com", "password1", "password1", "MALE"));
+
+        verify(passwordHasher, times(1)).encode(anyString());
+        verify(passwordHasher, never()).matches(anyString(), anyString());
+        verify(memberRepository).save(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("비밀번호 확인이 다르면 가입되지 않는다")
+    void signUpRejectsMismatchedConfirm() {
+        assertThatThrownBy(() -> memberService.signUp(new MemberRequestDTO.signUpDTO("홍길동", "new@example.com", "password1", "password2", "MALE")))
+                .isInstanceOf(ApplicationException.class);
+        verify(passwordHasher, never()).encode(anyString());
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+}
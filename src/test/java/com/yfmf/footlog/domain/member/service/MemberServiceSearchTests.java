@@ -0,0 +1,87 @@
+package com.yfmf.footlog.domain.member.service;
+
+import com.yfmf.footlog.domain.member.dto.MemberRequestDTO;
+import com.yfmf.footlog.domain.member.dto.MemberResponseDTO;
+import com.yfmf.footlog.domain.member.enums.Position;
+import com.yfmf.footlog.domain.member.repository.MemberRepository;
+import com.yfmf.footlog.error.ApplicationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberServiceSearchTests {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberService memberService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private MemberRequestDTO.PlayerSearchDTO condition(Integer minSpeed, Integer maxSpeed, Long cursor, Integer size) {
+        return new MemberRequestDTO.PlayerSearchDTO(Position.ST, null, null, null, null,
+                null, null, null, null, minSpeed, maxSpeed, null, null, null, null, null, null,
+                cursor, size);
+    }
+
+    private List<MemberResponseDTO.PlayerSummaryDTO> players(long fromId, int count) {
+        return LongStream.range(0, count)
+                .mapToObj(i -> new MemberResponseDTO.PlayerSummaryDTO(fromId - i, "선수" + i, null, null, null, null,
+                        Position.ST, false, null, 50, 50, 50, 50, 50, 50))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("size + 1 건이 조회되면 다음 페이지가 있고 마지막 id 가 커서가 된다")
+    void searchPlayersHasNext() {
+        MemberRequestDTO.PlayerSearchDTO condition = condition(null, null, null, 3);
+        when(memberRepository.searchPlayers(any(), eq(4))).thenReturn(players(100, 4));
+
+        MemberResponseDTO.PlayerSearchPageDTO page = memberService.searchPlayers(condition);
+
+        assertThat(page.players()).hasSize(3);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(98L);
+    }
+
+    @Test
+    @DisplayName("size 이하로 조회되면 마지막 페이지다")
+    void searchPlayersLastPage() {
+        MemberRequestDTO.PlayerSearchDTO condition = condition(null, null, 98L, 3);
+        when(memberRepository.searchPlayers(any(), eq(4))).thenReturn(players(97, 2));
+
+        MemberResponseDTO.PlayerSearchPageDTO page = memberService.searchPlayers(condition);
+
+        assertThat(page.players()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("최소 스탯이 최대 스탯보다 크면 예외가 발생한다")
+    void searchPlayersInvalidRange() {
+        MemberRequestDTO.PlayerSearchDTO condition = condition(80, 20, null, null);
+
+        assertThatThrownBy(() -> memberService.searchPlayers(condition))
+                .isInstanceOf(ApplicationException.class);
+        verify(memberRepository, never()).searchPlayers(any(), eq(MemberRequestDTO.PlayerSearchDTO.DEFAULT_SIZE + 1));
+    }
+}
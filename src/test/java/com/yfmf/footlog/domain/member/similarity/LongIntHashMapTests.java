@@ -0,0 +1,42 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIntHashMapTests {
+
+    @Test
+    @DisplayName("무작위 등록/삭제 뒤에도 HashMap 과 같은 값을 돌려준다")
+    void matchesHashMap() {
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(27);
+
+        for (int i = 0; i < 50_000; i++) {
+            // 좁은 범위의 키로 같은 탐색 구간 안에서 삭제/재등록이 자주 일어나게 한다.
+            long key = random.nextInt(2_000) * 1_024L;
+            if (random.nextInt(3) == 0) {
+                Integer removed = expected.remove(key);
+                assertThat(map.remove(key)).isEqualTo(removed == null ? LongIntHashMap.MISSING : removed);
+            } else {
+                int value = random.nextInt(1_000);
+                Integer previous = expected.put(key, value);
+                assertThat(map.put(key, value)).isEqualTo(previous == null ? LongIntHashMap.MISSING : previous);
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 2_000 * 1_024L; key += 1_024) {
+            assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, LongIntHashMap.MISSING));
+        }
+        map.clear();
+        assertThat(map.size()).isZero();
+        assertThat(map.get(0)).isEqualTo(LongIntHashMap.MISSING);
+    }
+}
@@ -0,0 +1,100 @@
+package com.yfmf.footlog.domain.member.similarity;
+
+import com.yfmf.footlog.domain.member.enums.Area;
+import com.yfmf.footlog.domain.member.enums.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlayerStatIndexTests {
+
+    private PlayerStatIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlayerStatIndex();
+    }
+
+    @Test
+    @DisplayName("가장 가까운 스탯 순으로 반환하고 기준 회원은 제외한다")
+    void nearestOrdersByDistance() {
+        index.upsert(1L, Position.ST, Area.서울, new int[]{50, 50, 50, 50, 50, 50});
+        index.upsert(2L, Position.ST, Area.서울, new int[]{51, 50, 50, 50, 50, 50});
+        index.upsert(3L, Position.CB, Area.부산, new int[]{60, 50, 50, 50, 50, 50});
+        index.upsert(4L, Position.ST, Area.경기, new int[]{90, 90, 90, 90, 90, 90});
+
+        List<PlayerStatIndex.Neighbor> result = index.nearest(new int[]{50, 50, 50, 50, 50, 50}, 2, null, null, 1L);
+
+        assertThat(result).extracting(PlayerStatIndex.Neighbor::memberId).containsExactly(2L, 3L);
+        assertThat(result.get(0).squaredDistance()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("포지션/지역 조건에 맞는 파티션만 검색한다")
+    void nearestFiltersByPartition() {
+        index.upsert(1L, Position.ST, Area.서울, new int[]{50, 50, 50, 50, 50, 50});
+        index.upsert(2L, Position.CB, Area.서울, new int[]{50, 50, 50, 50, 50, 50});
+        index.upsert(3L, Position.ST, Area.부산, new int[]{50, 50, 50, 50, 50, 50});
+
+        assertThat(index.nearest(new int[]{50, 50, 50, 50, 50, 50}, 10, Position.ST, null, -1L))
+                .extracting(PlayerStatIndex.Neighbor::memberId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.nearest(new int[]{50, 50, 50, 50, 50, 50}, 10, Position.ST, Area.서울, -1L))
+                .extracting(PlayerStatIndex.Neighbor::memberId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("스탯/포지션 변경과 삭제가 인덱스에 반영된다")
+    void upsertMovesAndRemoves() {
+        index.upsert(1L, Position.ST, Area.서울, new int[]{10, 10, 10, 10, 10, 10});
+        index.upsert(2L, Position.ST, Area.서울, new int[]{20, 20, 20, 20, 20, 20});
+
+        index.upsert(1L, Position.GK, Area.서울, new int[]{90, 90, 90, 90, 90, 90});
+        index.remove(2L);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(new int[]{10, 10, 10, 10, 10, 10}, 5, Position.ST, null, -1L)).isEmpty();
+        assertThat(index.nearest(new int[]{90, 90, 90, 90, 90, 90}, 5, Position.GK, null, -1L))
+                .extracting(PlayerStatIndex.Neighbor::squaredDistance).containsExactly(0L);
+    }
+
+    @Test
+    @DisplayName("전체 스캔 결과와 일치한다")
+    void nearestMatchesBruteForce() {
+        Random random = new Random(42);
+        Position[] positions = Position.values();
+        Area[] areas = Area.values();
+        int[][] vectors = new int[5_000][];
+        for (int i = 0; i < vectors.length; i++) {
+            vectors[i] = random.ints(PlayerStatIndex.DIMENSION, 0, 100).toArray();
+            index.upsert(i, positions[random.nextInt(positions.length)], areas[random.nextInt(areas.length)], vectors[i]);
+        }
+        int[] query = {40, 60, 70, 30, 80, 50};
+
+        List<Long> expected = LongStream.range(0, vectors.length)
+                .map(id -> squaredDistance(vectors[(int) id], query))
+                .sorted()
+                .limit(20)
+                .boxed()
+                .toList();
+
+        // 거리가 같은 후보는 어느 쪽이 남아도 되므로 거리 기준으로 비교
+        assertThat(index.nearest(query, 20, null, null, -1L))
+                .extracting(PlayerStatIndex.Neighbor::squaredDistance)
+                .containsExactlyElementsOf(expected);
+    }
+
+    private long squaredDistance(int[] a, int[] b) {
+        long sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            long d = a[i] - b[i];
+            sum += d * d;
+        }
+        return sum;
+    }
+}
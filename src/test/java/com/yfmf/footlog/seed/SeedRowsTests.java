@@ -0,0 +1,79 @@
+package com.yfmf.footlog.seed;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeedRowsTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 24, 0, 0);
+
+    private SeedRows rows(long seed) {
+        return new SeedRows(new SeedPlan(1_000, 10, 100, 100, seed, NOW, 5, 3), "{hashed}");
+    }
+
+    @Test
+    @DisplayName("같은 seed 면 행 번호만으로 같은 행이 나오고, seed 가 다르면 달라진다")
+    void deterministicBySeed() {
+        SeedRows first = rows(42);
+        SeedRows second = rows(42);
+
+        assertThat(second.member(777)).containsExactly(first.member(777));
+        assertThat(second.match(55)).containsExactly(first.match(55));
+        assertThat(second.guest(9)).containsExactly(first.guest(9));
+        assertThat(rows(43).member(777)).isNotEqualTo(first.member(777));
+    }
+
+    @Test
+    @DisplayName("회원 id/이메일은 기존 최대 id 다음부터 겹치지 않고, 능력치는 1~99 사이다")
+    void membersAreUniqueAndInRange() {
+        SeedRows rows = rows(42);
+        Set<Object> emails = new HashSet<>();
+
+        for (long i = 0; i < 1_000; i++) {
+            Object[] member = rows.member(i);
+            assertThat(member[0]).isEqualTo(i + 6);
+            assertThat(emails.add(member[2])).isTrue();
+            assertThat((String) member[1]).hasSize(3);
+            for (int stat = 16; stat < 22; stat++) {
+                assertThat((Integer) member[stat]).isBetween(1, 99);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("구단주는 자기 구단에 OWNER 로 가입하고, 매치는 구단주와 구단이 서로 맞는다")
+    void referencesAreConsistent() {
+        SeedRows rows = rows(42);
+
+        for (int club = 0; club < 10; club++) {
+            Object[] owner = rows.clubMember(rows.ownerIndex(club));
+            assertThat(owner).containsExactly(rows.clubId(club), rows.memberId(rows.ownerIndex(club)), "OWNER");
+            assertThat(rows.club(club, 1)[1]).isEqualTo(owner[1]);
+        }
+        long joined = LongStream.range(0, 1_000).filter(i -> rows.clubMember(i) != null).count();
+        assertThat(joined).isBetween(500L, 700L);
+
+        for (long i = 0; i < 100; i++) {
+            Object[] match = rows.match(i);
+            long myClub = (Long) match[2] - 4;
+            assertThat(match[0]).isEqualTo(rows.memberId(rows.ownerIndex((int) myClub)));
+            assertThat(match[3] == null).isEqualTo(match[17].equals("WAITING"));
+            assertThat(match[3]).isNotEqualTo(match[2]);
+        }
+    }
+
+    @Test
+    @DisplayName("구단 수가 회원 수에 비해 너무 많으면 계획을 만들 수 없다")
+    void rejectsInvalidPlan() {
+        assertThatThrownBy(() -> new SeedPlan(10, 10, 0, 0, 42, NOW, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
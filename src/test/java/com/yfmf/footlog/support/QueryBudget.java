@@ -0,0 +1,37 @@
+package com.yfmf.footlog.support;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 쿼리 예산 검증 - 요청 하나가 쓸 수 있는 SQL 문 수의 상한
+ *
+ * 목록 크기가 예산보다 충분히 큰 데이터로 검증하면, 행마다 쿼리가 나가는 N+1 이 생기는 순간 예산을 넘어 실패한다.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * action 이 maxStatements 개 이하의 SQL 로 끝나는지 검증하고 결과를 반환
+     */
+    public static <T> T assertAtMost(int maxStatements, ThrowingSupplier<T> action) {
+        QueryCounter.Captured<T> captured = QueryCounter.capture(action);
+        List<String> statements = captured.statements();
+        if (statements.size() > maxStatements) {
+            throw new AssertionError("쿼리 예산 초과: " + statements.size() + "개 (예산 " + maxStatements + "개)\n"
+                    + describe(statements));
+        }
+        return captured.result();
+    }
+
+    private static String describe(List<String> statements) {
+        return IntStream.range(0, statements.size())
+                .mapToObj(i -> "  " + (i + 1) + ") " + statements.get(i))
+                .collect(Collectors.joining("\n"));
+    }
+}
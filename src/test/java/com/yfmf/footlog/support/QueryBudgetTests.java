@@ -0,0 +1,63 @@
+package com.yfmf.footlog.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetTests {
+
+    private final QueryCounter counter = new QueryCounter();
+
+    @Test
+    @DisplayName("예산 안이면 결과를 그대로 돌려주고, 넘으면 실행된 SQL 목록과 함께 실패한다")
+    void assertAtMost() {
+        String result = QueryBudget.assertAtMost(2, () -> {
+            counter.inspect("select 1");
+            counter.inspect("select 2");
+            return "ok";
+        });
+        assertThat(result).isEqualTo("ok");
+
+        assertThatThrownBy(() -> QueryBudget.assertAtMost(1, () -> {
+            counter.inspect("select * from tbl_club");
+            counter.inspect("select * from tbl_club_days where club_id=?");
+            return null;
+        }))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("2개 (예산 1개)")
+                .hasMessageContaining("2) select * from tbl_club_days");
+    }
+
+    @Test
+    @DisplayName("capture 밖이나 다른 스레드에서 나간 SQL 은 세지 않는다")
+    void countsOnlyCurrentThread() {
+        counter.inspect("select outside");
+
+        QueryCounter.Captured<Void> captured = QueryCounter.capture(() -> {
+            CompletableFuture.runAsync(() -> counter.inspect("select other thread")).join();
+            counter.inspect("select inside");
+            return null;
+        });
+
+        assertThat(captured.statements()).containsExactly("select inside");
+    }
+
+    @Test
+    @DisplayName("중첩된 capture 의 SQL 은 바깥 집계에도 포함된다")
+    void nestedCapture() {
+        QueryCounter.Captured<Integer> outer = QueryCounter.capture(() -> {
+            counter.inspect("select a");
+            return QueryCounter.capture(() -> {
+                counter.inspect("select b");
+                return 1;
+            }).statements().size();
+        });
+
+        assertThat(outer.result()).isEqualTo(1);
+        assertThat(outer.statements()).containsExactly("select a", "select b");
+    }
+}
@@ -0,0 +1,18 @@
+package com.yfmf.footlog.support;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * QueryCounter 를 Hibernate StatementInspector 로 등록 - 쿼리 예산 테스트에서 @Import 한다.
+ */
+@TestConfiguration
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
@@ -0,0 +1,53 @@
+package com.yfmf.footlog.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 현재 스레드 기준으로 모은다. (QueryCountConfig 로 등록)
+ *
+ * 요청 처리와 응답 직렬화를 capture 안에서 실행하면 그 사이 나간 SQL 만 집계되고,
+ * 다른 스레드(스케줄러, 비동기 작업)의 쿼리는 섞이지 않는다.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * action 실행 중 현재 스레드에서 나간 SQL 목록
+     */
+    public static <T> Captured<T> capture(ThrowingSupplier<T> action) {
+        List<String> previous = STATEMENTS.get();
+        List<String> statements = new ArrayList<>();
+        STATEMENTS.set(statements);
+        try {
+            return new Captured<>(action.get(), List.copyOf(statements));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        } finally {
+            if (previous == null) {
+                STATEMENTS.remove();
+            } else {
+                previous.addAll(statements);
+                STATEMENTS.set(previous);
+            }
+        }
+    }
+
+    public record Captured<T>(T result, List<String> statements) {
+    }
+}